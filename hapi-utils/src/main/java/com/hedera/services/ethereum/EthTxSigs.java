@@ -37,8 +37,19 @@ import org.hyperledger.besu.nativelib.secp256k1.LibSecp256k1;
 public record EthTxSigs(byte[] publicKey, byte[] address) {
 
     public static EthTxSigs extractSignatures(EthTxData ethTx) {
-        byte[] message = calculateSignableMessage(ethTx);
-        var pubKey = extractSig(ethTx.recId(), ethTx.r(), ethTx.s(), message);
+        return extractSignatures(ethTx, calculateSigningHash(ethTx));
+    }
+
+    /**
+     * Recovers the signer of the given transaction, given the Keccak-256 hash of its signable
+     * message as already computed by {@link #calculateSigningHash(EthTxData)}.
+     *
+     * @param ethTx the signed transaction
+     * @param signingHash the hash the signature was made over
+     * @return the recovered compressed public key and address
+     */
+    public static EthTxSigs extractSignatures(EthTxData ethTx, byte[] signingHash) {
+        var pubKey = extractSig(ethTx.recId(), ethTx.r(), ethTx.s(), signingHash);
         byte[] address = recoverAddressFromPubKey(pubKey);
         byte[] compressedKey = recoverCompressedPubKey(pubKey);
 
@@ -102,6 +113,10 @@ public record EthTxSigs(byte[] publicKey, byte[] address) {
                 s);
     }
 
+    public static byte[] calculateSigningHash(EthTxData ethTx) {
+        return new Keccak.Digest256().digest(calculateSignableMessage(ethTx));
+    }
+
     static byte[] calculateSignableMessage(EthTxData ethTx) {
         return switch (ethTx.type()) {
             case LEGACY_ETHEREUM -> (ethTx.chainId() != null && ethTx.chainId().length > 0)
@@ -176,9 +191,7 @@ public record EthTxSigs(byte[] publicKey, byte[] address) {
     }
 
     private static LibSecp256k1.secp256k1_pubkey extractSig(
-            int recId, byte[] r, byte[] s, byte[] message) {
-        byte[] dataHash = new Keccak.Digest256().digest(message);
-
+            int recId, byte[] r, byte[] s, byte[] dataHash) {
         byte[] signature = new byte[64];
         System.arraycopy(r, 0, signature, 0, r.length);
         System.arraycopy(s, 0, signature, 32, s.length);
@@ -203,6 +203,10 @@ class EthTxSigsTest {
 
         assertArrayEquals(TRUFFLE0_ADDRESS, sigs.address());
         assertArrayEquals(TRUFFLE0_PUBLIC_ECDSA_KEY, sigs.publicKey());
+
+        final var signingHash = EthTxSigs.calculateSigningHash(signedTx);
+        assertEquals(32, signingHash.length);
+        assertEquals(sigs, EthTxSigs.extractSignatures(signedTx, signingHash));
     }
 
     @Test
@@ -39,6 +39,12 @@ public class AbstractCodeCache {
                         .build();
     }
 
+    public AbstractCodeCache(
+            final HederaEvmEntityAccess entityAccess, final Cache<BytesKey, Code> cache) {
+        this.entityAccess = entityAccess;
+        this.cache = cache;
+    }
+
     public Code getIfPresent(final Address address) {
         final var cacheKey = new BytesKey(address.toArray());
 
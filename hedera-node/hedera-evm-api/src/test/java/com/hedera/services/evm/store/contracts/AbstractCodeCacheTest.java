@@ -18,11 +18,15 @@ package com.hedera.services.evm.store.contracts;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.hedera.services.evm.store.contracts.utils.BytesKey;
 import org.apache.tuweni.bytes.Bytes;
 import org.hyperledger.besu.datatypes.Address;
@@ -92,6 +96,20 @@ class AbstractCodeCacheTest {
         assertEquals(1, codeCache.size());
     }
 
+    @Test
+    void instancesCanShareGivenCache() {
+        final Cache<BytesKey, Code> sharedCache = Caffeine.newBuilder().build();
+        final var aCodeCache = new AbstractCodeCache(entityAccess, sharedCache);
+        final var bCodeCache = new AbstractCodeCache(entityAccess, sharedCache);
+        given(entityAccess.fetchCodeIfPresent(any())).willReturn(Bytes.of("abc".getBytes()));
+
+        final var code = aCodeCache.getIfPresent(Address.fromHexString("0xabc"));
+
+        assertSame(code, bCodeCache.getIfPresent(Address.fromHexString("0xabc")));
+        assertEquals(1, bCodeCache.size());
+        verify(entityAccess).fetchCodeIfPresent(any());
+    }
+
     @Test
     void getTokenCodeReturnsRedirectCode() {
         given(entityAccess.isTokenAccount(any())).willReturn(true);
@@ -0,0 +1,29 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services;
+
+import com.hedera.services.context.properties.BootstrapProperties;
+
+/** Gives benchmarks access to the {@link ServicesState} constructor used in tests. */
+public class BenchmarkStates {
+    private BenchmarkStates() {
+        throw new UnsupportedOperationException();
+    }
+
+    public static ServicesState newStateWith(final BootstrapProperties bootstrapProperties) {
+        return new ServicesState(bootstrapProperties);
+    }
+}
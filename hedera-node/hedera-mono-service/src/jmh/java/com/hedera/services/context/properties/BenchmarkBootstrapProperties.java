@@ -0,0 +1,26 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.context.properties;
+
+/**
+ * A {@link BootstrapProperties} that takes its overrides from a benchmark-specific file, instead
+ * of the {@code data/config/bootstrap.properties} file of a real node.
+ */
+public class BenchmarkBootstrapProperties extends BootstrapProperties {
+    public BenchmarkBootstrapProperties(final String overridePropsLoc) {
+        bootstrapOverridePropsLoc = overridePropsLoc;
+    }
+}
@@ -284,6 +284,16 @@ public class StakingActivityBench {
         n++;
     }
 
+    /**
+     * Measures just the end-of-period node updates; since these are dominated by the number of
+     * nodes and the length of their reward sum histories, run with e.g. {@code -p numNodes=39}
+     * to see how the rollover scales.
+     */
+    @Benchmark
+    public void endOfStakingPeriod() {
+        app.endOfPeriodCalcs().updateNodes(SOME_TIME);
+    }
+
     private AccountID advanceToNextId() {
         return ids[FIRST_USER_I + Math.floorMod(i, stakeableAccounts)];
     }
@@ -154,4 +154,9 @@ public class Constructables {
                 .registerConstructable(
                         new ClassConstructorPair(JasperDbBuilder.class, JasperDbBuilder::new));
     }
+
+    public static void registerForServicesState() throws ConstructableRegistryException {
+        ConstructableRegistry.getInstance().registerConstructables("com.swirlds");
+        ConstructableRegistry.getInstance().registerConstructables("com.hedera.services");
+    }
 }
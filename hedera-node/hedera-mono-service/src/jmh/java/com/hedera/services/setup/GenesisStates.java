@@ -0,0 +1,187 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.setup;
+
+import static com.hedera.services.context.AppsManager.APPS;
+
+import com.google.common.primitives.Ints;
+import com.hedera.services.BenchmarkStates;
+import com.hedera.services.ServicesState;
+import com.hedera.services.context.properties.BenchmarkBootstrapProperties;
+import com.swirlds.common.crypto.SerializablePublicKey;
+import com.swirlds.common.metrics.MetricConfig;
+import com.swirlds.common.metrics.Metrics;
+import com.swirlds.common.system.InitTrigger;
+import com.swirlds.common.system.NodeId;
+import com.swirlds.common.system.Platform;
+import com.swirlds.common.system.address.Address;
+import com.swirlds.common.system.address.AddressBook;
+import com.swirlds.common.system.transaction.internal.SwirldTransaction;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Creates a genesis {@link ServicesState} whose {@link com.hedera.services.ServicesApp} can handle
+ * transactions exactly as on a single-node network; but without a running platform. (The {@link
+ * Platform} given to the app only knows its node id and cryptography, and queues submitted
+ * transactions in {@link #PLATFORM_TXNS}; metrics it registers are discarded.)
+ */
+public class GenesisStates {
+    public static final long NODE_ID = 0L;
+
+    /** Transactions the app submitted to the platform, in submission order. */
+    public static final Queue<SwirldTransaction> PLATFORM_TXNS = new ConcurrentLinkedQueue<>();
+
+    private static final String OVERRIDES_FILE_NAME = "bootstrap.properties";
+    private static final String NODE_ACCOUNT_MEMO = "0.0.3";
+
+    private GenesisStates() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns a new, initialized genesis state whose bootstrap properties store accounts and token
+     * associations on disk in the given directory; and whose genesis key is the given key.
+     *
+     * @param dir the directory to use for on-disk storage
+     * @param hexedGenesisKey the hex-encoded Ed25519 genesis key
+     * @return the initialized state
+     */
+    public static ServicesState newGenesisState(final String dir, final String hexedGenesisKey) {
+        final var overridesLoc = dir + File.separator + OVERRIDES_FILE_NAME;
+        writeOverrides(overridesLoc, dir, hexedGenesisKey);
+        final var state =
+                BenchmarkStates.newStateWith(new BenchmarkBootstrapProperties(overridesLoc));
+        final var platform = newPlatform();
+        state.init(platform, newAddressBook(), null, InitTrigger.GENESIS, null);
+        APPS.get(NODE_ID).statsManager().initializeFor(platform);
+        return state;
+    }
+
+    private static void writeOverrides(
+            final String loc, final String dir, final String hexedGenesisKey) {
+        final var overrides =
+                String.join(
+                        System.lineSeparator(),
+                        "accounts.storeOnDisk=true",
+                        "tokens.storeRelsOnDisk=true",
+                        "hedera.recordStream.isEnabled=false",
+                        "hedera.recordStream.logDir=" + dir,
+                        "bootstrap.genesisPublicKey=" + hexedGenesisKey);
+        try {
+            Files.writeString(Paths.get(loc), overrides);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static AddressBook newAddressBook() {
+        final SerializablePublicKey publicKey;
+        try {
+            publicKey =
+                    new SerializablePublicKey(
+                            KeyPairGenerator.getInstance("EC").generateKeyPair().getPublic());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        final var address =
+                new Address(
+                        NODE_ID,
+                        "",
+                        "",
+                        1L,
+                        false,
+                        null,
+                        -1,
+                        Ints.toByteArray(0x7f000001),
+                        -1,
+                        null,
+                        -1,
+                        null,
+                        -1,
+                        publicKey,
+                        null,
+                        publicKey,
+                        NODE_ACCOUNT_MEMO);
+        return new AddressBook(List.of(address));
+    }
+
+    private static Platform newPlatform() {
+        final var selfId = new NodeId(false, NODE_ID);
+        final var metrics = newDiscardingMetrics();
+        return proxyFor(
+                Platform.class,
+                (proxy, method, args) ->
+                        switch (method.getName()) {
+                            case "getSelfId" -> selfId;
+                            case "getCryptography" -> InfrastructureManager.CRYPTO;
+                            case "getMetrics" -> metrics;
+                            case "createTransaction" -> PLATFORM_TXNS.offer(
+                                    new SwirldTransaction((byte[]) args[0]));
+                            default -> defaultFor(method);
+                        });
+    }
+
+    private static Metrics newDiscardingMetrics() {
+        return proxyFor(
+                Metrics.class,
+                (proxy, method, args) -> {
+                    if (args != null && args[0] instanceof MetricConfig<?, ?> config) {
+                        return proxyFor(config.getResultClass(), (p, m, a) -> defaultFor(m));
+                    }
+                    return defaultFor(method);
+                });
+    }
+
+    private static <T> T proxyFor(final Class<T> type, final InvocationHandler handler) {
+        return type.cast(
+                Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, handler));
+    }
+
+    private static Object defaultFor(final Method method) {
+        final var type = method.getReturnType();
+        if (!type.isPrimitive() || type == void.class) {
+            return null;
+        } else if (type == boolean.class) {
+            return false;
+        } else if (type == double.class) {
+            return 0.0;
+        } else if (type == float.class) {
+            return 0.0f;
+        } else if (type == long.class) {
+            return 0L;
+        } else if (type == char.class) {
+            return '\0';
+        } else if (type == byte.class) {
+            return (byte) 0;
+        } else if (type == short.class) {
+            return (short) 0;
+        } else {
+            return 0;
+        }
+    }
+}
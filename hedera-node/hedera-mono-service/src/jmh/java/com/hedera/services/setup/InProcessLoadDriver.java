@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.setup;
+
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
+
+import com.hederahashgraph.api.proto.java.HederaFunctionality;
+import com.swirlds.common.system.transaction.internal.SwirldTransaction;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.SplittableRandom;
+
+/**
+ * Drives a load through both the ingest and consensus workflows of an {@link InProcessNetwork},
+ * one round at a time; so a node can be profiled in isolation, without gRPC or a platform.
+ *
+ * <p>Each round first submits {@code txnsPerRound} transactions synthesized by {@link TxnBodies}
+ * for the functionalities chosen by a {@link LoadProvider}; and then handles every transaction
+ * that passed ingest (in submission order) at successive consensus times. The sequence of
+ * submitted transactions depends only on the provider and seed.
+ */
+public class InProcessLoadDriver {
+    private final TxnBodies bodies;
+    private final LoadProvider provider;
+    private final SplittableRandom random;
+    private final InProcessNetwork network;
+    private final LoadStats stats = new LoadStats();
+    private final Deque<Submission> submissions = new ArrayDeque<>();
+
+    private int n;
+
+    private record Submission(HederaFunctionality function, long submittedAt) {}
+
+    public InProcessLoadDriver(
+            final InProcessNetwork network, final LoadProvider provider, final long seed) {
+        this.network = network;
+        this.provider = provider;
+        this.bodies = new TxnBodies(network);
+        this.random = new SplittableRandom(seed);
+    }
+
+    public void runRound(final int txnsPerRound) {
+        final var start = System.nanoTime();
+        for (int k = 0; k < txnsPerRound; k++) {
+            final var function = provider.functionOf(n++, random);
+            final var body = bodies.nextBodyFor(function);
+            final var submittedAt = System.nanoTime();
+            final var precheck = network.submit(body);
+            stats.observePrecheck(function, precheck, System.nanoTime() - submittedAt);
+            if (precheck == OK) {
+                submissions.add(new Submission(function, submittedAt));
+            }
+        }
+        // Every transaction the platform received passed ingest, in the same order
+        SwirldTransaction txn;
+        while ((txn = GenesisStates.PLATFORM_TXNS.poll()) != null) {
+            final var submission = submissions.remove();
+            final var consensusTime = network.nextConsensusTime();
+            final var handleStart = System.nanoTime();
+            final var outcome = network.handle(txn, consensusTime);
+            final var handledAt = System.nanoTime();
+            stats.observeOutcome(
+                    submission.function(),
+                    outcome,
+                    handledAt - handleStart,
+                    handledAt - submission.submittedAt());
+        }
+        stats.addElapsed(System.nanoTime() - start);
+    }
+
+    public LoadStats stats() {
+        return stats;
+    }
+}
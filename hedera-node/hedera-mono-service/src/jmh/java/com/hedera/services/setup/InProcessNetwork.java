@@ -0,0 +1,274 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.setup;
+
+import com.google.protobuf.ByteString;
+import com.hedera.services.ServicesApp;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.ConsensusCreateTopicTransactionBody;
+import com.hederahashgraph.api.proto.java.ContractCreateTransactionBody;
+import com.hederahashgraph.api.proto.java.ContractID;
+import com.hederahashgraph.api.proto.java.CryptoCreateTransactionBody;
+import com.hederahashgraph.api.proto.java.Duration;
+import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
+import com.hederahashgraph.api.proto.java.TokenCreateTransactionBody;
+import com.hederahashgraph.api.proto.java.TokenID;
+import com.hederahashgraph.api.proto.java.TopicID;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+import com.swirlds.common.system.PlatformStatus;
+import com.swirlds.common.system.transaction.internal.SwirldTransaction;
+import java.time.Instant;
+import org.apache.commons.codec.DecoderException;
+import org.apache.commons.codec.binary.Hex;
+
+/**
+ * A single-node "network" whose only member is the {@link ServicesApp} of a {@link
+ * InfrastructureType#SERVICES_STATE}; transactions reach it either through the ingest workflow
+ * ({@link #submit(TransactionBody.Builder)}) or directly as consensus transactions ({@link
+ * #handle(SwirldTransaction, Instant)}).
+ *
+ * <p>With synthetic time, consensus times advance by a fixed step from a fixed start, so a run is
+ * fully reproducible; but ingest prechecks (which compare transaction valid starts to the wall
+ * clock) will reject everything. With wall-clock time, consensus times track {@link
+ * Instant#now()}, so submissions pass ingest as on a live network.
+ */
+public class InProcessNetwork {
+    public static final AccountID GENESIS_ID = AccountID.newBuilder().setAccountNum(2).build();
+
+    private static final long GAS_PER_CREATE = 200_000L;
+    private static final long INITIAL_USER_BALANCE = 1_000 * 100_000_000L;
+    private static final long INITIAL_TOKEN_SUPPLY = 1_000_000_000L;
+    private static final long MIN_NANOS_BETWEEN_TXNS = 10_000L;
+    private static final int VALID_START_OFFSETS = 1_000;
+    private static final Duration AUTO_RENEW_PERIOD =
+            Duration.newBuilder().setSeconds(90 * Constructables.SECS_PER_DAY).build();
+    // Copies the 7-byte runtime at offset 12 into memory, and returns it
+    private static final String INITCODE = "6007600c60003960076000f3";
+    // Stores the first word of its calldata in slot zero
+    private static final String RUNTIME = "600035600055" + "00";
+
+    private final boolean wallClock;
+    private final long nanosBetweenTxns;
+    private final ServicesApp app;
+    private final SignedTxnFactory txnFactory;
+
+    private int validStartOffset;
+    private Instant consensusTime;
+    private AccountID[] users;
+    private TokenID[] tokenIds;
+    private TopicID topicId;
+    private ContractID contractId;
+
+    public static InProcessNetwork withSyntheticTime(
+            final ServicesApp app,
+            final SignedTxnFactory txnFactory,
+            final Instant firstConsensusTime,
+            final long nanosBetweenTxns) {
+        return new InProcessNetwork(
+                false, nanosBetweenTxns, app, txnFactory, firstConsensusTime);
+    }
+
+    public static InProcessNetwork withWallClockTime(
+            final ServicesApp app, final SignedTxnFactory txnFactory) {
+        return new InProcessNetwork(
+                true, MIN_NANOS_BETWEEN_TXNS, app, txnFactory, Instant.now());
+    }
+
+    private InProcessNetwork(
+            final boolean wallClock,
+            final long nanosBetweenTxns,
+            final ServicesApp app,
+            final SignedTxnFactory txnFactory,
+            final Instant firstConsensusTime) {
+        this.app = app;
+        this.wallClock = wallClock;
+        this.txnFactory = txnFactory;
+        this.nanosBetweenTxns = Math.max(MIN_NANOS_BETWEEN_TXNS, nanosBetweenTxns);
+        this.consensusTime = firstConsensusTime;
+        app.platformStatus().set(PlatformStatus.ACTIVE);
+    }
+
+    /**
+     * Creates, through the consensus workflow, the given number of user accounts (all with the
+     * factory's key and 1000 hbar); then the given number of fungible tokens with the first user
+     * as treasury; and finally a topic, and a contract that stores its calldata.
+     *
+     * @param numUsers the number of user accounts to create
+     * @param numTokens the number of tokens to create
+     */
+    public void createEntities(final int numUsers, final int numTokens) {
+        final var key = txnFactory.publicKey();
+        users = new AccountID[numUsers];
+        for (int j = 0; j < numUsers; j++) {
+            final var num =
+                    create(
+                            newBody(GENESIS_ID)
+                                    .setCryptoCreateAccount(
+                                            CryptoCreateTransactionBody.newBuilder()
+                                                    .setKey(key)
+                                                    .setInitialBalance(INITIAL_USER_BALANCE)
+                                                    .setAutoRenewPeriod(AUTO_RENEW_PERIOD)),
+                            "user account #" + j);
+            users[j] = AccountID.newBuilder().setAccountNum(num).build();
+        }
+        final var treasury = users[0];
+        tokenIds = new TokenID[numTokens];
+        for (int j = 0; j < numTokens; j++) {
+            final var num =
+                    create(
+                            newBody(treasury)
+                                    .setTokenCreation(
+                                            TokenCreateTransactionBody.newBuilder()
+                                                    .setName("Token" + j)
+                                                    .setSymbol("T" + j)
+                                                    .setTreasury(treasury)
+                                                    .setAdminKey(key)
+                                                    .setSupplyKey(key)
+                                                    .setInitialSupply(INITIAL_TOKEN_SUPPLY)
+                                                    .setAutoRenewAccount(treasury)
+                                                    .setAutoRenewPeriod(AUTO_RENEW_PERIOD)),
+                            "token #" + j);
+            tokenIds[j] = TokenID.newBuilder().setTokenNum(num).build();
+        }
+        final var topicNum =
+                create(
+                        newBody(treasury)
+                                .setConsensusCreateTopic(
+                                        ConsensusCreateTopicTransactionBody.newBuilder()
+                                                .setAutoRenewPeriod(AUTO_RENEW_PERIOD)),
+                        "topic");
+        topicId = TopicID.newBuilder().setTopicNum(topicNum).build();
+        final var contractNum =
+                create(
+                        newBody(treasury)
+                                .setContractCreateInstance(
+                                        ContractCreateTransactionBody.newBuilder()
+                                                .setInitcode(initcode())
+                                                .setGas(GAS_PER_CREATE)
+                                                .setAutoRenewPeriod(AUTO_RENEW_PERIOD)),
+                        "contract");
+        contractId = ContractID.newBuilder().setContractNum(contractNum).build();
+    }
+
+    /**
+     * Returns a body builder for a transaction with the given payer, whose valid start is one
+     * second before the current time (either wall-clock or synthetic consensus time). Consecutive
+     * valid starts get different nanosecond offsets, so ids don't collide within a microsecond.
+     *
+     * @param payer the payer of the new transaction
+     * @return the partial body
+     */
+    public TransactionBody.Builder newBody(final AccountID payer) {
+        validStartOffset = (validStartOffset + 1) % VALID_START_OFFSETS;
+        final var now = wallClock ? Instant.now() : consensusTime;
+        return txnFactory.newBody(payer, now.minusSeconds(1).plusNanos(validStartOffset));
+    }
+
+    /**
+     * Advances and returns the consensus time; with wall-clock time, this is the later of the
+     * current time and the last consensus time plus the minimum spacing between transactions.
+     *
+     * @return the next consensus time
+     */
+    public Instant nextConsensusTime() {
+        final var next = consensusTime.plusNanos(nanosBetweenTxns);
+        if (wallClock) {
+            final var now = Instant.now();
+            consensusTime = now.isAfter(next) ? now : next;
+        } else {
+            consensusTime = next;
+        }
+        return consensusTime;
+    }
+
+    /**
+     * Submits the signed version of the given body through the ingest workflow; if accepted, the
+     * transaction is queued in {@link GenesisStates#PLATFORM_TXNS} for {@link
+     * #handle(SwirldTransaction, Instant)}.
+     *
+     * @param body the body to sign and submit
+     * @return the precheck code
+     */
+    public ResponseCodeEnum submit(final TransactionBody.Builder body) {
+        return app.submissionFlow()
+                .submit(txnFactory.signedTransaction(body))
+                .getNodeTransactionPrecheckCode();
+    }
+
+    /**
+     * Signs the given body and handles it at the next consensus time.
+     *
+     * @param body the body to sign and handle
+     * @return the final status of the transaction
+     */
+    public ResponseCodeEnum handle(final TransactionBody.Builder body) {
+        final var txn = txnFactory.signed(body);
+        return handle(txn, nextConsensusTime());
+    }
+
+    /**
+     * Handles the given platform transaction at the given consensus time.
+     *
+     * @param txn the transaction to handle
+     * @param at its consensus time
+     * @return the final status of the transaction
+     */
+    public ResponseCodeEnum handle(final SwirldTransaction txn, final Instant at) {
+        app.logic().incorporateConsensusTxn(txn, at, GenesisStates.NODE_ID);
+        return app.txnCtx().status();
+    }
+
+    public SignedTxnFactory txnFactory() {
+        return txnFactory;
+    }
+
+    public AccountID[] users() {
+        return users;
+    }
+
+    public TokenID[] tokenIds() {
+        return tokenIds;
+    }
+
+    public TopicID topicId() {
+        return topicId;
+    }
+
+    public ContractID contractId() {
+        return contractId;
+    }
+
+    /**
+     * Handles the given creation and returns the number of the created entity; since a failed
+     * creation reclaims its entity number, throws if the next entity number did not advance.
+     */
+    private long create(final TransactionBody.Builder body, final String desc) {
+        final var expectedNum = app.workingState().networkCtx().seqNo().current();
+        final var status = handle(body);
+        if (app.workingState().networkCtx().seqNo().current() == expectedNum) {
+            throw new IllegalStateException("Could not create " + desc + " (" + status + ")");
+        }
+        return expectedNum;
+    }
+
+    private static ByteString initcode() {
+        try {
+            return ByteString.copyFrom(Hex.decodeHex(INITCODE + RUNTIME));
+        } catch (DecoderException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
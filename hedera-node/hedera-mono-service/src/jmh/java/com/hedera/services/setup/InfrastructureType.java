@@ -15,6 +15,7 @@
  */
 package com.hedera.services.setup;
 
+import com.hedera.services.ServicesState;
 import com.hedera.services.ledger.TransactionalLedger;
 import com.hedera.services.ledger.backing.BackingAccounts;
 import com.hedera.services.ledger.properties.AccountProperty;
@@ -190,6 +191,20 @@ public enum InfrastructureType {
             }
             bundle.set(CONTRACT_STORAGE_VM, newContractStorage);
         }
+    },
+    SERVICES_STATE {
+        @Override
+        @SuppressWarnings("unchecked")
+        public ServicesState fromStorage(final String dir, final InfrastructureBundle bundle) {
+            return abInitio(dir, bundle);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public ServicesState abInitio(final String dir, final InfrastructureBundle bundle) {
+            final var genesisKey = new SignedTxnFactory(Constructables.SEED).hexedPublicKey();
+            return GenesisStates.newGenesisState(dir, genesisKey);
+        }
     };
 
     public Set<InfrastructureType> dependencies() {
@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.setup;
+
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.ConsensusSubmitMessage;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.ContractCall;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoTransfer;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.ScheduleCreate;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenAssociateToAccount;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenMint;
+
+import com.hederahashgraph.api.proto.java.HederaFunctionality;
+import java.util.SplittableRandom;
+
+/**
+ * In-process counterparts of the load mixes generated by the {@code OpProvider}s of the
+ * test-clients perf suites; each chooses the functionality of the {@code n}-th transaction in a
+ * load, so that {@link TxnBodies} can synthesize it.
+ */
+public enum LoadProvider {
+    /** As in {@code CryptoTransferLoadTest}, only hbar transfers between users. */
+    CRYPTO_TRANSFER {
+        @Override
+        public HederaFunctionality functionOf(final int n, final SplittableRandom random) {
+            return CryptoTransfer;
+        }
+    },
+    /** As in {@code TokenAssociationLoadTest}, only associations of users with tokens. */
+    TOKEN_ASSOCIATION {
+        @Override
+        public HederaFunctionality functionOf(final int n, final SplittableRandom random) {
+            return TokenAssociateToAccount;
+        }
+    },
+    /** As in {@code ContractCallLoadTest}, only calls to a contract that updates its storage. */
+    CONTRACT_CALL {
+        @Override
+        public HederaFunctionality functionOf(final int n, final SplittableRandom random) {
+            return ContractCall;
+        }
+    },
+    /**
+     * As in {@code MixedOpsLoadTest}, bursts of an hbar transfer, a topic message, and then (with
+     * 95% probability) a token operation; or else a scheduled transaction.
+     */
+    MIXED_OPS {
+        @Override
+        public HederaFunctionality functionOf(final int n, final SplittableRandom random) {
+            return switch (n % 3) {
+                case 0 -> CryptoTransfer;
+                case 1 -> ConsensusSubmitMessage;
+                default -> random.nextInt(100) < PERCENT_TOKEN_OPS ? TokenMint : ScheduleCreate;
+            };
+        }
+    };
+
+    private static final int PERCENT_TOKEN_OPS = 95;
+
+    public abstract HederaFunctionality functionOf(int n, SplittableRandom random);
+}
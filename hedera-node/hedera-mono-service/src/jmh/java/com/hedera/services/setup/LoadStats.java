@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.setup;
+
+import com.hederahashgraph.api.proto.java.HederaFunctionality;
+import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Summarizes the observations of an {@link InProcessLoadDriver} in the spirit of the test-clients
+ * {@code HapiStats}: per functionality, the counts of each precheck and final status, and
+ * histograms of the ingest, handle, and submit-to-handled latencies; along with the overall
+ * handled transactions per second.
+ */
+public class LoadStats {
+    private final Map<HederaFunctionality, FunctionStats> statsByFunction =
+            new EnumMap<>(HederaFunctionality.class);
+
+    private long handled;
+    private long elapsedNanos;
+
+    public void observePrecheck(
+            final HederaFunctionality function,
+            final ResponseCodeEnum precheck,
+            final long ingestNanos) {
+        final var stats = statsFor(function);
+        stats.prechecks.merge(precheck, 1L, Long::sum);
+        stats.ingestLatencies.observe(ingestNanos);
+    }
+
+    public void observeOutcome(
+            final HederaFunctionality function,
+            final ResponseCodeEnum outcome,
+            final long handleNanos,
+            final long consensusNanos) {
+        final var stats = statsFor(function);
+        stats.outcomes.merge(outcome, 1L, Long::sum);
+        stats.handleLatencies.observe(handleNanos);
+        stats.consensusLatencies.observe(consensusNanos);
+        handled++;
+    }
+
+    public void addElapsed(final long nanos) {
+        elapsedNanos += nanos;
+    }
+
+    public double handledPerSec() {
+        return elapsedNanos == 0 ? 0.0 : handled * 1e9 / elapsedNanos;
+    }
+
+    public String summary() {
+        final var sb = new StringBuilder();
+        sb.append(String.format("%nHandled %d txns at %.1f TPS%n", handled, handledPerSec()));
+        statsByFunction.forEach(
+                (function, stats) ->
+                        sb.append(String.format("%n  %s%n", function))
+                                .append("    prechecks : ")
+                                .append(stats.prechecks)
+                                .append(System.lineSeparator())
+                                .append("    outcomes  : ")
+                                .append(stats.outcomes)
+                                .append(System.lineSeparator())
+                                .append("    ingest    : ")
+                                .append(stats.ingestLatencies)
+                                .append(System.lineSeparator())
+                                .append("    handle    : ")
+                                .append(stats.handleLatencies)
+                                .append(System.lineSeparator())
+                                .append("    consensus : ")
+                                .append(stats.consensusLatencies)
+                                .append(System.lineSeparator()));
+        return sb.toString();
+    }
+
+    private FunctionStats statsFor(final HederaFunctionality function) {
+        return statsByFunction.computeIfAbsent(function, ignore -> new FunctionStats());
+    }
+
+    private static class FunctionStats {
+        private final Map<ResponseCodeEnum, Long> prechecks =
+                new EnumMap<>(ResponseCodeEnum.class);
+        private final Map<ResponseCodeEnum, Long> outcomes = new EnumMap<>(ResponseCodeEnum.class);
+        private final LatencyHistogram ingestLatencies = new LatencyHistogram();
+        private final LatencyHistogram handleLatencies = new LatencyHistogram();
+        private final LatencyHistogram consensusLatencies = new LatencyHistogram();
+    }
+
+    /**
+     * A histogram of latencies with power-of-two microsecond buckets; so percentiles are upper
+     * bounds accurate to within a factor of two.
+     */
+    static class LatencyHistogram {
+        private static final int NUM_BUCKETS = Long.SIZE;
+
+        private final long[] buckets = new long[NUM_BUCKETS];
+        private long count;
+        private long totalMicros;
+        private long maxMicros;
+
+        void observe(final long nanos) {
+            final var micros = Math.max(0L, nanos / 1_000L);
+            // Bucket b holds the latencies whose bit length is b, i.e. in [2^(b-1), 2^b)
+            buckets[Long.SIZE - Long.numberOfLeadingZeros(micros)]++;
+            count++;
+            totalMicros += micros;
+            maxMicros = Math.max(maxMicros, micros);
+        }
+
+        long percentileMicros(final double p) {
+            final var threshold = Math.ceil(p * count);
+            long soFar = 0;
+            for (int b = 0; b < NUM_BUCKETS; b++) {
+                soFar += buckets[b];
+                if (soFar >= threshold && soFar > 0) {
+                    return Math.min(maxMicros, (1L << b) - 1);
+                }
+            }
+            return maxMicros;
+        }
+
+        @Override
+        public String toString() {
+            if (count == 0) {
+                return "n/a";
+            }
+            return String.format(
+                    "n=%d mean=%dus p50<=%dus p90<=%dus p99<=%dus max=%dus",
+                    count,
+                    totalMicros / count,
+                    percentileMicros(0.50),
+                    percentileMicros(0.90),
+                    percentileMicros(0.99),
+                    maxMicros);
+        }
+    }
+}
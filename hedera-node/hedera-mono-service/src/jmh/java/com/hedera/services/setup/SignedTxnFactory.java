@@ -0,0 +1,146 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.setup;
+
+import com.google.protobuf.ByteString;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.Duration;
+import com.hederahashgraph.api.proto.java.Key;
+import com.hederahashgraph.api.proto.java.SignatureMap;
+import com.hederahashgraph.api.proto.java.SignaturePair;
+import com.hederahashgraph.api.proto.java.SignedTransaction;
+import com.hederahashgraph.api.proto.java.Timestamp;
+import com.hederahashgraph.api.proto.java.Transaction;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+import com.hederahashgraph.api.proto.java.TransactionID;
+import com.swirlds.common.system.transaction.internal.SwirldTransaction;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.SecureRandom;
+import java.security.Signature;
+import java.security.spec.NamedParameterSpec;
+import java.time.Instant;
+import java.util.Arrays;
+import org.apache.commons.codec.binary.Hex;
+
+/**
+ * Creates signed {@link SwirldTransaction}s for benchmarks that drive the full {@code
+ * handleTransaction} pipeline. All transactions are signed with a single, deterministic Ed25519
+ * key; so a benchmark that uses {@link #publicKey()} for every entity it creates (and as the
+ * genesis key of its state) can sign any transaction with a single signature pair.
+ */
+public class SignedTxnFactory {
+    private static final int ED25519_KEY_LEN = 32;
+    private static final long MAX_TXN_FEE = 100 * 100_000_000L;
+    private static final AccountID NODE_ACCOUNT_ID =
+            AccountID.newBuilder().setAccountNum(3).build();
+    private static final Duration VALID_DURATION = Duration.newBuilder().setSeconds(120).build();
+
+    private final Key publicKey;
+    private final KeyPair keyPair;
+    private final byte[] rawPublicKey;
+    private final Signature signer;
+
+    public SignedTxnFactory(final long seed) {
+        try {
+            final var random = SecureRandom.getInstance("SHA1PRNG");
+            random.setSeed(seed);
+            final var generator = KeyPairGenerator.getInstance("Ed25519");
+            generator.initialize(NamedParameterSpec.ED25519, random);
+            keyPair = generator.generateKeyPair();
+            signer = Signature.getInstance("Ed25519");
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+        // The raw key is the suffix of the X.509 encoding
+        final var encoded = keyPair.getPublic().getEncoded();
+        rawPublicKey =
+                Arrays.copyOfRange(encoded, encoded.length - ED25519_KEY_LEN, encoded.length);
+        publicKey = Key.newBuilder().setEd25519(ByteString.copyFrom(rawPublicKey)).build();
+    }
+
+    public Key publicKey() {
+        return publicKey;
+    }
+
+    public String hexedPublicKey() {
+        return Hex.encodeHexString(rawPublicKey);
+    }
+
+    /**
+     * Returns a body builder with all the fields of a {@link TransactionBody} that are common to
+     * every functionality already set.
+     *
+     * @param payer the payer of the transaction
+     * @param validStart the start of the transaction's validity window
+     * @return the partial body
+     */
+    public TransactionBody.Builder newBody(final AccountID payer, final Instant validStart) {
+        return TransactionBody.newBuilder()
+                .setTransactionID(
+                        TransactionID.newBuilder()
+                                .setAccountID(payer)
+                                .setTransactionValidStart(
+                                        Timestamp.newBuilder()
+                                                .setSeconds(validStart.getEpochSecond())
+                                                .setNanos(validStart.getNano())))
+                .setNodeAccountID(NODE_ACCOUNT_ID)
+                .setTransactionFee(MAX_TXN_FEE)
+                .setTransactionValidDuration(VALID_DURATION);
+    }
+
+    /**
+     * Signs the given body with this factory's key, and wraps the result in a {@link
+     * SwirldTransaction} as the platform would deliver it to {@code handleTransaction}.
+     *
+     * @param body the body to sign
+     * @return the signed platform transaction
+     */
+    public SwirldTransaction signed(final TransactionBody.Builder body) {
+        return new SwirldTransaction(signedTransaction(body).toByteArray());
+    }
+
+    /**
+     * Signs the given body with this factory's key, returning the result as a client would
+     * submit it to the ingest workflow.
+     *
+     * @param body the body to sign
+     * @return the signed HAPI transaction
+     */
+    public Transaction signedTransaction(final TransactionBody.Builder body) {
+        final var bodyBytes = body.build().toByteString();
+        final byte[] sig;
+        try {
+            signer.initSign(keyPair.getPrivate());
+            signer.update(bodyBytes.toByteArray());
+            sig = signer.sign();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+        final var sigMap =
+                SignatureMap.newBuilder()
+                        .addSigPair(
+                                SignaturePair.newBuilder()
+                                        .setPubKeyPrefix(ByteString.copyFrom(rawPublicKey))
+                                        .setEd25519(ByteString.copyFrom(sig)));
+        final var signedTxn =
+                SignedTransaction.newBuilder().setBodyBytes(bodyBytes).setSigMap(sigMap).build();
+        return Transaction.newBuilder()
+                .setSignedTransactionBytes(signedTxn.toByteString())
+                .build();
+    }
+}
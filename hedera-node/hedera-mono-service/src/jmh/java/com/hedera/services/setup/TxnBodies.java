@@ -0,0 +1,159 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.setup;
+
+import com.google.protobuf.ByteString;
+import com.hederahashgraph.api.proto.java.AccountAmount;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.ConsensusSubmitMessageTransactionBody;
+import com.hederahashgraph.api.proto.java.ContractCallTransactionBody;
+import com.hederahashgraph.api.proto.java.CryptoTransferTransactionBody;
+import com.hederahashgraph.api.proto.java.HederaFunctionality;
+import com.hederahashgraph.api.proto.java.SchedulableTransactionBody;
+import com.hederahashgraph.api.proto.java.ScheduleCreateTransactionBody;
+import com.hederahashgraph.api.proto.java.TokenAssociateTransactionBody;
+import com.hederahashgraph.api.proto.java.TokenMintTransactionBody;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+import com.hederahashgraph.api.proto.java.TransferList;
+
+/**
+ * Synthesizes a deterministic sequence of transaction bodies of a given functionality over the
+ * entities of an {@link InProcessNetwork}; payers are chosen pseudo-randomly from its users.
+ */
+public class TxnBodies {
+    private static final int MESSAGE_SIZE = 100;
+    private static final long GAS_PER_CALL = 50_000L;
+    private static final long SCHEDULED_TXN_FEE = 100_000_000L;
+
+    private final InProcessNetwork network;
+    private final AccountID[] users;
+
+    private int i;
+    private int calls;
+    private int schedules;
+    private int associations;
+
+    public TxnBodies(final InProcessNetwork network) {
+        this.network = network;
+        this.users = network.users();
+    }
+
+    public TransactionBody.Builder nextBodyFor(final HederaFunctionality function) {
+        return switch (function) {
+            case CryptoTransfer -> nextTransfer();
+            case TokenMint -> nextMint();
+            case TokenAssociateToAccount -> nextAssociation();
+            case ConsensusSubmitMessage -> nextMessage();
+            case ContractCall -> nextCall();
+            case ScheduleCreate -> nextSchedule();
+            default -> throw new IllegalArgumentException("No synthetic bodies for " + function);
+        };
+    }
+
+    private TransactionBody.Builder nextTransfer() {
+        final var sender = nextUser();
+        return network.newBody(sender).setCryptoTransfer(transfer(sender, receiverFor(sender)));
+    }
+
+    private TransactionBody.Builder nextMint() {
+        final var tokenIds = network.tokenIds();
+        final var token = tokenIds[Math.floorMod(nextI(), tokenIds.length)];
+        return network.newBody(nextUser())
+                .setTokenMint(TokenMintTransactionBody.newBuilder().setToken(token).setAmount(1));
+    }
+
+    /**
+     * Cycles through all (account, token) pairs, skipping the treasury of every token; once all
+     * pairs are associated, the remaining transactions fail with {@code
+     * TOKEN_ALREADY_ASSOCIATED_TO_ACCOUNT}, but still exercise the full pipeline.
+     */
+    private TransactionBody.Builder nextAssociation() {
+        final var tokenIds = network.tokenIds();
+        final var m = associations++;
+        final var account = users[1 + Math.floorMod(m, users.length - 1)];
+        final var token = tokenIds[Math.floorMod(m / (users.length - 1), tokenIds.length)];
+        return network.newBody(account)
+                .setTokenAssociate(
+                        TokenAssociateTransactionBody.newBuilder()
+                                .setAccount(account)
+                                .addTokens(token));
+    }
+
+    private TransactionBody.Builder nextMessage() {
+        final var message = new byte[MESSAGE_SIZE];
+        message[0] = (byte) nextI();
+        return network.newBody(nextUser())
+                .setConsensusSubmitMessage(
+                        ConsensusSubmitMessageTransactionBody.newBuilder()
+                                .setTopicID(network.topicId())
+                                .setMessage(ByteString.copyFrom(message)));
+    }
+
+    private TransactionBody.Builder nextCall() {
+        final var m = calls++;
+        final var word = new byte[32];
+        word[28] = (byte) (m >>> 24);
+        word[29] = (byte) (m >>> 16);
+        word[30] = (byte) (m >>> 8);
+        word[31] = (byte) m;
+        return network.newBody(nextUser())
+                .setContractCall(
+                        ContractCallTransactionBody.newBuilder()
+                                .setContractID(network.contractId())
+                                .setGas(GAS_PER_CALL)
+                                .setFunctionParameters(ByteString.copyFrom(word)));
+    }
+
+    private TransactionBody.Builder nextSchedule() {
+        final var sender = nextUser();
+        final var scheduled =
+                SchedulableTransactionBody.newBuilder()
+                        .setTransactionFee(SCHEDULED_TXN_FEE)
+                        .setMemo("Scheduled #" + schedules++)
+                        .setCryptoTransfer(transfer(sender, receiverFor(sender)));
+        return network.newBody(sender)
+                .setScheduleCreate(
+                        ScheduleCreateTransactionBody.newBuilder()
+                                .setScheduledTransactionBody(scheduled));
+    }
+
+    private CryptoTransferTransactionBody.Builder transfer(
+            final AccountID sender, final AccountID receiver) {
+        return CryptoTransferTransactionBody.newBuilder()
+                .setTransfers(
+                        TransferList.newBuilder()
+                                .addAccountAmounts(adjust(sender, -1))
+                                .addAccountAmounts(adjust(receiver, +1)));
+    }
+
+    private AccountAmount adjust(final AccountID account, final long amount) {
+        return AccountAmount.newBuilder().setAccountID(account).setAmount(amount).build();
+    }
+
+    private AccountID nextUser() {
+        return users[Math.floorMod(nextI(), users.length)];
+    }
+
+    private AccountID receiverFor(final AccountID sender) {
+        final var senderI = (int) (sender.getAccountNum() - users[0].getAccountNum());
+        return users[(senderI + 1) % users.length];
+    }
+
+    private int nextI() {
+        i = i * Constructables.MULTIPLIER + Constructables.ADDEND;
+        return i;
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.state.logic;
+
+import static com.hedera.services.context.AppsManager.APPS;
+import static com.hedera.services.setup.InfrastructureManager.loadOrCreateBundle;
+import static com.hedera.services.setup.InfrastructureType.SERVICES_STATE;
+
+import com.hedera.services.setup.Constructables;
+import com.hedera.services.setup.GenesisStates;
+import com.hedera.services.setup.InProcessNetwork;
+import com.hedera.services.setup.InfrastructureBundle;
+import com.hedera.services.setup.InfrastructureType;
+import com.hedera.services.setup.SignedTxnFactory;
+import com.hedera.services.setup.TxnBodies;
+import com.hederahashgraph.api.proto.java.HederaFunctionality;
+import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
+import com.swirlds.common.constructable.ConstructableRegistryException;
+import com.swirlds.common.system.transaction.internal.SwirldTransaction;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the throughput of {@link StandardProcessLogic#incorporateConsensusTxn} for signed
+ * transactions of a single functionality, against a state (with accounts and token associations
+ * on disk) that was populated with users, tokens, a topic, and a contract by handling
+ * transactions through the same pipeline.
+ *
+ * <p>Running this class's {@link #main(String[])} adds the GC profiler, so results also include
+ * the allocation rate per handled transaction. (The project's {@code jmh} task enables no
+ * profilers; pass {@code -prof gc} to the JMH jar for the same effect.)
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 3, time = 30)
+public class HandleTransactionBench {
+    // Keeps even the most tightly throttled operations (like ScheduleCreate) under their limits
+    private static final long NANOS_BETWEEN_TXNS = 20_000_000L;
+    private static final Instant FIRST_CONSENSUS_TIME = Instant.ofEpochSecond(1_640_995_200L);
+
+    @Param({
+        "CryptoTransfer",
+        "TokenMint",
+        "TokenAssociateToAccount",
+        "ConsensusSubmitMessage",
+        "ContractCall",
+        "ScheduleCreate"
+    })
+    HederaFunctionality functionality;
+
+    @Param("10000")
+    int userAccounts;
+
+    @Param("10")
+    int tokens;
+
+    @Param("1000")
+    int txnsPerRound;
+
+    private int n;
+    private TxnBodies bodies;
+    private InProcessNetwork network;
+    private InfrastructureBundle bundle;
+    private SwirldTransaction[] roundTxns;
+    private Instant[] roundConsensusTimes;
+
+    // --- Fixtures ---
+    @Setup(Level.Trial)
+    public void setupInfrastructure() throws ConstructableRegistryException {
+        Constructables.registerForServicesState();
+        bundle = loadOrCreateBundle(activeConfig(), requiredInfra());
+        network =
+                InProcessNetwork.withSyntheticTime(
+                        APPS.get(GenesisStates.NODE_ID),
+                        new SignedTxnFactory(Constructables.SEED),
+                        FIRST_CONSENSUS_TIME,
+                        NANOS_BETWEEN_TXNS);
+        network.createEntities(userAccounts, tokens);
+        bodies = new TxnBodies(network);
+        roundTxns = new SwirldTransaction[txnsPerRound];
+        roundConsensusTimes = new Instant[txnsPerRound];
+        bundle.newRound();
+        n = 0;
+    }
+
+    @Setup(Level.Invocation)
+    public void simulateRoundBoundary() {
+        if (n % txnsPerRound == 0) {
+            if (n > 0) {
+                bundle.newRound();
+            }
+            final var txnFactory = network.txnFactory();
+            for (int k = 0; k < txnsPerRound; k++) {
+                roundConsensusTimes[k] = network.nextConsensusTime();
+                roundTxns[k] = txnFactory.signed(bodies.nextBodyFor(functionality));
+            }
+        }
+    }
+
+    // --- Benchmarks ---
+    @Benchmark
+    public ResponseCodeEnum handleTransaction() {
+        final var j = n++ % txnsPerRound;
+        return network.handle(roundTxns[j], roundConsensusTimes[j]);
+    }
+
+    public static void main(final String... args) throws RunnerException {
+        final var options =
+                new OptionsBuilder()
+                        .include(HandleTransactionBench.class.getSimpleName())
+                        .addProfiler(GCProfiler.class)
+                        .build();
+        new Runner(options).run();
+    }
+
+    // --- Helpers ---
+    private Map<String, Object> activeConfig() {
+        return Map.of("handleUsers", userAccounts);
+    }
+
+    private List<InfrastructureType> requiredInfra() {
+        return List.of(SERVICES_STATE);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.state.merkle;
+
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.TopicID;
+import java.time.Instant;
+import java.util.SplittableRandom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 1, time = 5)
+@Measurement(iterations = 5, time = 10)
+public class TopicRunningHashBench {
+    private static final int NUM_MESSAGES = 1024;
+
+    // Typical HCS payloads range from a few bytes up to the 1024-byte message limit
+    @Param({"100", "1024"})
+    int messageSize;
+
+    private int i;
+    private long secs;
+    private byte[][] messages;
+    private MerkleTopic topic;
+    private final AccountID payer = AccountID.newBuilder().setAccountNum(1_001L).build();
+    private final TopicID topicId = TopicID.newBuilder().setTopicNum(1_234L).build();
+
+    @Setup
+    public void setup() {
+        final var r = new SplittableRandom(1_234_567L);
+        messages = new byte[NUM_MESSAGES][];
+        for (int j = 0; j < NUM_MESSAGES; j++) {
+            messages[j] = new byte[messageSize];
+            r.nextBytes(messages[j]);
+        }
+        topic = new MerkleTopic();
+        secs = 1_234_567L;
+    }
+
+    @Benchmark
+    public void submitMessages(final Blackhole blackhole) {
+        topic.updateRunningHashAndSequenceNumber(
+                payer, messages[i++ % NUM_MESSAGES], topicId, Instant.ofEpochSecond(secs++));
+        blackhole.consume(topic.getRunningHash());
+    }
+}
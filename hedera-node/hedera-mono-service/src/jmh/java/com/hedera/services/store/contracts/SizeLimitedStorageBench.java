@@ -32,6 +32,8 @@ import com.hedera.services.setup.InfrastructureType;
 import com.hedera.services.setup.KvMutationBatch;
 import com.hedera.services.state.migration.HederaAccount;
 import com.hedera.services.state.virtual.IterableStorageUtils;
+import com.hedera.services.stats.StateAccessProfiler;
+import com.hedera.services.utils.MiscUtils;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.swirlds.common.constructable.ConstructableRegistryException;
 import java.util.List;
@@ -93,7 +95,8 @@ public class SizeLimitedStorageBench {
                         IterableStorageUtils::overwritingUpsertMapping,
                         IterableStorageUtils::removeMapping,
                         bundle.getterFor(ACCOUNTS_MM),
-                        bundle.getterFor(CONTRACT_STORAGE_VM));
+                        bundle.getterFor(CONTRACT_STORAGE_VM),
+                        new StateAccessProfiler(false, 0L, MiscUtils::baseStatNameOf));
     }
 
     @Setup(Level.Iteration)
@@ -0,0 +1,176 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.store.contracts.precompile;
+
+import static com.hedera.services.contracts.ParsingConstants.mintReturnType;
+import static com.hedera.services.store.contracts.precompile.AbiConstants.ABI_ID_GET_TOKEN_INFO;
+import static com.hedera.services.store.contracts.precompile.AbiConstants.ABI_ID_MINT_TOKEN_V2;
+import static com.hedera.services.store.contracts.precompile.AbiConstants.ABI_ID_TRANSFER_TOKENS;
+
+import com.esaulpaugh.headlong.abi.Tuple;
+import com.esaulpaugh.headlong.abi.TupleType;
+import com.hedera.services.store.contracts.precompile.codec.DirectAbiCodec;
+import java.math.BigInteger;
+import java.util.SplittableRandom;
+import java.util.function.UnaryOperator;
+import org.apache.tuweni.bytes.Bytes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the headlong tuple decoding/encoding the HTS precompiles used to do unconditionally
+ * against the {@link DirectAbiCodec} fast paths, for {@code transferTokens}, {@code mintToken}
+ * and {@code getTokenInfo} payloads.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 1, time = 5)
+@Measurement(iterations = 5, time = 10)
+public class AbiCodecBench {
+    private static final long SEED = 1_234_321L;
+    private static final int UNIQUE_INPUTS = 1024;
+    private static final UnaryOperator<byte[]> NO_ALIASES = UnaryOperator.identity();
+
+    private static final TupleType TRANSFER_TOKENS_ARGS =
+            TupleType.parse("(bytes32,bytes32[],int64[])");
+    private static final TupleType MINT_ARGS = TupleType.parse("(bytes32,int64,bytes[])");
+    private static final TupleType TOKEN_INFO_ARGS = TupleType.parse("(bytes32)");
+
+    @Param("4")
+    int accountsPerTransfer;
+
+    @Param("3")
+    int metadataPerMint;
+
+    @Param("100")
+    int metadataBytes;
+
+    private int i;
+    private Bytes[] transferTokensInputs;
+    private Bytes[] mintInputs;
+    private Bytes[] tokenInfoInputs;
+    private long[][] mintedSerialNos;
+
+    @Setup
+    public void setupInputs() {
+        final var r = new SplittableRandom(SEED);
+        transferTokensInputs = new Bytes[UNIQUE_INPUTS];
+        mintInputs = new Bytes[UNIQUE_INPUTS];
+        tokenInfoInputs = new Bytes[UNIQUE_INPUTS];
+        mintedSerialNos = new long[UNIQUE_INPUTS][];
+        for (int j = 0; j < UNIQUE_INPUTS; j++) {
+            final var token = addressWord(r);
+            final var accounts = new byte[accountsPerTransfer][];
+            final var amounts = new long[accountsPerTransfer];
+            for (int k = 0; k < accountsPerTransfer; k++) {
+                accounts[k] = addressWord(r);
+                amounts[k] = r.nextLong(-1_000_000L, 1_000_000L);
+            }
+            transferTokensInputs[j] =
+                    callData(
+                            ABI_ID_TRANSFER_TOKENS,
+                            TRANSFER_TOKENS_ARGS,
+                            Tuple.of(token, accounts, amounts));
+
+            final var metadata = new byte[metadataPerMint][];
+            mintedSerialNos[j] = new long[metadataPerMint];
+            for (int k = 0; k < metadataPerMint; k++) {
+                metadata[k] = new byte[metadataBytes];
+                r.nextBytes(metadata[k]);
+                mintedSerialNos[j][k] = r.nextLong(1, Long.MAX_VALUE);
+            }
+            mintInputs[j] =
+                    callData(ABI_ID_MINT_TOKEN_V2, MINT_ARGS, Tuple.of(token, 0L, metadata));
+
+            tokenInfoInputs[j] = callData(ABI_ID_GET_TOKEN_INFO, TOKEN_INFO_ARGS, Tuple.of(token));
+        }
+        i = 0;
+    }
+
+    @Benchmark
+    public void headlongTransferTokens(final Blackhole blackhole) {
+        blackhole.consume(headlongDecode(TRANSFER_TOKENS_ARGS, transferTokensInputs[next()]));
+    }
+
+    @Benchmark
+    public void directTransferTokens(final Blackhole blackhole) {
+        blackhole.consume(
+                DirectAbiCodec.decodeTransferTokens(transferTokensInputs[next()], NO_ALIASES));
+    }
+
+    @Benchmark
+    public void headlongMintToken(final Blackhole blackhole) {
+        blackhole.consume(headlongDecode(MINT_ARGS, mintInputs[next()]));
+    }
+
+    @Benchmark
+    public void directMintToken(final Blackhole blackhole) {
+        blackhole.consume(DirectAbiCodec.decodeMint(mintInputs[next()], ABI_ID_MINT_TOKEN_V2));
+    }
+
+    @Benchmark
+    public void headlongTokenInfo(final Blackhole blackhole) {
+        blackhole.consume(headlongDecode(TOKEN_INFO_ARGS, tokenInfoInputs[next()]));
+    }
+
+    @Benchmark
+    public void directTokenInfo(final Blackhole blackhole) {
+        blackhole.consume(DirectAbiCodec.decodeGetTokenInfo(tokenInfoInputs[next()]));
+    }
+
+    @Benchmark
+    public void headlongMintResult(final Blackhole blackhole) {
+        final var serialNos = mintedSerialNos[next()];
+        final var result = Tuple.of(22, BigInteger.valueOf(serialNos.length), serialNos);
+        blackhole.consume(Bytes.wrap(mintReturnType.encode(result).array()));
+    }
+
+    @Benchmark
+    public void directMintResult(final Blackhole blackhole) {
+        final var serialNos = mintedSerialNos[next()];
+        blackhole.consume(DirectAbiCodec.encodeMintResult(22, serialNos.length, serialNos));
+    }
+
+    private int next() {
+        return i++ % UNIQUE_INPUTS;
+    }
+
+    private static Tuple headlongDecode(final TupleType args, final Bytes input) {
+        return args.decode(input.slice(Integer.BYTES).toArray());
+    }
+
+    private static Bytes callData(final int selector, final TupleType args, final Tuple values) {
+        return Bytes.concatenate(
+                Bytes.ofUnsignedInt(selector & 0xFFFFFFFFL),
+                Bytes.wrap(args.encode(values).array()));
+    }
+
+    private static byte[] addressWord(final SplittableRandom r) {
+        final var word = new byte[32];
+        final var num = r.nextLong(1_001L, 1_000_000L);
+        for (int k = 0; k < Long.BYTES; k++) {
+            word[31 - k] = (byte) (num >>> (8 * k));
+        }
+        return word;
+    }
+}
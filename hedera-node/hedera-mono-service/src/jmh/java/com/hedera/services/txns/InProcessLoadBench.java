@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.txns;
+
+import static com.hedera.services.context.AppsManager.APPS;
+import static com.hedera.services.setup.InfrastructureManager.loadOrCreateBundle;
+import static com.hedera.services.setup.InfrastructureType.SERVICES_STATE;
+
+import com.hedera.services.setup.Constructables;
+import com.hedera.services.setup.GenesisStates;
+import com.hedera.services.setup.InProcessLoadDriver;
+import com.hedera.services.setup.InProcessNetwork;
+import com.hedera.services.setup.InfrastructureBundle;
+import com.hedera.services.setup.InfrastructureType;
+import com.hedera.services.setup.LoadProvider;
+import com.hedera.services.setup.SignedTxnFactory;
+import com.swirlds.common.constructable.ConstructableRegistryException;
+import java.util.List;
+import java.util.Map;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Runs the in-process equivalents of the test-clients perf suites through both the ingest and
+ * consensus workflows of a single node, one round per invocation; and logs the resulting {@link
+ * com.hedera.services.setup.LoadStats} at the end of each trial.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 3, time = 30)
+public class InProcessLoadBench {
+    private static final Logger log = LogManager.getLogger(InProcessLoadBench.class);
+
+    @Param({"CRYPTO_TRANSFER", "MIXED_OPS", "TOKEN_ASSOCIATION", "CONTRACT_CALL"})
+    LoadProvider provider;
+
+    @Param("10000")
+    int userAccounts;
+
+    @Param("10")
+    int tokens;
+
+    @Param("1000")
+    int txnsPerRound;
+
+    private InfrastructureBundle bundle;
+    private InProcessLoadDriver driver;
+
+    // --- Fixtures ---
+    @Setup(Level.Trial)
+    public void setupInfrastructure() throws ConstructableRegistryException {
+        Constructables.registerForServicesState();
+        bundle = loadOrCreateBundle(activeConfig(), requiredInfra());
+        GenesisStates.PLATFORM_TXNS.clear();
+        final var network =
+                InProcessNetwork.withWallClockTime(
+                        APPS.get(GenesisStates.NODE_ID), new SignedTxnFactory(Constructables.SEED));
+        network.createEntities(userAccounts, tokens);
+        bundle.newRound();
+        driver = new InProcessLoadDriver(network, provider, Constructables.SEED);
+    }
+
+    @TearDown(Level.Trial)
+    public void logStats() {
+        log.info("Load stats for {}:{}", provider, driver.stats().summary());
+    }
+
+    // --- Benchmarks ---
+    @Benchmark
+    public void runRound() {
+        driver.runRound(txnsPerRound);
+        bundle.newRound();
+    }
+
+    // --- Helpers ---
+    private Map<String, Object> activeConfig() {
+        return Map.of("loadUsers", userAccounts);
+    }
+
+    private List<InfrastructureType> requiredInfra() {
+        return List.of(SERVICES_STATE);
+    }
+}
@@ -19,6 +19,7 @@ import com.hedera.services.context.ContextModule;
 import com.hedera.services.context.CurrentPlatformStatus;
 import com.hedera.services.context.MutableStateChildren;
 import com.hedera.services.context.NodeInfo;
+import com.hedera.services.context.TransactionContext;
 import com.hedera.services.context.annotations.BootstrapProps;
 import com.hedera.services.context.annotations.StaticAccountMemo;
 import com.hedera.services.context.init.ServicesInitFlow;
@@ -60,6 +61,7 @@ import com.hedera.services.store.StoresModule;
 import com.hedera.services.stream.RecordStreamManager;
 import com.hedera.services.throttling.ThrottlingModule;
 import com.hedera.services.txns.ProcessLogic;
+import com.hedera.services.txns.SubmissionFlow;
 import com.hedera.services.txns.TransactionsModule;
 import com.hedera.services.txns.network.UpgradeActions;
 import com.hedera.services.txns.prefetch.PrefetchProcessor;
@@ -188,6 +190,11 @@ public interface ServicesApp {
 
     BackingStore<AccountID, HederaAccount> backingAccounts();
 
+    /* Needed by in-process benchmarks */
+    SubmissionFlow submissionFlow();
+
+    TransactionContext txnCtx();
+
     @Component.Builder
     interface Builder {
         @BindsInstance
@@ -38,6 +38,8 @@ import com.hedera.services.state.submerkle.SequenceNumber;
 import com.hedera.services.state.virtual.*;
 import com.hedera.services.state.virtual.VirtualMapFactory.JasperDbBuilderFactory;
 import com.hedera.services.state.virtual.entities.OnDiskAccount;
+import com.hedera.services.state.virtual.entities.OnDiskEntity;
+import com.hedera.services.state.virtual.entities.OnDiskEntityType;
 import com.hedera.services.state.virtual.entities.OnDiskTokenRel;
 import com.hedera.services.stream.RecordsRunningHashLeaf;
 import com.hedera.services.utils.EntityNum;
@@ -48,8 +50,10 @@ import com.swirlds.common.crypto.DigestType;
 import com.swirlds.common.crypto.ImmutableHash;
 import com.swirlds.common.crypto.RunningHash;
 import com.swirlds.common.merkle.MerkleInternal;
+import com.swirlds.common.merkle.MerkleLeaf;
 import com.swirlds.common.merkle.MerkleNode;
 import com.swirlds.common.merkle.impl.PartialNaryMerkleInternal;
+import com.swirlds.common.merkle.utility.Keyed;
 import com.swirlds.common.system.*;
 import com.swirlds.common.system.address.AddressBook;
 import com.swirlds.common.system.events.Event;
@@ -90,6 +94,9 @@ public class ServicesState extends PartialNaryMerkleInternal
     private boolean enabledVirtualNft;
     private boolean enableVirtualAccounts;
     private boolean enableVirtualTokenRels;
+    private boolean enableVirtualRecords;
+    private boolean enableVirtualTokens;
+    private boolean enableVirtualTopics;
 
     private final BootstrapProperties bootstrapProperties;
 
@@ -119,6 +126,9 @@ public class ServicesState extends PartialNaryMerkleInternal
         this.bootstrapProperties = that.bootstrapProperties;
         this.enableVirtualAccounts = that.enableVirtualAccounts;
         this.enableVirtualTokenRels = that.enableVirtualTokenRels;
+        this.enableVirtualRecords = that.enableVirtualRecords;
+        this.enableVirtualTokens = that.enableVirtualTokens;
+        this.enableVirtualTopics = that.enableVirtualTopics;
     }
 
     /** Log out the sizes the state children. */
@@ -210,7 +220,12 @@ public class ServicesState extends PartialNaryMerkleInternal
                 mapToDiskMigration.migrateToDiskAsApropos(
                         INSERTIONS_PER_COPY,
                         this,
-                        new ToDiskMigrations(enableVirtualAccounts, enableVirtualTokenRels),
+                        new ToDiskMigrations(
+                                enableVirtualAccounts,
+                                enableVirtualTokenRels,
+                                shouldMigratePayerRecordsToDisk(),
+                                shouldMigrateTokensToDisk(),
+                                shouldMigrateTopicsToDisk()),
                         vmFactory.apply(JasperDbBuilder::new),
                         accountMigrator,
                         tokenRelMigrator);
@@ -244,6 +259,9 @@ public class ServicesState extends PartialNaryMerkleInternal
         final var bootstrapProps = getBootstrapProperties();
         enableVirtualAccounts = bootstrapProps.getBooleanProperty(ACCOUNTS_STORE_ON_DISK);
         enableVirtualTokenRels = bootstrapProps.getBooleanProperty(TOKENS_STORE_RELS_ON_DISK);
+        enableVirtualRecords = bootstrapProps.getBooleanProperty(LEDGER_RECORDS_STORE_ON_DISK);
+        enableVirtualTokens = bootstrapProps.getBooleanProperty(TOKENS_STORE_ON_DISK);
+        enableVirtualTopics = bootstrapProps.getBooleanProperty(TOPICS_STORE_ON_DISK);
         enabledVirtualNft = bootstrapProps.getBooleanProperty(TOKENS_NFTS_USE_VIRTUAL_MERKLE);
         return internalInit(platform, bootstrapProps, dualState, trigger, deserializedVersion);
     }
@@ -260,6 +278,9 @@ public class ServicesState extends PartialNaryMerkleInternal
         final var seqStart = bootstrapProps.getLongProperty(HEDERA_FIRST_USER_ENTITY);
         enableVirtualAccounts = bootstrapProps.getBooleanProperty(ACCOUNTS_STORE_ON_DISK);
         enableVirtualTokenRels = bootstrapProps.getBooleanProperty(TOKENS_STORE_RELS_ON_DISK);
+        enableVirtualRecords = bootstrapProps.getBooleanProperty(LEDGER_RECORDS_STORE_ON_DISK);
+        enableVirtualTokens = bootstrapProps.getBooleanProperty(TOKENS_STORE_ON_DISK);
+        enableVirtualTopics = bootstrapProps.getBooleanProperty(TOPICS_STORE_ON_DISK);
         enabledVirtualNft = bootstrapProps.getBooleanProperty(TOKENS_NFTS_USE_VIRTUAL_MERKLE);
         createGenesisChildren(addressBook, seqStart, bootstrapProps);
 
@@ -358,6 +379,9 @@ public class ServicesState extends PartialNaryMerkleInternal
     /* --- FastCopyable --- */
     @Override
     public synchronized ServicesState copy() {
+        if (metadata != null) {
+            metadata.app().workingState().materializeHotAccountWrites();
+        }
         setImmutable(true);
 
         final var that = new ServicesState(this);
@@ -443,12 +467,24 @@ public class ServicesState extends PartialNaryMerkleInternal
         return getChild(StateChildIndices.STORAGE);
     }
 
-    public MerkleMap<EntityNum, MerkleTopic> topics() {
-        return getChild(StateChildIndices.TOPICS);
+    public EntityStorageAdapter<MerkleTopic> topics() {
+        return entitiesAt(StateChildIndices.TOPICS, OnDiskEntityType.TOPIC);
     }
 
-    public MerkleMap<EntityNum, MerkleToken> tokens() {
-        return getChild(StateChildIndices.TOKENS);
+    public EntityStorageAdapter<MerkleToken> tokens() {
+        return entitiesAt(StateChildIndices.TOKENS, OnDiskEntityType.TOKEN);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V extends MerkleLeaf & Keyed<EntityNum>> EntityStorageAdapter<V> entitiesAt(
+            final int childIndex, final OnDiskEntityType<V> type) {
+        final var entitiesStorage = getChild(childIndex);
+        return (entitiesStorage instanceof VirtualMap)
+                ? EntityStorageAdapter.fromOnDisk(
+                        type,
+                        VIRTUAL_MAP_DATA_ACCESS,
+                        (VirtualMap<EntityNumVirtualKey, OnDiskEntity<V>>) entitiesStorage)
+                : EntityStorageAdapter.fromInMemory((MerkleMap<EntityNum, V>) entitiesStorage);
     }
 
     @SuppressWarnings("unchecked")
@@ -491,7 +527,13 @@ public class ServicesState extends PartialNaryMerkleInternal
     }
 
     public RecordsStorageAdapter payerRecords() {
-        return getNumberOfChildren() == StateChildIndices.NUM_032X_CHILDREN
+        final var numChildren = getNumberOfChildren();
+        if (numChildren == StateChildIndices.NUM_033X_CHILDREN) {
+            return RecordsStorageAdapter.fromOnDisk(
+                    getChild(StateChildIndices.PAYER_RECORDS),
+                    getChild(StateChildIndices.ON_DISK_PAYER_RECORDS));
+        }
+        return numChildren == StateChildIndices.NUM_032X_CHILDREN
                 ? RecordsStorageAdapter.fromDedicated(getChild(StateChildIndices.PAYER_RECORDS))
                 : RecordsStorageAdapter.fromLegacy(getChild(StateChildIndices.ACCOUNTS));
     }
@@ -526,14 +568,22 @@ public class ServicesState extends PartialNaryMerkleInternal
         } else {
             setChild(TOKEN_ASSOCIATIONS, new MerkleMap<>());
         }
-        setChild(StateChildIndices.TOPICS, new MerkleMap<>());
+        if (enableVirtualTopics) {
+            setChild(StateChildIndices.TOPICS, virtualMapFactory.newOnDiskTopics());
+        } else {
+            setChild(StateChildIndices.TOPICS, new MerkleMap<>());
+        }
         setChild(StateChildIndices.STORAGE, virtualMapFactory.newVirtualizedBlobs());
         if (enableVirtualAccounts) {
             setChild(StateChildIndices.ACCOUNTS, virtualMapFactory.newOnDiskAccountStorage());
         } else {
             setChild(StateChildIndices.ACCOUNTS, new MerkleMap<>());
         }
-        setChild(StateChildIndices.TOKENS, new MerkleMap<>());
+        if (enableVirtualTokens) {
+            setChild(StateChildIndices.TOKENS, virtualMapFactory.newOnDiskTokens());
+        } else {
+            setChild(StateChildIndices.TOKENS, new MerkleMap<>());
+        }
         setChild(StateChildIndices.NETWORK_CTX, genesisNetworkCtxWith(seqStart));
         setChild(StateChildIndices.SPECIAL_FILES, new MerkleSpecialFiles());
         setChild(StateChildIndices.SCHEDULE_TXS, new MerkleScheduledTransactions());
@@ -547,6 +597,11 @@ public class ServicesState extends PartialNaryMerkleInternal
                 stakingInfoBuilder.buildStakingInfoMap(addressBook, bootstrapProperties));
         if (enableVirtualAccounts) {
             setChild(StateChildIndices.PAYER_RECORDS, new MerkleMap<>());
+            if (enableVirtualRecords) {
+                setChild(
+                        StateChildIndices.ON_DISK_PAYER_RECORDS,
+                        virtualMapFactory.newOnDiskPayerRecords());
+            }
         }
     }
 
@@ -587,17 +642,35 @@ public class ServicesState extends PartialNaryMerkleInternal
     }
 
     boolean shouldMigrateSomethingToDisk() {
-        return shouldMigrateAccountsToDisk() || shouldMigrateTokenRelsToDisk();
+        return shouldMigrateAccountsToDisk()
+                || shouldMigrateTokenRelsToDisk()
+                || shouldMigratePayerRecordsToDisk()
+                || shouldMigrateTokensToDisk()
+                || shouldMigrateTopicsToDisk();
     }
 
     boolean shouldMigrateAccountsToDisk() {
         return enableVirtualAccounts && getNumberOfChildren() < StateChildIndices.NUM_032X_CHILDREN;
     }
 
+    boolean shouldMigratePayerRecordsToDisk() {
+        return enableVirtualAccounts
+                && enableVirtualRecords
+                && getNumberOfChildren() < StateChildIndices.NUM_033X_CHILDREN;
+    }
+
     boolean shouldMigrateTokenRelsToDisk() {
         return enableVirtualTokenRels && getChild(TOKEN_ASSOCIATIONS) instanceof MerkleMap<?, ?>;
     }
 
+    boolean shouldMigrateTokensToDisk() {
+        return enableVirtualTokens && getChild(StateChildIndices.TOKENS) instanceof MerkleMap<?, ?>;
+    }
+
+    boolean shouldMigrateTopicsToDisk() {
+        return enableVirtualTopics && getChild(StateChildIndices.TOPICS) instanceof MerkleMap<?, ?>;
+    }
+
     private BootstrapProperties getBootstrapProperties() {
         return bootstrapProperties == null ? new BootstrapProperties() : bootstrapProperties;
     }
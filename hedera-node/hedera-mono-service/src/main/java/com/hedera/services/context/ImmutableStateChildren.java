@@ -24,6 +24,7 @@ import com.hedera.services.state.merkle.MerkleStakingInfo;
 import com.hedera.services.state.merkle.MerkleToken;
 import com.hedera.services.state.merkle.MerkleTopic;
 import com.hedera.services.state.migration.AccountStorageAdapter;
+import com.hedera.services.state.migration.EntityStorageAdapter;
 import com.hedera.services.state.migration.RecordsStorageAdapter;
 import com.hedera.services.state.migration.TokenRelStorageAdapter;
 import com.hedera.services.state.migration.UniqueTokenMapAdapter;
@@ -50,8 +51,8 @@ import java.util.Objects;
  */
 public class ImmutableStateChildren implements StateChildren {
     private final NonAtomicReference<AccountStorageAdapter> accounts;
-    private final WeakReference<MerkleMap<EntityNum, MerkleTopic>> topics;
-    private final WeakReference<MerkleMap<EntityNum, MerkleToken>> tokens;
+    private final NonAtomicReference<EntityStorageAdapter<MerkleTopic>> topics;
+    private final NonAtomicReference<EntityStorageAdapter<MerkleToken>> tokens;
     // UniqueTokenMapAdapter is constructed on demand, so a strong reference needs to be held.
     private final NonAtomicReference<UniqueTokenMapAdapter> uniqueTokens;
     private final NonAtomicReference<RecordsStorageAdapter> payerRecords;
@@ -71,10 +72,10 @@ public class ImmutableStateChildren implements StateChildren {
         this.signedAt = state.getTimeOfLastHandledTxn();
 
         accounts = new NonAtomicReference<>(state.accounts());
-        topics = new WeakReference<>(state.topics());
+        topics = new NonAtomicReference<>(state.topics());
         storage = new WeakReference<>(state.storage());
         contractStorage = new WeakReference<>(state.contractStorage());
-        tokens = new WeakReference<>(state.tokens());
+        tokens = new NonAtomicReference<>(state.tokens());
         tokenAssociations = new WeakReference<>(state.tokenAssociations());
         schedules = new WeakReference<>(state.scheduleTxs());
         networkCtx = new WeakReference<>(state.networkCtx());
@@ -98,12 +99,12 @@ public class ImmutableStateChildren implements StateChildren {
     }
 
     @Override
-    public MerkleMap<EntityNum, MerkleTopic> topics() {
+    public EntityStorageAdapter<MerkleTopic> topics() {
         return Objects.requireNonNull(topics.get());
     }
 
     @Override
-    public MerkleMap<EntityNum, MerkleToken> tokens() {
+    public EntityStorageAdapter<MerkleToken> tokens() {
         return Objects.requireNonNull(tokens.get());
     }
 
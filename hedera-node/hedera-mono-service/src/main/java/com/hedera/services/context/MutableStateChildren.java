@@ -25,6 +25,8 @@ import com.hedera.services.state.merkle.MerkleStakingInfo;
 import com.hedera.services.state.merkle.MerkleToken;
 import com.hedera.services.state.merkle.MerkleTopic;
 import com.hedera.services.state.migration.AccountStorageAdapter;
+import com.hedera.services.state.migration.EntityStorageAdapter;
+import com.hedera.services.state.migration.HotEntityCache;
 import com.hedera.services.state.migration.RecordsStorageAdapter;
 import com.hedera.services.state.migration.TokenRelStorageAdapter;
 import com.hedera.services.state.migration.UniqueTokenMapAdapter;
@@ -32,6 +34,7 @@ import com.hedera.services.state.virtual.ContractKey;
 import com.hedera.services.state.virtual.IterableContractValue;
 import com.hedera.services.state.virtual.VirtualBlobKey;
 import com.hedera.services.state.virtual.VirtualBlobValue;
+import com.hedera.services.stats.StateAccessProfiler;
 import com.hedera.services.stream.RecordsRunningHashLeaf;
 import com.hedera.services.utils.EntityNum;
 import com.hedera.services.utils.NonAtomicReference;
@@ -40,8 +43,11 @@ import com.swirlds.merkle.map.MerkleMap;
 import com.swirlds.virtualmap.VirtualMap;
 import java.lang.ref.WeakReference;
 import java.time.Instant;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import javax.annotation.Nullable;
 
 /**
  * A {@link StateChildren} implementation for providing cheap repeated access to the children of a
@@ -51,8 +57,8 @@ import java.util.Objects;
  */
 public class MutableStateChildren implements StateChildren {
     private NonAtomicReference<AccountStorageAdapter> accounts;
-    private WeakReference<MerkleMap<EntityNum, MerkleTopic>> topics;
-    private WeakReference<MerkleMap<EntityNum, MerkleToken>> tokens;
+    private NonAtomicReference<EntityStorageAdapter<MerkleTopic>> topics;
+    private NonAtomicReference<EntityStorageAdapter<MerkleToken>> tokens;
     // UniqueTokenMapAdapter is constructed on demand, so a strong reference needs to be held.
     private NonAtomicReference<UniqueTokenMapAdapter> uniqueTokens;
     private NonAtomicReference<RecordsStorageAdapter> payerRecords;
@@ -67,6 +73,10 @@ public class MutableStateChildren implements StateChildren {
     private WeakReference<Map<ByteString, EntityNum>> aliases;
     private WeakReference<MerkleMap<EntityNum, MerkleStakingInfo>> stakingInfo;
     private Instant signedAt = Instant.EPOCH;
+    private Set<EntityNum> hotAccountNums = Collections.emptySet();
+    private @Nullable StateAccessProfiler stateAccessProfiler;
+    private @Nullable HotEntityCache<MerkleToken> hotTokens;
+    private @Nullable HotEntityCache<MerkleTopic> hotTopics;
 
     public MutableStateChildren() {
         /* No-op */
@@ -90,8 +100,66 @@ public class MutableStateChildren implements StateChildren {
         this.accounts = new NonAtomicReference<>(accounts);
     }
 
+    /**
+     * Coalesces the writes to the given hot accounts within each round, both in the current
+     * accounts and in the accounts of every state this instance is later updated from.
+     *
+     * @param hotAccountNums the numbers of the hot accounts
+     */
+    public void coalesceHotAccountWrites(final Set<EntityNum> hotAccountNums) {
+        this.hotAccountNums = hotAccountNums;
+        if (accounts != null) {
+            accounts().coalesceWritesTo(hotAccountNums);
+        }
+    }
+
+    /**
+     * Records the reads and writes of accounts, token associations, and NFTs with the given
+     * profiler, both in the current state and in every state this instance is later updated from.
+     *
+     * @param stateAccessProfiler the profiler to use
+     */
+    public void profileStateAccessWith(final StateAccessProfiler stateAccessProfiler) {
+        this.stateAccessProfiler = stateAccessProfiler;
+        if (accounts != null) {
+            accounts().profileAccessWith(stateAccessProfiler);
+        }
+        if (tokenAssociations != null) {
+            tokenAssociations().profileAccessWith(stateAccessProfiler);
+        }
+        if (uniqueTokens != null) {
+            uniqueTokens().profileAccessWith(stateAccessProfiler);
+        }
+    }
+
+    /**
+     * Caches the most recently read on-disk tokens and topics, both in the current state and in
+     * every state this instance is later updated from. Only the working state may use these
+     * caches, since every write to a token or topic must pass through its adapter.
+     *
+     * @param tokensCapacity the maximum number of tokens to cache
+     * @param topicsCapacity the maximum number of topics to cache
+     */
+    public void cacheHotTokensAndTopics(final int tokensCapacity, final int topicsCapacity) {
+        hotTokens = new HotEntityCache<>(tokensCapacity);
+        hotTopics = new HotEntityCache<>(topicsCapacity);
+        if (tokens != null) {
+            tokens().cacheHotEntitiesIn(hotTokens);
+        }
+        if (topics != null) {
+            topics().cacheHotEntitiesIn(hotTopics);
+        }
+    }
+
+    /** Writes through any coalesced writes to hot accounts before the state is copied. */
+    public void materializeHotAccountWrites() {
+        if (accounts != null) {
+            accounts().materializeHotAccountWrites();
+        }
+    }
+
     @Override
-    public MerkleMap<EntityNum, MerkleTopic> topics() {
+    public EntityStorageAdapter<MerkleTopic> topics() {
         return Objects.requireNonNull(topics.get());
     }
 
@@ -99,12 +167,12 @@ public class MutableStateChildren implements StateChildren {
         return topics().size();
     }
 
-    public void setTopics(final MerkleMap<EntityNum, MerkleTopic> topics) {
-        this.topics = new WeakReference<>(topics);
+    public void setTopics(final EntityStorageAdapter<MerkleTopic> topics) {
+        this.topics = new NonAtomicReference<>(topics);
     }
 
     @Override
-    public MerkleMap<EntityNum, MerkleToken> tokens() {
+    public EntityStorageAdapter<MerkleToken> tokens() {
         return Objects.requireNonNull(tokens.get());
     }
 
@@ -112,8 +180,8 @@ public class MutableStateChildren implements StateChildren {
         return tokens().size();
     }
 
-    public void setTokens(final MerkleMap<EntityNum, MerkleToken> tokens) {
-        this.tokens = new WeakReference<>(tokens);
+    public void setTokens(final EntityStorageAdapter<MerkleToken> tokens) {
+        this.tokens = new NonAtomicReference<>(tokens);
     }
 
     @Override
@@ -240,23 +308,47 @@ public class MutableStateChildren implements StateChildren {
     }
 
     public void updatePrimitiveChildrenFrom(final ServicesState state) {
-        accounts = new NonAtomicReference<>(state.accounts());
-        topics = new WeakReference<>(state.topics());
+        final var stateAccounts = state.accounts();
+        if (!hotAccountNums.isEmpty()) {
+            stateAccounts.coalesceWritesTo(hotAccountNums);
+        }
+        final var stateTokenAssociations = state.tokenAssociations();
+        final var stateUniqueTokens = state.uniqueTokens();
+        if (stateAccessProfiler != null) {
+            profileAccessTo(stateAccounts, stateTokenAssociations, stateUniqueTokens);
+        }
+        final var stateTokens = state.tokens();
+        final var stateTopics = state.topics();
+        if (hotTokens != null) {
+            stateTokens.cacheHotEntitiesIn(hotTokens);
+            stateTopics.cacheHotEntitiesIn(hotTopics);
+        }
+        accounts = new NonAtomicReference<>(stateAccounts);
+        topics = new NonAtomicReference<>(stateTopics);
         storage = new WeakReference<>(state.storage());
         contractStorage = new WeakReference<>(state.contractStorage());
-        tokens = new WeakReference<>(state.tokens());
-        tokenAssociations = new NonAtomicReference<>(state.tokenAssociations());
+        tokens = new NonAtomicReference<>(stateTokens);
+        tokenAssociations = new NonAtomicReference<>(stateTokenAssociations);
         schedules = new WeakReference<>(state.scheduleTxs());
         networkCtx = new WeakReference<>(state.networkCtx());
         addressBook = new WeakReference<>(state.addressBook());
         specialFiles = new WeakReference<>(state.specialFiles());
-        uniqueTokens = new NonAtomicReference<>(state.uniqueTokens());
+        uniqueTokens = new NonAtomicReference<>(stateUniqueTokens);
         payerRecords = new NonAtomicReference<>(state.payerRecords());
         runningHashLeaf = new WeakReference<>(state.runningHashLeaf());
         aliases = new WeakReference<>(state.aliases());
         stakingInfo = new WeakReference<>(state.stakingInfo());
     }
 
+    private void profileAccessTo(
+            final AccountStorageAdapter accounts,
+            final TokenRelStorageAdapter tokenAssociations,
+            final UniqueTokenMapAdapter uniqueTokens) {
+        accounts.profileAccessWith(stateAccessProfiler);
+        tokenAssociations.profileAccessWith(stateAccessProfiler);
+        uniqueTokens.profileAccessWith(stateAccessProfiler);
+    }
+
     /* --- used only in unit tests */
     @VisibleForTesting
     public void setNetworkCtx(final MerkleNetworkContext networkCtx) {
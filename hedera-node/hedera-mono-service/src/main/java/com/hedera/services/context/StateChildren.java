@@ -23,6 +23,7 @@ import com.hedera.services.state.merkle.MerkleStakingInfo;
 import com.hedera.services.state.merkle.MerkleToken;
 import com.hedera.services.state.merkle.MerkleTopic;
 import com.hedera.services.state.migration.AccountStorageAdapter;
+import com.hedera.services.state.migration.EntityStorageAdapter;
 import com.hedera.services.state.migration.RecordsStorageAdapter;
 import com.hedera.services.state.migration.TokenRelStorageAdapter;
 import com.hedera.services.state.migration.UniqueTokenMapAdapter;
@@ -43,9 +44,9 @@ public interface StateChildren {
 
     AccountStorageAdapter accounts();
 
-    MerkleMap<EntityNum, MerkleTopic> topics();
+    EntityStorageAdapter<MerkleTopic> topics();
 
-    MerkleMap<EntityNum, MerkleToken> tokens();
+    EntityStorageAdapter<MerkleToken> tokens();
 
     MerkleScheduledTransactions schedules();
 
@@ -15,7 +15,16 @@
  */
 package com.hedera.services.context.init;
 
+import static com.hedera.services.context.properties.PropertyNames.ACCOUNTS_COALESCE_HOT_WRITES;
 import static com.hedera.services.context.properties.PropertyNames.ACCOUNTS_LAST_THROTTLE_EXEMPT;
+import static com.hedera.services.context.properties.PropertyNames.ACCOUNTS_NODE_REWARD_ACCOUNT;
+import static com.hedera.services.context.properties.PropertyNames.ACCOUNTS_STAKING_REWARD_ACCOUNT;
+import static com.hedera.services.context.properties.PropertyNames.LEDGER_FUNDING_ACCOUNT;
+import static com.hedera.services.context.properties.PropertyNames.TOKENS_HOT_CACHE_SIZE;
+import static com.hedera.services.context.properties.PropertyNames.TOKENS_STORE_ON_DISK;
+import static com.hedera.services.context.properties.PropertyNames.TOPICS_HOT_CACHE_SIZE;
+import static com.hedera.services.context.properties.PropertyNames.TOPICS_STORE_ON_DISK;
+import static com.hedera.services.utils.EntityIdUtils.parseAccount;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.hedera.services.ServicesState;
@@ -25,7 +34,11 @@ import com.hedera.services.context.properties.BootstrapProperties;
 import com.hedera.services.context.properties.StaticPropertiesHolder;
 import com.hedera.services.files.FileUpdateInterceptor;
 import com.hedera.services.files.HederaFs;
+import com.hedera.services.stats.StateAccessProfiler;
 import com.hedera.services.stream.RecordStreamManager;
+import com.hedera.services.utils.EntityNum;
+import com.swirlds.common.system.address.AddressBook;
+import java.util.HashSet;
 import java.util.Set;
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -40,6 +53,7 @@ public class StateInitializationFlow {
     private final HederaNumbers hederaNums;
     private final RecordStreamManager recordStreamManager;
     private final MutableStateChildren workingState;
+    private final StateAccessProfiler stateAccessProfiler;
     private final Set<FileUpdateInterceptor> fileUpdateInterceptors;
 
     @Inject
@@ -48,10 +62,12 @@ public class StateInitializationFlow {
             final HederaNumbers hederaNums,
             final RecordStreamManager recordStreamManager,
             final MutableStateChildren workingState,
+            final StateAccessProfiler stateAccessProfiler,
             final Set<FileUpdateInterceptor> fileUpdateInterceptors) {
         this.hfs = hfs;
         this.hederaNums = hederaNums;
         this.workingState = workingState;
+        this.stateAccessProfiler = stateAccessProfiler;
         this.recordStreamManager = recordStreamManager;
         this.fileUpdateInterceptors = fileUpdateInterceptors;
     }
@@ -66,6 +82,22 @@ public class StateInitializationFlow {
 
         workingState.updateFrom(activeState);
         log.info("Context updated with working state");
+        if (bootstrapProperties.getBooleanProperty(ACCOUNTS_COALESCE_HOT_WRITES)) {
+            final var hotNums = hotAccountNums(activeState.addressBook(), bootstrapProperties);
+            workingState.coalesceHotAccountWrites(hotNums);
+            log.info("Coalescing writes to {} hot accounts within each round", hotNums.size());
+        }
+        if (stateAccessProfiler.isEnabled()) {
+            workingState.profileStateAccessWith(stateAccessProfiler);
+            log.info("Profiling reads and writes of accounts, token associations, and NFTs");
+        }
+        if (bootstrapProperties.getBooleanProperty(TOKENS_STORE_ON_DISK)
+                || bootstrapProperties.getBooleanProperty(TOPICS_STORE_ON_DISK)) {
+            workingState.cacheHotTokensAndTopics(
+                    bootstrapProperties.getIntProperty(TOKENS_HOT_CACHE_SIZE),
+                    bootstrapProperties.getIntProperty(TOPICS_HOT_CACHE_SIZE));
+            log.info("Caching the most recently read on-disk tokens and topics");
+        }
 
         final var activeHash = activeState.runningHashLeaf().getRunningHash().getHash();
         recordStreamManager.setInitialHash(activeHash);
@@ -77,6 +109,39 @@ public class StateInitializationFlow {
         }
     }
 
+    /**
+     * Returns the numbers of the accounts credited by (almost) every transaction in a round; that
+     * is, the funding and reward accounts, plus the account of every node in the address book.
+     *
+     * @param addressBook the address book of the active state
+     * @param bootstrapProperties the properties naming the fee collection accounts
+     * @return the hot account numbers
+     */
+    @VisibleForTesting
+    static Set<EntityNum> hotAccountNums(
+            final AddressBook addressBook, final BootstrapProperties bootstrapProperties) {
+        final Set<EntityNum> hotNums = new HashSet<>();
+        hotNums.add(
+                EntityNum.fromLong(bootstrapProperties.getLongProperty(LEDGER_FUNDING_ACCOUNT)));
+        hotNums.add(
+                EntityNum.fromLong(
+                        bootstrapProperties.getLongProperty(ACCOUNTS_STAKING_REWARD_ACCOUNT)));
+        hotNums.add(
+                EntityNum.fromLong(
+                        bootstrapProperties.getLongProperty(ACCOUNTS_NODE_REWARD_ACCOUNT)));
+        if (addressBook != null) {
+            for (int i = 0, n = addressBook.getSize(); i < n; i++) {
+                try {
+                    final var nodeAccount = parseAccount(addressBook.getAddress(i).getMemo());
+                    hotNums.add(EntityNum.fromAccountId(nodeAccount));
+                } catch (IllegalArgumentException ignore) {
+                    // A zero-stake node may have no account; nothing to coalesce for it
+                }
+            }
+        }
+        return hotNums;
+    }
+
     interface NumberConfigurer {
         void configureNumbers(HederaNumbers numbers, long lastThrottleExempt);
     }
@@ -656,7 +656,7 @@ public class StateView {
         return Optional.of(info.build());
     }
 
-    public MerkleMap<EntityNum, MerkleTopic> topics() {
+    public EntityStorageAdapter<MerkleTopic> topics() {
         return Objects.requireNonNull(stateChildren).topics();
     }
 
@@ -688,7 +688,7 @@ public class StateView {
         return Objects.requireNonNull(stateChildren).contractStorage();
     }
 
-    public MerkleMap<EntityNum, MerkleToken> tokens() {
+    public EntityStorageAdapter<MerkleToken> tokens() {
         return Objects.requireNonNull(stateChildren).tokens();
     }
 
@@ -780,7 +780,7 @@ public class StateView {
      */
     public static void doBoundedIteration(
             final TokenRelStorageAdapter tokenRels,
-            final MerkleMap<EntityNum, MerkleToken> tokens,
+            final EntityStorageAdapter<MerkleToken> tokens,
             final HederaAccount account,
             final BiConsumer<MerkleToken, HederaTokenRel> visitor) {
         final var maxRels = account.getNumAssociations();
@@ -802,7 +802,7 @@ public class StateView {
      */
     public static void doBoundedIteration(
             final TokenRelStorageAdapter tokenRels,
-            final MerkleMap<EntityNum, MerkleToken> tokens,
+            final EntityStorageAdapter<MerkleToken> tokens,
             final EntityNumPair firstRel,
             final int maxRels,
             final BiConsumer<MerkleToken, HederaTokenRel> visitor) {
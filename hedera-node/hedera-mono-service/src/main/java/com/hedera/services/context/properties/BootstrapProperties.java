@@ -189,6 +189,7 @@ public final class BootstrapProperties implements PropertySource {
                     ACCOUNTS_SYSTEM_UNDELETE_ADMIN,
                     ACCOUNTS_TREASURY,
                     ACCOUNTS_STORE_ON_DISK,
+                    ACCOUNTS_COALESCE_HOT_WRITES,
                     AUTO_RENEW_GRANT_FREE_RENEWALS,
                     ENTITIES_MAX_LIFETIME,
                     ENTITIES_SYSTEM_DELETABLE,
@@ -204,10 +205,15 @@ public final class BootstrapProperties implements PropertySource {
                     HEDERA_REALM,
                     HEDERA_SHARD,
                     LEDGER_NUM_SYSTEM_ACCOUNTS,
+                    LEDGER_RECORDS_STORE_ON_DISK,
                     LEDGER_TOTAL_TINY_BAR_FLOAT,
                     LEDGER_ID,
                     STAKING_PERIOD_MINS,
-                    STAKING_REWARD_HISTORY_NUM_STORED_PERIODS);
+                    STAKING_REWARD_HISTORY_NUM_STORED_PERIODS,
+                    TOKENS_STORE_ON_DISK,
+                    TOKENS_HOT_CACHE_SIZE,
+                    TOPICS_STORE_ON_DISK,
+                    TOPICS_HOT_CACHE_SIZE);
 
     static final Set<String> GLOBAL_DYNAMIC_PROPS =
             Set.of(
@@ -341,6 +347,18 @@ public final class BootstrapProperties implements PropertySource {
                     HEDERA_PREFETCH_QUEUE_CAPACITY,
                     HEDERA_PREFETCH_THREAD_POOL_SIZE,
                     HEDERA_PREFETCH_CODE_CACHE_TTL_SECS,
+                    HEDERA_LOCAL_CALL_MAX_CACHED_STORAGE_SLOTS,
+                    HEDERA_LOCAL_CALL_WORKER_THREADS,
+                    HEDERA_LOCAL_CALL_MAX_IN_FLIGHT_GAS,
+                    HEDERA_LOCAL_CALL_ADMISSION_TIMEOUT_MS,
+                    HEDERA_LOCAL_CALL_DEADLINE_MS,
+                    HEDERA_ETH_TX_SIGS_MAX_CACHED_RECOVERIES,
+                    HEDERA_SIGS_MAX_CACHED_VERIFICATIONS,
+                    HEDERA_SUBMISSION_MAX_BATCH_SIZE,
+                    HEDERA_SUBMISSION_MAX_WAIT_MS,
+                    STATS_LATENCY_HISTOGRAMS_DUMP_DIR,
+                    STATS_STATE_ACCESS_PROFILING_ENABLED,
+                    STATS_STATE_ACCESS_SLOW_READ_MICROS,
                     HEDERA_PROFILES_ACTIVE,
                     HEDERA_RECORD_STREAM_IS_ENABLED,
                     HEDERA_RECORD_STREAM_LOG_DIR,
@@ -400,6 +418,7 @@ public final class BootstrapProperties implements PropertySource {
                     entry(ACCOUNTS_SYSTEM_UNDELETE_ADMIN, AS_LONG),
                     entry(ACCOUNTS_TREASURY, AS_LONG),
                     entry(ACCOUNTS_STORE_ON_DISK, AS_BOOLEAN),
+                    entry(ACCOUNTS_COALESCE_HOT_WRITES, AS_BOOLEAN),
                     entry(BALANCES_EXPORT_ENABLED, AS_BOOLEAN),
                     entry(BALANCES_EXPORT_PERIOD_SECS, AS_INT),
                     entry(BALANCES_NODE_BALANCE_WARN_THRESHOLD, AS_LONG),
@@ -427,6 +446,18 @@ public final class BootstrapProperties implements PropertySource {
                     entry(HEDERA_PREFETCH_QUEUE_CAPACITY, AS_INT),
                     entry(HEDERA_PREFETCH_THREAD_POOL_SIZE, AS_INT),
                     entry(HEDERA_PREFETCH_CODE_CACHE_TTL_SECS, AS_INT),
+                    entry(HEDERA_LOCAL_CALL_MAX_CACHED_STORAGE_SLOTS, AS_INT),
+                    entry(HEDERA_LOCAL_CALL_WORKER_THREADS, AS_INT),
+                    entry(HEDERA_LOCAL_CALL_MAX_IN_FLIGHT_GAS, AS_LONG),
+                    entry(HEDERA_LOCAL_CALL_ADMISSION_TIMEOUT_MS, AS_LONG),
+                    entry(HEDERA_LOCAL_CALL_DEADLINE_MS, AS_LONG),
+                    entry(HEDERA_ETH_TX_SIGS_MAX_CACHED_RECOVERIES, AS_INT),
+                    entry(HEDERA_SIGS_MAX_CACHED_VERIFICATIONS, AS_INT),
+                    entry(HEDERA_SUBMISSION_MAX_BATCH_SIZE, AS_INT),
+                    entry(HEDERA_SUBMISSION_MAX_WAIT_MS, AS_LONG),
+                    entry(STATS_LATENCY_HISTOGRAMS_DUMP_DIR, AS_STRING),
+                    entry(STATS_STATE_ACCESS_PROFILING_ENABLED, AS_BOOLEAN),
+                    entry(STATS_STATE_ACCESS_SLOW_READ_MICROS, AS_LONG),
                     entry(HEDERA_PROFILES_ACTIVE, AS_PROFILE),
                     entry(HEDERA_REALM, AS_LONG),
                     entry(HEDERA_RECORD_STREAM_LOG_PERIOD, AS_LONG),
@@ -480,6 +511,7 @@ public final class BootstrapProperties implements PropertySource {
                     entry(LEDGER_TOTAL_TINY_BAR_FLOAT, AS_LONG),
                     entry(LEDGER_SCHEDULE_TX_EXPIRY_TIME_SECS, AS_INT),
                     entry(LEDGER_RECORDS_MAX_QUERYABLE_BY_ACCOUNT, AS_INT),
+                    entry(LEDGER_RECORDS_STORE_ON_DISK, AS_BOOLEAN),
                     entry(ISS_RESET_PERIOD, AS_INT),
                     entry(ISS_ROUNDS_TO_LOG, AS_INT),
                     entry(NETTY_PROD_FLOW_CONTROL_WINDOW, AS_INT),
@@ -499,6 +531,8 @@ public final class BootstrapProperties implements PropertySource {
                     entry(STAKING_START_THRESH, AS_LONG),
                     entry(TOKENS_MAX_AGGREGATE_RELS, AS_LONG),
                     entry(TOKENS_STORE_RELS_ON_DISK, AS_BOOLEAN),
+                    entry(TOKENS_STORE_ON_DISK, AS_BOOLEAN),
+                    entry(TOKENS_HOT_CACHE_SIZE, AS_INT),
                     entry(TOKENS_MAX_NUM, AS_LONG),
                     entry(TOKENS_MAX_PER_ACCOUNT, AS_INT),
                     entry(TOKENS_MAX_RELS_PER_INFO_QUERY, AS_INT),
@@ -516,6 +550,8 @@ public final class BootstrapProperties implements PropertySource {
                     entry(TOKENS_NFTS_USE_TREASURY_WILD_CARDS, AS_BOOLEAN),
                     entry(TOKENS_NFTS_USE_VIRTUAL_MERKLE, AS_BOOLEAN),
                     entry(TOPICS_MAX_NUM, AS_LONG),
+                    entry(TOPICS_STORE_ON_DISK, AS_BOOLEAN),
+                    entry(TOPICS_HOT_CACHE_SIZE, AS_INT),
                     entry(CONTRACTS_MAX_NUM, AS_LONG),
                     entry(CONTRACTS_KNOWN_BLOCK_HASH, AS_KNOWN_BLOCK_VALUES),
                     entry(CONTRACTS_LOCAL_CALL_EST_RET_BYTES, AS_INT),
@@ -20,7 +20,13 @@ import static com.hedera.services.context.properties.PropertyNames.DEV_ONLY_DEFA
 import static com.hedera.services.context.properties.PropertyNames.GRPC_PORT;
 import static com.hedera.services.context.properties.PropertyNames.GRPC_TLS_PORT;
 import static com.hedera.services.context.properties.PropertyNames.HEDERA_ACCOUNTS_EXPORT_PATH;
+import static com.hedera.services.context.properties.PropertyNames.HEDERA_ETH_TX_SIGS_MAX_CACHED_RECOVERIES;
 import static com.hedera.services.context.properties.PropertyNames.HEDERA_EXPORT_ACCOUNTS_ON_STARTUP;
+import static com.hedera.services.context.properties.PropertyNames.HEDERA_LOCAL_CALL_ADMISSION_TIMEOUT_MS;
+import static com.hedera.services.context.properties.PropertyNames.HEDERA_LOCAL_CALL_DEADLINE_MS;
+import static com.hedera.services.context.properties.PropertyNames.HEDERA_LOCAL_CALL_MAX_CACHED_STORAGE_SLOTS;
+import static com.hedera.services.context.properties.PropertyNames.HEDERA_LOCAL_CALL_MAX_IN_FLIGHT_GAS;
+import static com.hedera.services.context.properties.PropertyNames.HEDERA_LOCAL_CALL_WORKER_THREADS;
 import static com.hedera.services.context.properties.PropertyNames.HEDERA_PREFETCH_CODE_CACHE_TTL_SECS;
 import static com.hedera.services.context.properties.PropertyNames.HEDERA_PREFETCH_QUEUE_CAPACITY;
 import static com.hedera.services.context.properties.PropertyNames.HEDERA_PREFETCH_THREAD_POOL_SIZE;
@@ -30,6 +36,9 @@ import static com.hedera.services.context.properties.PropertyNames.HEDERA_RECORD
 import static com.hedera.services.context.properties.PropertyNames.HEDERA_RECORD_STREAM_LOG_PERIOD;
 import static com.hedera.services.context.properties.PropertyNames.HEDERA_RECORD_STREAM_QUEUE_CAPACITY;
 import static com.hedera.services.context.properties.PropertyNames.HEDERA_RECORD_STREAM_SIDE_CAR_DIR;
+import static com.hedera.services.context.properties.PropertyNames.HEDERA_SIGS_MAX_CACHED_VERIFICATIONS;
+import static com.hedera.services.context.properties.PropertyNames.HEDERA_SUBMISSION_MAX_BATCH_SIZE;
+import static com.hedera.services.context.properties.PropertyNames.HEDERA_SUBMISSION_MAX_WAIT_MS;
 import static com.hedera.services.context.properties.PropertyNames.ISS_RESET_PERIOD;
 import static com.hedera.services.context.properties.PropertyNames.ISS_ROUNDS_TO_LOG;
 import static com.hedera.services.context.properties.PropertyNames.NETTY_MODE;
@@ -50,8 +59,11 @@ import static com.hedera.services.context.properties.PropertyNames.STATS_ENTITY_
 import static com.hedera.services.context.properties.PropertyNames.STATS_EXECUTION_TIMES_TO_TRACK;
 import static com.hedera.services.context.properties.PropertyNames.STATS_HAPI_OPS_SPEEDOMETER_UPDATE_INTERVAL_MS;
 import static com.hedera.services.context.properties.PropertyNames.STATS_HAPI_THROTTLES_TO_SAMPLE;
+import static com.hedera.services.context.properties.PropertyNames.STATS_LATENCY_HISTOGRAMS_DUMP_DIR;
 import static com.hedera.services.context.properties.PropertyNames.STATS_RUNNING_AVG_HALF_LIFE_SECS;
 import static com.hedera.services.context.properties.PropertyNames.STATS_SPEEDOMETER_HALF_LIFE_SECS;
+import static com.hedera.services.context.properties.PropertyNames.STATS_STATE_ACCESS_PROFILING_ENABLED;
+import static com.hedera.services.context.properties.PropertyNames.STATS_STATE_ACCESS_SLOW_READ_MICROS;
 import static com.hedera.services.context.properties.PropertyNames.STATS_THROTTLE_UTILS_GAUGE_UPDATE_INTERVAL_MS;
 
 import com.hedera.services.context.annotations.CompositeProps;
@@ -98,6 +110,18 @@ public class NodeLocalProperties {
     private int prefetchQueueCapacity;
     private int prefetchThreadPoolSize;
     private int prefetchCodeCacheTtlSecs;
+    private int localCallMaxCachedStorageSlots;
+    private int localCallWorkerThreads;
+    private long localCallMaxInFlightGas;
+    private long localCallAdmissionTimeoutMs;
+    private long localCallDeadlineMs;
+    private int ethTxSigsMaxCachedRecoveries;
+    private int sigsMaxCachedVerifications;
+    private int submissionMaxBatchSize;
+    private long submissionMaxWaitMs;
+    private String latencyHistogramsDumpDir;
+    private boolean stateAccessProfilingEnabled;
+    private long stateAccessSlowReadMicros;
     private List<String> consThrottlesToSample;
     private List<String> hapiThrottlesToSample;
     private String sidecarDir;
@@ -148,6 +172,23 @@ public class NodeLocalProperties {
         prefetchQueueCapacity = properties.getIntProperty(HEDERA_PREFETCH_QUEUE_CAPACITY);
         prefetchThreadPoolSize = properties.getIntProperty(HEDERA_PREFETCH_THREAD_POOL_SIZE);
         prefetchCodeCacheTtlSecs = properties.getIntProperty(HEDERA_PREFETCH_CODE_CACHE_TTL_SECS);
+        localCallMaxCachedStorageSlots =
+                properties.getIntProperty(HEDERA_LOCAL_CALL_MAX_CACHED_STORAGE_SLOTS);
+        localCallWorkerThreads = properties.getIntProperty(HEDERA_LOCAL_CALL_WORKER_THREADS);
+        localCallMaxInFlightGas = properties.getLongProperty(HEDERA_LOCAL_CALL_MAX_IN_FLIGHT_GAS);
+        localCallAdmissionTimeoutMs =
+                properties.getLongProperty(HEDERA_LOCAL_CALL_ADMISSION_TIMEOUT_MS);
+        localCallDeadlineMs = properties.getLongProperty(HEDERA_LOCAL_CALL_DEADLINE_MS);
+        ethTxSigsMaxCachedRecoveries =
+                properties.getIntProperty(HEDERA_ETH_TX_SIGS_MAX_CACHED_RECOVERIES);
+        sigsMaxCachedVerifications =
+                properties.getIntProperty(HEDERA_SIGS_MAX_CACHED_VERIFICATIONS);
+        submissionMaxBatchSize = properties.getIntProperty(HEDERA_SUBMISSION_MAX_BATCH_SIZE);
+        submissionMaxWaitMs = properties.getLongProperty(HEDERA_SUBMISSION_MAX_WAIT_MS);
+        latencyHistogramsDumpDir = properties.getStringProperty(STATS_LATENCY_HISTOGRAMS_DUMP_DIR);
+        stateAccessProfilingEnabled =
+                properties.getBooleanProperty(STATS_STATE_ACCESS_PROFILING_ENABLED);
+        stateAccessSlowReadMicros = properties.getLongProperty(STATS_STATE_ACCESS_SLOW_READ_MICROS);
         consThrottlesToSample = properties.getStringsProperty(STATS_CONS_THROTTLES_TO_SAMPLE);
         hapiThrottlesToSample = properties.getStringsProperty(STATS_HAPI_THROTTLES_TO_SAMPLE);
         entityUtilStatsUpdateIntervalMs =
@@ -292,6 +333,54 @@ public class NodeLocalProperties {
         return prefetchCodeCacheTtlSecs;
     }
 
+    public int localCallMaxCachedStorageSlots() {
+        return localCallMaxCachedStorageSlots;
+    }
+
+    public int localCallWorkerThreads() {
+        return localCallWorkerThreads;
+    }
+
+    public long localCallMaxInFlightGas() {
+        return localCallMaxInFlightGas;
+    }
+
+    public long localCallAdmissionTimeoutMs() {
+        return localCallAdmissionTimeoutMs;
+    }
+
+    public long localCallDeadlineMs() {
+        return localCallDeadlineMs;
+    }
+
+    public int ethTxSigsMaxCachedRecoveries() {
+        return ethTxSigsMaxCachedRecoveries;
+    }
+
+    public int sigsMaxCachedVerifications() {
+        return sigsMaxCachedVerifications;
+    }
+
+    public int submissionMaxBatchSize() {
+        return submissionMaxBatchSize;
+    }
+
+    public long submissionMaxWaitMs() {
+        return submissionMaxWaitMs;
+    }
+
+    public String latencyHistogramsDumpDir() {
+        return latencyHistogramsDumpDir;
+    }
+
+    public boolean stateAccessProfilingEnabled() {
+        return stateAccessProfilingEnabled;
+    }
+
+    public long stateAccessSlowReadMicros() {
+        return stateAccessSlowReadMicros;
+    }
+
     public List<String> consThrottlesToSample() {
         return consThrottlesToSample;
     }
@@ -52,6 +52,7 @@ public class PropertyNames {
     public static final String ACCOUNTS_SYSTEM_UNDELETE_ADMIN = "accounts.systemUndeleteAdmin";
     public static final String ACCOUNTS_TREASURY = "accounts.treasury";
     public static final String ACCOUNTS_STORE_ON_DISK = "accounts.storeOnDisk";
+    public static final String ACCOUNTS_COALESCE_HOT_WRITES = "accounts.coalesceHotWrites";
     public static final String ENTITIES_MAX_LIFETIME = "entities.maxLifetime";
     public static final String ENTITIES_SYSTEM_DELETABLE = "entities.systemDeletable";
     public static final String FILES_ADDRESS_BOOK = "files.addressBook";
@@ -170,6 +171,7 @@ public class PropertyNames {
     public static final String LEDGER_NFT_TRANSFERS_MAX_LEN = "ledger.nftTransfers.maxLen";
     public static final String LEDGER_RECORDS_MAX_QUERYABLE_BY_ACCOUNT =
             "ledger.records.maxQueryableByAccount";
+    public static final String LEDGER_RECORDS_STORE_ON_DISK = "ledger.records.storeOnDisk";
     public static final String LEDGER_SCHEDULE_TX_EXPIRY_TIME_SECS =
             "ledger.schedule.txExpiryTimeSecs";
     public static final String RATES_INTRA_DAY_CHANGE_LIMIT_PERCENT =
@@ -197,6 +199,8 @@ public class PropertyNames {
     public static final String STAKING_START_THRESH = "staking.startThreshold";
     public static final String TOKENS_MAX_AGGREGATE_RELS = "tokens.maxAggregateRels";
     public static final String TOKENS_STORE_RELS_ON_DISK = "tokens.storeRelsOnDisk";
+    public static final String TOKENS_STORE_ON_DISK = "tokens.storeOnDisk";
+    public static final String TOKENS_HOT_CACHE_SIZE = "tokens.hotCacheSize";
     public static final String TOKENS_MAX_NUM = "tokens.maxNumber";
     public static final String TOKENS_MAX_RELS_PER_INFO_QUERY = "tokens.maxRelsPerInfoQuery";
     public static final String TOKENS_MAX_PER_ACCOUNT = "tokens.maxPerAccount";
@@ -217,6 +221,8 @@ public class PropertyNames {
             "tokens.nfts.mintThrottleScaleFactor";
     public static final String TOKENS_NFTS_USE_VIRTUAL_MERKLE = "tokens.nfts.useVirtualMerkle";
     public static final String TOPICS_MAX_NUM = "topics.maxNumber";
+    public static final String TOPICS_STORE_ON_DISK = "topics.storeOnDisk";
+    public static final String TOPICS_HOT_CACHE_SIZE = "topics.hotCacheSize";
     public static final String TOKENS_NFTS_USE_TREASURY_WILD_CARDS =
             "tokens.nfts.useTreasuryWildcards";
     public static final String CONSENSUS_MESSAGE_MAX_BYTES_ALLOWED =
@@ -257,6 +263,26 @@ public class PropertyNames {
     public static final String HEDERA_PREFETCH_THREAD_POOL_SIZE = "hedera.prefetch.threadPoolSize";
     public static final String HEDERA_PREFETCH_CODE_CACHE_TTL_SECS =
             "hedera.prefetch.codeCacheTtlSecs";
+    public static final String HEDERA_LOCAL_CALL_MAX_CACHED_STORAGE_SLOTS =
+            "hedera.localCall.maxCachedStorageSlots";
+    public static final String HEDERA_LOCAL_CALL_WORKER_THREADS = "hedera.localCall.workerThreads";
+    public static final String HEDERA_LOCAL_CALL_MAX_IN_FLIGHT_GAS =
+            "hedera.localCall.maxInFlightGas";
+    public static final String HEDERA_LOCAL_CALL_ADMISSION_TIMEOUT_MS =
+            "hedera.localCall.admissionTimeoutMs";
+    public static final String HEDERA_LOCAL_CALL_DEADLINE_MS = "hedera.localCall.deadlineMs";
+    public static final String HEDERA_ETH_TX_SIGS_MAX_CACHED_RECOVERIES =
+            "hedera.ethTxSigs.maxCachedRecoveries";
+    public static final String HEDERA_SIGS_MAX_CACHED_VERIFICATIONS =
+            "hedera.sigs.maxCachedVerifications";
+    public static final String HEDERA_SUBMISSION_MAX_BATCH_SIZE = "hedera.submission.maxBatchSize";
+    public static final String HEDERA_SUBMISSION_MAX_WAIT_MS = "hedera.submission.maxWaitMs";
+    public static final String STATS_LATENCY_HISTOGRAMS_DUMP_DIR =
+            "stats.latencyHistograms.dumpDir";
+    public static final String STATS_STATE_ACCESS_PROFILING_ENABLED =
+            "stats.stateAccess.profilingEnabled";
+    public static final String STATS_STATE_ACCESS_SLOW_READ_MICROS =
+            "stats.stateAccess.slowReadMicros";
     public static final String HEDERA_PROFILES_ACTIVE = "hedera.profiles.active";
     public static final String HEDERA_RECORD_STREAM_IS_ENABLED = "hedera.recordStream.isEnabled";
     public static final String HEDERA_RECORD_STREAM_LOG_DIR = "hedera.recordStream.logDir";
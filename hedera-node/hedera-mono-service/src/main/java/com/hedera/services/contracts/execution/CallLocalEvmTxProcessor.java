@@ -18,31 +18,40 @@ package com.hedera.services.contracts.execution;
 import static com.hedera.services.exceptions.ValidationUtils.validateTrue;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_CONTRACT_ID;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hedera.services.ledger.accounts.AliasManager;
 import com.hedera.services.store.contracts.CodeCache;
 import com.hedera.services.store.models.Account;
 import com.hederahashgraph.api.proto.java.HederaFunctionality;
 import java.util.Map;
+import java.util.function.LongSupplier;
 import javax.inject.Inject;
 import javax.inject.Provider;
-import javax.inject.Singleton;
 import org.apache.tuweni.bytes.Bytes;
 import org.hyperledger.besu.datatypes.Address;
 import org.hyperledger.besu.evm.frame.MessageFrame;
 import org.hyperledger.besu.evm.gascalculator.GasCalculator;
 import org.hyperledger.besu.evm.processor.ContractCreationProcessor;
 import org.hyperledger.besu.evm.processor.MessageCallProcessor;
+import org.hyperledger.besu.evm.tracing.OperationTracer;
 
 /**
  * Extension of the base {@link EvmTxProcessor} that provides interface for executing {@link
- * com.hederahashgraph.api.proto.java.ContractCallLocal} queries
+ * com.hederahashgraph.api.proto.java.ContractCallLocal} queries.
+ *
+ * <p>Since a processor holds the state of the execution in progress, it is deliberately not a
+ * singleton; each {@link LocalCallExecutionService} worker thread uses its own instance.
  */
-@Singleton
 public class CallLocalEvmTxProcessor extends EvmTxProcessor {
     private final CodeCache codeCache;
     private final AliasManager aliasManager;
 
+    private LongSupplier nanoClock = System::nanoTime;
+    private boolean hasDeadline = false;
+    private long deadlineNanos;
+    private DeadlineOperationTracer deadlineTracer;
+
     @Inject
     public CallLocalEvmTxProcessor(
             final CodeCache codeCache,
@@ -62,6 +71,25 @@ public class CallLocalEvmTxProcessor extends EvmTxProcessor {
         return HederaFunctionality.ContractCallLocal;
     }
 
+    /**
+     * Sets a {@link System#nanoTime()} deadline after which any subsequent execution halts at its
+     * next operation boundary, with halt reason {@code LOCAL_CALL_DEADLINE_EXCEEDED}.
+     *
+     * @param deadlineNanos the deadline
+     */
+    public void setDeadline(final long deadlineNanos) {
+        this.hasDeadline = true;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    public void clearDeadline() {
+        this.hasDeadline = false;
+    }
+
+    public boolean lastExecutionExceededDeadline() {
+        return deadlineTracer != null && deadlineTracer.hasExceededDeadline();
+    }
+
     public TransactionProcessingResult execute(
             final Account sender,
             final Address receiver,
@@ -69,6 +97,7 @@ public class CallLocalEvmTxProcessor extends EvmTxProcessor {
             final long value,
             final Bytes callData) {
         final long gasPrice = 1;
+        deadlineTracer = null;
 
         return super.execute(
                 sender,
@@ -85,6 +114,24 @@ public class CallLocalEvmTxProcessor extends EvmTxProcessor {
                 null);
     }
 
+    @Override
+    protected void process(final MessageFrame frame, final OperationTracer operationTracer) {
+        if (!hasDeadline) {
+            super.process(frame, operationTracer);
+            return;
+        }
+        if (deadlineTracer == null) {
+            deadlineTracer =
+                    new DeadlineOperationTracer(operationTracer, nanoClock, deadlineNanos);
+        }
+        super.process(frame, deadlineTracer);
+    }
+
+    @VisibleForTesting
+    void setNanoClock(final LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+    }
+
     @Override
     protected MessageFrame buildInitialFrame(
             final MessageFrame.Builder baseInitialFrame,
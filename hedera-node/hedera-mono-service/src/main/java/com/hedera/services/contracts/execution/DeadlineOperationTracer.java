@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.contracts.execution;
+
+import static com.hedera.services.contracts.operation.HederaExceptionalHaltReason.LOCAL_CALL_DEADLINE_EXCEEDED;
+
+import com.hedera.services.contracts.execution.traceability.ContractActionType;
+import com.hedera.services.contracts.execution.traceability.HederaOperationTracer;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.evm.frame.ExceptionalHaltReason;
+import org.hyperledger.besu.evm.frame.MessageFrame;
+import org.hyperledger.besu.evm.tracing.OperationTracer;
+
+/**
+ * Wraps the tracer of a static call so that, once a wall-clock deadline has passed, the frame
+ * being executed halts exceptionally at its next operation boundary. Since every enclosing frame
+ * also runs through this tracer, a runaway call unwinds completely within a few operations of its
+ * deadline, without touching any other thread.
+ *
+ * <p>The clock is only read every {@link #OPS_PER_CLOCK_READ} operations, to keep the overhead
+ * negligible relative to opcode execution.
+ */
+final class DeadlineOperationTracer implements HederaOperationTracer {
+    static final int OPS_PER_CLOCK_READ = 256;
+
+    private final OperationTracer delegate;
+    private final LongSupplier nanoClock;
+    private final long deadlineNanos;
+    private int opsSinceClockRead = 0;
+    private boolean deadlineExceeded = false;
+
+    DeadlineOperationTracer(
+            final OperationTracer delegate,
+            final LongSupplier nanoClock,
+            final long deadlineNanos) {
+        this.delegate = delegate;
+        this.nanoClock = nanoClock;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    @Override
+    public void init(final MessageFrame initialFrame) {
+        if (delegate instanceof HederaOperationTracer hederaTracer) {
+            hederaTracer.init(initialFrame);
+        }
+    }
+
+    @Override
+    public void traceExecution(final MessageFrame frame, final ExecuteOperation executeOperation) {
+        delegate.traceExecution(frame, executeOperation);
+        if (frame.getState() == MessageFrame.State.CODE_EXECUTING && isPastDeadline()) {
+            frame.setExceptionalHaltReason(Optional.of(LOCAL_CALL_DEADLINE_EXCEEDED));
+            frame.setState(MessageFrame.State.EXCEPTIONAL_HALT);
+        }
+    }
+
+    @Override
+    public void tracePrecompileCall(
+            final MessageFrame frame, final long gasRequirement, final Bytes output) {
+        delegate.tracePrecompileCall(frame, gasRequirement, output);
+    }
+
+    @Override
+    public void tracePrecompileResult(final MessageFrame frame, final ContractActionType type) {
+        if (delegate instanceof HederaOperationTracer hederaTracer) {
+            hederaTracer.tracePrecompileResult(frame, type);
+        }
+    }
+
+    @Override
+    public void traceAccountCreationResult(
+            final MessageFrame frame, final Optional<ExceptionalHaltReason> haltReason) {
+        delegate.traceAccountCreationResult(frame, haltReason);
+    }
+
+    boolean hasExceededDeadline() {
+        return deadlineExceeded;
+    }
+
+    private boolean isPastDeadline() {
+        if (!deadlineExceeded && ++opsSinceClockRead == OPS_PER_CLOCK_READ) {
+            opsSinceClockRead = 0;
+            deadlineExceeded = nanoClock.getAsLong() - deadlineNanos > 0;
+        }
+        return deadlineExceeded;
+    }
+}
@@ -0,0 +1,266 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.contracts.execution;
+
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.BUSY;
+import static com.hederahashgraph.api.proto.java.ResponseType.ANSWER_ONLY;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.protobuf.ByteString;
+import com.hedera.services.context.primitives.StateView;
+import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.evm.contracts.execution.BlockMetaSource;
+import com.hedera.services.ledger.accounts.AliasManager;
+import com.hedera.services.ledger.ids.EntityIdSource;
+import com.hedera.services.stats.LocalCallStats;
+import com.hedera.services.store.AccountStore;
+import com.hedera.services.store.contracts.HederaWorldState;
+import com.hederahashgraph.api.proto.java.ContractCallLocalQuery;
+import com.hederahashgraph.api.proto.java.ContractCallLocalResponse;
+import com.hederahashgraph.builder.RequestBuilder;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import javax.inject.Provider;
+import javax.inject.Singleton;
+
+/**
+ * Runs {@code ContractCallLocal} executions on a dedicated pool of worker threads, so that
+ * read-only EVM load is isolated from the gRPC threads that also ingest transactions.
+ *
+ * <ul>
+ *   <li>Each call must first reserve its gas limit from a node-wide budget of in-flight gas. A
+ *       call that cannot reserve its gas within the admission timeout is answered {@code BUSY}.
+ *   <li>Each worker thread has its own {@link CallLocalEvmTxProcessor}, so admitted calls really
+ *       do execute in parallel.
+ *   <li>Each execution halts at the first operation boundary past its wall-clock deadline.
+ *   <li>Queue time, execution time, gas throughput, rejections, and aborts go to {@link
+ *       LocalCallStats}.
+ * </ul>
+ */
+@Singleton
+public class LocalCallExecutionService {
+    static final String WORKER_THREAD_NAME_TPL = "local-call-worker-%d";
+
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    private final EntityIdSource ids;
+    private final AliasManager aliasManager;
+    private final AccountStore accountStore;
+    private final GlobalDynamicProperties dynamicProperties;
+    private final LocalCallStateCache stateCache;
+    private final LocalCallStats stats;
+    private final ExecutorService workers;
+    private final ThreadLocal<CallLocalEvmTxProcessor> processors;
+    private final long admissionTimeoutMs;
+    private final long deadlineNanos;
+    private final int maxPermits;
+    @Nullable private final Semaphore gasBudget;
+
+    private LongSupplier nanoClock = System::nanoTime;
+
+    @Inject
+    public LocalCallExecutionService(
+            final EntityIdSource ids,
+            final AliasManager aliasManager,
+            final AccountStore accountStore,
+            final GlobalDynamicProperties dynamicProperties,
+            final NodeLocalProperties nodeProperties,
+            final LocalCallStateCache stateCache,
+            final LocalCallStats stats,
+            final Provider<CallLocalEvmTxProcessor> processorFactory) {
+        this(
+                ids,
+                aliasManager,
+                accountStore,
+                dynamicProperties,
+                nodeProperties,
+                stateCache,
+                stats,
+                processorFactory,
+                createExecutorService(numWorkersGiven(nodeProperties)));
+    }
+
+    @VisibleForTesting
+    LocalCallExecutionService(
+            final EntityIdSource ids,
+            final AliasManager aliasManager,
+            final AccountStore accountStore,
+            final GlobalDynamicProperties dynamicProperties,
+            final NodeLocalProperties nodeProperties,
+            final LocalCallStateCache stateCache,
+            final LocalCallStats stats,
+            final Provider<CallLocalEvmTxProcessor> processorFactory,
+            final ExecutorService workers) {
+        this.ids = ids;
+        this.aliasManager = aliasManager;
+        this.accountStore = accountStore;
+        this.dynamicProperties = dynamicProperties;
+        this.stateCache = stateCache;
+        this.stats = stats;
+        this.workers = workers;
+        this.processors = ThreadLocal.withInitial(processorFactory::get);
+        this.admissionTimeoutMs = Math.max(0L, nodeProperties.localCallAdmissionTimeoutMs());
+        this.deadlineNanos = nodeProperties.localCallDeadlineMs() * NANOS_PER_MILLI;
+
+        final var maxInFlightGas = nodeProperties.localCallMaxInFlightGas();
+        if (maxInFlightGas > 0) {
+            maxPermits = (int) Math.min(Integer.MAX_VALUE, maxInFlightGas);
+            gasBudget = new Semaphore(maxPermits, true);
+        } else {
+            maxPermits = 0;
+            gasBudget = null;
+        }
+    }
+
+    /**
+     * Executes the given static call against the given view on a worker thread, blocking the
+     * calling thread until the call completes or is refused admission.
+     *
+     * @param op the query to answer
+     * @param view the view of state to execute against
+     * @param blockMetaSource the source of block metadata for the call
+     * @return the response to the query, with status {@code BUSY} if the call was not admitted
+     */
+    public ContractCallLocalResponse execute(
+            final ContractCallLocalQuery op,
+            final StateView view,
+            final BlockMetaSource blockMetaSource) {
+        final var enqueuedAt = nanoClock.getAsLong();
+        final var permits = permitsFor(op.getGas());
+        try {
+            if (!admit(permits)) {
+                stats.countRejected();
+                return busyResponse();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return busyResponse();
+        }
+        try {
+            return workers.submit(() -> executeOnWorker(op, view, blockMetaSource, enqueuedAt))
+                    .get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return busyResponse();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException unchecked) {
+                throw unchecked;
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            if (gasBudget != null) {
+                gasBudget.release(permits);
+            }
+        }
+    }
+
+    private ContractCallLocalResponse executeOnWorker(
+            final ContractCallLocalQuery op,
+            final StateView view,
+            final BlockMetaSource blockMetaSource,
+            final long enqueuedAt) {
+        final var startedAt = nanoClock.getAsLong();
+        stats.recordQueueNanos(startedAt - enqueuedAt);
+
+        final var processor = processors.get();
+        final var access = stateCache.accessFor(view);
+        final var entityAccess = access.entityAccess();
+        processor.setWorldState(
+                new HederaWorldState(ids, entityAccess, access.codeCache(), dynamicProperties));
+        processor.setBlockMetaSource(blockMetaSource);
+        if (deadlineNanos > 0) {
+            processor.setDeadline(startedAt + deadlineNanos);
+        } else {
+            processor.clearDeadline();
+        }
+        try {
+            final var response =
+                    CallLocalExecutor.execute(
+                            accountStore, processor, op, aliasManager, entityAccess);
+            stats.recordExecution(
+                    nanoClock.getAsLong() - startedAt, response.getFunctionResult().getGasUsed());
+            if (processor.lastExecutionExceededDeadline()) {
+                stats.countDeadlineExceeded();
+            }
+            return response;
+        } finally {
+            // Don't let an idle worker pin the state it last executed against
+            processor.setWorldState(null);
+        }
+    }
+
+    private boolean admit(final int permits) throws InterruptedException {
+        return gasBudget == null
+                || gasBudget.tryAcquire(permits, admissionTimeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    private int permitsFor(final long gas) {
+        return (int) Math.max(1L, Math.min(gas, maxPermits));
+    }
+
+    private static ContractCallLocalResponse busyResponse() {
+        return ContractCallLocalResponse.newBuilder()
+                .setHeader(
+                        RequestBuilder.getResponseHeader(BUSY, 0L, ANSWER_ONLY, ByteString.EMPTY))
+                .build();
+    }
+
+    static int numWorkersGiven(final NodeLocalProperties nodeProperties) {
+        final var configured = nodeProperties.localCallWorkerThreads();
+        return configured > 0 ? configured : Runtime.getRuntime().availableProcessors();
+    }
+
+    private static ExecutorService createExecutorService(final int numWorkers) {
+        final var nextWorkerId = new AtomicInteger(0);
+        final var executor =
+                new ThreadPoolExecutor(
+                        numWorkers,
+                        numWorkers,
+                        0L,
+                        TimeUnit.MILLISECONDS,
+                        new LinkedBlockingQueue<>(),
+                        runnable -> {
+                            final var worker = new Thread(runnable);
+                            worker.setName(
+                                    String.format(
+                                            WORKER_THREAD_NAME_TPL,
+                                            nextWorkerId.getAndIncrement()));
+                            worker.setDaemon(true);
+                            return worker;
+                        });
+        executor.prestartAllCoreThreads();
+        return executor;
+    }
+
+    @VisibleForTesting
+    void setNanoClock(final LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+    }
+
+    @VisibleForTesting
+    int availableGasPermits() {
+        return gasBudget == null ? Integer.MAX_VALUE : gasBudget.availablePermits();
+    }
+}
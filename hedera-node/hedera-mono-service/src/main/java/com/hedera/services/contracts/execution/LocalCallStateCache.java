@@ -0,0 +1,167 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.contracts.execution;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hedera.services.context.primitives.SignedStateViewFactory;
+import com.hedera.services.context.primitives.StateView;
+import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.evm.store.contracts.utils.BytesKey;
+import com.hedera.services.ledger.accounts.AliasManager;
+import com.hedera.services.state.virtual.ContractKey;
+import com.hedera.services.state.virtual.IterableContractValue;
+import com.hedera.services.store.contracts.CodeCache;
+import com.hedera.services.store.contracts.StaticEntityAccess;
+import com.hedera.services.txns.validation.OptionValidator;
+import com.swirlds.virtualmap.VirtualMap;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.apache.tuweni.units.bigints.UInt256;
+import org.hyperledger.besu.evm.Code;
+
+/**
+ * A node-wide, read-only cache shared by all {@code ContractCallLocal} executions, which (like
+ * their block metadata) read from the latest signed state.
+ *
+ * <p>Both analyzed bytecode and storage slot values are cached per signed state; the first local
+ * call against a newer signed state replaces both caches, so nothing is ever served from a
+ * different state than it was read from. (The bytecode at an address is not immutable across
+ * states; a contract can self-destruct and a different one be re-created at the same address with
+ * {@code CREATE2}.)
+ *
+ * <p>If {@code hedera.localCall.maxCachedStorageSlots} is not positive, or there is no usable
+ * signed state, local calls instead get uncached access to the view they were given.
+ */
+@Singleton
+public class LocalCallStateCache {
+    private final AliasManager aliasManager;
+    private final OptionValidator validator;
+    private final NodeLocalProperties nodeProperties;
+    private final SignedStateViewFactory stateViewFactory;
+    private final AtomicReference<SignedStateSnapshot> snapshot = new AtomicReference<>();
+
+    /**
+     * The entity access and code cache to use for one local call.
+     *
+     * @param entityAccess the entity access for the call
+     * @param codeCache the code cache for the call
+     */
+    public record StaticAccess(StaticEntityAccess entityAccess, CodeCache codeCache) {}
+
+    @Inject
+    public LocalCallStateCache(
+            final AliasManager aliasManager,
+            final OptionValidator validator,
+            final NodeLocalProperties nodeProperties,
+            final SignedStateViewFactory stateViewFactory) {
+        this.aliasManager = aliasManager;
+        this.validator = validator;
+        this.nodeProperties = nodeProperties;
+        this.stateViewFactory = stateViewFactory;
+    }
+
+    /**
+     * Returns the static access a local call should use; that is, cached access to the latest
+     * signed state if available, and otherwise uncached access to the given view.
+     *
+     * @param view the view to fall back to
+     * @return the static access for a local call
+     */
+    public StaticAccess accessFor(final StateView view) {
+        final var maxCachedSlots = nodeProperties.localCallMaxCachedStorageSlots();
+        if (maxCachedSlots > 0) {
+            final var signedView = stateViewFactory.latestSignedStateView();
+            if (signedView.isPresent()) {
+                return cachedAccessTo(signedView.get(), maxCachedSlots);
+            }
+        }
+        final var entityAccess = new StaticEntityAccess(view, aliasManager, validator);
+        return new StaticAccess(entityAccess, new CodeCache(nodeProperties, entityAccess));
+    }
+
+    private StaticAccess cachedAccessTo(final StateView signedView, final int maxCachedSlots) {
+        final var signedSnapshot = snapshotFor(signedView.contractStorage(), maxCachedSlots);
+        final var entityAccess =
+                new StaticEntityAccess(signedView, aliasManager, validator, signedSnapshot.slots());
+        return new StaticAccess(entityAccess, new CodeCache(entityAccess, signedSnapshot.code()));
+    }
+
+    private SignedStateSnapshot snapshotFor(
+            final VirtualMap<ContractKey, IterableContractValue> storage,
+            final int maxCachedSlots) {
+        while (true) {
+            final var current = snapshot.get();
+            if (current != null && current.isFor(storage)) {
+                return current;
+            }
+            final var fresh =
+                    new SignedStateSnapshot(
+                            storage, maxCachedSlots, nodeProperties.prefetchCodeCacheTtlSecs());
+            if (snapshot.compareAndSet(current, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    long numCachedCode() {
+        final var current = snapshot.get();
+        return (current == null) ? 0 : current.code().estimatedSize();
+    }
+
+    long numCachedSlots() {
+        final var current = snapshot.get();
+        return (current == null) ? 0 : current.slots().estimatedSize();
+    }
+
+    /**
+     * The caches for one signed state, which is identified by its contract storage map (a new
+     * copy of which is made for every state).
+     */
+    private static final class SignedStateSnapshot {
+        private final WeakReference<VirtualMap<ContractKey, IterableContractValue>> storage;
+        private final Cache<ContractKey, UInt256> slots;
+        private final Cache<BytesKey, Code> code;
+
+        private SignedStateSnapshot(
+                final VirtualMap<ContractKey, IterableContractValue> storage,
+                final int maxCachedSlots,
+                final int codeTtlSecs) {
+            this.storage = new WeakReference<>(storage);
+            this.slots = Caffeine.newBuilder().maximumSize(maxCachedSlots).build();
+            this.code =
+                    Caffeine.newBuilder()
+                            .expireAfterAccess(codeTtlSecs, TimeUnit.SECONDS)
+                            .softValues()
+                            .build();
+        }
+
+        private boolean isFor(final VirtualMap<ContractKey, IterableContractValue> storage) {
+            return this.storage.get() == storage;
+        }
+
+        private Cache<ContractKey, UInt256> slots() {
+            return slots;
+        }
+
+        private Cache<BytesKey, Code> code() {
+            return code;
+        }
+    }
+}
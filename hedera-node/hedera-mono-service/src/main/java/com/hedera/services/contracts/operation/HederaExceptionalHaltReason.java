@@ -71,6 +71,9 @@ public class HederaExceptionalHaltReason {
     /** Used when the target of a {@code selfdestruct} has positive balances. */
     public static final ExceptionalHaltReason TRANSACTION_REQUIRES_ZERO_TOKEN_BALANCES =
             HederaExceptionalHalt.TRANSACTION_REQUIRES_ZERO_TOKEN_BALANCES;
+    /** Used when a {@code ContractCallLocal} is still executing past its wall-clock deadline. */
+    public static final ExceptionalHaltReason LOCAL_CALL_DEADLINE_EXCEEDED =
+            HederaExceptionalHalt.LOCAL_CALL_DEADLINE_EXCEEDED;
 
     enum HederaExceptionalHalt implements ExceptionalHaltReason {
         INVALID_SOLIDITY_ADDRESS("Invalid account reference"),
@@ -79,7 +82,8 @@ public class HederaExceptionalHaltReason {
         INVALID_SIGNATURE("Invalid signature"),
         TRANSACTION_REQUIRES_ZERO_TOKEN_BALANCES(
                 "Accounts with positive fungible token balances cannot be deleted"),
-        CONTRACT_STILL_OWNS_NFTS("Accounts who own nfts cannot be deleted");
+        CONTRACT_STILL_OWNS_NFTS("Accounts who own nfts cannot be deleted"),
+        LOCAL_CALL_DEADLINE_EXCEEDED("Local call exceeded its execution deadline");
 
         final String description;
 
@@ -21,18 +21,9 @@ import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
 import com.google.protobuf.ByteString;
 import com.hedera.services.context.primitives.StateView;
 import com.hedera.services.context.properties.GlobalDynamicProperties;
-import com.hedera.services.context.properties.NodeLocalProperties;
-import com.hedera.services.contracts.execution.CallLocalEvmTxProcessor;
-import com.hedera.services.contracts.execution.CallLocalExecutor;
+import com.hedera.services.contracts.execution.LocalCallExecutionService;
 import com.hedera.services.contracts.execution.StaticBlockMetaProvider;
 import com.hedera.services.fees.calculation.QueryResourceUsageEstimator;
-import com.hedera.services.ledger.accounts.AliasManager;
-import com.hedera.services.ledger.ids.EntityIdSource;
-import com.hedera.services.store.AccountStore;
-import com.hedera.services.store.contracts.CodeCache;
-import com.hedera.services.store.contracts.HederaWorldState;
-import com.hedera.services.store.contracts.StaticEntityAccess;
-import com.hedera.services.txns.validation.OptionValidator;
 import com.hederahashgraph.api.proto.java.ContractCallLocalResponse;
 import com.hederahashgraph.api.proto.java.ContractFunctionResult;
 import com.hederahashgraph.api.proto.java.ContractID;
@@ -52,34 +43,19 @@ import org.apache.logging.log4j.Logger;
 public final class ContractCallLocalResourceUsage implements QueryResourceUsageEstimator {
     private static final Logger log = LogManager.getLogger(ContractCallLocalResourceUsage.class);
 
-    private final AccountStore accountStore;
-    private final AliasManager aliasManager;
-    private final EntityIdSource ids;
-    private final OptionValidator validator;
     private final GlobalDynamicProperties properties;
-    private final NodeLocalProperties nodeProperties;
+    private final LocalCallExecutionService localCallExecution;
     private final SmartContractFeeBuilder usageEstimator;
-    private final CallLocalEvmTxProcessor evmTxProcessor;
     private final StaticBlockMetaProvider blockMetaProvider;
 
     @Inject
     public ContractCallLocalResourceUsage(
             final SmartContractFeeBuilder usageEstimator,
             final GlobalDynamicProperties properties,
-            final NodeLocalProperties nodeProperties,
-            final AccountStore accountStore,
-            final CallLocalEvmTxProcessor evmTxProcessor,
-            final EntityIdSource ids,
-            final OptionValidator validator,
-            final AliasManager aliasManager,
+            final LocalCallExecutionService localCallExecution,
             final StaticBlockMetaProvider blockMetaProvider) {
-        this.accountStore = accountStore;
-        this.evmTxProcessor = evmTxProcessor;
-        this.aliasManager = aliasManager;
-        this.ids = ids;
-        this.validator = validator;
         this.properties = properties;
-        this.nodeProperties = nodeProperties;
+        this.localCallExecution = localCallExecution;
         this.usageEstimator = usageEstimator;
         this.blockMetaProvider = blockMetaProvider;
     }
@@ -118,15 +94,7 @@ public final class ContractCallLocalResourceUsage implements QueryResourceUsageE
                 if (blockMetaSource.isEmpty()) {
                     response = dummyResponse(op.getContractID());
                 } else {
-                    final var entityAccess = new StaticEntityAccess(view, aliasManager, validator);
-                    final var codeCache = new CodeCache(nodeProperties, entityAccess);
-                    final var worldState =
-                            new HederaWorldState(ids, entityAccess, codeCache, properties);
-                    evmTxProcessor.setWorldState(worldState);
-                    evmTxProcessor.setBlockMetaSource(blockMetaSource.get());
-                    response =
-                            CallLocalExecutor.execute(
-                                    accountStore, evmTxProcessor, op, aliasManager, entityAccess);
+                    response = localCallExecution.execute(op, view, blockMetaSource.get());
                     queryCtx.put(CONTRACT_CALL_LOCAL_CTX_KEY, response);
                 }
             }
@@ -31,6 +31,7 @@ import com.hedera.services.context.primitives.StateView;
 import com.hedera.services.files.HFileMeta;
 import com.hedera.services.ledger.accounts.AliasManager;
 import com.hedera.services.state.merkle.MerkleToken;
+import com.hedera.services.state.migration.EntityStorageAdapter;
 import com.hedera.services.state.submerkle.FcCustomFee;
 import com.hedera.services.usage.crypto.ExtantCryptoContext;
 import com.hedera.services.usage.file.FileAppendMeta;
@@ -44,7 +45,6 @@ import com.hedera.services.utils.accessors.TxnAccessor;
 import com.hederahashgraph.api.proto.java.Key;
 import com.hederahashgraph.api.proto.java.TokenFeeScheduleUpdateTransactionBody;
 import com.hederahashgraph.api.proto.java.TransactionBody;
-import com.swirlds.merkle.map.MerkleMap;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.Supplier;
@@ -61,14 +61,14 @@ public class OpUsageCtxHelper {
     private final StateView workingView;
     private final FileNumbers fileNumbers;
     private final TokenOpsUsage tokenOpsUsage = new TokenOpsUsage();
-    private final Supplier<MerkleMap<EntityNum, MerkleToken>> tokens;
+    private final Supplier<EntityStorageAdapter<MerkleToken>> tokens;
     private final AliasManager aliasManager;
 
     @Inject
     public OpUsageCtxHelper(
             final StateView workingView,
             final FileNumbers fileNumbers,
-            final Supplier<MerkleMap<EntityNum, MerkleToken>> tokens,
+            final Supplier<EntityStorageAdapter<MerkleToken>> tokens,
             final AliasManager aliasManager) {
         this.tokens = tokens;
         this.fileNumbers = fileNumbers;
@@ -35,6 +35,7 @@ import com.hedera.services.files.store.FcBlobsBytesStore;
 import com.hedera.services.state.submerkle.ExchangeRates;
 import com.hedera.services.state.virtual.VirtualBlobKey;
 import com.hedera.services.state.virtual.VirtualBlobValue;
+import com.hedera.services.stats.StateAccessProfiler;
 import com.hederahashgraph.api.proto.java.ExchangeRateSet;
 import com.hederahashgraph.api.proto.java.FileID;
 import com.swirlds.common.system.address.AddressBook;
@@ -60,8 +61,9 @@ public interface FilesModule {
     @Provides
     @Singleton
     static Map<String, byte[]> provideBlobStore(
-            Supplier<VirtualMap<VirtualBlobKey, VirtualBlobValue>> storage) {
-        return new FcBlobsBytesStore(storage);
+            Supplier<VirtualMap<VirtualBlobKey, VirtualBlobValue>> storage,
+            StateAccessProfiler stateAccessProfiler) {
+        return new FcBlobsBytesStore(storage, stateAccessProfiler);
     }
 
     @Provides
@@ -15,11 +15,14 @@
  */
 package com.hedera.services.files.store;
 
+import static com.hedera.services.stats.StateAccessProfiler.NOT_PROFILING;
+import static com.hedera.services.stats.StateAccessProfiler.Store.BLOBS;
 import static java.lang.Long.parseLong;
 
 import com.hedera.services.state.merkle.internals.BlobKey;
 import com.hedera.services.state.virtual.VirtualBlobKey;
 import com.hedera.services.state.virtual.VirtualBlobValue;
+import com.hedera.services.stats.StateAccessProfiler;
 import com.swirlds.virtualmap.VirtualMap;
 import java.util.AbstractMap;
 import java.util.Optional;
@@ -30,11 +33,19 @@ public class FcBlobsBytesStore extends AbstractMap<String, byte[]> {
     public static final VirtualBlobValue EMPTY_BLOB = new VirtualBlobValue(new byte[0]);
 
     private final Supplier<VirtualMap<VirtualBlobKey, VirtualBlobValue>> blobSupplier;
+    private final StateAccessProfiler profiler;
 
     public static final int LEGACY_BLOB_CODE_INDEX = 3;
 
     public FcBlobsBytesStore(Supplier<VirtualMap<VirtualBlobKey, VirtualBlobValue>> blobSupplier) {
+        this(blobSupplier, NOT_PROFILING);
+    }
+
+    public FcBlobsBytesStore(
+            final Supplier<VirtualMap<VirtualBlobKey, VirtualBlobValue>> blobSupplier,
+            final StateAccessProfiler profiler) {
         this.blobSupplier = blobSupplier;
+        this.profiler = profiler;
     }
 
     /**
@@ -74,7 +85,9 @@ public class FcBlobsBytesStore extends AbstractMap<String, byte[]> {
      */
     @Override
     public byte[] remove(Object path) {
+        final var start = profiler.startTiming();
         blobSupplier.get().put(at(path), EMPTY_BLOB);
+        profiler.recordWrite(BLOBS, start);
         return null;
     }
 
@@ -91,20 +104,26 @@ public class FcBlobsBytesStore extends AbstractMap<String, byte[]> {
     @Override
     public byte[] put(String path, byte[] value) {
         final VirtualBlobValue blob = new VirtualBlobValue(value);
+        final var start = profiler.startTiming();
         blobSupplier.get().put(at(path), blob);
+        profiler.recordWrite(BLOBS, start);
         return null;
     }
 
     @Override
     public byte[] get(Object path) {
-        return Optional.ofNullable(blobSupplier.get().get(at(path)))
-                .map(VirtualBlobValue::getData)
-                .orElse(null);
+        final var start = profiler.startTiming();
+        final var blob = blobSupplier.get().get(at(path));
+        profiler.recordRead(BLOBS, start);
+        return Optional.ofNullable(blob).map(VirtualBlobValue::getData).orElse(null);
     }
 
     @Override
     public boolean containsKey(Object path) {
-        return blobSupplier.get().containsKey(at(path));
+        final var start = profiler.startTiming();
+        final var answer = blobSupplier.get().containsKey(at(path));
+        profiler.recordRead(BLOBS, start);
+        return answer;
     }
 
     @Override
@@ -0,0 +1,172 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.keys;
+
+import static com.hedera.services.keys.DefaultActivationCharacteristics.DEFAULT_ACTIVATION_CHARACTERISTICS;
+import static com.hedera.services.keys.HederaKeyActivation.INVALID_MISSING_SIG;
+
+import com.hedera.services.legacy.core.jproto.JKey;
+import com.hedera.services.legacy.core.jproto.JKeyList;
+import com.hedera.services.legacy.core.jproto.JThresholdKey;
+import com.swirlds.common.crypto.TransactionSignature;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * A Hedera key flattened into parallel arrays, in the pre-order of a DFS traversal of the key, so
+ * that testing its activation is a loop over array indices instead of a walk of the {@link JKey}
+ * tree; and the simple keys, child lists, and default thresholds are looked up only once, when
+ * the key is compiled.
+ *
+ * <p>The activation semantics are exactly those of {@link HederaKeyActivation#isActive(JKey,
+ * Function, BiPredicate, KeyActivationCharacteristics)}: every simple key is tested, in DFS order,
+ * and the given {@link KeyActivationCharacteristics} apply only to the top-level key.
+ */
+public final class CompiledKeyActivation {
+    private static final byte SIMPLE = 0;
+    private static final byte LIST = 1;
+    private static final byte THRESHOLD = 2;
+
+    private final byte[] types;
+    private final JKey[] keys;
+    private final byte[][] publicKeys;
+    private final int[] numChildren;
+    private final int[] subtreeSizes;
+    private final int[] defaultSigsNeeded;
+
+    private CompiledKeyActivation(final List<JKey> preOrderKeys) {
+        final var n = preOrderKeys.size();
+        types = new byte[n];
+        keys = preOrderKeys.toArray(new JKey[n]);
+        publicKeys = new byte[n][];
+        numChildren = new int[n];
+        subtreeSizes = new int[n];
+        defaultSigsNeeded = new int[n];
+        for (int i = n - 1; i >= 0; i--) {
+            final var key = keys[i];
+            subtreeSizes[i] = 1;
+            if (key.hasKeyList() || key.hasThresholdKey()) {
+                final var children = childrenOf(key);
+                types[i] = key.hasKeyList() ? LIST : THRESHOLD;
+                numChildren[i] = children.size();
+                defaultSigsNeeded[i] =
+                        sigsNeeded(types[i], key, DEFAULT_ACTIVATION_CHARACTERISTICS);
+                for (int c = 0, child = i + 1; c < numChildren[i]; c++) {
+                    subtreeSizes[i] += subtreeSizes[child];
+                    child += subtreeSizes[child];
+                }
+            } else {
+                types[i] = SIMPLE;
+                if (key.hasEd25519Key()) {
+                    publicKeys[i] = key.getEd25519();
+                } else if (key.hasECDSAsecp256k1Key()) {
+                    publicKeys[i] = key.getECDSASecp256k1Key();
+                }
+            }
+        }
+    }
+
+    /**
+     * Compiles the given Hedera key into an activation program.
+     *
+     * @param key the key to compile
+     * @return its activation program
+     */
+    public static CompiledKeyActivation compile(final JKey key) {
+        final List<JKey> preOrderKeys = new ArrayList<>();
+        addPreOrder(key, preOrderKeys);
+        return new CompiledKeyActivation(preOrderKeys);
+    }
+
+    /**
+     * Tests whether the compiled key is activated by the given platform signatures.
+     *
+     * @param sigsFn the source of platform signatures for the simple keys in the compiled key
+     * @param validity the logic deciding if a given simple key is activated by a given platform sig
+     * @param characteristics the activation characteristics of the top-level key
+     * @return whether the compiled key is active
+     */
+    public boolean isActive(
+            final Function<byte[], TransactionSignature> sigsFn,
+            final BiPredicate<JKey, TransactionSignature> validity,
+            final KeyActivationCharacteristics characteristics) {
+        final var type = types[0];
+        if (type == SIMPLE) {
+            return isSimpleKeyActive(0, sigsFn, validity);
+        }
+        final var m =
+                (characteristics == DEFAULT_ACTIVATION_CHARACTERISTICS)
+                        ? defaultSigsNeeded[0]
+                        : sigsNeeded(type, keys[0], characteristics);
+        return isActive(0, m, sigsFn, validity);
+    }
+
+    int size() {
+        return keys.length;
+    }
+
+    private boolean isActive(
+            final int i,
+            final int m,
+            final Function<byte[], TransactionSignature> sigsFn,
+            final BiPredicate<JKey, TransactionSignature> validity) {
+        var n = 0;
+        for (int c = 0, child = i + 1, k = numChildren[i]; c < k; c++) {
+            final var isChildActive =
+                    (types[child] == SIMPLE)
+                            ? isSimpleKeyActive(child, sigsFn, validity)
+                            : isActive(child, defaultSigsNeeded[child], sigsFn, validity);
+            if (isChildActive) {
+                n++;
+            }
+            child += subtreeSizes[child];
+        }
+        return n >= m;
+    }
+
+    private boolean isSimpleKeyActive(
+            final int i,
+            final Function<byte[], TransactionSignature> sigsFn,
+            final BiPredicate<JKey, TransactionSignature> validity) {
+        final var publicKey = publicKeys[i];
+        return validity.test(
+                keys[i], (publicKey == null) ? INVALID_MISSING_SIG : sigsFn.apply(publicKey));
+    }
+
+    private static int sigsNeeded(
+            final byte type, final JKey key, final KeyActivationCharacteristics characteristics) {
+        return (type == LIST)
+                ? characteristics.sigsNeededForList((JKeyList) key)
+                : characteristics.sigsNeededForThreshold((JThresholdKey) key);
+    }
+
+    private static List<JKey> childrenOf(final JKey key) {
+        return key.hasKeyList()
+                ? key.getKeyList().getKeysList()
+                : key.getThresholdKey().getKeys().getKeysList();
+    }
+
+    private static void addPreOrder(final JKey key, final List<JKey> preOrderKeys) {
+        preOrderKeys.add(key);
+        if (key.hasKeyList() || key.hasThresholdKey()) {
+            for (final var child : childrenOf(key)) {
+                addPreOrder(child, preOrderKeys);
+            }
+        }
+    }
+}
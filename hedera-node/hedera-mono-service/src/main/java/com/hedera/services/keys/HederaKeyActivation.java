@@ -20,8 +20,6 @@ import static com.swirlds.common.crypto.VerificationStatus.INVALID;
 import static com.swirlds.common.crypto.VerificationStatus.VALID;
 
 import com.hedera.services.legacy.core.jproto.JKey;
-import com.hedera.services.legacy.core.jproto.JKeyList;
-import com.hedera.services.legacy.core.jproto.JThresholdKey;
 import com.hedera.services.utils.accessors.SwirldsTxnAccessor;
 import com.swirlds.common.crypto.TransactionSignature;
 import com.swirlds.common.crypto.VerificationStatus;
@@ -102,29 +100,23 @@ public final class HederaKeyActivation {
             final Function<byte[], TransactionSignature> sigsFn,
             final BiPredicate<JKey, TransactionSignature> validity,
             final KeyActivationCharacteristics characteristics) {
-        if (key.hasKeyList() || key.hasThresholdKey()) {
-            final var children =
-                    key.hasKeyList()
-                            ? key.getKeyList().getKeysList()
-                            : key.getThresholdKey().getKeys().getKeysList();
-            final var m =
-                    key.hasKeyList()
-                            ? characteristics.sigsNeededForList((JKeyList) key)
-                            : characteristics.sigsNeededForThreshold((JThresholdKey) key);
-            var n = 0;
-            for (var child : children) {
-                if (isActive(child, sigsFn, validity)) {
-                    n++;
-                }
-            }
-            return n >= m;
-        } else if (key.hasEd25519Key()) {
-            return validity.test(key, sigsFn.apply(key.getEd25519()));
-        } else if (key.hasECDSAsecp256k1Key()) {
-            return validity.test(key, sigsFn.apply(key.getECDSASecp256k1Key()));
-        } else {
-            return validity.test(key, INVALID_MISSING_SIG);
+        return compiledFor(key).isActive(sigsFn, validity, characteristics);
+    }
+
+    /**
+     * Returns the activation program for the given key, compiling and caching it on the key
+     * instance the first time it is tested for activation.
+     *
+     * @param key the key to get the activation program for
+     * @return its activation program
+     */
+    static CompiledKeyActivation compiledFor(final JKey key) {
+        var compiled = key.getCompiledActivation();
+        if (compiled == null) {
+            compiled = CompiledKeyActivation.compile(key);
+            key.setCompiledActivation(compiled);
         }
+        return compiled;
     }
 
     /**
@@ -135,14 +127,7 @@ public final class HederaKeyActivation {
      */
     public static Function<byte[], TransactionSignature> pkToSigMapFrom(
             final List<TransactionSignature> sigs) {
-        return pk -> {
-            for (var sig : sigs) {
-                if (keysMatch(pk, sig.getExpandedPublicKeyDirect())) {
-                    return sig;
-                }
-            }
-            return INVALID_MISSING_SIG;
-        };
+        return new PublicKeySigTable(sigs);
     }
 
     public static boolean keysMatch(byte[] sourceKey, byte[] sigKey) {
@@ -19,6 +19,7 @@ import static com.swirlds.common.crypto.VerificationStatus.INVALID;
 import static com.swirlds.common.crypto.VerificationStatus.VALID;
 
 import com.hedera.services.legacy.core.jproto.JKey;
+import com.hedera.services.stats.SigVerificationStats;
 import com.swirlds.common.crypto.TransactionSignature;
 import java.util.concurrent.ExecutionException;
 import java.util.function.BiPredicate;
@@ -28,6 +29,12 @@ import org.apache.logging.log4j.Logger;
 public class OnlyIfSigVerifiableValid implements BiPredicate<JKey, TransactionSignature> {
     private static final Logger log = LogManager.getLogger(OnlyIfSigVerifiableValid.class);
 
+    private final SigVerificationStats sigVerificationStats;
+
+    public OnlyIfSigVerifiableValid(final SigVerificationStats sigVerificationStats) {
+        this.sigVerificationStats = sigVerificationStats;
+    }
+
     @Override
     public boolean test(final JKey ignoredKey, final TransactionSignature sig) {
         // If this signature was verified synchronously in Rationalization (or is
@@ -43,7 +50,10 @@ public class OnlyIfSigVerifiableValid implements BiPredicate<JKey, TransactionSi
             // verification in EventExpansion, but its result is still pending
             var statusUnknown = true;
             try {
+                final var start = System.nanoTime();
                 sig.waitForFuture().get();
+                sigVerificationStats.recordWaitNanos(
+                        sig.getSignatureType(), System.nanoTime() - start);
                 statusUnknown = false;
             } catch (final InterruptedException ignore) {
                 log.warn(
@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.keys;
+
+import static com.hedera.services.keys.HederaKeyActivation.INVALID_MISSING_SIG;
+import static com.hedera.services.keys.HederaKeyActivation.keysMatch;
+
+import com.swirlds.common.crypto.TransactionSignature;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A source of platform signatures by public key, backed by an open-addressing hash table from the
+ * leading bytes of each signature's (Ed25519 or secp256k1 x-coordinate) public key to its index in
+ * the backing list.
+ *
+ * <p>Each expanded public key is extracted once, when the table is built; and a lookup hashes the
+ * requested key in place, so it doesn't allocate. As with a linear scan of the list, a lookup
+ * returns the first signature whose public key {@link HederaKeyActivation#keysMatch(byte[],
+ * byte[]) matches} the requested key, or {@link HederaKeyActivation#INVALID_MISSING_SIG}.
+ */
+final class PublicKeySigTable implements Function<byte[], TransactionSignature> {
+    private static final int ED25519_PUBLIC_KEY_LEN = 32;
+    private static final int COMPRESSED_SECP256K1_PUBLIC_KEY_LEN = 33;
+    private static final int UNCOMPRESSED_SECP256K1_PUBLIC_KEY_LEN = 64;
+    private static final int HASHED_PREFIX_LEN = Long.BYTES;
+    private static final long MIXER = 0x9E3779B97F4A7C15L;
+
+    private final List<TransactionSignature> sigs;
+    private final byte[][] sigKeys;
+    private final long[] prefixes;
+    /* The index in sigs of the entry in each slot, plus one; so zero marks an empty slot */
+    private final int[] slots;
+    private final int mask;
+
+    PublicKeySigTable(final List<TransactionSignature> sigs) {
+        this.sigs = sigs;
+        final var n = sigs.size();
+        sigKeys = new byte[n][];
+        prefixes = new long[n];
+        slots = new int[Integer.highestOneBit(Math.max(1, n) * 2) * 2];
+        mask = slots.length - 1;
+        for (int i = 0; i < n; i++) {
+            final var sigKey = sigs.get(i).getExpandedPublicKeyDirect();
+            sigKeys[i] = sigKey;
+            if (sigKey.length >= HASHED_PREFIX_LEN) {
+                prefixes[i] = prefixOf(sigKey, 0);
+                var slot = slotFor(prefixes[i]);
+                while (slots[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                slots[slot] = i + 1;
+            }
+        }
+    }
+
+    @Override
+    public TransactionSignature apply(final byte[] publicKey) {
+        final int offset;
+        final int minSigKeyLen;
+        if (publicKey.length == ED25519_PUBLIC_KEY_LEN) {
+            offset = 0;
+            minSigKeyLen = ED25519_PUBLIC_KEY_LEN;
+        } else if (publicKey.length == COMPRESSED_SECP256K1_PUBLIC_KEY_LEN) {
+            offset = 1;
+            minSigKeyLen = UNCOMPRESSED_SECP256K1_PUBLIC_KEY_LEN;
+        } else {
+            return INVALID_MISSING_SIG;
+        }
+        final var prefix = prefixOf(publicKey, offset);
+        var firstMatch = Integer.MAX_VALUE;
+        for (var slot = slotFor(prefix); slots[slot] != 0; slot = (slot + 1) & mask) {
+            final var i = slots[slot] - 1;
+            if (i < firstMatch
+                    && prefixes[i] == prefix
+                    && sigKeys[i].length >= minSigKeyLen
+                    && keysMatch(publicKey, sigKeys[i])) {
+                firstMatch = i;
+            }
+        }
+        return (firstMatch == Integer.MAX_VALUE) ? INVALID_MISSING_SIG : sigs.get(firstMatch);
+    }
+
+    private int slotFor(final long prefix) {
+        return (int) ((prefix * MIXER) >>> 32) & mask;
+    }
+
+    private static long prefixOf(final byte[] key, final int offset) {
+        var prefix = 0L;
+        for (int i = offset, end = offset + HASHED_PREFIX_LEN; i < end; i++) {
+            prefix = (prefix << 8) | (key[i] & 0xFF);
+        }
+        return prefix;
+    }
+}
@@ -41,6 +41,7 @@ import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Supplier;
 import javax.inject.Inject;
@@ -110,11 +111,18 @@ public class EndOfStakingPeriodCalculator {
                 perHbarRate,
                 totalStakedRewardStart);
 
+        final var maxPerHbarRate = dynamicProperties.maxDailyStakeRewardThPerH();
+        final var requireMinStakeToReward = dynamicProperties.requireMinStakeToReward();
+        // Visit the nodes in ascending order with a single pass, sorting their primitive ids
+        final var nodeIds =
+                curStakingInfos.keySet().stream().mapToLong(EntityNum::longValue).toArray();
+        Arrays.sort(nodeIds);
+
         long newTotalStakedStart = 0L;
         long newTotalStakedRewardStart = 0L;
-        final List<NodeStake> nodeStakingInfos = new ArrayList<>();
-        for (final var nodeNum : curStakingInfos.keySet().stream().sorted().toList()) {
-            final var stakingInfo = curStakingInfos.getForModify(nodeNum);
+        final List<NodeStake> nodeStakingInfos = new ArrayList<>(nodeIds.length);
+        for (final var nodeId : nodeIds) {
+            final var stakingInfo = curStakingInfos.getForModify(EntityNum.fromLong(nodeId));
 
             // The return value is the reward rate (tinybars-per-hbar-staked-to-reward) that will be
             // paid to all
@@ -122,19 +130,17 @@ public class EndOfStakingPeriodCalculator {
             // just-finished period
             final var nodeRewardRate =
                     stakingInfo.updateRewardSumHistory(
-                            perHbarRate,
-                            dynamicProperties.maxDailyStakeRewardThPerH(),
-                            dynamicProperties.requireMinStakeToReward());
+                            perHbarRate, maxPerHbarRate, requireMinStakeToReward);
 
             final var oldStakeRewardStart = stakingInfo.getStakeRewardStart();
             final var pendingRewardHbars =
                     stakingInfo.stakeRewardStartMinusUnclaimed() / HBARS_TO_TINYBARS;
             final var newStakeRewardStart = stakingInfo.reviewElectionsAndRecomputeStakes();
             final var nodePendingRewards = pendingRewardHbars * nodeRewardRate;
-            log.info(
+            log.debug(
                     "For node{}, the tb/hbar reward rate was {} for {} pending, "
                             + "with stake reward start {} -> {}",
-                    nodeNum.longValue(),
+                    nodeId,
                     nodeRewardRate,
                     nodePendingRewards,
                     oldStakeRewardStart,
@@ -146,7 +152,7 @@ public class EndOfStakingPeriodCalculator {
             newTotalStakedStart += stakingInfo.getStake();
             nodeStakingInfos.add(
                     NodeStake.newBuilder()
-                            .setNodeId(nodeNum.longValue())
+                            .setNodeId(nodeId)
                             .setRewardRate(nodeRewardRate)
                             .setStake(stakingInfo.getStake())
                             .setMinStake(stakingInfo.getMinStake())
@@ -170,7 +176,7 @@ public class EndOfStakingPeriodCalculator {
                         lastInstantOfPreviousPeriodFor(consensusTime),
                         nodeStakingInfos,
                         properties);
-        log.info("Exporting:\n{}", nodeStakingInfos);
+        log.debug("Exporting:\n{}", nodeStakingInfos);
         recordsHistorian.trackPrecedingChildRecord(
                 DEFAULT_SOURCE_ID,
                 syntheticNodeStakeUpdateTxn,
@@ -18,17 +18,17 @@ package com.hedera.services.ledger.backing;
 import static com.hedera.services.utils.EntityNum.fromTokenId;
 
 import com.hedera.services.state.merkle.MerkleToken;
+import com.hedera.services.state.migration.EntityStorageAdapter;
 import com.hedera.services.utils.EntityNum;
 import com.hederahashgraph.api.proto.java.TokenID;
-import com.swirlds.merkle.map.MerkleMap;
 import java.util.Set;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 public class BackingTokens implements BackingStore<TokenID, MerkleToken> {
-    private final Supplier<MerkleMap<EntityNum, MerkleToken>> delegate;
+    private final Supplier<EntityStorageAdapter<MerkleToken>> delegate;
 
-    public BackingTokens(Supplier<MerkleMap<EntityNum, MerkleToken>> delegate) {
+    public BackingTokens(Supplier<EntityStorageAdapter<MerkleToken>> delegate) {
         this.delegate = delegate;
     }
 
@@ -74,7 +74,7 @@ public class BackingTokens implements BackingStore<TokenID, MerkleToken> {
     }
 
     /* -- only for unit tests */
-    public Supplier<MerkleMap<EntityNum, MerkleToken>> getDelegate() {
+    public Supplier<EntityStorageAdapter<MerkleToken>> getDelegate() {
         return delegate;
     }
 }
@@ -26,13 +26,13 @@ import com.hedera.services.state.expiry.UniqueTokensListMutation;
 import com.hedera.services.state.merkle.MerkleToken;
 import com.hedera.services.state.merkle.MerkleUniqueToken;
 import com.hedera.services.state.migration.AccountStorageAdapter;
+import com.hedera.services.state.migration.EntityStorageAdapter;
 import com.hedera.services.state.migration.HederaAccount;
 import com.hedera.services.state.migration.UniqueTokenAdapter;
 import com.hedera.services.state.migration.UniqueTokenMapAdapter;
 import com.hedera.services.state.virtual.UniqueTokenValue;
 import com.hedera.services.store.models.NftId;
 import com.hedera.services.utils.EntityNum;
-import com.swirlds.merkle.map.MerkleMap;
 import java.util.function.Supplier;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -44,14 +44,14 @@ public class UniqueTokensLinkManager {
     private static final Logger log = LogManager.getLogger(UniqueTokensLinkManager.class);
 
     private final Supplier<AccountStorageAdapter> accounts;
-    private final Supplier<MerkleMap<EntityNum, MerkleToken>> tokens;
+    private final Supplier<EntityStorageAdapter<MerkleToken>> tokens;
     private final Supplier<UniqueTokenMapAdapter> uniqueTokens;
     private final boolean enableVirtualNft;
 
     @Inject
     public UniqueTokensLinkManager(
             final Supplier<AccountStorageAdapter> accounts,
-            final Supplier<MerkleMap<EntityNum, MerkleToken>> tokens,
+            final Supplier<EntityStorageAdapter<MerkleToken>> tokens,
             final Supplier<UniqueTokenMapAdapter> uniqueTokens,
             final BootstrapProperties bootstrapProperties) {
         this.accounts = accounts;
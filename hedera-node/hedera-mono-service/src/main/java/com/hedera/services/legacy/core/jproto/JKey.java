@@ -17,6 +17,7 @@ package com.hedera.services.legacy.core.jproto;
 
 import com.google.protobuf.ByteString;
 import com.hedera.node.app.spi.key.HederaKey;
+import com.hedera.services.keys.CompiledKeyActivation;
 import com.hederahashgraph.api.proto.java.Key;
 import com.hederahashgraph.api.proto.java.KeyList;
 import com.hederahashgraph.api.proto.java.ThresholdKey;
@@ -38,6 +39,7 @@ public abstract class JKey implements HederaKey {
     private static final byte[] MISSING_ECDSA_SECP256K1_KEY = new byte[0];
 
     private boolean forScheduledTxn = false;
+    private CompiledKeyActivation compiledActivation;
 
     /**
      * Maps a proto Key to Jkey.
@@ -255,6 +257,20 @@ public abstract class JKey implements HederaKey {
         return forScheduledTxn;
     }
 
+    /**
+     * Returns the activation program compiled from this key, if it has been compiled; since a key
+     * is not changed after it is used for activation, the program can be cached on the instance.
+     *
+     * @return the cached program, or null if not yet compiled
+     */
+    public CompiledKeyActivation getCompiledActivation() {
+        return compiledActivation;
+    }
+
+    public void setCompiledActivation(final CompiledKeyActivation compiledActivation) {
+        this.compiledActivation = compiledActivation;
+    }
+
     public boolean hasEd25519Key() {
         return false;
     }
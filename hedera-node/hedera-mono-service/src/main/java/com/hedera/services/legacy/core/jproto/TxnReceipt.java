@@ -70,6 +70,7 @@ public class TxnReceipt implements SelfSerializable {
     ExchangeRates exchangeRates;
     long newTotalSupply = MISSING_NEW_TOTAL_SUPPLY;
     long[] serialNumbers;
+    private volatile TransactionReceipt grpcReceipt;
 
     public TxnReceipt() {}
 
@@ -139,6 +140,7 @@ public class TxnReceipt implements SelfSerializable {
     @Override
     public void deserialize(final SerializableDataInputStream in, final int version)
             throws IOException {
+        grpcReceipt = null;
         status = getNormalisedStringFromBytes(in.readByteArray(MAX_STATUS_BYTES));
         exchangeRates = in.readSerializable(true, ExchangeRates::new);
         accountId = readNullableSerializable(in);
@@ -290,14 +292,21 @@ public class TxnReceipt implements SelfSerializable {
 
     public void setAccountId(EntityId accountId) {
         this.accountId = accountId;
+        grpcReceipt = null;
     }
 
     public void setStatus(String status) {
         this.status = status;
+        grpcReceipt = null;
     }
 
     public TransactionReceipt toGrpc() {
-        return convert(this);
+        var result = grpcReceipt;
+        if (result == null) {
+            result = convert(this);
+            grpcReceipt = result;
+        }
+        return result;
     }
 
     public static TransactionReceipt convert(TxnReceipt txReceipt) {
@@ -58,8 +58,10 @@ public class AnswerFunctions {
     public List<TransactionRecord> mostRecentRecords(
             final StateView view, final CryptoGetAccountRecordsQuery op) {
         final var payerNum = EntityNum.fromAccountId(op.getAccountID());
-        final var queryableRecords = view.payerRecords().getReadOnlyPayerRecords(payerNum);
-        return mostRecentFrom(queryableRecords, dynamicProperties.maxNumQueryableRecords());
+        final var maxQueryable = dynamicProperties.maxNumQueryableRecords();
+        final var queryableRecords =
+                view.payerRecords().getMostRecentPayerRecords(payerNum, maxQueryable);
+        return mostRecentFrom(queryableRecords, maxQueryable);
     }
 
     /**
@@ -23,8 +23,8 @@ import static com.hederahashgraph.api.proto.java.ResponseType.COST_ANSWER;
 import com.hedera.services.context.primitives.StateView;
 import com.hedera.services.queries.AnswerService;
 import com.hedera.services.state.merkle.MerkleTopic;
+import com.hedera.services.state.migration.EntityStorageAdapter;
 import com.hedera.services.txns.validation.OptionValidator;
-import com.hedera.services.utils.EntityNum;
 import com.hedera.services.utils.accessors.SignedTxnAccessor;
 import com.hederahashgraph.api.proto.java.ConsensusGetTopicInfoQuery;
 import com.hederahashgraph.api.proto.java.ConsensusGetTopicInfoResponse;
@@ -34,7 +34,6 @@ import com.hederahashgraph.api.proto.java.Response;
 import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
 import com.hederahashgraph.api.proto.java.ResponseType;
 import com.hederahashgraph.api.proto.java.Transaction;
-import com.swirlds.merkle.map.MerkleMap;
 import java.util.Objects;
 import java.util.Optional;
 import javax.annotation.Nullable;
@@ -52,13 +51,13 @@ public class GetTopicInfoAnswer implements AnswerService {
 
     @Override
     public ResponseCodeEnum checkValidity(Query query, StateView view) {
-        MerkleMap<EntityNum, MerkleTopic> topics = view.topics();
+        EntityStorageAdapter<MerkleTopic> topics = view.topics();
         ConsensusGetTopicInfoQuery op = query.getConsensusGetTopicInfo();
         return validityOf(op, topics);
     }
 
     private ResponseCodeEnum validityOf(
-            ConsensusGetTopicInfoQuery op, MerkleMap<EntityNum, MerkleTopic> topics) {
+            ConsensusGetTopicInfoQuery op, EntityStorageAdapter<MerkleTopic> topics) {
         if (op.hasTopicID()) {
             return optionValidator.queryableTopicStatus(op.getTopicID(), topics);
         } else {
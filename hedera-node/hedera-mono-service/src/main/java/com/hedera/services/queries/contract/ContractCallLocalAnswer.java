@@ -26,18 +26,11 @@ import static com.hederahashgraph.api.proto.java.ResponseType.COST_ANSWER;
 
 import com.hedera.services.context.primitives.StateView;
 import com.hedera.services.context.properties.GlobalDynamicProperties;
-import com.hedera.services.context.properties.NodeLocalProperties;
-import com.hedera.services.contracts.execution.CallLocalEvmTxProcessor;
-import com.hedera.services.contracts.execution.CallLocalExecutor;
+import com.hedera.services.contracts.execution.LocalCallExecutionService;
 import com.hedera.services.contracts.execution.StaticBlockMetaProvider;
 import com.hedera.services.ledger.accounts.AliasManager;
-import com.hedera.services.ledger.ids.EntityIdSource;
 import com.hedera.services.queries.AbstractAnswer;
-import com.hedera.services.store.AccountStore;
-import com.hedera.services.store.contracts.CodeCache;
 import com.hedera.services.store.contracts.EntityAccess;
-import com.hedera.services.store.contracts.HederaWorldState;
-import com.hedera.services.store.contracts.StaticEntityAccess;
 import com.hedera.services.txns.validation.OptionValidator;
 import com.hedera.services.utils.EntityIdUtils;
 import com.hederahashgraph.api.proto.java.ContractCallLocalQuery;
@@ -62,25 +55,16 @@ public class ContractCallLocalAnswer extends AbstractAnswer {
     public static final String CONTRACT_CALL_LOCAL_CTX_KEY =
             ContractCallLocalAnswer.class.getSimpleName() + "_localCallResponse";
 
-    private final AccountStore accountStore;
-    private final AliasManager aliasManager;
-    private final EntityIdSource ids;
-    private final OptionValidator validator;
-    private final GlobalDynamicProperties dynamicProperties;
-    private final NodeLocalProperties nodeProperties;
-    private final CallLocalEvmTxProcessor evmTxProcessor;
+    private final LocalCallExecutionService localCallExecution;
     private final StaticBlockMetaProvider blockMetaProvider;
 
     @Inject
     public ContractCallLocalAnswer(
-            final EntityIdSource ids,
             final AliasManager aliasManager,
-            final AccountStore accountStore,
             final OptionValidator validator,
             final EntityAccess entityAccess,
             final GlobalDynamicProperties dynamicProperties,
-            final NodeLocalProperties nodeProperties,
-            final CallLocalEvmTxProcessor evmTxProcessor,
+            final LocalCallExecutionService localCallExecution,
             final StaticBlockMetaProvider blockMetaProvider) {
         super(
                 ContractCallLocal,
@@ -107,13 +91,7 @@ public class ContractCallLocalAnswer extends AbstractAnswer {
                     }
                 });
 
-        this.ids = ids;
-        this.validator = validator;
-        this.aliasManager = aliasManager;
-        this.accountStore = accountStore;
-        this.dynamicProperties = dynamicProperties;
-        this.nodeProperties = nodeProperties;
-        this.evmTxProcessor = evmTxProcessor;
+        this.localCallExecution = localCallExecution;
         this.blockMetaProvider = blockMetaProvider;
     }
 
@@ -183,17 +161,9 @@ public class ContractCallLocalAnswer extends AbstractAnswer {
                     // Should happen rarely if ever, but signal clients they can retry
                     response.setHeader(answerOnlyHeader(BUSY, cost));
                 } else {
-                    final var entityAccess =
-                            new StaticEntityAccess(
-                                    Objects.requireNonNull(view), aliasManager, validator);
-                    final var codeCache = new CodeCache(nodeProperties, entityAccess);
-                    final var worldState =
-                            new HederaWorldState(ids, entityAccess, codeCache, dynamicProperties);
-                    evmTxProcessor.setWorldState(worldState);
-                    evmTxProcessor.setBlockMetaSource(blockMetaSource.get());
                     final var opResponse =
-                            CallLocalExecutor.execute(
-                                    accountStore, evmTxProcessor, op, aliasManager, entityAccess);
+                            localCallExecution.execute(
+                                    op, Objects.requireNonNull(view), blockMetaSource.get());
                     response.mergeFrom(withCid(opResponse, op.getContractID()));
                 }
             } catch (Exception e) {
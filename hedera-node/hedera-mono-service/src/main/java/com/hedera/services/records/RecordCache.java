@@ -31,6 +31,7 @@ import com.hederahashgraph.api.proto.java.TransactionRecord;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -65,6 +66,18 @@ public class RecordCache {
         timedReceiptCache.put(txnId, Boolean.TRUE);
     }
 
+    public void addPreConsensus(final List<TransactionID> txnIds) {
+        if (txnIds.size() == 1) {
+            addPreConsensus(txnIds.get(0));
+            return;
+        }
+        final Map<TransactionID, Boolean> markers = new HashMap<>(txnIds.size() * 2);
+        for (final var txnId : txnIds) {
+            markers.put(txnId, Boolean.TRUE);
+        }
+        timedReceiptCache.putAll(markers);
+    }
+
     void setPostConsensus(
             final TransactionID txnId,
             final ResponseCodeEnum status,
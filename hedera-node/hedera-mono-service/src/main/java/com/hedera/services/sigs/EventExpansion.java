@@ -15,51 +15,105 @@
  */
 package com.hedera.services.sigs;
 
+import static com.hedera.services.stats.FunctionalityLatencies.Stage.PRE_HANDLE;
+import static com.hedera.services.stats.FunctionalityLatencies.Stage.SIG_EXPANSION;
+import static com.swirlds.common.crypto.SignatureType.ECDSA_SECP256K1;
+import static com.swirlds.common.crypto.SignatureType.ED25519;
+
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.services.ServicesState;
 import com.hedera.services.sigs.order.SigReqsManager;
+import com.hedera.services.sigs.verification.VerifiedSigsCache;
+import com.hedera.services.stats.FunctionalityLatencies;
+import com.hedera.services.stats.SigVerificationStats;
 import com.hedera.services.txns.prefetch.PrefetchProcessor;
 import com.hedera.services.txns.span.ExpandHandleSpan;
 import com.swirlds.common.crypto.Cryptography;
+import com.swirlds.common.crypto.SignatureType;
+import com.swirlds.common.crypto.TransactionSignature;
 import com.swirlds.common.system.events.Event;
+import java.util.ArrayList;
+import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+/**
+ * Expands the signatures of every transaction in an event, and then submits them for asynchronous
+ * verification in one batch per key type. Since ECDSA(secp256k1) verification is much more
+ * expensive than Ed25519, its batch is submitted first so it is never queued behind a long run of
+ * cheap Ed25519 work from the same event.
+ *
+ * <p>For events created by this node, any signature already verified at ingest is resolved from
+ * the {@link VerifiedSigsCache} instead of being submitted again; signatures in events from other
+ * nodes are always verified.
+ */
 @Singleton
 public class EventExpansion {
     private static final Logger log = LogManager.getLogger(EventExpansion.class);
 
+    private final long selfId;
     private final Cryptography engine;
     private final SigReqsManager sigReqsManager;
     private final ExpandHandleSpan expandHandleSpan;
     private final PrefetchProcessor prefetchProcessor;
+    private final SigVerificationStats sigVerificationStats;
+    private final VerifiedSigsCache verifiedSigsCache;
+    private final FunctionalityLatencies functionalityLatencies;
 
     @Inject
     public EventExpansion(
+            final long selfId,
             final Cryptography engine,
             final SigReqsManager sigReqsManager,
             final ExpandHandleSpan expandHandleSpan,
-            final PrefetchProcessor prefetchProcessor) {
+            final PrefetchProcessor prefetchProcessor,
+            final SigVerificationStats sigVerificationStats,
+            final VerifiedSigsCache verifiedSigsCache,
+            final FunctionalityLatencies functionalityLatencies) {
+        this.selfId = selfId;
         this.engine = engine;
         this.sigReqsManager = sigReqsManager;
         this.expandHandleSpan = expandHandleSpan;
         this.prefetchProcessor = prefetchProcessor;
+        this.sigVerificationStats = sigVerificationStats;
+        this.verifiedSigsCache = verifiedSigsCache;
+        this.functionalityLatencies = functionalityLatencies;
     }
 
     public void expandAllSigs(final Event event, final ServicesState sourceState) {
+        final List<TransactionSignature> ed25519Sigs = new ArrayList<>();
+        final List<TransactionSignature> ecdsaSigs = new ArrayList<>();
+        final var isSelfCreated = event.getCreatorId() == selfId;
         event.forEachTransaction(
                 txn -> {
                     try {
+                        final var start = System.nanoTime();
                         final var accessor = expandHandleSpan.track(txn);
                         // Submit the transaction for any pre-handle processing that can be
                         // performed asynchronously; for
                         // example, pre-fetching of contract bytecode; should start before
                         // synchronous signature expansion
                         prefetchProcessor.submit(accessor);
+                        final var expansionStart = System.nanoTime();
                         sigReqsManager.expandSigs(sourceState, accessor);
-                        engine.verifyAsync(txn.getSignatures());
+                        final var expansionEnd = System.nanoTime();
+                        for (final var sig : txn.getSignatures()) {
+                            if (isSelfCreated && verifiedSigsCache.tryToResolve(sig)) {
+                                continue;
+                            }
+                            if (sig.getSignatureType() == ECDSA_SECP256K1) {
+                                ecdsaSigs.add(sig);
+                            } else {
+                                ed25519Sigs.add(sig);
+                            }
+                        }
+                        final var function = accessor.getFunction();
+                        functionalityLatencies.record(
+                                SIG_EXPANSION, function, expansionEnd - expansionStart);
+                        functionalityLatencies.record(
+                                PRE_HANDLE, function, System.nanoTime() - start);
                     } catch (final InvalidProtocolBufferException e) {
                         log.warn("Event contained a non-GRPC transaction", e);
                     } catch (final Exception race) {
@@ -69,5 +123,25 @@ public class EventExpansion {
                                 race);
                     }
                 });
+        submitForVerification(ECDSA_SECP256K1, ecdsaSigs);
+        submitForVerification(ED25519, ed25519Sigs);
+    }
+
+    private void submitForVerification(
+            final SignatureType type, final List<TransactionSignature> sigs) {
+        if (sigs.isEmpty()) {
+            return;
+        }
+        try {
+            engine.verifyAsync(sigs);
+            sigVerificationStats.recordSubmitted(type, sigs.size());
+        } catch (final Exception race) {
+            log.warn(
+                    "Unable to submit {} {} signature(s) for async verification, will be verified"
+                            + " synchronously in handleTransaction",
+                    sigs.size(),
+                    type,
+                    race);
+        }
     }
 }
@@ -32,6 +32,7 @@ import com.hedera.services.sigs.order.SignatureWaivers;
 import com.hedera.services.sigs.utils.PrecheckUtils;
 import com.hedera.services.sigs.verification.SyncVerifier;
 import com.hedera.services.state.logic.PayerSigValidity;
+import com.hedera.services.stats.SigVerificationStats;
 import com.hederahashgraph.api.proto.java.TransactionBody;
 import com.swirlds.common.crypto.TransactionSignature;
 import com.swirlds.common.system.Platform;
@@ -60,8 +61,9 @@ public interface SigsModule {
 
     @Provides
     @Singleton
-    static BiPredicate<JKey, TransactionSignature> provideValidityTest() {
-        return new OnlyIfSigVerifiableValid();
+    static BiPredicate<JKey, TransactionSignature> provideValidityTest(
+            final SigVerificationStats sigVerificationStats) {
+        return new OnlyIfSigVerifiableValid(sigVerificationStats);
     }
 
     @Provides
@@ -39,17 +39,24 @@ import javax.inject.Singleton;
  *       referenced accounts.
  * </ul>
  *
- * Note that this component verifies cryptographic signatures synchronously.
+ * Note that this component verifies cryptographic signatures synchronously; and remembers the
+ * results in a {@link VerifiedSigsCache} so they need not be re-verified if this node later puts
+ * the same transaction in one of its own events.
  */
 @Singleton
 public class PrecheckVerifier {
     private final SyncVerifier syncVerifier;
     private final PrecheckKeyReqs precheckKeyReqs;
+    private final VerifiedSigsCache verifiedSigsCache;
 
     @Inject
-    public PrecheckVerifier(SyncVerifier syncVerifier, PrecheckKeyReqs precheckKeyReqs) {
+    public PrecheckVerifier(
+            final SyncVerifier syncVerifier,
+            final PrecheckKeyReqs precheckKeyReqs,
+            final VerifiedSigsCache verifiedSigsCache) {
         this.syncVerifier = syncVerifier;
         this.precheckKeyReqs = precheckKeyReqs;
+        this.verifiedSigsCache = verifiedSigsCache;
     }
 
     /**
@@ -65,6 +72,7 @@ public class PrecheckVerifier {
             final var reqKeys = precheckKeyReqs.getRequiredKeys(accessor.getTxn());
             final var availSigs = getAvailSigs(reqKeys, accessor);
             syncVerifier.verifySync(availSigs);
+            verifiedSigsCache.recordAll(availSigs);
             final var sigsFn = pkToSigMapFrom(availSigs);
             for (final var key : reqKeys) {
                 if (!isActive(key, sigsFn, ONLY_IF_SIG_IS_VALID)) {
@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.sigs.verification;
+
+import static com.swirlds.common.crypto.VerificationStatus.INVALID;
+import static com.swirlds.common.crypto.VerificationStatus.VALID;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
+import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.evm.store.contracts.utils.BytesKey;
+import com.swirlds.common.crypto.TransactionSignature;
+import com.swirlds.common.crypto.VerificationStatus;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Remembers the outcome of signatures this node verified synchronously at ingest, so that when the
+ * same signatures come back in an event created by this node, pre-handle can reuse the verdict
+ * instead of submitting them to the platform {@code Cryptography} engine again.
+ *
+ * <p>Entries are keyed by a SHA-384 digest of the signature type, the expanded public key, the
+ * signature, and the signed message; so a hit returns exactly the status a fresh verification
+ * would produce. Only {@code VALID} and {@code INVALID} outcomes are cached. A non-positive {@code
+ * hedera.sigs.maxCachedVerifications} disables the cache.
+ */
+@Singleton
+public class VerifiedSigsCache {
+    private static final String SHA_384 = "SHA-384";
+    private static final ThreadLocal<MessageDigest> THREAD_DIGESTS =
+            ThreadLocal.withInitial(VerifiedSigsCache::newDigest);
+
+    private final Cache<BytesKey, VerificationStatus> verified;
+
+    @Inject
+    public VerifiedSigsCache(final NodeLocalProperties nodeLocalProperties) {
+        this(nodeLocalProperties.sigsMaxCachedVerifications());
+    }
+
+    @VisibleForTesting
+    VerifiedSigsCache(final int maxCachedVerifications) {
+        this.verified =
+                maxCachedVerifications > 0
+                        ? Caffeine.newBuilder().maximumSize(maxCachedVerifications).build()
+                        : null;
+    }
+
+    /**
+     * Records the status of every given signature whose verification has completed.
+     *
+     * @param sigs the signatures just verified
+     */
+    public void recordAll(final List<TransactionSignature> sigs) {
+        if (verified == null) {
+            return;
+        }
+        for (final var sig : sigs) {
+            final var status = sig.getSignatureStatus();
+            if (status == VALID || status == INVALID) {
+                verified.put(keyFor(sig), status);
+            }
+        }
+    }
+
+    /**
+     * If the given signature was already verified by this node, sets its status to the remembered
+     * result so it does not need to be verified again.
+     *
+     * @param sig the signature to try to resolve
+     * @return whether the signature now has a known status
+     */
+    public boolean tryToResolve(final TransactionSignature sig) {
+        if (verified == null) {
+            return false;
+        }
+        final var status = verified.getIfPresent(keyFor(sig));
+        if (status == null) {
+            return false;
+        }
+        sig.setSignatureStatus(status);
+        return true;
+    }
+
+    static BytesKey keyFor(final TransactionSignature sig) {
+        final var digest = THREAD_DIGESTS.get();
+        final var contents = sig.getContentsDirect();
+        final var pk = sig.getExpandedPublicKeyDirect();
+        final var sigLength = sig.getSignatureLength();
+        digest.update((byte) sig.getSignatureType().ordinal());
+        digest.update((byte) pk.length);
+        digest.update(pk);
+        digest.update((byte) sigLength);
+        digest.update(contents, sig.getSignatureOffset(), sigLength);
+        digest.update(contents, sig.getMessageOffset(), sig.getMessageLength());
+        return new BytesKey(digest.digest());
+    }
+
+    @VisibleForTesting
+    long cachedVerifications() {
+        return verified == null ? 0 : verified.estimatedSize();
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(SHA_384);
+        } catch (NoSuchAlgorithmException fatal) {
+            throw new IllegalStateException(fatal);
+        }
+    }
+}
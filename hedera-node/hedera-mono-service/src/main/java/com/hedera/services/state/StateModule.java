@@ -50,6 +50,7 @@ import com.hedera.services.state.merkle.MerkleStakingInfo;
 import com.hedera.services.state.merkle.MerkleToken;
 import com.hedera.services.state.merkle.MerkleTopic;
 import com.hedera.services.state.migration.AccountStorageAdapter;
+import com.hedera.services.state.migration.EntityStorageAdapter;
 import com.hedera.services.state.migration.RecordsStorageAdapter;
 import com.hedera.services.state.migration.TokenRelStorageAdapter;
 import com.hedera.services.state.migration.UniqueTokenMapAdapter;
@@ -64,6 +65,7 @@ import com.hedera.services.state.virtual.VirtualBlobValue;
 import com.hedera.services.state.virtual.VirtualMapFactory;
 import com.hedera.services.store.schedule.ScheduleStore;
 import com.hedera.services.stream.RecordsRunningHashLeaf;
+import com.hedera.services.txns.span.EthTxSigsCache;
 import com.hedera.services.utils.EntityNum;
 import com.hedera.services.utils.JvmSystemExits;
 import com.hedera.services.utils.NamedDigestFactory;
@@ -119,6 +121,10 @@ public interface StateModule {
     @Singleton
     SystemExits bindSystemExits(JvmSystemExits systemExits);
 
+    @Binds
+    @Singleton
+    Function<EthTxData, EthTxSigs> bindSigsFunction(EthTxSigsCache ethTxSigsCache);
+
     @Binds
     @Singleton
     ReconnectCompleteListener bindReconnectListener(ReconnectListener reconnectListener);
@@ -194,12 +200,6 @@ public interface StateModule {
         return NotificationFactory::getEngine;
     }
 
-    @Provides
-    @Singleton
-    static Function<EthTxData, EthTxSigs> provideSigsFunction() {
-        return EthTxSigs::extractSignatures;
-    }
-
     @Provides
     @Singleton
     static Optional<PrintStream> providePrintStream(
@@ -273,14 +273,14 @@ public interface StateModule {
 
     @Provides
     @Singleton
-    static Supplier<MerkleMap<EntityNum, MerkleTopic>> provideWorkingTopics(
+    static Supplier<EntityStorageAdapter<MerkleTopic>> provideWorkingTopics(
             final MutableStateChildren workingState) {
         return workingState::topics;
     }
 
     @Provides
     @Singleton
-    static Supplier<MerkleMap<EntityNum, MerkleToken>> provideWorkingTokens(
+    static Supplier<EntityStorageAdapter<MerkleToken>> provideWorkingTokens(
             final MutableStateChildren workingState) {
         return workingState::tokens;
     }
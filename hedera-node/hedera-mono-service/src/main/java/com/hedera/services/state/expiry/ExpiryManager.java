@@ -26,7 +26,6 @@ import com.hedera.services.state.submerkle.ExpirableTxnRecord;
 import com.hedera.services.utils.EntityNum;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.TransactionID;
-import com.swirlds.fcqueue.FCQueue;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -153,22 +152,18 @@ public class ExpiryManager {
         final var curPayerRecords = payerRecords.get();
         while (payerRecordExpiries.hasExpiringAt(now)) {
             final var key = EntityNum.fromLong(payerRecordExpiries.expireNextAt(now));
-            final var mutableRecords = curPayerRecords.getMutablePayerRecords(key);
-            purgeExpiredFrom(mutableRecords, now);
+            curPayerRecords.purgeExpiredRecords(
+                    key, now, expiredRecord -> forgetHistoryOf(expiredRecord, now));
         }
     }
 
-    private void purgeExpiredFrom(final FCQueue<ExpirableTxnRecord> records, final long now) {
-        ExpirableTxnRecord nextRecord;
-        while ((nextRecord = records.peek()) != null && nextRecord.getExpiry() <= now) {
-            nextRecord = records.poll();
-            final var txnId = nextRecord.getTxnId().toGrpc();
-            final var history = txnHistories.get(txnId);
-            if (history != null) {
-                history.forgetExpiredAt(now);
-                if (history.isForgotten()) {
-                    txnHistories.remove(txnId);
-                }
+    private void forgetHistoryOf(final ExpirableTxnRecord expiredRecord, final long now) {
+        final var txnId = expiredRecord.getTxnId().toGrpc();
+        final var history = txnHistories.get(txnId);
+        if (history != null) {
+            history.forgetExpiredAt(now);
+            if (history.isForgotten()) {
+                txnHistories.remove(txnId);
             }
         }
     }
@@ -184,7 +179,7 @@ public class ExpiryManager {
 
     private void stageExpiringRecords(
             final Long num,
-            final FCQueue<ExpirableTxnRecord> records,
+            final Iterable<ExpirableTxnRecord> records,
             final List<Map.Entry<Long, Long>> expiries) {
         long lastAdded = -1;
         for (final var expirableTxnRecord : records) {
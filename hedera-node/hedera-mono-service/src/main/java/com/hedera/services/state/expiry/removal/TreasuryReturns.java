@@ -28,6 +28,7 @@ import com.hedera.services.state.enums.TokenType;
 import com.hedera.services.state.expiry.TokenRelsListMutation;
 import com.hedera.services.state.expiry.classification.EntityLookup;
 import com.hedera.services.state.merkle.MerkleToken;
+import com.hedera.services.state.migration.EntityStorageAdapter;
 import com.hedera.services.state.migration.HederaAccount;
 import com.hedera.services.state.migration.TokenRelStorageAdapter;
 import com.hedera.services.state.migration.UniqueTokenMapAdapter;
@@ -39,7 +40,6 @@ import com.hedera.services.throttling.MapAccessType;
 import com.hedera.services.utils.EntityNum;
 import com.hedera.services.utils.EntityNumPair;
 import com.hedera.services.utils.MapValueListUtils;
-import com.swirlds.merkle.map.MerkleMap;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Supplier;
@@ -73,7 +73,7 @@ public class TreasuryReturns {
     static final List<MapAccessType> TREASURY_BALANCE_INCREMENT =
             List.of(ACCOUNTS_GET, TOKEN_ASSOCIATIONS_GET_FOR_MODIFY);
 
-    private final Supplier<MerkleMap<EntityNum, MerkleToken>> tokens;
+    private final Supplier<EntityStorageAdapter<MerkleToken>> tokens;
     private final Supplier<UniqueTokenMapAdapter> nfts;
     private final Supplier<TokenRelStorageAdapter> tokenRels;
 
@@ -86,7 +86,7 @@ public class TreasuryReturns {
     @Inject
     public TreasuryReturns(
             final EntityLookup entityLookup,
-            final Supplier<MerkleMap<EntityNum, MerkleToken>> tokens,
+            final Supplier<EntityStorageAdapter<MerkleToken>> tokens,
             final Supplier<UniqueTokenMapAdapter> nfts,
             final Supplier<TokenRelStorageAdapter> tokenRels,
             final ExpiryThrottle expiryThrottle,
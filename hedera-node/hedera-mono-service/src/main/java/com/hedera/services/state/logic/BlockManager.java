@@ -58,6 +58,8 @@ public class BlockManager {
     private boolean provisionalBlockIsNew = false;
     // The hash of the just-finished block if provisionalBlockIsNew == true; null otherwise
     @Nullable private org.hyperledger.besu.datatypes.Hash provisionalFinishedBlockHash;
+    // The block values most recently given to the EVM for the current transaction; null if none
+    @Nullable private HederaBlockValues provisionalBlockValues;
 
     @Inject
     public BlockManager(
@@ -78,6 +80,7 @@ public class BlockManager {
         provisionalBlockIsNew = false;
         provisionalBlockNo = UNKNOWN_BLOCK_NO;
         provisionalFinishedBlockHash = null;
+        provisionalBlockValues = null;
     }
 
     /**
@@ -128,13 +131,26 @@ public class BlockManager {
      */
     public HederaBlockValues computeBlockValues(@NotNull final Instant now, final long gasLimit) {
         ensureProvisionalBlockMeta(now);
+        if (provisionalBlockValues != null
+                && provisionalBlockValues.getGasLimit() == gasLimit
+                && (!provisionalBlockIsNew
+                        || provisionalBlockValues.getTimestamp() == now.getEpochSecond())) {
+            return provisionalBlockValues;
+        }
         if (provisionalBlockIsNew) {
-            return new HederaBlockValues(
-                    gasLimit, provisionalBlockNo, Instant.ofEpochSecond(now.getEpochSecond()));
+            provisionalBlockValues =
+                    new HederaBlockValues(
+                            gasLimit,
+                            provisionalBlockNo,
+                            Instant.ofEpochSecond(now.getEpochSecond()));
         } else {
-            return new HederaBlockValues(
-                    gasLimit, provisionalBlockNo, networkCtx.get().firstConsTimeOfCurrentBlock());
+            provisionalBlockValues =
+                    new HederaBlockValues(
+                            gasLimit,
+                            provisionalBlockNo,
+                            networkCtx.get().firstConsTimeOfCurrentBlock());
         }
+        return provisionalBlockValues;
     }
 
     /**
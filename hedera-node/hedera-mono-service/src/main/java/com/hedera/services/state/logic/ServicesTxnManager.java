@@ -15,6 +15,7 @@
  */
 package com.hedera.services.state.logic;
 
+import static com.hedera.services.stats.FunctionalityLatencies.Stage.RECORD_STREAM_HANDOFF;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.FAIL_INVALID;
 
 import com.hedera.services.context.TransactionContext;
@@ -26,6 +27,7 @@ import com.hedera.services.records.RecordsHistorian;
 import com.hedera.services.state.annotations.RunTopLevelTransition;
 import com.hedera.services.state.annotations.RunTriggeredTransition;
 import com.hedera.services.state.migration.MigrationRecordsManager;
+import com.hedera.services.stats.FunctionalityLatencies;
 import com.hedera.services.utils.accessors.TxnAccessor;
 import java.time.Instant;
 import javax.inject.Inject;
@@ -51,6 +53,7 @@ public class ServicesTxnManager {
     private final RecordStreaming recordStreaming;
     private final BlockManager blockManager;
     private final RewardCalculator rewardCalculator;
+    private final FunctionalityLatencies functionalityLatencies;
 
     @Inject
     public ServicesTxnManager(
@@ -64,7 +67,8 @@ public class ServicesTxnManager {
             final MigrationRecordsManager migrationRecordsManager,
             final RecordStreaming recordStreaming,
             final BlockManager blockManager,
-            final RewardCalculator rewardCalculator) {
+            final RewardCalculator rewardCalculator,
+            final FunctionalityLatencies functionalityLatencies) {
         this.txnCtx = txnCtx;
         this.ledger = ledger;
         this.recordCache = recordCache;
@@ -76,6 +80,7 @@ public class ServicesTxnManager {
         this.scopedTriggeredProcessing = scopedTriggeredProcessing;
         this.blockManager = blockManager;
         this.rewardCalculator = rewardCalculator;
+        this.functionalityLatencies = functionalityLatencies;
     }
 
     private boolean needToPublishMigrationRecords = true;
@@ -116,14 +121,17 @@ public class ServicesTxnManager {
         } else {
             attemptCommit(accessor, consensusTime, submittingMember);
             if (createdStreamableRecord) {
-                attemptRecordStreaming();
+                attemptRecordStreaming(accessor);
             }
         }
     }
 
-    private void attemptRecordStreaming() {
+    private void attemptRecordStreaming(final TxnAccessor accessor) {
         try {
+            final var start = System.nanoTime();
             recordStreaming.streamUserTxnRecords();
+            functionalityLatencies.record(
+                    RECORD_STREAM_HANDOFF, accessor.getFunction(), System.nanoTime() - start);
         } catch (Exception e) {
             logContextualizedError(e, "record streaming");
         }
@@ -15,6 +15,7 @@
  */
 package com.hedera.services.state.logic;
 
+import static com.hedera.services.stats.FunctionalityLatencies.Stage.HANDLE;
 import static com.hedera.services.utils.Units.MIN_TRANS_TIMESTAMP_INCR_NANOS;
 
 import com.google.protobuf.InvalidProtocolBufferException;
@@ -25,10 +26,13 @@ import com.hedera.services.records.ConsensusTimeTracker;
 import com.hedera.services.state.expiry.EntityAutoExpiry;
 import com.hedera.services.state.expiry.ExpiryManager;
 import com.hedera.services.stats.ExecutionTimeTracker;
+import com.hedera.services.stats.FunctionalityLatencies;
+import com.hedera.services.stats.StateAccessProfiler;
 import com.hedera.services.txns.ProcessLogic;
 import com.hedera.services.txns.schedule.ScheduleProcessing;
 import com.hedera.services.txns.span.ExpandHandleSpan;
 import com.hedera.services.utils.accessors.TxnAccessor;
+import com.swirlds.common.system.Round;
 import com.swirlds.common.system.transaction.Transaction;
 import java.time.Instant;
 import javax.inject.Inject;
@@ -52,6 +56,8 @@ public class StandardProcessLogic implements ProcessLogic {
     private final StateView workingView;
     private final ScheduleProcessing scheduleProcessing;
     private final RecordStreaming recordStreaming;
+    private final FunctionalityLatencies functionalityLatencies;
+    private final StateAccessProfiler stateAccessProfiler;
 
     @Inject
     public StandardProcessLogic(
@@ -66,7 +72,9 @@ public class StandardProcessLogic implements ProcessLogic {
             final ScheduleProcessing scheduleProcessing,
             final ExecutionTimeTracker executionTimeTracker,
             final RecordStreaming recordStreaming,
-            final StateView workingView) {
+            final StateView workingView,
+            final FunctionalityLatencies functionalityLatencies,
+            final StateAccessProfiler stateAccessProfiler) {
         this.expiries = expiries;
         this.invariantChecks = invariantChecks;
         this.expandHandleSpan = expandHandleSpan;
@@ -79,6 +87,14 @@ public class StandardProcessLogic implements ProcessLogic {
         this.sigImpactHistorian = sigImpactHistorian;
         this.recordStreaming = recordStreaming;
         this.workingView = workingView;
+        this.functionalityLatencies = functionalityLatencies;
+        this.stateAccessProfiler = stateAccessProfiler;
+    }
+
+    @Override
+    public void incorporateConsensus(final Round round) {
+        ProcessLogic.super.incorporateConsensus(round);
+        stateAccessProfiler.summarizeRound();
     }
 
     @Override
@@ -159,14 +175,22 @@ public class StandardProcessLogic implements ProcessLogic {
     private void doProcess(
             final long submittingMember, final Instant consensusTime, final TxnAccessor accessor) {
         executionTimeTracker.start();
+        stateAccessProfiler.setActiveFunction(accessor.getFunction());
+        var start = System.nanoTime();
         txnManager.process(accessor, consensusTime, submittingMember);
+        functionalityLatencies.record(HANDLE, accessor.getFunction(), System.nanoTime() - start);
         final var triggeredAccessor = txnCtx.triggeredTxn();
         if (triggeredAccessor != null) {
+            stateAccessProfiler.setActiveFunction(triggeredAccessor.getFunction());
+            start = System.nanoTime();
             txnManager.process(
                     triggeredAccessor,
                     consensusTimeTracker.nextTransactionTime(false),
                     submittingMember);
+            functionalityLatencies.record(
+                    HANDLE, triggeredAccessor.getFunction(), System.nanoTime() - start);
         }
+        stateAccessProfiler.clearActiveFunction();
         executionTimeTracker.stop();
     }
 }
@@ -28,6 +28,7 @@ import static com.hedera.services.utils.Units.HBARS_TO_TINYBARS;
 import com.google.common.annotations.VisibleForTesting;
 import com.hedera.services.fees.congestion.MultiplierSources;
 import com.hedera.services.state.DualStateAccessor;
+import com.hedera.services.state.merkle.internals.BlockHashRing;
 import com.hedera.services.state.merkle.internals.BytesElement;
 import com.hedera.services.state.submerkle.ExchangeRates;
 import com.hedera.services.state.submerkle.RichInstant;
@@ -127,11 +128,19 @@ public class MerkleNetworkContext extends PartialMerkleLeaf implements MerkleLea
     private long blockNo = 0L;
     private Instant firstConsTimeOfCurrentBlock = null;
     private FCQueue<BytesElement> blockHashes = new FCQueue<>();
+    // Not part of state; shared by fast-copies, since it only ever grows with the chain
+    private BlockHashRing blockHashRing = new BlockHashRing(NUM_BLOCK_HASHES_TO_KEEP);
     private boolean stakingRewardsActivated;
     private long totalStakedRewardStart;
     private long totalStakedStart;
     private long pendingRewards;
 
+    // Once a context is immutable nothing it serializes can change (its sequence number, rates,
+    // and block hashes were all copied into the new mutable context); so the first time an
+    // immutable context is hashed or serialized, we keep the results to re-use every later time
+    @Nullable private volatile byte[] frozenNonHashData = null;
+    @Nullable private volatile Hash frozenHash = null;
+
     public MerkleNetworkContext() {
         // No-op for RuntimeConstructable facility; will be followed by a call to deserialize
     }
@@ -167,6 +176,7 @@ public class MerkleNetworkContext extends PartialMerkleLeaf implements MerkleLea
         this.firstConsTimeOfCurrentBlock = that.firstConsTimeOfCurrentBlock;
         this.blockNo = that.blockNo;
         this.blockHashes = that.blockHashes.copy();
+        this.blockHashRing = that.blockHashRing;
         this.stakingRewardsActivated = that.stakingRewardsActivated;
         this.totalStakedRewardStart = that.totalStakedRewardStart;
         this.totalStakedStart = that.totalStakedStart;
@@ -226,6 +236,7 @@ public class MerkleNetworkContext extends PartialMerkleLeaf implements MerkleLea
                     () -> CommonUtils.hex(knownBlockValues.hash()));
         } else {
             blockNo = knownBlockValues.number() + (blockHashes.size() - matchIndex);
+            blockHashRing = new BlockHashRing(NUM_BLOCK_HASHES_TO_KEEP);
             log.info(
                     "Renumbered {} trailing block hashes given '0x{}@{}'",
                     blockHashes::size,
@@ -322,6 +333,7 @@ public class MerkleNetworkContext extends PartialMerkleLeaf implements MerkleLea
             blockHashes.poll();
         }
         blockHashes.add(new BytesElement(ethHash.toArrayUnsafe()));
+        blockHashRing.put(blockNo, ethHash);
         blockNo++;
         firstConsTimeOfCurrentBlock = firstConsTimeOfNewBlock;
         return blockNo;
@@ -394,6 +406,7 @@ public class MerkleNetworkContext extends PartialMerkleLeaf implements MerkleLea
             }
             blockHashes.clear();
             in.readSerializable(true, () -> blockHashes);
+            blockHashRing = new BlockHashRing(NUM_BLOCK_HASHES_TO_KEEP);
         }
     }
 
@@ -484,7 +497,11 @@ public class MerkleNetworkContext extends PartialMerkleLeaf implements MerkleLea
 
     @Override
     public void serialize(final SerializableDataOutputStream out) throws IOException {
-        serializeNonHashData(out);
+        if (isImmutable()) {
+            out.write(nonHashDataBytes());
+        } else {
+            serializeNonHashData(out);
+        }
         out.writeSerializable(blockHashes, true);
     }
 
@@ -505,9 +522,17 @@ public class MerkleNetworkContext extends PartialMerkleLeaf implements MerkleLea
 
     @Override
     public Hash getHash() {
+        if (frozenHash != null) {
+            return frozenHash;
+        }
+        final var isFrozen = isImmutable();
         final var baos = new ByteArrayOutputStream();
         try (final var out = new SerializableDataOutputStream(baos)) {
-            serializeNonHashData(out);
+            if (isFrozen) {
+                out.write(nonHashDataBytes());
+            } else {
+                serializeNonHashData(out);
+            }
             out.write(blockHashes.getHash().getValue());
             out.writeLong(totalStakedRewardStart);
             out.writeLong(totalStakedStart);
@@ -515,7 +540,22 @@ public class MerkleNetworkContext extends PartialMerkleLeaf implements MerkleLea
             log.error("Hash computation failed", e);
             return EMPTY_HASH;
         }
-        return new Hash(noThrowSha384HashOf(baos.toByteArray()), DigestType.SHA_384);
+        final var hash = new Hash(noThrowSha384HashOf(baos.toByteArray()), DigestType.SHA_384);
+        if (isFrozen) {
+            frozenHash = hash;
+        }
+        return hash;
+    }
+
+    private byte[] nonHashDataBytes() throws IOException {
+        if (frozenNonHashData == null) {
+            final var baos = new ByteArrayOutputStream();
+            try (final var out = new SerializableDataOutputStream(baos)) {
+                serializeNonHashData(out);
+            }
+            frozenNonHashData = baos.toByteArray();
+        }
+        return frozenNonHashData;
     }
 
     @Override
@@ -590,14 +630,21 @@ public class MerkleNetworkContext extends PartialMerkleLeaf implements MerkleLea
         if (reqBlockNo < firstAvailable || reqBlockNo >= blockNo) {
             return UNAVAILABLE_BLOCK_HASH;
         } else {
+            final var ringHash = blockHashRing.get(reqBlockNo);
+            if (ringHash != null) {
+                return ringHash;
+            }
             // Oldest block hash at the head of the queue (next to "roll off" the queue);
             // so iterate in reverse assuming recent blocks are of greater interest
             final var hashIter = blockHashes.reverseIterator();
             for (int i = 0, n = (int) (blockNo - 1 - reqBlockNo); i < n; i++) {
                 hashIter.next();
             }
-            return org.hyperledger.besu.datatypes.Hash.wrap(
-                    Bytes32.wrap(hashIter.next().getData()));
+            final var hash =
+                    org.hyperledger.besu.datatypes.Hash.wrap(
+                            Bytes32.wrap(hashIter.next().getData()));
+            blockHashRing.put(reqBlockNo, hash);
+            return hash;
         }
     }
 
@@ -884,14 +931,17 @@ public class MerkleNetworkContext extends PartialMerkleLeaf implements MerkleLea
     }
 
     public void setPendingRewards(final long pendingRewards) {
+        throwIfImmutable("Cannot set pending rewards on an immutable context");
         this.pendingRewards = pendingRewards;
     }
 
     public void increasePendingRewards(final long amount) {
+        throwIfImmutable("Cannot increase pending rewards on an immutable context");
         safeUpdatePendingRewards(amount, +1);
     }
 
     public void decreasePendingRewards(final long amount) {
+        throwIfImmutable("Cannot decrease pending rewards on an immutable context");
         safeUpdatePendingRewards(amount, -1);
     }
 
@@ -958,10 +1008,12 @@ public class MerkleNetworkContext extends PartialMerkleLeaf implements MerkleLea
     }
 
     public void markMigrationRecordsStreamed() {
+        throwIfImmutable("Cannot mark migration records streamed on an immutable context");
         this.migrationRecordsStreamed = true;
     }
 
     public void markMigrationRecordsNotYetStreamed() {
+        throwIfImmutable("Cannot mark migration records not streamed on an immutable context");
         this.migrationRecordsStreamed = false;
     }
 
@@ -996,6 +1048,7 @@ public class MerkleNetworkContext extends PartialMerkleLeaf implements MerkleLea
     }
 
     public void setEvmCongestionLevelStarts(Instant[] evmCongestionLevelStarts) {
+        throwIfImmutable("Cannot set EVM congestion starts on an immutable context");
         this.evmCongestionLevelStarts = evmCongestionLevelStarts;
     }
 
@@ -1012,10 +1065,12 @@ public class MerkleNetworkContext extends PartialMerkleLeaf implements MerkleLea
     }
 
     public void setMidnightRates(ExchangeRates midnightRates) {
+        throwIfImmutable("Cannot set midnight rates on an immutable context");
         this.midnightRates = midnightRates;
     }
 
     public void setSeqNo(SequenceNumber seqNo) {
+        throwIfImmutable("Cannot set sequence number on an immutable context");
         this.seqNo = seqNo;
     }
 
@@ -1033,15 +1088,18 @@ public class MerkleNetworkContext extends PartialMerkleLeaf implements MerkleLea
     }
 
     public void setStakingRewardsActivated(boolean stakingRewardsActivated) {
+        throwIfImmutable("Cannot set staking rewards activation on an immutable context");
         this.stakingRewardsActivated = stakingRewardsActivated;
     }
 
     public void setGasThrottleUsageSnapshot(
             DeterministicThrottle.UsageSnapshot gasThrottleUsageSnapshot) {
+        throwIfImmutable("Cannot set gas throttle usage snapshot on an immutable context");
         this.gasThrottleUsageSnapshot = gasThrottleUsageSnapshot;
     }
 
     public void setMigrationRecordsStreamed(final boolean migrationRecordsStreamed) {
+        throwIfImmutable("Cannot set migration records streamed on an immutable context");
         this.migrationRecordsStreamed = migrationRecordsStreamed;
     }
 
@@ -1061,6 +1119,7 @@ public class MerkleNetworkContext extends PartialMerkleLeaf implements MerkleLea
 
     @VisibleForTesting
     public void setFirstConsTimeOfCurrentBlock(final Instant firstConsTimeOfCurrentBlock) {
+        throwIfImmutable("Cannot set block start time on an immutable context");
         this.firstConsTimeOfCurrentBlock = firstConsTimeOfCurrentBlock;
     }
 
@@ -1076,32 +1135,40 @@ public class MerkleNetworkContext extends PartialMerkleLeaf implements MerkleLea
 
     @VisibleForTesting
     public void setBlockNo(final long blockNo) {
+        throwIfImmutable("Cannot set block number on an immutable context");
         this.blockNo = blockNo;
+        this.blockHashRing = new BlockHashRing(NUM_BLOCK_HASHES_TO_KEEP);
     }
 
     @VisibleForTesting
     void setBlockHashes(final FCQueue<BytesElement> blockHashes) {
+        throwIfImmutable("Cannot set block hashes on an immutable context");
         this.blockHashes = blockHashes;
+        this.blockHashRing = new BlockHashRing(NUM_BLOCK_HASHES_TO_KEEP);
     }
 
     @VisibleForTesting
     public void setUsageSnapshots(final DeterministicThrottle.UsageSnapshot[] usageSnapshots) {
+        throwIfImmutable("Cannot set usage snapshots on an immutable context");
         this.usageSnapshots = usageSnapshots;
     }
 
     @VisibleForTesting
     public void setCongestionLevelStarts(final Instant[] congestionLevelStarts) {
+        throwIfImmutable("Cannot set congestion starts on an immutable context");
         this.congestionLevelStarts = congestionLevelStarts;
     }
 
     @VisibleForTesting
     public void setExpiryUsageSnapshot(
             final DeterministicThrottle.UsageSnapshot expiryUsageSnapshot) {
+        throwIfImmutable("Cannot set expiry usage snapshot on an immutable context");
         this.expiryUsageSnapshot = expiryUsageSnapshot;
     }
 
     @VisibleForTesting
     public void setSeqNoPostUpgrade(long seqNoPostUpgrade) {
+        throwIfImmutable("Cannot set post-upgrade sequence number on an immutable context");
         this.seqNoPostUpgrade = seqNoPostUpgrade;
     }
 }
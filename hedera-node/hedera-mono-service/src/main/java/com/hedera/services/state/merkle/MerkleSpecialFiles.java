@@ -36,10 +36,11 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -52,28 +53,37 @@ import org.apache.logging.log4j.Logger;
  * with a very naive implementation of the {@link MerkleNode#copy()} contract. Each copy keeps its
  * own map of file contents; and when a file's bytes change in the mutable copy, it updates that map
  * with a completely new {@code byte[]}.
+ *
+ * <p>Reads do not take this leaf's monitor once a file's contents have been concatenated; each copy
+ * caches an immutable view of every file it has served (its concatenated bytes and, on demand,
+ * their SHA-384 hash), and a mutation drops the view of the file it changes. Since copies never
+ * change, a view is valid for every copy it is shared with.
  */
 public class MerkleSpecialFiles extends PartialMerkleLeaf implements MerkleLeaf {
     private static final Logger log = LogManager.getLogger(MerkleSpecialFiles.class);
 
-    private static final byte[] NO_CONTENTS = new byte[0];
+    private static final FileView EMPTY_VIEW = new FileView(new byte[0]);
 
     public static final long CLASS_ID = 0x1608d4b49c28983aL;
     public static final int MEMCOPY_VERSION = 1;
     public static final int CURRENT_VERSION = 2;
 
-    private final Map<FileID, byte[]> hashCache;
+    private final Set<FileID> fileIds;
+    private final Map<FileID, FileView> views;
     private final Map<FileID, FCQueue<BytesElement>> fileContents;
 
     private static Supplier<ByteArrayOutputStream> baosSupplier = ByteArrayOutputStream::new;
 
     public MerkleSpecialFiles() {
-        this.hashCache = new LinkedHashMap<>();
+        this.fileIds = ConcurrentHashMap.newKeySet();
+        this.views = new ConcurrentHashMap<>();
         this.fileContents = new LinkedHashMap<>();
     }
 
     public MerkleSpecialFiles(MerkleSpecialFiles that) {
-        hashCache = new HashMap<>(that.hashCache);
+        fileIds = ConcurrentHashMap.newKeySet();
+        fileIds.addAll(that.fileIds);
+        views = new ConcurrentHashMap<>(that.views);
         fileContents = new LinkedHashMap<>();
         for (final var entry : that.getFileContents().entrySet()) {
             fileContents.put(entry.getKey(), entry.getValue().copy());
@@ -99,23 +109,33 @@ public class MerkleSpecialFiles extends PartialMerkleLeaf implements MerkleLeaf
      * @param sha384Hash the candidate hash
      * @return if the given file's contents match the given hash
      */
-    public synchronized boolean hashMatches(final FileID fid, final byte[] sha384Hash) {
-        if (!fileContents.containsKey(fid)) {
+    public boolean hashMatches(final FileID fid, final byte[] sha384Hash) {
+        if (!fileIds.contains(fid)) {
             return false;
         }
-        return Arrays.equals(sha384Hash, hashOfKnown(fid));
+        return Arrays.equals(sha384Hash, viewOf(fid).sha384Hash());
     }
 
     /**
-     * Gets the contents of the given file.
+     * Gets the contents of the given file. The returned array is shared with other readers of this
+     * file version and must not be modified.
      *
      * @param fid the id of the file to get
      * @return the file's contents
      */
-    public synchronized byte[] get(FileID fid) {
+    public byte[] get(FileID fid) {
+        return viewOf(fid).contents();
+    }
+
+    private FileView viewOf(final FileID fid) {
+        final var view = views.get(fid);
+        return (view != null) ? view : newViewOf(fid);
+    }
+
+    private synchronized FileView newViewOf(final FileID fid) {
         final var fileByParts = fileContents.get(fid);
         if (fileByParts == null) {
-            return NO_CONTENTS;
+            return EMPTY_VIEW;
         }
         final var baos = baosSupplier.get();
         for (final BytesElement part : fileByParts) {
@@ -126,7 +146,9 @@ public class MerkleSpecialFiles extends PartialMerkleLeaf implements MerkleLeaf
                 throw new UncheckedIOException(e);
             }
         }
-        return baos.toByteArray();
+        final var view = new FileView(baos.toByteArray());
+        views.put(fid, view);
+        return view;
     }
 
     /**
@@ -135,8 +157,8 @@ public class MerkleSpecialFiles extends PartialMerkleLeaf implements MerkleLeaf
      * @param fid the id of a file to check existence of
      * @return if the file exixts
      */
-    public synchronized boolean contains(FileID fid) {
-        return fileContents.containsKey(fid);
+    public boolean contains(FileID fid) {
+        return fileIds.contains(fid);
     }
 
     /**
@@ -154,7 +176,7 @@ public class MerkleSpecialFiles extends PartialMerkleLeaf implements MerkleLeaf
             return;
         }
         fileByParts.add(new BytesElement(extraContents));
-        hashCache.remove(fid);
+        views.remove(fid);
     }
 
     /**
@@ -166,7 +188,8 @@ public class MerkleSpecialFiles extends PartialMerkleLeaf implements MerkleLeaf
     public synchronized void update(FileID fid, byte[] newContents) {
         throwIfImmutable();
         fileContents.put(fid, newFcqWith(newContents));
-        hashCache.remove(fid);
+        fileIds.add(fid);
+        views.remove(fid);
     }
 
     /** {@inheritDoc} */
@@ -175,14 +198,16 @@ public class MerkleSpecialFiles extends PartialMerkleLeaf implements MerkleLeaf
             throws IOException {
         var numFiles = in.readInt();
         while (numFiles-- > 0) {
-            final var fidNum = in.readLong();
+            final var fid = STATIC_PROPERTIES.scopedFileWith(in.readLong());
             if (version == MEMCOPY_VERSION) {
                 final var contents = in.readByteArray(Integer.MAX_VALUE);
-                fileContents.put(STATIC_PROPERTIES.scopedFileWith(fidNum), newFcqWith(contents));
+                fileContents.put(fid, newFcqWith(contents));
             } else {
                 final FCQueue<BytesElement> fileByParts = in.readSerializable();
-                fileContents.put(STATIC_PROPERTIES.scopedFileWith(fidNum), fileByParts);
+                fileContents.put(fid, fileByParts);
             }
+            fileIds.add(fid);
+            views.remove(fid);
         }
     }
 
@@ -248,10 +273,27 @@ public class MerkleSpecialFiles extends PartialMerkleLeaf implements MerkleLeaf
         return Objects.hash(this.fileContents);
     }
 
-    private byte[] hashOfKnown(FileID fid) {
-        return hashCache.computeIfAbsent(
-                fid,
-                missingFid -> CryptoFactory.getInstance().digestSync(get(missingFid)).getValue());
+    /* The concatenated contents of one version of a file, with their lazily computed hash */
+    private static final class FileView {
+        private final byte[] contents;
+        private volatile byte[] sha384Hash;
+
+        private FileView(final byte[] contents) {
+            this.contents = contents;
+        }
+
+        private byte[] contents() {
+            return contents;
+        }
+
+        private byte[] sha384Hash() {
+            var hash = sha384Hash;
+            if (hash == null) {
+                hash = CryptoFactory.getInstance().digestSync(contents).getValue();
+                sha384Hash = hash;
+            }
+            return hash;
+        }
     }
 
     private FCQueue<BytesElement> newFcqWith(byte[] initialContents) {
@@ -265,8 +307,8 @@ public class MerkleSpecialFiles extends PartialMerkleLeaf implements MerkleLeaf
         return fileContents;
     }
 
-    public Map<FileID, byte[]> getHashCache() {
-        return hashCache;
+    boolean hasCachedView(final FileID fid) {
+        return views.containsKey(fid);
     }
 
     static void setBaosSupplier(Supplier<ByteArrayOutputStream> baosSupplier) {
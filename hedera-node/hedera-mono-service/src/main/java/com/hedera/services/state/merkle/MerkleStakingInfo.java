@@ -142,12 +142,7 @@ public class MerkleStakingInfo extends PartialMerkleLeaf implements Keyed<Entity
             final long maxPerHbarRate,
             final boolean requireMinStakeToReward) {
         assertMutableRewardSumHistory();
-        rewardSumHistory = Arrays.copyOf(rewardSumHistory, rewardSumHistory.length);
-        final var droppedRewardSum = rewardSumHistory[rewardSumHistory.length - 1];
-        for (int i = rewardSumHistory.length - 1; i > 0; i--) {
-            rewardSumHistory[i] = rewardSumHistory[i - 1] - droppedRewardSum;
-        }
-        rewardSumHistory[0] -= droppedRewardSum;
+        rewardSumHistory = shiftedRewardSumHistory(rewardSumHistory);
 
         long perHbarRateThisNode = 0;
         // If this node was "active"---i.e., node.numRoundsWithJudge / numRoundsInPeriod >=
@@ -179,7 +174,7 @@ public class MerkleStakingInfo extends PartialMerkleLeaf implements Keyed<Entity
         perHbarRateThisNode = Math.min(perHbarRateThisNode, maxPerHbarRate);
         rewardSumHistory[0] += perHbarRateThisNode;
 
-        log.info(
+        log.debug(
                 "   > Non-zero reward sum history is now {}",
                 () -> readableNonZeroHistory(rewardSumHistory));
         // reset the historyHash
@@ -189,9 +184,8 @@ public class MerkleStakingInfo extends PartialMerkleLeaf implements Keyed<Entity
 
     public void clearRewardSumHistory() {
         assertMutableRewardSumHistory();
-        rewardSumHistory = Arrays.copyOf(rewardSumHistory, rewardSumHistory.length);
-        // reset rewardSumHistory array.
-        Arrays.fill(rewardSumHistory, 0);
+        // reset rewardSumHistory array (a fresh one, since the old may be shared with a copy)
+        rewardSumHistory = new long[rewardSumHistory.length];
         // reset the historyHash
         historyHash = null;
     }
@@ -422,6 +416,26 @@ public class MerkleStakingInfo extends PartialMerkleLeaf implements Keyed<Entity
         out.writeLong(stake);
     }
 
+    /**
+     * Returns a new history with every reward sum shifted one period older and re-based on the
+     * dropped oldest sum, leaving a zero-delta slot for the current period. This is one forward
+     * pass from the old array into a fresh one, since the old array may still be shared with an
+     * immutable copy of this leaf.
+     *
+     * @param history the current reward sum history
+     * @return the shifted history
+     */
+    private static long[] shiftedRewardSumHistory(final long[] history) {
+        final var n = history.length;
+        final var droppedRewardSum = history[n - 1];
+        final var shifted = new long[n];
+        shifted[0] = history[0] - droppedRewardSum;
+        for (int i = 1; i < n; i++) {
+            shifted[i] = history[i - 1] - droppedRewardSum;
+        }
+        return shifted;
+    }
+
     private void ensureHistoryHashIsKnown() {
         if (historyHash == null) {
             historyHash = getHashBytes(rewardSumHistory);
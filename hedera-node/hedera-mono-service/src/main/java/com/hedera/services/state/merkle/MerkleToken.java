@@ -138,6 +138,62 @@ public class MerkleToken extends PartialMerkleLeaf implements Keyed<EntityNum>,
         this.number = number;
     }
 
+    /**
+     * Creates a mutable copy of the given token, leaving the given token unchanged (unlike {@link
+     * #copy()}, which also makes its source immutable).
+     *
+     * <p>The copy gets its own fee schedule list, but shares the keys, the treasury and auto-renew
+     * ids, and the individual fees with its source. This is safe because none of those are mutated
+     * in place once they are part of a token (fees are only finalized during token creation, and
+     * keys are duplicated before being flagged for scheduled signing); every setter here replaces
+     * the reference instead.
+     *
+     * @param that the token to copy
+     */
+    public MerkleToken(final MerkleToken that) {
+        this(
+                that.expiry,
+                that.totalSupply,
+                that.decimals,
+                that.symbol,
+                that.name,
+                that.accountsFrozenByDefault,
+                that.accountsKycGrantedByDefault,
+                that.treasury,
+                that.number);
+        setMemo(that.memo);
+        setDeleted(that.deleted);
+        setFeeSchedule(unmodifiableList(new ArrayList<>(that.feeSchedule)));
+        setAutoRenewPeriod(that.autoRenewPeriod);
+        setAutoRenewAccount(that.autoRenewAccount);
+        this.lastUsedSerialNumber = that.lastUsedSerialNumber;
+        setTokenType(that.tokenType);
+        setSupplyType(that.supplyType);
+        setMaxSupply(that.maxSupply);
+        setPaused(that.paused);
+        if (that.adminKey != UNUSED_KEY) {
+            setAdminKey(that.adminKey);
+        }
+        if (that.freezeKey != UNUSED_KEY) {
+            setFreezeKey(that.freezeKey);
+        }
+        if (that.kycKey != UNUSED_KEY) {
+            setKycKey(that.kycKey);
+        }
+        if (that.wipeKey != UNUSED_KEY) {
+            setWipeKey(that.wipeKey);
+        }
+        if (that.supplyKey != UNUSED_KEY) {
+            setSupplyKey(that.supplyKey);
+        }
+        if (that.feeScheduleKey != UNUSED_KEY) {
+            setFeeScheduleKey(that.feeScheduleKey);
+        }
+        if (that.pauseKey != UNUSED_KEY) {
+            setPauseKey(that.pauseKey);
+        }
+    }
+
     /* Object */
     @Override
     public boolean equals(Object o) {
@@ -338,49 +394,7 @@ public class MerkleToken extends PartialMerkleLeaf implements Keyed<EntityNum>,
     @Override
     public MerkleToken copy() {
         setImmutable(true);
-        var fc =
-                new MerkleToken(
-                        expiry,
-                        totalSupply,
-                        decimals,
-                        symbol,
-                        name,
-                        accountsFrozenByDefault,
-                        accountsKycGrantedByDefault,
-                        treasury,
-                        number);
-        fc.setMemo(memo);
-        fc.setDeleted(deleted);
-        fc.setFeeSchedule(feeSchedule);
-        fc.setAutoRenewPeriod(autoRenewPeriod);
-        fc.setAutoRenewAccount(autoRenewAccount);
-        fc.lastUsedSerialNumber = lastUsedSerialNumber;
-        fc.setTokenType(tokenType);
-        fc.setSupplyType(supplyType);
-        fc.setMaxSupply(maxSupply);
-        fc.setPaused(paused);
-        if (adminKey != UNUSED_KEY) {
-            fc.setAdminKey(adminKey);
-        }
-        if (freezeKey != UNUSED_KEY) {
-            fc.setFreezeKey(freezeKey);
-        }
-        if (kycKey != UNUSED_KEY) {
-            fc.setKycKey(kycKey);
-        }
-        if (wipeKey != UNUSED_KEY) {
-            fc.setWipeKey(wipeKey);
-        }
-        if (supplyKey != UNUSED_KEY) {
-            fc.setSupplyKey(supplyKey);
-        }
-        if (feeScheduleKey != UNUSED_KEY) {
-            fc.setFeeScheduleKey(feeScheduleKey);
-        }
-        if (pauseKey != UNUSED_KEY) {
-            fc.setPauseKey(pauseKey);
-        }
-        return fc;
+        return new MerkleToken(this);
     }
 
     /* --- Bean --- */
@@ -24,7 +24,7 @@ import static com.swirlds.common.utility.CommonUtils.hex;
 import com.google.common.base.MoreObjects;
 import com.hedera.services.legacy.core.jproto.JKey;
 import com.hedera.services.legacy.core.jproto.JKeyList;
-import com.hedera.services.legacy.proto.utils.CommonUtils;
+import com.hedera.services.state.merkle.internals.TopicRunningHashes;
 import com.hedera.services.state.serdes.TopicSerde;
 import com.hedera.services.state.submerkle.EntityId;
 import com.hedera.services.state.submerkle.RichInstant;
@@ -37,9 +37,7 @@ import com.swirlds.common.io.streams.SerializableDataOutputStream;
 import com.swirlds.common.merkle.MerkleLeaf;
 import com.swirlds.common.merkle.impl.PartialMerkleLeaf;
 import com.swirlds.common.merkle.utility.Keyed;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.ObjectOutputStream;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -69,6 +67,7 @@ import javax.annotation.Nullable;
 public final class MerkleTopic extends PartialMerkleLeaf implements Keyed<EntityNum>, MerkleLeaf {
     public static final int RUNNING_HASH_BYTE_ARRAY_SIZE = 48;
     public static final long RUNNING_HASH_VERSION = 3L;
+    private static final byte[] NO_MESSAGE = new byte[0];
 
     static final int RELEASE_0180_VERSION = 2;
 
@@ -247,45 +246,34 @@ public final class MerkleTopic extends PartialMerkleLeaf implements Keyed<Entity
      * @param message the message submitted to the topic
      * @param topicId the topic id to receive the message
      * @param consensusTimestamp the consensus timestamp
-     * @throws IOException when any component fails to write to a temporary stream for computing the
-     *     running hash
      */
     public void updateRunningHashAndSequenceNumber(
             final AccountID payer,
             @Nullable byte[] message,
             @Nullable TopicID topicId,
-            @Nullable Instant consensusTimestamp)
-            throws IOException {
+            @Nullable Instant consensusTimestamp) {
         throwIfImmutable(
                 "Cannot change this topic's running hash or sequence number if it's immutable.");
         if (null == message) {
-            message = new byte[0];
+            message = NO_MESSAGE;
         }
         if (null == topicId) {
-            topicId = TopicID.newBuilder().build();
+            topicId = TopicID.getDefaultInstance();
         }
         if (null == consensusTimestamp) {
-            consensusTimestamp = Instant.ofEpochSecond(0);
+            consensusTimestamp = Instant.EPOCH;
         }
 
-        var boas = new ByteArrayOutputStream();
-        try (var out = new ObjectOutputStream(boas)) {
-            out.writeObject(getRunningHash());
-            out.writeLong(RUNNING_HASH_VERSION);
-            out.writeLong(payer.getShardNum());
-            out.writeLong(payer.getRealmNum());
-            out.writeLong(payer.getAccountNum());
-            out.writeLong(topicId.getShardNum());
-            out.writeLong(topicId.getRealmNum());
-            out.writeLong(topicId.getTopicNum());
-            out.writeLong(consensusTimestamp.getEpochSecond());
-            out.writeInt(consensusTimestamp.getNano());
-            ++sequenceNumber;
-            out.writeLong(sequenceNumber);
-            out.writeObject(CommonUtils.noThrowSha384HashOf(message));
-            out.flush();
-            runningHash = CommonUtils.noThrowSha384HashOf(boas.toByteArray());
-        }
+        ++sequenceNumber;
+        runningHash =
+                TopicRunningHashes.nextRunningHash(
+                        getRunningHash(),
+                        RUNNING_HASH_VERSION,
+                        payer,
+                        topicId,
+                        consensusTimestamp,
+                        sequenceNumber,
+                        message);
     }
 
     @Override
@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.state.merkle.internals;
+
+import javax.annotation.Nullable;
+import org.hyperledger.besu.datatypes.Hash;
+
+/**
+ * A fixed-size, in-memory index from block number to block hash for the most recent blocks, used
+ * to answer {@code BLOCKHASH} lookups in constant time without walking (or allocating from) the
+ * block hash {@link com.swirlds.fcqueue.FCQueue} in the network context.
+ *
+ * <p>The ring is not part of state. Since a block number always identifies the same hash within
+ * one numbering of the chain, a ring can be shared by successive fast-copies of the network
+ * context; each slot holds an immutable entry with its own block number, so a reader either sees
+ * the entry for the number it asked for, or misses and falls back to the queue.
+ */
+public final class BlockHashRing {
+    private final Entry[] entries;
+    private final int mask;
+
+    private record Entry(long number, Hash hash) {}
+
+    public BlockHashRing(final int capacity) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity " + capacity + " is not a power of two");
+        }
+        this.entries = new Entry[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Returns the hash of the given block, if it is in the ring.
+     *
+     * @param number the block number
+     * @return its hash, or null if not present
+     */
+    @Nullable
+    public Hash get(final long number) {
+        final var entry = entries[slotOf(number)];
+        return (entry != null && entry.number == number) ? entry.hash : null;
+    }
+
+    /**
+     * Records the hash of the given block, evicting whatever block shared its slot.
+     *
+     * @param number the block number
+     * @param hash its hash
+     */
+    public void put(final long number, final Hash hash) {
+        entries[slotOf(number)] = new Entry(number, hash);
+    }
+
+    private int slotOf(final long number) {
+        return (int) (number & mask);
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.state.merkle.internals;
+
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.TopicID;
+import java.nio.ByteBuffer;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+
+/**
+ * Computes the next running hash of a consensus topic by feeding a {@link MessageDigest} the exact
+ * bytes a {@link java.io.ObjectOutputStream} produces for the legacy running hash layout,
+ *
+ * <pre>
+ *     writeObject(previousRunningHash)
+ *     writeLong(runningHashVersion)
+ *     writeLong(payerShard), writeLong(payerRealm), writeLong(payerNum)
+ *     writeLong(topicShard), writeLong(topicRealm), writeLong(topicNum)
+ *     writeLong(consensusSecond), writeInt(consensusNanos)
+ *     writeLong(sequenceNumber)
+ *     writeObject(sha384(message))
+ * </pre>
+ *
+ * <p>without the stream, its handle table, or any intermediate buffers. Each thread uses its own
+ * digest and scratch space, so the only allocation per message is the returned hash.
+ */
+public final class TopicRunningHashes {
+    private static final String SHA_384 = "SHA-384";
+    private static final int SHA_384_BYTES = 48;
+
+    /* STREAM_MAGIC and STREAM_VERSION */
+    private static final byte[] STREAM_HEADER = {(byte) 0xac, (byte) 0xed, 0x00, 0x05};
+    /* TC_ARRAY, then the inline class descriptor of byte[] (this is the first object written, so
+     * its descriptor gets handle 0x7e0000): TC_CLASSDESC, "[B", serialVersionUID, SC_SERIALIZABLE,
+     * no fields, TC_ENDBLOCKDATA, and TC_NULL for the super class */
+    private static final byte[] FIRST_BYTE_ARRAY_PREFIX = {
+        0x75, 0x72, 0x00, 0x02, 0x5b, 0x42, (byte) 0xac, (byte) 0xf3, 0x17, (byte) 0xf8, 0x06, 0x08,
+        0x54, (byte) 0xe0, 0x02, 0x00, 0x00, 0x78, 0x70
+    };
+    /* TC_ARRAY, then TC_REFERENCE to the byte[] class descriptor at handle 0x7e0000 */
+    private static final byte[] SECOND_BYTE_ARRAY_PREFIX = {0x75, 0x71, 0x00, 0x7e, 0x00, 0x00};
+    /* The primitives between the two arrays, flushed as a single TC_BLOCKDATA */
+    private static final int PRIMITIVE_BYTES = 9 * Long.BYTES + Integer.BYTES;
+    private static final byte TC_BLOCKDATA = 0x77;
+
+    private static final ThreadLocal<TopicRunningHashes> THREAD_DIGESTS =
+            ThreadLocal.withInitial(TopicRunningHashes::new);
+
+    private final MessageDigest digest;
+    private final byte[] messageHash = new byte[SHA_384_BYTES];
+    private final ByteBuffer scratch = ByteBuffer.allocate(2 + PRIMITIVE_BYTES);
+
+    private TopicRunningHashes() {
+        try {
+            digest = MessageDigest.getInstance(SHA_384);
+        } catch (NoSuchAlgorithmException fatal) {
+            throw new IllegalStateException(fatal);
+        }
+    }
+
+    /**
+     * Returns the running hash that follows the given one after the given message is submitted.
+     *
+     * @param previousRunningHash the topic's current running hash
+     * @param runningHashVersion the running hash version
+     * @param payer the payer of the submit message transaction
+     * @param topicId the topic receiving the message
+     * @param consensusTime the consensus time of the submission
+     * @param sequenceNumber the sequence number of the message
+     * @param message the message
+     * @return the next running hash
+     */
+    public static byte[] nextRunningHash(
+            final byte[] previousRunningHash,
+            final long runningHashVersion,
+            final AccountID payer,
+            final TopicID topicId,
+            final Instant consensusTime,
+            final long sequenceNumber,
+            final byte[] message) {
+        return THREAD_DIGESTS
+                .get()
+                .compute(
+                        previousRunningHash,
+                        runningHashVersion,
+                        payer,
+                        topicId,
+                        consensusTime,
+                        sequenceNumber,
+                        message);
+    }
+
+    private byte[] compute(
+            final byte[] previousRunningHash,
+            final long runningHashVersion,
+            final AccountID payer,
+            final TopicID topicId,
+            final Instant consensusTime,
+            final long sequenceNumber,
+            final byte[] message) {
+        digest.update(message);
+        digestInto(messageHash);
+
+        digest.update(STREAM_HEADER);
+        digest.update(FIRST_BYTE_ARRAY_PREFIX);
+        updateWithInt(previousRunningHash.length);
+        digest.update(previousRunningHash);
+
+        scratch.clear();
+        scratch.put(TC_BLOCKDATA)
+                .put((byte) PRIMITIVE_BYTES)
+                .putLong(runningHashVersion)
+                .putLong(payer.getShardNum())
+                .putLong(payer.getRealmNum())
+                .putLong(payer.getAccountNum())
+                .putLong(topicId.getShardNum())
+                .putLong(topicId.getRealmNum())
+                .putLong(topicId.getTopicNum())
+                .putLong(consensusTime.getEpochSecond())
+                .putInt(consensusTime.getNano())
+                .putLong(sequenceNumber);
+        digest.update(scratch.array(), 0, scratch.position());
+
+        digest.update(SECOND_BYTE_ARRAY_PREFIX);
+        updateWithInt(SHA_384_BYTES);
+        digest.update(messageHash);
+        return digest.digest();
+    }
+
+    private void updateWithInt(final int value) {
+        scratch.clear();
+        scratch.putInt(value);
+        digest.update(scratch.array(), 0, Integer.BYTES);
+    }
+
+    private void digestInto(final byte[] target) {
+        try {
+            digest.digest(target, 0, target.length);
+        } catch (DigestException fatal) {
+            throw new IllegalStateException(fatal);
+        }
+    }
+}
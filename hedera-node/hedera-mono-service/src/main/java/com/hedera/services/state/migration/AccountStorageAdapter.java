@@ -15,12 +15,15 @@
  */
 package com.hedera.services.state.migration;
 
+import static com.hedera.services.stats.StateAccessProfiler.NOT_PROFILING;
+import static com.hedera.services.stats.StateAccessProfiler.Store.ACCOUNTS;
 import static com.swirlds.common.threading.manager.AdHocThreadManager.getStaticThreadManager;
 
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerklePayerRecords;
 import com.hedera.services.state.virtual.EntityNumVirtualKey;
 import com.hedera.services.state.virtual.entities.OnDiskAccount;
+import com.hedera.services.stats.StateAccessProfiler;
 import com.hedera.services.utils.EntityNum;
 import com.swirlds.common.crypto.Hash;
 import com.swirlds.merkle.map.MerkleMap;
@@ -39,6 +42,8 @@ public class AccountStorageAdapter {
     private final @Nullable MerkleMap<EntityNum, MerkleAccount> inMemoryAccounts;
     private final @Nullable MerkleMap<EntityNum, MerklePayerRecords> payerRecords;
     private final @Nullable VirtualMap<EntityNumVirtualKey, OnDiskAccount> onDiskAccounts;
+    private @Nullable HotAccountWrites hotAccountWrites;
+    private StateAccessProfiler profiler = NOT_PROFILING;
 
     public static AccountStorageAdapter fromInMemory(
             final MerkleMap<EntityNum, MerkleAccount> accounts) {
@@ -72,33 +77,92 @@ public class AccountStorageAdapter {
         }
     }
 
+    /**
+     * If the accounts are on disk, starts coalescing the writes to the given hot accounts until
+     * the next call to {@link #materializeHotAccountWrites()}; has no effect for in-memory
+     * accounts, whose {@link MerkleMap} already keeps a single mutable copy of each leaf.
+     *
+     * @param hotNums the numbers of the hot accounts
+     */
+    public void coalesceWritesTo(final Set<EntityNum> hotNums) {
+        if (accountsOnDisk && !hotNums.isEmpty()) {
+            hotAccountWrites = new HotAccountWrites(hotNums);
+        }
+    }
+
+    /**
+     * Starts recording the reads and writes of accounts with the given profiler; or stops
+     * recording them, if the profiler is null.
+     *
+     * @param profiler the profiler to use, or null
+     */
+    public void profileAccessWith(@Nullable final StateAccessProfiler profiler) {
+        this.profiler = (profiler == null) ? NOT_PROFILING : profiler;
+    }
+
+    /** Writes any coalesced changes to hot accounts through to the on-disk accounts. */
+    public void materializeHotAccountWrites() {
+        if (hotAccountWrites != null && hotAccountWrites.hasPending()) {
+            hotAccountWrites.materializeInto(onDiskAccounts);
+        }
+    }
+
     public HederaAccount get(final EntityNum num) {
-        return accountsOnDisk
-                ? onDiskAccounts.get(EntityNumVirtualKey.from(num))
-                : inMemoryAccounts.get(num);
+        if (hotAccountWrites != null) {
+            final var pending = hotAccountWrites.pendingFor(num);
+            if (pending != null) {
+                return pending;
+            }
+        }
+        final var start = profiler.startTiming();
+        final HederaAccount account =
+                accountsOnDisk
+                        ? onDiskAccounts.get(EntityNumVirtualKey.from(num))
+                        : inMemoryAccounts.get(num);
+        profiler.recordRead(ACCOUNTS, start);
+        return account;
     }
 
     public HederaAccount getForModify(final EntityNum num) {
-        return accountsOnDisk
-                ? onDiskAccounts.getForModify(EntityNumVirtualKey.from(num))
-                : inMemoryAccounts.getForModify(num);
+        if (hotAccountWrites != null && hotAccountWrites.isHot(num)) {
+            return hotAccountWrites.getForModify(
+                    num, hotNum -> onDiskAccounts.get(EntityNumVirtualKey.from(hotNum)));
+        }
+        final var start = profiler.startTiming();
+        final HederaAccount account =
+                accountsOnDisk
+                        ? onDiskAccounts.getForModify(EntityNumVirtualKey.from(num))
+                        : inMemoryAccounts.getForModify(num);
+        profiler.recordRead(ACCOUNTS, start);
+        return account;
     }
 
     public void put(final EntityNum num, final HederaAccount wrapper) {
+        final var start = profiler.startTiming();
         if (accountsOnDisk) {
             wrapper.setEntityNum(num);
             onDiskAccounts.put(EntityNumVirtualKey.from(num), (OnDiskAccount) wrapper);
+            // Forget the pending copy only now, so concurrent readers never see the stale value
+            if (hotAccountWrites != null) {
+                hotAccountWrites.forget(num);
+            }
         } else {
             inMemoryAccounts.put(num, (MerkleAccount) wrapper);
         }
+        profiler.recordWrite(ACCOUNTS, start);
     }
 
     public void remove(final EntityNum num) {
+        final var start = profiler.startTiming();
         if (accountsOnDisk) {
             onDiskAccounts.remove(EntityNumVirtualKey.from(num));
+            if (hotAccountWrites != null) {
+                hotAccountWrites.forget(num);
+            }
         } else {
             inMemoryAccounts.remove(num);
         }
+        profiler.recordWrite(ACCOUNTS, start);
     }
 
     public long size() {
@@ -106,9 +170,13 @@ public class AccountStorageAdapter {
     }
 
     public boolean containsKey(final EntityNum num) {
-        return accountsOnDisk
-                ? onDiskAccounts.containsKey(EntityNumVirtualKey.from(num))
-                : inMemoryAccounts.containsKey(num);
+        final var start = profiler.startTiming();
+        final var answer =
+                accountsOnDisk
+                        ? onDiskAccounts.containsKey(EntityNumVirtualKey.from(num))
+                        : inMemoryAccounts.containsKey(num);
+        profiler.recordRead(ACCOUNTS, start);
+        return answer;
     }
 
     public void archive() {
@@ -135,7 +203,14 @@ public class AccountStorageAdapter {
                 virtualMapDataAccess.extractVirtualMapData(
                         getStaticThreadManager(),
                         onDiskAccounts,
-                        entry -> visitor.accept(entry.getKey().asEntityNum(), entry.getValue()),
+                        entry -> {
+                            final var num = entry.getKey().asEntityNum();
+                            final var pending =
+                                    (hotAccountWrites == null)
+                                            ? null
+                                            : hotAccountWrites.pendingFor(num);
+                            visitor.accept(num, pending == null ? entry.getValue() : pending);
+                        },
                         THREAD_COUNT);
             } catch (final InterruptedException e) {
                 log.error("Interrupted while extracting VM data", e);
@@ -0,0 +1,223 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.state.migration;
+
+import static com.hedera.services.utils.MiscUtils.forEach;
+
+import com.swirlds.common.merkle.MerkleNode;
+import com.swirlds.common.merkle.utility.Keyed;
+import com.swirlds.merkle.map.MerkleMap;
+import com.swirlds.virtualmap.VirtualKey;
+import com.swirlds.virtualmap.VirtualMap;
+import com.swirlds.virtualmap.VirtualValue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Migrates the leaves of a {@link MerkleMap} into a {@link VirtualMap}, converting them in chunks
+ * on a pool of threads. The conversion of each chunk overlaps the insertion of the previous
+ * chunk's converted leaves; but since all insertions are still made from a single thread, in the
+ * order the source map is traversed, the migrated map is exactly what a single-threaded migration
+ * would give.
+ *
+ * <p>Progress (with an estimated time remaining) is logged after roughly every tenth of the
+ * leaves is inserted.
+ */
+public final class ChunkedMapMigration {
+    private static final Logger log = LogManager.getLogger(ChunkedMapMigration.class);
+
+    static final int ENTRIES_PER_CHUNK = 16_384;
+    private static final int PROGRESS_REPORTS = 10;
+    private static final String THREAD_NAME_TPL = "map-migration-%d";
+
+    /**
+     * Migrates every leaf of the source map into the target map, and returns the final mutable
+     * copy of the target map.
+     *
+     * @param desc a description of the migration for logging
+     * @param source the map to migrate from
+     * @param target the (empty) map to migrate to
+     * @param visitor an action to run on each source leaf, in traversal order, before conversion
+     * @param keyMigrator the (pure) conversion of a source key to a target key
+     * @param valueMigrator the (pure) conversion of a source leaf to a target value
+     * @param insertionsPerCopy how many insertions to make into each copy of the target map
+     * @param parallelism how many threads to use for conversion
+     * @return the final mutable copy of the target map
+     * @param <K> the type of the source keys
+     * @param <V> the type of the source leaves
+     * @param <T> the type of the target keys
+     * @param <U> the type of the target values
+     */
+    public static <
+                    K,
+                    V extends MerkleNode & Keyed<K>,
+                    T extends VirtualKey<? super T>,
+                    U extends VirtualValue>
+            VirtualMap<T, U> migrate(
+                    final String desc,
+                    final MerkleMap<K, V> source,
+                    final VirtualMap<T, U> target,
+                    final BiConsumer<K, V> visitor,
+                    final Function<K, T> keyMigrator,
+                    final Function<V, U> valueMigrator,
+                    final int insertionsPerCopy,
+                    final int parallelism) {
+        final List<K> keys = new ArrayList<>();
+        final List<V> leaves = new ArrayList<>();
+        forEach(
+                source,
+                (key, leaf) -> {
+                    visitor.accept(key, leaf);
+                    keys.add(key);
+                    leaves.add(leaf);
+                });
+
+        final var n = keys.size();
+        final var numThreads = Math.max(1, parallelism);
+        log.info("Migrating {} entries for {} on {} threads", n, desc, numThreads);
+        final var nextThreadId = new AtomicInteger(0);
+        final ExecutorService pool =
+                Executors.newFixedThreadPool(
+                        numThreads,
+                        runnable -> {
+                            final var converter =
+                                    new Thread(
+                                            runnable,
+                                            String.format(
+                                                    THREAD_NAME_TPL,
+                                                    nextThreadId.getAndIncrement()));
+                            converter.setDaemon(true);
+                            return converter;
+                        });
+        try {
+            var curTarget = target;
+            var insertions = 0;
+            var nextReportAt = reportInterval(n);
+            final var startNanos = System.nanoTime();
+            var pending =
+                    convertAsync(
+                            keys, leaves, 0, keyMigrator, valueMigrator, numThreads, pool);
+            for (int from = 0; from < n; from += ENTRIES_PER_CHUNK) {
+                final var chunk = pending.join();
+                final var nextFrom = from + ENTRIES_PER_CHUNK;
+                pending =
+                        (nextFrom < n)
+                                ? convertAsync(
+                                        keys,
+                                        leaves,
+                                        nextFrom,
+                                        keyMigrator,
+                                        valueMigrator,
+                                        numThreads,
+                                        pool)
+                                : null;
+                for (int i = 0; i < chunk.keys.length; i++) {
+                    curTarget.put(chunk.key(i), chunk.value(i));
+                    if (++insertions % insertionsPerCopy == 0) {
+                        curTarget = curTarget.copy();
+                    }
+                }
+                if (insertions >= nextReportAt && insertions < n) {
+                    logProgress(desc, insertions, n, System.nanoTime() - startNanos);
+                    nextReportAt = (insertions / reportInterval(n) + 1) * reportInterval(n);
+                }
+            }
+            return curTarget;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static <K, V, T, U> CompletableFuture<ConvertedChunk<T, U>> convertAsync(
+            final List<K> keys,
+            final List<V> leaves,
+            final int from,
+            final Function<K, T> keyMigrator,
+            final Function<V, U> valueMigrator,
+            final int numThreads,
+            final ExecutorService pool) {
+        final var to = Math.min(keys.size(), from + ENTRIES_PER_CHUNK);
+        final var chunk = new ConvertedChunk<T, U>(to - from);
+        final var sliceSize = (chunk.keys.length + numThreads - 1) / numThreads;
+        final List<CompletableFuture<Void>> slices = new ArrayList<>();
+        for (int sliceFrom = from; sliceFrom < to; sliceFrom += sliceSize) {
+            final var sliceStart = sliceFrom;
+            final var sliceEnd = Math.min(to, sliceFrom + sliceSize);
+            slices.add(
+                    CompletableFuture.runAsync(
+                            () -> {
+                                for (int i = sliceStart; i < sliceEnd; i++) {
+                                    chunk.keys[i - from] = keyMigrator.apply(keys.get(i));
+                                    chunk.values[i - from] = valueMigrator.apply(leaves.get(i));
+                                }
+                            },
+                            pool));
+        }
+        return CompletableFuture.allOf(slices.toArray(CompletableFuture[]::new))
+                .thenApply(ignore -> chunk);
+    }
+
+    private static void logProgress(
+            final String desc, final int done, final int total, final long elapsedNanos) {
+        final var elapsedMs = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        final var etaMs = elapsedMs * (total - done) / done;
+        log.info(
+                "{} at {}/{} entries ({}%) after {}ms, ~{}ms remaining",
+                desc,
+                done,
+                total,
+                100L * done / total,
+                elapsedMs,
+                etaMs);
+    }
+
+    private static int reportInterval(final int n) {
+        return Math.max(1, n / PROGRESS_REPORTS);
+    }
+
+    private static final class ConvertedChunk<T, U> {
+        private final Object[] keys;
+        private final Object[] values;
+
+        private ConvertedChunk(final int size) {
+            keys = new Object[size];
+            values = new Object[size];
+        }
+
+        @SuppressWarnings("unchecked")
+        private T key(final int i) {
+            return (T) keys[i];
+        }
+
+        @SuppressWarnings("unchecked")
+        private U value(final int i) {
+            return (U) values[i];
+        }
+    }
+
+    private ChunkedMapMigration() {
+        throw new UnsupportedOperationException("Utility Class");
+    }
+}
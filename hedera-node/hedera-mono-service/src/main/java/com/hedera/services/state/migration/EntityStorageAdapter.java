@@ -0,0 +1,234 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.state.migration;
+
+import static com.swirlds.common.threading.manager.AdHocThreadManager.getStaticThreadManager;
+
+import com.hedera.services.state.virtual.EntityNumVirtualKey;
+import com.hedera.services.state.virtual.entities.OnDiskEntity;
+import com.hedera.services.state.virtual.entities.OnDiskEntityType;
+import com.hedera.services.utils.EntityNum;
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.merkle.MerkleLeaf;
+import com.swirlds.common.merkle.utility.Keyed;
+import com.swirlds.merkle.map.MerkleMap;
+import com.swirlds.virtualmap.VirtualMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import javax.annotation.Nullable;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Gives uniform access to a state child of entities (tokens or topics) keyed by {@link EntityNum},
+ * whether they are still in a {@link MerkleMap} or have been migrated to a {@link VirtualMap} of
+ * {@link OnDiskEntity} values.
+ *
+ * @param <V> the type of entity
+ */
+public class EntityStorageAdapter<V extends MerkleLeaf & Keyed<EntityNum>> {
+    private static final Logger log = LogManager.getLogger(EntityStorageAdapter.class);
+    private static final int THREAD_COUNT = 8;
+    private final boolean entitiesOnDisk;
+    private final @Nullable OnDiskEntityType<V> type;
+    private final @Nullable VirtualMapDataAccess virtualMapDataAccess;
+    private final @Nullable MerkleMap<EntityNum, V> inMemoryEntities;
+    private final @Nullable VirtualMap<EntityNumVirtualKey, OnDiskEntity<V>> onDiskEntities;
+    private @Nullable HotEntityCache<V> hotEntities;
+
+    public static <V extends MerkleLeaf & Keyed<EntityNum>> EntityStorageAdapter<V> fromInMemory(
+            final MerkleMap<EntityNum, V> entities) {
+        return new EntityStorageAdapter<>(entities, null, null, null);
+    }
+
+    public static <V extends MerkleLeaf & Keyed<EntityNum>> EntityStorageAdapter<V> fromOnDisk(
+            final OnDiskEntityType<V> type,
+            final VirtualMapDataAccess virtualMapDataAccess,
+            final VirtualMap<EntityNumVirtualKey, OnDiskEntity<V>> entities) {
+        return new EntityStorageAdapter<>(null, type, virtualMapDataAccess, entities);
+    }
+
+    private EntityStorageAdapter(
+            @Nullable final MerkleMap<EntityNum, V> inMemoryEntities,
+            @Nullable final OnDiskEntityType<V> type,
+            @Nullable final VirtualMapDataAccess virtualMapDataAccess,
+            @Nullable final VirtualMap<EntityNumVirtualKey, OnDiskEntity<V>> onDiskEntities) {
+        if (inMemoryEntities != null) {
+            this.entitiesOnDisk = false;
+            this.inMemoryEntities = inMemoryEntities;
+            this.type = null;
+            this.onDiskEntities = null;
+            this.virtualMapDataAccess = null;
+        } else {
+            this.entitiesOnDisk = true;
+            this.inMemoryEntities = null;
+            this.type = type;
+            this.onDiskEntities = onDiskEntities;
+            this.virtualMapDataAccess = virtualMapDataAccess;
+        }
+    }
+
+    /**
+     * If the entities are on disk, starts caching the most recently read entities in the given
+     * cache; has no effect for in-memory entities, which are never deserialized on read.
+     *
+     * @param hotEntities the cache to use
+     */
+    public void cacheHotEntitiesIn(final HotEntityCache<V> hotEntities) {
+        if (entitiesOnDisk) {
+            this.hotEntities = hotEntities;
+        }
+    }
+
+    public V get(final EntityNum num) {
+        if (!entitiesOnDisk) {
+            return inMemoryEntities.get(num);
+        }
+        final var cache = hotEntities;
+        if (cache == null) {
+            final var onDiskEntity = onDiskEntities.get(EntityNumVirtualKey.from(num));
+            return (onDiskEntity == null) ? null : onDiskEntity.getEntity();
+        }
+        final var cached = cache.get(num);
+        if (cached != null) {
+            return cached;
+        }
+        // This read may race with a write on the handle thread; so only cache the result if
+        // nothing was invalidated while we were reading
+        final var invalidationsBeforeRead = cache.invalidationCount();
+        final var onDiskEntity = onDiskEntities.get(EntityNumVirtualKey.from(num));
+        if (onDiskEntity == null) {
+            return null;
+        }
+        final var entity = onDiskEntity.getEntity();
+        cache.putUnlessInvalidatedSince(num, entity, invalidationsBeforeRead);
+        return entity;
+    }
+
+    public V getOrDefault(final EntityNum num, final V defaultValue) {
+        final var entity = get(num);
+        return (entity == null) ? defaultValue : entity;
+    }
+
+    public V getForModify(final EntityNum num) {
+        if (!entitiesOnDisk) {
+            return inMemoryEntities.getForModify(num);
+        }
+        final var onDiskEntity = onDiskEntities.getForModify(EntityNumVirtualKey.from(num));
+        // Invalidate only after the map holds the mutable copy, so no concurrent reader can
+        // re-cache the entity it replaced
+        invalidate(num);
+        return (onDiskEntity == null) ? null : onDiskEntity.getEntity();
+    }
+
+    public void put(final EntityNum num, final V entity) {
+        if (entitiesOnDisk) {
+            entity.setKey(num);
+            onDiskEntities.put(EntityNumVirtualKey.from(num), new OnDiskEntity<>(type, entity));
+            invalidate(num);
+        } else {
+            inMemoryEntities.put(num, entity);
+        }
+    }
+
+    public void remove(final EntityNum num) {
+        if (entitiesOnDisk) {
+            onDiskEntities.remove(EntityNumVirtualKey.from(num));
+            invalidate(num);
+        } else {
+            inMemoryEntities.remove(num);
+        }
+    }
+
+    public long size() {
+        return entitiesOnDisk ? onDiskEntities.size() : inMemoryEntities.size();
+    }
+
+    public boolean containsKey(final EntityNum num) {
+        if (!entitiesOnDisk) {
+            return inMemoryEntities.containsKey(num);
+        }
+        return (hotEntities != null && hotEntities.get(num) != null)
+                || onDiskEntities.containsKey(EntityNumVirtualKey.from(num));
+    }
+
+    public void archive() {
+        if (!entitiesOnDisk) {
+            inMemoryEntities.archive();
+        }
+    }
+
+    public Hash getHash() {
+        return entitiesOnDisk ? onDiskEntities.getHash() : inMemoryEntities.getHash();
+    }
+
+    public Set<EntityNum> keySet() {
+        if (!entitiesOnDisk) {
+            return inMemoryEntities.keySet();
+        }
+        final Set<EntityNum> nums = ConcurrentHashMap.newKeySet();
+        forEach((num, entity) -> nums.add(num));
+        return nums;
+    }
+
+    /**
+     * Visits every entity; note that on-disk entities are visited concurrently from several
+     * threads.
+     *
+     * @param visitor the visitor
+     */
+    public void forEach(final BiConsumer<EntityNum, V> visitor) {
+        if (entitiesOnDisk) {
+            try {
+                virtualMapDataAccess.extractVirtualMapData(
+                        getStaticThreadManager(),
+                        onDiskEntities,
+                        entry ->
+                                visitor.accept(
+                                        entry.getKey().asEntityNum(),
+                                        entry.getValue().getEntity()),
+                        THREAD_COUNT);
+            } catch (final InterruptedException e) {
+                log.error("Interrupted while extracting VM data", e);
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        } else {
+            inMemoryEntities.forEach(visitor);
+        }
+    }
+
+    public boolean areOnDisk() {
+        return entitiesOnDisk;
+    }
+
+    @Nullable
+    public MerkleMap<EntityNum, V> getInMemoryEntities() {
+        return inMemoryEntities;
+    }
+
+    @Nullable
+    public VirtualMap<EntityNumVirtualKey, OnDiskEntity<V>> getOnDiskEntities() {
+        return onDiskEntities;
+    }
+
+    private void invalidate(final EntityNum num) {
+        if (hotEntities != null) {
+            hotEntities.invalidate(num);
+        }
+    }
+}
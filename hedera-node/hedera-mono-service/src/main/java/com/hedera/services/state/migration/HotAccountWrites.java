@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.state.migration;
+
+import com.hedera.services.state.virtual.EntityNumVirtualKey;
+import com.hedera.services.state.virtual.entities.OnDiskAccount;
+import com.hedera.services.utils.EntityNum;
+import com.swirlds.virtualmap.VirtualMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+
+/**
+ * Coalesces, within a round, the writes to a few "hot" on-disk accounts (the fee collection and
+ * node accounts) that are modified by almost every transaction.
+ *
+ * <p>The first {@link #getForModify(EntityNum, Function)} of a hot account in a round detaches a
+ * mutable copy of its {@link OnDiskAccount}; all later reads and writes in the round use that copy
+ * instead of the {@link VirtualMap}, which sees only a single {@code put()} per hot account when
+ * the round's writes are {@link #materializeInto(VirtualMap) materialized}.
+ *
+ * <p>Only the handle thread writes here; but other threads (for example, signature expansion
+ * during pre-handle) read the working accounts through {@link #pendingFor(EntityNum)}. A reader
+ * sees a hot account's pending copy from the moment its first modification in the round detaches
+ * it, exactly as a reader of the {@link VirtualMap} would see the mutable leaf returned by {@code
+ * getForModify()}; and it keeps seeing that copy until the map holds it, so there is no window in
+ * which a reader falls back to the account's value from before the round.
+ */
+public class HotAccountWrites {
+    private final Set<EntityNum> hotNums;
+    private final Map<EntityNum, OnDiskAccount> pending = new ConcurrentHashMap<>();
+
+    public HotAccountWrites(final Set<EntityNum> hotNums) {
+        this.hotNums = hotNums;
+    }
+
+    public boolean isHot(final EntityNum num) {
+        return hotNums.contains(num);
+    }
+
+    /**
+     * Returns the pending version of the given account, if it was modified so far this round.
+     *
+     * @param num the account number
+     * @return its pending version, or null if it has none
+     */
+    @Nullable
+    public OnDiskAccount pendingFor(final EntityNum num) {
+        return pending.get(num);
+    }
+
+    /**
+     * Returns the mutable, pending version of the given hot account; creating it from the result
+     * of the given lookup if this is the first modification of the account this round.
+     *
+     * @param num the hot account number
+     * @param lookup the lookup of the account's current value in state
+     * @return its pending version, or null if the account doesn't exist
+     */
+    @Nullable
+    public OnDiskAccount getForModify(
+            final EntityNum num, final Function<EntityNum, OnDiskAccount> lookup) {
+        var account = pending.get(num);
+        if (account == null) {
+            final var current = lookup.apply(num);
+            if (current == null) {
+                return null;
+            }
+            account = new OnDiskAccount(current);
+            pending.put(num, account);
+        }
+        return account;
+    }
+
+    /**
+     * Discards any pending version of the given account (because it was just replaced or removed
+     * in state).
+     *
+     * @param num the account number
+     */
+    public void forget(final EntityNum num) {
+        pending.remove(num);
+    }
+
+    public boolean hasPending() {
+        return !pending.isEmpty();
+    }
+
+    /**
+     * Writes every pending account to the given map, and clears the pending versions; each only
+     * after the map holds it.
+     *
+     * @param accounts the on-disk accounts to update
+     */
+    public void materializeInto(final VirtualMap<EntityNumVirtualKey, OnDiskAccount> accounts) {
+        final var iter = pending.entrySet().iterator();
+        while (iter.hasNext()) {
+            final var entry = iter.next();
+            accounts.put(EntityNumVirtualKey.from(entry.getKey()), entry.getValue());
+            iter.remove();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.state.migration;
+
+import com.hedera.services.utils.EntityNum;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.annotation.Nullable;
+
+/**
+ * A small least-recently-used cache of the on-disk tokens or topics most recently read from the
+ * working state, so the handle thread can re-read a "hot" entity (for example, a token used by
+ * every transfer in a round) without deserializing it from its {@link
+ * com.swirlds.virtualmap.VirtualMap} each time.
+ *
+ * <p>Entries are carried from each working state to its copy; so every write to the entity must
+ * {@link #invalidate(EntityNum) invalidate} its entry once the new value is in the map.
+ *
+ * <p>Reads can also come from threads other than the handle thread (for example, signature
+ * expansion during pre-handle). Such a reader can load an entity from the map just before the
+ * handle thread replaces it, so a reader that fills the cache must use {@link
+ * #putUnlessInvalidatedSince(EntityNum, Object, long)} with the {@link #invalidationCount()} it
+ * saw before its read; the fill is then dropped if any entry was invalidated in between.
+ *
+ * @param <V> the type of cached entity
+ */
+public class HotEntityCache<V> {
+    private final int capacity;
+    private final Map<EntityNum, V> entries;
+    private long invalidations = 0L;
+
+    public HotEntityCache(final int capacity) {
+        this.capacity = capacity;
+        this.entries =
+                new LinkedHashMap<>(capacity, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(final Map.Entry<EntityNum, V> eldest) {
+                        return size() > HotEntityCache.this.capacity;
+                    }
+                };
+    }
+
+    /**
+     * Returns the cached entity with the given number, if present.
+     *
+     * @param num the entity number
+     * @return the cached entity, or null if it is not cached
+     */
+    @Nullable
+    public synchronized V get(final EntityNum num) {
+        return entries.get(num);
+    }
+
+    public synchronized void put(final EntityNum num, final V entity) {
+        entries.put(num, entity);
+    }
+
+    /**
+     * Caches the given entity, unless some entry was invalidated after the given count was read;
+     * in that case the entity may already be stale, so it is not cached.
+     *
+     * @param num the entity number
+     * @param entity the entity read from the map
+     * @param invalidationsBeforeRead the {@link #invalidationCount()} seen before the read
+     * @return whether the entity was cached
+     */
+    public synchronized boolean putUnlessInvalidatedSince(
+            final EntityNum num, final V entity, final long invalidationsBeforeRead) {
+        if (invalidations != invalidationsBeforeRead) {
+            return false;
+        }
+        entries.put(num, entity);
+        return true;
+    }
+
+    public synchronized void invalidate(final EntityNum num) {
+        entries.remove(num);
+        invalidations++;
+    }
+
+    public synchronized long invalidationCount() {
+        return invalidations;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+}
@@ -27,10 +27,16 @@ import com.hedera.services.state.merkle.MerkleTokenRelStatus;
 import com.hedera.services.state.virtual.EntityNumVirtualKey;
 import com.hedera.services.state.virtual.VirtualMapFactory;
 import com.hedera.services.state.virtual.entities.OnDiskAccount;
+import com.hedera.services.state.virtual.entities.OnDiskEntity;
+import com.hedera.services.state.virtual.entities.OnDiskEntityType;
 import com.hedera.services.state.virtual.entities.OnDiskTokenRel;
+import com.hedera.services.state.virtual.records.PayerRecordKey;
+import com.hedera.services.state.virtual.records.PayerRecordValue;
 import com.hedera.services.utils.EntityNum;
 import com.hedera.services.utils.EntityNumPair;
 import com.hedera.services.utils.NonAtomicReference;
+import com.swirlds.common.merkle.MerkleLeaf;
+import com.swirlds.common.merkle.utility.Keyed;
 import com.swirlds.merkle.map.MerkleMap;
 import com.swirlds.virtualmap.VirtualMap;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -42,6 +48,11 @@ public class MapMigrationToDisk {
     private static final Logger log = LogManager.getLogger(MapMigrationToDisk.class);
 
     public static final int INSERTIONS_PER_COPY = 10_000;
+    private static final int MIGRATION_PARALLELISM = Runtime.getRuntime().availableProcessors();
+    private static final String ACCOUNTS_DESC = "accounts-to-disk migration";
+    private static final String TOKEN_RELS_DESC = "token-rels-to-disk migration";
+    private static final String TOKENS_DESC = "tokens-to-disk migration";
+    private static final String TOPICS_DESC = "topics-to-disk migration";
 
     public static void migrateToDiskAsApropos(
             final int insertionsPerCopy,
@@ -57,6 +68,27 @@ public class MapMigrationToDisk {
         if (toDiskMigrations.doTokenRels()) {
             migrateRelsToDisk(insertionsPerCopy, mutableState, virtualMapFactory, tokenRelMigrator);
         }
+        if (toDiskMigrations.doPayerRecords()) {
+            migratePayerRecordsToDisk(insertionsPerCopy, mutableState, virtualMapFactory);
+        }
+        if (toDiskMigrations.doTokens()) {
+            migrateEntitiesToDisk(
+                    TOKENS_DESC,
+                    TOKENS,
+                    OnDiskEntityType.TOKEN,
+                    virtualMapFactory.newOnDiskTokens(),
+                    insertionsPerCopy,
+                    mutableState);
+        }
+        if (toDiskMigrations.doTopics()) {
+            migrateEntitiesToDisk(
+                    TOPICS_DESC,
+                    TOPICS,
+                    OnDiskEntityType.TOPIC,
+                    virtualMapFactory.newOnDiskTopics(),
+                    insertionsPerCopy,
+                    mutableState);
+        }
     }
 
     @SuppressWarnings("unchecked")
@@ -65,7 +97,6 @@ public class MapMigrationToDisk {
             final ServicesState mutableState,
             final VirtualMapFactory virtualMapFactory,
             final Function<MerkleAccountState, OnDiskAccount> accountMigrator) {
-        final var insertionsSoFar = new AtomicInteger(0);
         final NonAtomicReference<VirtualMap<EntityNumVirtualKey, OnDiskAccount>> onDiskAccounts =
                 new NonAtomicReference<>(virtualMapFactory.newOnDiskAccountStorage());
 
@@ -74,28 +105,22 @@ public class MapMigrationToDisk {
         final MerkleMap<EntityNum, MerklePayerRecords> payerRecords = new MerkleMap<>();
         withLoggedDuration(
                 () ->
-                        forEach(
-                                inMemoryAccounts,
-                                (num, account) -> {
-                                    final var accountRecords = new MerklePayerRecords();
-                                    account.records().forEach(accountRecords::offer);
-                                    payerRecords.put(num, accountRecords);
-
-                                    final var onDiskAccount =
-                                            accountMigrator.apply(account.state());
-                                    onDiskAccounts
-                                            .get()
-                                            .put(
-                                                    new EntityNumVirtualKey(num.longValue()),
-                                                    onDiskAccount);
-                                    if (insertionsSoFar.incrementAndGet() % insertionsPerCopy
-                                            == 0) {
-                                        final var onDiskAccountsCopy = onDiskAccounts.get().copy();
-                                        onDiskAccounts.set(onDiskAccountsCopy);
-                                    }
-                                }),
+                        onDiskAccounts.set(
+                                ChunkedMapMigration.migrate(
+                                        ACCOUNTS_DESC,
+                                        inMemoryAccounts,
+                                        onDiskAccounts.get(),
+                                        (num, account) -> {
+                                            final var accountRecords = new MerklePayerRecords();
+                                            account.records().forEach(accountRecords::offer);
+                                            payerRecords.put(num, accountRecords);
+                                        },
+                                        num -> new EntityNumVirtualKey(num.longValue()),
+                                        account -> accountMigrator.apply(account.state()),
+                                        insertionsPerCopy,
+                                        MIGRATION_PARALLELISM)),
                 log,
-                "accounts-to-disk migration");
+                ACCOUNTS_DESC);
         mutableState.setChild(ACCOUNTS, onDiskAccounts.get());
         mutableState.setChild(PAYER_RECORDS, payerRecords);
     }
@@ -106,31 +131,97 @@ public class MapMigrationToDisk {
             final ServicesState mutableState,
             final VirtualMapFactory virtualMapFactory,
             final Function<MerkleTokenRelStatus, OnDiskTokenRel> relMigrator) {
-        final var insertionsSoFar = new AtomicInteger(0);
         final NonAtomicReference<VirtualMap<EntityNumVirtualKey, OnDiskTokenRel>> onDiskRels =
                 new NonAtomicReference<>(virtualMapFactory.newOnDiskTokenRels());
 
         final var inMemoryRels =
                 (MerkleMap<EntityNumPair, MerkleTokenRelStatus>)
                         mutableState.getChild(TOKEN_ASSOCIATIONS);
+        withLoggedDuration(
+                () ->
+                        onDiskRels.set(
+                                ChunkedMapMigration.migrate(
+                                        TOKEN_RELS_DESC,
+                                        inMemoryRels,
+                                        onDiskRels.get(),
+                                        (numPair, rel) -> {},
+                                        EntityNumVirtualKey::fromPair,
+                                        relMigrator,
+                                        insertionsPerCopy,
+                                        MIGRATION_PARALLELISM)),
+                log,
+                TOKEN_RELS_DESC);
+        mutableState.setChild(TOKEN_ASSOCIATIONS, onDiskRels.get());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void migratePayerRecordsToDisk(
+            final int insertionsPerCopy,
+            final ServicesState mutableState,
+            final VirtualMapFactory virtualMapFactory) {
+        final var insertionsSoFar = new AtomicInteger(0);
+        final NonAtomicReference<VirtualMap<PayerRecordKey, PayerRecordValue>> onDiskRecords =
+                new NonAtomicReference<>(virtualMapFactory.newOnDiskPayerRecords());
+
+        final var inMemoryRecords =
+                (MerkleMap<EntityNum, MerklePayerRecords>) mutableState.getChild(PAYER_RECORDS);
+        final MerkleMap<EntityNum, MerklePayerRecords> onDiskPayers = new MerkleMap<>();
+        // The adapter only needs replacing when we switch to a new copy of the virtual map
+        final NonAtomicReference<RecordsStorageAdapter> adapter =
+                new NonAtomicReference<>(
+                        RecordsStorageAdapter.fromOnDisk(onDiskPayers, onDiskRecords.get()));
         withLoggedDuration(
                 () ->
                         forEach(
-                                inMemoryRels,
-                                (numPair, rel) -> {
-                                    final var onDiskRel = relMigrator.apply(rel);
-                                    onDiskRels
-                                            .get()
-                                            .put(EntityNumVirtualKey.fromPair(numPair), onDiskRel);
-                                    if (insertionsSoFar.incrementAndGet() % insertionsPerCopy
-                                            == 0) {
-                                        final var onDiskRelCopy = onDiskRels.get().copy();
-                                        onDiskRels.set(onDiskRelCopy);
+                                inMemoryRecords,
+                                (num, accountRecords) -> {
+                                    onDiskPayers.put(num, new MerklePayerRecords());
+                                    for (final var payerRecord : accountRecords.readOnlyQueue()) {
+                                        adapter.get().addPayerRecord(num, payerRecord);
+                                        if (insertionsSoFar.incrementAndGet() % insertionsPerCopy
+                                                == 0) {
+                                            final var onDiskRecordsCopy =
+                                                    onDiskRecords.get().copy();
+                                            onDiskRecords.set(onDiskRecordsCopy);
+                                            adapter.set(
+                                                    RecordsStorageAdapter.fromOnDisk(
+                                                            onDiskPayers, onDiskRecordsCopy));
+                                        }
                                     }
                                 }),
                 log,
-                "token-rels-to-disk migration");
-        mutableState.setChild(TOKEN_ASSOCIATIONS, onDiskRels.get());
+                "payer-records-to-disk migration");
+        mutableState.setChild(PAYER_RECORDS, onDiskPayers);
+        mutableState.setChild(ON_DISK_PAYER_RECORDS, onDiskRecords.get());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V extends MerkleLeaf & Keyed<EntityNum>> void migrateEntitiesToDisk(
+            final String desc,
+            final int childIndex,
+            final OnDiskEntityType<V> type,
+            final VirtualMap<EntityNumVirtualKey, OnDiskEntity<V>> emptyOnDiskEntities,
+            final int insertionsPerCopy,
+            final ServicesState mutableState) {
+        final NonAtomicReference<VirtualMap<EntityNumVirtualKey, OnDiskEntity<V>>> onDiskEntities =
+                new NonAtomicReference<>(emptyOnDiskEntities);
+
+        final var inMemoryEntities = (MerkleMap<EntityNum, V>) mutableState.getChild(childIndex);
+        withLoggedDuration(
+                () ->
+                        onDiskEntities.set(
+                                ChunkedMapMigration.migrate(
+                                        desc,
+                                        inMemoryEntities,
+                                        onDiskEntities.get(),
+                                        (num, entity) -> {},
+                                        EntityNumVirtualKey::from,
+                                        entity -> OnDiskEntity.from(type, entity),
+                                        insertionsPerCopy,
+                                        MIGRATION_PARALLELISM)),
+                log,
+                desc);
+        mutableState.setChild(childIndex, onDiskEntities.get());
     }
 
     private MapMigrationToDisk() {
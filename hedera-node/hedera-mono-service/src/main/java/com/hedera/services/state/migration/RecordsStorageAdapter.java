@@ -21,10 +21,17 @@ import static com.hedera.services.utils.MiscUtils.forEach;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerklePayerRecords;
 import com.hedera.services.state.submerkle.ExpirableTxnRecord;
+import com.hedera.services.state.virtual.records.PayerRecordKey;
+import com.hedera.services.state.virtual.records.PayerRecordValue;
 import com.hedera.services.utils.EntityNum;
 import com.swirlds.fcqueue.FCQueue;
 import com.swirlds.merkle.map.MerkleMap;
+import com.swirlds.virtualmap.VirtualMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import javax.annotation.Nullable;
 
 /**
@@ -43,34 +50,50 @@ import javax.annotation.Nullable;
  *       can just use a {@link FCQueue} child for the records of each such internal node.
  *   <li>When accounts are on disk, each account's {@link FCQueue} is wrapped in a {@link
  *       MerklePayerRecords} leaf of a <b>record-specific</b> {@link MerkleMap}.
+ *   <li>When records are <i>also</i> on disk, they are kept in a {@link VirtualMap} keyed by payer
+ *       number and consensus time, linked into a list anchored by a head entry per payer; so each
+ *       {@link MerklePayerRecords} leaf only marks its payer as having such a list.
  * </ul>
  */
 public class RecordsStorageAdapter {
     private final boolean accountsOnDisk;
+    private final boolean recordsOnDisk;
     private final @Nullable MerkleMap<EntityNum, MerkleAccount> legacyAccounts;
     private final @Nullable MerkleMap<EntityNum, MerklePayerRecords> payerRecords;
+    private final @Nullable VirtualMap<PayerRecordKey, PayerRecordValue> onDiskRecords;
 
     public static RecordsStorageAdapter fromLegacy(
             final MerkleMap<EntityNum, MerkleAccount> accounts) {
-        return new RecordsStorageAdapter(accounts, null);
+        return new RecordsStorageAdapter(accounts, null, null);
     }
 
     public static RecordsStorageAdapter fromDedicated(
             final MerkleMap<EntityNum, MerklePayerRecords> payerRecords) {
-        return new RecordsStorageAdapter(null, payerRecords);
+        return new RecordsStorageAdapter(null, payerRecords, null);
+    }
+
+    public static RecordsStorageAdapter fromOnDisk(
+            final MerkleMap<EntityNum, MerklePayerRecords> payerRecords,
+            final VirtualMap<PayerRecordKey, PayerRecordValue> onDiskRecords) {
+        return new RecordsStorageAdapter(null, payerRecords, onDiskRecords);
     }
 
     private RecordsStorageAdapter(
             @Nullable final MerkleMap<EntityNum, MerkleAccount> accounts,
-            @Nullable final MerkleMap<EntityNum, MerklePayerRecords> payerRecords) {
+            @Nullable final MerkleMap<EntityNum, MerklePayerRecords> payerRecords,
+            @Nullable final VirtualMap<PayerRecordKey, PayerRecordValue> onDiskRecords) {
         if (accounts != null) {
             this.accountsOnDisk = false;
+            this.recordsOnDisk = false;
             this.legacyAccounts = accounts;
             this.payerRecords = null;
+            this.onDiskRecords = null;
         } else {
             this.accountsOnDisk = true;
+            this.recordsOnDisk = onDiskRecords != null;
             this.legacyAccounts = null;
             this.payerRecords = payerRecords;
+            this.onDiskRecords = onDiskRecords;
         }
     }
 
@@ -91,12 +114,17 @@ public class RecordsStorageAdapter {
         // If accounts are in memory, the needed FCQ was removed as a
         // side-effect of removing the account itself
         if (accountsOnDisk) {
+            if (recordsOnDisk) {
+                removeAllOnDisk(payerNum);
+            }
             payerRecords.remove(payerNum);
         }
     }
 
     public void addPayerRecord(final EntityNum payerNum, final ExpirableTxnRecord payerRecord) {
-        if (accountsOnDisk) {
+        if (recordsOnDisk) {
+            addOnDisk(payerNum, payerRecord);
+        } else if (accountsOnDisk) {
             final var mutableRecords = payerRecords.getForModify(payerNum);
             mutableRecords.offer(payerRecord);
         } else {
@@ -105,18 +133,38 @@ public class RecordsStorageAdapter {
         }
     }
 
-    public FCQueue<ExpirableTxnRecord> getMutablePayerRecords(final EntityNum payerNum) {
-        if (accountsOnDisk) {
-            final var mutableRecords = payerRecords.getForModify(payerNum);
-            return mutableRecords.mutableQueue();
+    /**
+     * Removes all the records of the given payer that expire at or before the given consensus
+     * second, passing each removed record to the given observer in FIFO order.
+     *
+     * @param payerNum the payer whose expired records should be purged
+     * @param now the current consensus second
+     * @param purgeObserver an observer of the purged records
+     */
+    public void purgeExpiredRecords(
+            final EntityNum payerNum,
+            final long now,
+            final Consumer<ExpirableTxnRecord> purgeObserver) {
+        if (recordsOnDisk) {
+            purgeExpiredOnDisk(payerNum, now, purgeObserver);
         } else {
-            final var mutableAccount = legacyAccounts.getForModify(payerNum);
-            return mutableAccount.records();
+            final var mutableRecords = mutableQueueOf(payerNum);
+            ExpirableTxnRecord nextRecord;
+            while ((nextRecord = mutableRecords.peek()) != null && nextRecord.getExpiry() <= now) {
+                purgeObserver.accept(mutableRecords.poll());
+            }
         }
     }
 
     public QueryableRecords getReadOnlyPayerRecords(final EntityNum payerNum) {
-        if (accountsOnDisk) {
+        if (recordsOnDisk) {
+            final var head = onDiskRecords.get(PayerRecordKey.headOf(payerNum));
+            if (head == null) {
+                return NO_QUERYABLE_RECORDS;
+            }
+            final var records = onDiskSnapshot(payerNum, head);
+            return new QueryableRecords(records.size(), records.iterator());
+        } else if (accountsOnDisk) {
             final var payerRecordsView = payerRecords.get(payerNum);
             return (payerRecordsView == null)
                     ? NO_QUERYABLE_RECORDS
@@ -130,8 +178,45 @@ public class RecordsStorageAdapter {
         }
     }
 
-    public void doForEach(final BiConsumer<EntityNum, FCQueue<ExpirableTxnRecord>> observer) {
-        if (accountsOnDisk) {
+    /**
+     * Returns queryable records that include (at least) the {@code m} most recent records of the
+     * given payer. When records are on disk, this only reads the needed records, walking backwards
+     * from the newest record of the payer.
+     *
+     * @param payerNum the payer of interest
+     * @param m the maximum number of recent records needed
+     * @return queryable records including the most recent records
+     */
+    public QueryableRecords getMostRecentPayerRecords(final EntityNum payerNum, final int m) {
+        if (!recordsOnDisk) {
+            return getReadOnlyPayerRecords(payerNum);
+        }
+        final var head = onDiskRecords.get(PayerRecordKey.headOf(payerNum));
+        if (head == null || head.numRecords() == 0 || m <= 0) {
+            return NO_QUERYABLE_RECORDS;
+        }
+        final var n = Math.min(m, head.numRecords());
+        final var mostRecent = new ArrayList<ExpirableTxnRecord>(n);
+        var consensusTime = head.next();
+        for (int i = 0; i < n; i++) {
+            final var value = onDiskRecords.get(PayerRecordKey.from(payerNum, consensusTime));
+            if (value == null) {
+                // Records expired while we were walking the list
+                break;
+            }
+            mostRecent.add(value.payerRecord());
+            consensusTime = value.prev();
+        }
+        Collections.reverse(mostRecent);
+        return new QueryableRecords(mostRecent.size(), mostRecent.iterator());
+    }
+
+    public void doForEach(final BiConsumer<EntityNum, Iterable<ExpirableTxnRecord>> observer) {
+        if (recordsOnDisk) {
+            forEach(
+                    payerRecords,
+                    (payerNum, ignore) -> observer.accept(payerNum, onDiskIterable(payerNum)));
+        } else if (accountsOnDisk) {
             forEach(
                     payerRecords,
                     (payerNum, accountRecords) ->
@@ -142,4 +227,103 @@ public class RecordsStorageAdapter {
                     (payerNum, account) -> observer.accept(payerNum, account.records()));
         }
     }
+
+    private FCQueue<ExpirableTxnRecord> mutableQueueOf(final EntityNum payerNum) {
+        if (accountsOnDisk) {
+            final var mutableRecords = payerRecords.getForModify(payerNum);
+            return mutableRecords.mutableQueue();
+        } else {
+            final var mutableAccount = legacyAccounts.getForModify(payerNum);
+            return mutableAccount.records();
+        }
+    }
+
+    private Iterable<ExpirableTxnRecord> onDiskIterable(final EntityNum payerNum) {
+        return () -> {
+            final var head = onDiskRecords.get(PayerRecordKey.headOf(payerNum));
+            return (head == null)
+                    ? Collections.emptyIterator()
+                    : onDiskSnapshot(payerNum, head).iterator();
+        };
+    }
+
+    /**
+     * Reads the records linked from the given head in FIFO order. Since the records are read
+     * eagerly, a record expiring after this returns cannot break iteration over the snapshot; and
+     * if the oldest records expire <i>while</i> we are reading, we just stop at the first gap.
+     */
+    private List<ExpirableTxnRecord> onDiskSnapshot(
+            final EntityNum payerNum, final PayerRecordValue head) {
+        final var n = head.numRecords();
+        final List<ExpirableTxnRecord> records = new ArrayList<>(n);
+        var consensusTime = head.prev();
+        for (int i = 0; i < n; i++) {
+            final var value = onDiskRecords.get(PayerRecordKey.from(payerNum, consensusTime));
+            if (value == null) {
+                break;
+            }
+            records.add(value.payerRecord());
+            consensusTime = value.next();
+        }
+        return records;
+    }
+
+    private void addOnDisk(final EntityNum payerNum, final ExpirableTxnRecord payerRecord) {
+        final var consensusTime = payerRecord.getConsensusTime();
+        final var headKey = PayerRecordKey.headOf(payerNum);
+        var mutableHead = onDiskRecords.getForModify(headKey);
+        if (mutableHead == null) {
+            // Make sure doForEach() sees this payer even if prepForPayer() never ran for it
+            if (!payerRecords.containsKey(payerNum)) {
+                payerRecords.put(payerNum, new MerklePayerRecords());
+            }
+            mutableHead = PayerRecordValue.newHead();
+            onDiskRecords.put(headKey, mutableHead);
+        }
+        final var newest = new PayerRecordValue(payerRecord);
+        if (mutableHead.numRecords() > 0) {
+            final var prevConsensusTime = mutableHead.next();
+            newest.setPrev(prevConsensusTime);
+            final var prevNewest =
+                    onDiskRecords.getForModify(PayerRecordKey.from(payerNum, prevConsensusTime));
+            prevNewest.setNext(consensusTime);
+        }
+        onDiskRecords.put(PayerRecordKey.from(payerNum, consensusTime), newest);
+        mutableHead.trackNewest(consensusTime);
+    }
+
+    private void purgeExpiredOnDisk(
+            final EntityNum payerNum,
+            final long now,
+            final Consumer<ExpirableTxnRecord> purgeObserver) {
+        final var mutableHead = onDiskRecords.getForModify(PayerRecordKey.headOf(payerNum));
+        if (mutableHead == null) {
+            return;
+        }
+        while (mutableHead.numRecords() > 0) {
+            final var oldestKey = PayerRecordKey.from(payerNum, mutableHead.prev());
+            final var oldest = onDiskRecords.get(oldestKey);
+            if (oldest.payerRecord().getExpiry() > now) {
+                return;
+            }
+            onDiskRecords.remove(oldestKey);
+            mutableHead.forgetOldest(oldest.next());
+            purgeObserver.accept(oldest.payerRecord());
+        }
+    }
+
+    private void removeAllOnDisk(final EntityNum payerNum) {
+        final var head = onDiskRecords.remove(PayerRecordKey.headOf(payerNum));
+        if (head == null) {
+            return;
+        }
+        var consensusTime = head.prev();
+        for (int i = 0, n = head.numRecords(); i < n; i++) {
+            final var removed = onDiskRecords.remove(PayerRecordKey.from(payerNum, consensusTime));
+            if (removed == null) {
+                return;
+            }
+            consensusTime = removed.next();
+        }
+    }
 }
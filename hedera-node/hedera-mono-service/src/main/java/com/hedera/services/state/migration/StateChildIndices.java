@@ -31,9 +31,11 @@ public final class StateChildIndices {
     public static final int CONTRACT_STORAGE = 11;
     public static final int STAKING_INFO = 12;
     public static final int PAYER_RECORDS = 13;
+    public static final int ON_DISK_PAYER_RECORDS = 14;
 
     public static final int NUM_025X_CHILDREN = 12;
     public static final int NUM_032X_CHILDREN = 14;
+    public static final int NUM_033X_CHILDREN = 15;
 
     private StateChildIndices() {
         throw new UnsupportedOperationException("Utility Class");
@@ -15,4 +15,18 @@
  */
 package com.hedera.services.state.migration;
 
-public record ToDiskMigrations(boolean doAccounts, boolean doTokenRels) {}
+public record ToDiskMigrations(
+        boolean doAccounts,
+        boolean doTokenRels,
+        boolean doPayerRecords,
+        boolean doTokens,
+        boolean doTopics) {
+    public ToDiskMigrations(final boolean doAccounts, final boolean doTokenRels) {
+        this(doAccounts, doTokenRels, false);
+    }
+
+    public ToDiskMigrations(
+            final boolean doAccounts, final boolean doTokenRels, final boolean doPayerRecords) {
+        this(doAccounts, doTokenRels, doPayerRecords, false, false);
+    }
+}
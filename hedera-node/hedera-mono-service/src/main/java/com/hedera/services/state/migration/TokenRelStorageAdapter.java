@@ -15,9 +15,13 @@
  */
 package com.hedera.services.state.migration;
 
+import static com.hedera.services.stats.StateAccessProfiler.NOT_PROFILING;
+import static com.hedera.services.stats.StateAccessProfiler.Store.TOKEN_RELS;
+
 import com.hedera.services.state.merkle.MerkleTokenRelStatus;
 import com.hedera.services.state.virtual.EntityNumVirtualKey;
 import com.hedera.services.state.virtual.entities.OnDiskTokenRel;
+import com.hedera.services.stats.StateAccessProfiler;
 import com.hedera.services.utils.EntityNumPair;
 import com.swirlds.common.crypto.Hash;
 import com.swirlds.merkle.map.MerkleMap;
@@ -29,6 +33,7 @@ public class TokenRelStorageAdapter {
 
     private final @Nullable MerkleMap<EntityNumPair, MerkleTokenRelStatus> inMemoryRels;
     private final @Nullable VirtualMap<EntityNumVirtualKey, OnDiskTokenRel> onDiskRels;
+    private StateAccessProfiler profiler = NOT_PROFILING;
 
     public static TokenRelStorageAdapter fromInMemory(
             final MerkleMap<EntityNumPair, MerkleTokenRelStatus> rels) {
@@ -54,33 +59,55 @@ public class TokenRelStorageAdapter {
         }
     }
 
+    /**
+     * Starts recording the reads and writes of token associations with the given profiler; or
+     * stops recording them, if the profiler is null.
+     *
+     * @param profiler the profiler to use, or null
+     */
+    public void profileAccessWith(@Nullable final StateAccessProfiler profiler) {
+        this.profiler = (profiler == null) ? NOT_PROFILING : profiler;
+    }
+
     public HederaTokenRel get(final EntityNumPair num) {
-        return relsOnDisk
-                ? onDiskRels.get(EntityNumVirtualKey.fromPair(num))
-                : inMemoryRels.get(num);
+        final var start = profiler.startTiming();
+        final HederaTokenRel rel =
+                relsOnDisk
+                        ? onDiskRels.get(EntityNumVirtualKey.fromPair(num))
+                        : inMemoryRels.get(num);
+        profiler.recordRead(TOKEN_RELS, start);
+        return rel;
     }
 
     public HederaTokenRel getForModify(final EntityNumPair num) {
-        return relsOnDisk
-                ? onDiskRels.getForModify(EntityNumVirtualKey.fromPair(num))
-                : inMemoryRels.getForModify(num);
+        final var start = profiler.startTiming();
+        final HederaTokenRel rel =
+                relsOnDisk
+                        ? onDiskRels.getForModify(EntityNumVirtualKey.fromPair(num))
+                        : inMemoryRels.getForModify(num);
+        profiler.recordRead(TOKEN_RELS, start);
+        return rel;
     }
 
     public void put(final EntityNumPair num, final HederaTokenRel wrapper) {
+        final var start = profiler.startTiming();
         if (relsOnDisk) {
             wrapper.setKey(num);
             onDiskRels.put(EntityNumVirtualKey.fromPair(num), (OnDiskTokenRel) wrapper);
         } else {
             inMemoryRels.put(num, (MerkleTokenRelStatus) wrapper);
         }
+        profiler.recordWrite(TOKEN_RELS, start);
     }
 
     public void remove(final EntityNumPair num) {
+        final var start = profiler.startTiming();
         if (relsOnDisk) {
             onDiskRels.remove(EntityNumVirtualKey.fromPair(num));
         } else {
             inMemoryRels.remove(num);
         }
+        profiler.recordWrite(TOKEN_RELS, start);
     }
 
     public long size() {
@@ -88,9 +115,13 @@ public class TokenRelStorageAdapter {
     }
 
     public boolean containsKey(final EntityNumPair num) {
-        return relsOnDisk
-                ? onDiskRels.containsKey(EntityNumVirtualKey.fromPair(num))
-                : inMemoryRels.containsKey(num);
+        final var start = profiler.startTiming();
+        final var answer =
+                relsOnDisk
+                        ? onDiskRels.containsKey(EntityNumVirtualKey.fromPair(num))
+                        : inMemoryRels.containsKey(num);
+        profiler.recordRead(TOKEN_RELS, start);
+        return answer;
     }
 
     public void archive() {
@@ -15,9 +15,13 @@
  */
 package com.hedera.services.state.migration;
 
+import static com.hedera.services.stats.StateAccessProfiler.NOT_PROFILING;
+import static com.hedera.services.stats.StateAccessProfiler.Store.NFTS;
+
 import com.hedera.services.state.merkle.MerkleUniqueToken;
 import com.hedera.services.state.virtual.UniqueTokenKey;
 import com.hedera.services.state.virtual.UniqueTokenValue;
+import com.hedera.services.stats.StateAccessProfiler;
 import com.hedera.services.store.models.NftId;
 import com.hedera.services.utils.EntityNumPair;
 import com.swirlds.common.crypto.Hash;
@@ -40,6 +44,9 @@ public class UniqueTokenMapAdapter {
     /** True if {@link #virtualMap} is set. False if {@link #merkleMap} is set. */
     private final boolean isVirtual;
 
+    /** If not null, the profiler recording reads and writes of this map. */
+    private StateAccessProfiler profiler = NOT_PROFILING;
+
     /**
      * Construct a UniqueTokenMapAdapter given a VirtualMap instance.
      *
@@ -74,6 +81,16 @@ public class UniqueTokenMapAdapter {
         this.virtualMap = null;
     }
 
+    /**
+     * Starts recording the reads and writes of NFTs with the given profiler; or stops recording
+     * them, if the profiler is null.
+     *
+     * @param profiler the profiler to use, or null
+     */
+    public void profileAccessWith(@Nullable final StateAccessProfiler profiler) {
+        this.profiler = (profiler == null) ? NOT_PROFILING : profiler;
+    }
+
     /**
      * @return true if the adapter makes use of a virtual map instance.
      */
@@ -109,9 +126,13 @@ public class UniqueTokenMapAdapter {
      * @return true if the underlying map has a value associated with the provided key.
      */
     public boolean containsKey(final NftId nftId) {
-        return isVirtual
-                ? virtualMap.containsKey(UniqueTokenKey.from(nftId))
-                : merkleMap.containsKey(EntityNumPair.fromNftId(nftId));
+        final var start = profiler.startTiming();
+        final var answer =
+                isVirtual
+                        ? virtualMap.containsKey(UniqueTokenKey.from(nftId))
+                        : merkleMap.containsKey(EntityNumPair.fromNftId(nftId));
+        profiler.recordRead(NFTS, start);
+        return answer;
     }
 
     /**
@@ -130,11 +151,13 @@ public class UniqueTokenMapAdapter {
                             : "Trying to insert a virtual nft in MerkleMap");
         }
 
+        final var start = profiler.startTiming();
         if (isVirtual) {
             virtualMap.put(UniqueTokenKey.from(key), value.uniqueTokenValue());
         } else {
             merkleMap.put(EntityNumPair.fromNftId(key), value.merkleUniqueToken());
         }
+        profiler.recordWrite(NFTS, start);
     }
 
     /**
@@ -144,9 +167,13 @@ public class UniqueTokenMapAdapter {
      * @return the value associated with the key.
      */
     public UniqueTokenAdapter get(final NftId key) {
-        return isVirtual
-                ? UniqueTokenAdapter.wrap(virtualMap.get(UniqueTokenKey.from(key)))
-                : UniqueTokenAdapter.wrap(merkleMap.get(EntityNumPair.fromNftId(key)));
+        final var start = profiler.startTiming();
+        final var nft =
+                isVirtual
+                        ? UniqueTokenAdapter.wrap(virtualMap.get(UniqueTokenKey.from(key)))
+                        : UniqueTokenAdapter.wrap(merkleMap.get(EntityNumPair.fromNftId(key)));
+        profiler.recordRead(NFTS, start);
+        return nft;
     }
 
     /**
@@ -157,9 +184,14 @@ public class UniqueTokenMapAdapter {
      *     will be updated in the map.
      */
     public UniqueTokenAdapter getForModify(final NftId key) {
-        return isVirtual
-                ? UniqueTokenAdapter.wrap(virtualMap.getForModify(UniqueTokenKey.from(key)))
-                : UniqueTokenAdapter.wrap(merkleMap.getForModify(EntityNumPair.fromNftId(key)));
+        final var start = profiler.startTiming();
+        final var nft =
+                isVirtual
+                        ? UniqueTokenAdapter.wrap(virtualMap.getForModify(UniqueTokenKey.from(key)))
+                        : UniqueTokenAdapter.wrap(
+                                merkleMap.getForModify(EntityNumPair.fromNftId(key)));
+        profiler.recordRead(NFTS, start);
+        return nft;
     }
 
     /**
@@ -168,11 +200,13 @@ public class UniqueTokenMapAdapter {
      * @param key of the value to remove from the map.
      */
     public void remove(final NftId key) {
+        final var start = profiler.startTiming();
         if (isVirtual) {
             virtualMap.remove(UniqueTokenKey.from(key));
         } else {
             merkleMap.remove(EntityNumPair.fromNftId(key));
         }
+        profiler.recordWrite(NFTS, start);
     }
 
     /** Archive a copy of the map. This is a no-op for VirtualMap. */
@@ -116,6 +116,9 @@ public class ExpirableTxnRecord implements FastCopyable, SerializableHashable {
     private byte[] ethereumHash = MISSING_ETHEREUM_HASH;
     private byte[] pseudoRandomBytes = MISSING_PSEUDORANDOM_BYTES;
     private int pseudoRandomNumber = MISSING_NUMBER;
+    // Shared by the record stream and every query for this record; reset by any setter that
+    // changes an externalized field
+    private volatile TransactionRecord grpcRecord;
 
     public ExpirableTxnRecord() {
         /* RuntimeConstructable */
@@ -363,6 +366,7 @@ public class ExpirableTxnRecord implements FastCopyable, SerializableHashable {
 
     @Override
     public void deserialize(SerializableDataInputStream in, int version) throws IOException {
+        grpcRecord = null;
         receipt = readNullableSerializable(in);
         txnHash = in.readByteArray(MAX_TXN_HASH_BYTES);
         txnId = readNullableSerializable(in);
@@ -535,6 +539,7 @@ public class ExpirableTxnRecord implements FastCopyable, SerializableHashable {
 
     public void setPackedParentConsensusTime(final long packedParentConsensusTime) {
         this.packedParentConsensusTime = packedParentConsensusTime;
+        grpcRecord = null;
     }
 
     public ByteString getAlias() {
@@ -547,14 +552,17 @@ public class ExpirableTxnRecord implements FastCopyable, SerializableHashable {
 
     public void setEthereumHash(byte[] ethereumHash) {
         this.ethereumHash = ethereumHash;
+        grpcRecord = null;
     }
 
     public void setPseudoRandomBytes(final byte[] pseudoRandomBytes) {
         this.pseudoRandomBytes = pseudoRandomBytes;
+        grpcRecord = null;
     }
 
     public void setPseudoRandomNumber(final int pseudoRandomNumber) {
         this.pseudoRandomNumber = pseudoRandomNumber;
+        grpcRecord = null;
     }
 
     public byte[] getPseudoRandomBytes() {
@@ -580,12 +588,28 @@ public class ExpirableTxnRecord implements FastCopyable, SerializableHashable {
         return records.stream().map(ExpirableTxnRecord::asGrpc).toList();
     }
 
+    /**
+     * Returns the gRPC form of this record, building it at most once per record; the same instance
+     * is then shared by the record stream and any queries answered from the record cache or payer
+     * records.
+     *
+     * @return the gRPC form of this record
+     */
     public TransactionRecord asGrpc() {
+        var result = grpcRecord;
+        if (result == null) {
+            result = buildGrpc();
+            grpcRecord = result;
+        }
+        return result;
+    }
+
+    private TransactionRecord buildGrpc() {
         var grpc = TransactionRecord.newBuilder();
 
         grpc.setTransactionFee(fee);
         if (receipt != null) {
-            grpc.setReceipt(TxnReceipt.convert(receipt));
+            grpc.setReceipt(receipt.toGrpc());
         }
         if (txnId != null) {
             grpc.setTransactionID(txnId.toGrpc());
@@ -992,11 +1016,13 @@ public class ExpirableTxnRecord implements FastCopyable, SerializableHashable {
     @VisibleForTesting
     void clearStakingRewardsPaid() {
         stakingRewardsPaid = null;
+        grpcRecord = null;
     }
 
     @VisibleForTesting
     public void clearPrngData() {
         pseudoRandomBytes = MISSING_PSEUDORANDOM_BYTES;
         pseudoRandomNumber = MISSING_NUMBER;
+        grpcRecord = null;
     }
 }
@@ -15,10 +15,23 @@
  */
 package com.hedera.services.state.virtual;
 
+import static com.hedera.services.state.virtual.entities.OnDiskEntityType.TOKEN;
+import static com.hedera.services.state.virtual.entities.OnDiskEntityType.TOPIC;
+
+import com.hedera.services.state.merkle.MerkleToken;
+import com.hedera.services.state.merkle.MerkleTopic;
 import com.hedera.services.state.virtual.entities.OnDiskAccount;
 import com.hedera.services.state.virtual.entities.OnDiskAccountSupplier;
+import com.hedera.services.state.virtual.entities.OnDiskEntity;
+import com.hedera.services.state.virtual.entities.OnDiskEntitySupplier;
+import com.hedera.services.state.virtual.entities.OnDiskEntityType;
 import com.hedera.services.state.virtual.entities.OnDiskTokenRel;
 import com.hedera.services.state.virtual.entities.OnDiskTokenRelSupplier;
+import com.hedera.services.state.virtual.records.PayerRecordKey;
+import com.hedera.services.state.virtual.records.PayerRecordKeySerializer;
+import com.hedera.services.state.virtual.records.PayerRecordKeySupplier;
+import com.hedera.services.state.virtual.records.PayerRecordValue;
+import com.hedera.services.state.virtual.records.PayerRecordValueSupplier;
 import com.hedera.services.state.virtual.schedule.ScheduleEqualityVirtualKey;
 import com.hedera.services.state.virtual.schedule.ScheduleEqualityVirtualKeySerializer;
 import com.hedera.services.state.virtual.schedule.ScheduleEqualityVirtualKeySupplier;
@@ -31,7 +44,10 @@ import com.hedera.services.state.virtual.schedule.ScheduleVirtualValueSupplier;
 import com.hedera.services.state.virtual.temporal.SecondSinceEpocVirtualKey;
 import com.hedera.services.state.virtual.temporal.SecondSinceEpocVirtualKeySerializer;
 import com.hedera.services.state.virtual.temporal.SecondSinceEpocVirtualKeySupplier;
+import com.hedera.services.utils.EntityNum;
 import com.swirlds.common.crypto.DigestType;
+import com.swirlds.common.merkle.MerkleLeaf;
+import com.swirlds.common.merkle.utility.Keyed;
 import com.swirlds.jasperdb.JasperDbBuilder;
 import com.swirlds.jasperdb.VirtualInternalRecordSerializer;
 import com.swirlds.jasperdb.VirtualLeafRecordSerializer;
@@ -48,9 +64,12 @@ public class VirtualMapFactory {
     private static final long MAX_SCHEDULES = 1_000_000_000L;
     private static final long MAX_ACCOUNTS = 100_000_000L;
     private static final long MAX_TOKEN_RELS = 100_000_000L;
+    private static final long MAX_TOKENS = 10_000_000L;
+    private static final long MAX_TOPICS = 10_000_000L;
     private static final long MAX_SCHEDULE_SECONDS = 500_000_000;
     private static final long MAX_IN_MEMORY_INTERNAL_HASHES = 0;
     private static final long MAX_MINTABLE_NFTS = 500_000_000L;
+    private static final long MAX_PAYER_RECORDS = 100_000_000L;
     private static final boolean PREFER_DISK_BASED_INDICIES = false;
 
     private static final String BLOBS_VM_NAME = "fileStore";
@@ -60,7 +79,10 @@ public class VirtualMapFactory {
     private static final String SCHEDULE_EQUALITY_STORAGE_VM_NAME = "scheduleEqualityStore";
     private static final String ON_DISK_ACCOUNT_STORAGE_VM_NAME = "accountStore";
     private static final String ON_DISK_TOKEN_RELS_STORAGE_VM_NAME = "tokenRelStore";
+    private static final String ON_DISK_TOKENS_STORAGE_VM_NAME = "tokenStore";
+    private static final String ON_DISK_TOPICS_STORAGE_VM_NAME = "topicStore";
     private static final String UNIQUE_TOKENS_VM_NAME = "uniqueTokenStore";
+    private static final String PAYER_RECORDS_VM_NAME = "payerRecordStore";
 
     @FunctionalInterface
     public interface JasperDbBuilderFactory {
@@ -265,6 +287,70 @@ public class VirtualMapFactory {
         return new VirtualMap<>(ON_DISK_TOKEN_RELS_STORAGE_VM_NAME, dsBuilder);
     }
 
+    public VirtualMap<EntityNumVirtualKey, OnDiskEntity<MerkleToken>> newOnDiskTokens() {
+        return newOnDiskEntities(TOKEN, MAX_TOKENS, ON_DISK_TOKENS_STORAGE_VM_NAME);
+    }
+
+    public VirtualMap<EntityNumVirtualKey, OnDiskEntity<MerkleTopic>> newOnDiskTopics() {
+        return newOnDiskEntities(TOPIC, MAX_TOPICS, ON_DISK_TOPICS_STORAGE_VM_NAME);
+    }
+
+    private <V extends MerkleLeaf & Keyed<EntityNum>>
+            VirtualMap<EntityNumVirtualKey, OnDiskEntity<V>> newOnDiskEntities(
+                    final OnDiskEntityType<V> type, final long maxNumOfKeys, final String vmName) {
+        final var keySerializer = new EntityNumVirtualKeySerializer();
+        final VirtualLeafRecordSerializer<EntityNumVirtualKey, OnDiskEntity<V>>
+                entityLeafRecordSerializer =
+                        new VirtualLeafRecordSerializer<>(
+                                CURRENT_SERIALIZATION_VERSION,
+                                DigestType.SHA_384,
+                                CURRENT_SERIALIZATION_VERSION,
+                                keySerializer.getSerializedSize(),
+                                new EntityNumVirtualKeySupplier(),
+                                CURRENT_SERIALIZATION_VERSION,
+                                OnDiskEntity.serializedSizeInBytes(),
+                                new OnDiskEntitySupplier<>(type),
+                                false);
+
+        final JasperDbBuilder<EntityNumVirtualKey, OnDiskEntity<V>> dsBuilder =
+                jdbBuilderFactory.newJdbBuilder();
+        dsBuilder
+                .virtualLeafRecordSerializer(entityLeafRecordSerializer)
+                .virtualInternalRecordSerializer(new VirtualInternalRecordSerializer())
+                .keySerializer(keySerializer)
+                .maxNumOfKeys(maxNumOfKeys)
+                .preferDiskBasedIndexes(PREFER_DISK_BASED_INDICIES)
+                .internalHashesRamToDiskThreshold(MAX_IN_MEMORY_INTERNAL_HASHES);
+        return new VirtualMap<>(vmName, dsBuilder);
+    }
+
+    public VirtualMap<PayerRecordKey, PayerRecordValue> newOnDiskPayerRecords() {
+        final var keySerializer = new PayerRecordKeySerializer();
+        final VirtualLeafRecordSerializer<PayerRecordKey, PayerRecordValue>
+                recordLeafRecordSerializer =
+                        new VirtualLeafRecordSerializer<>(
+                                CURRENT_SERIALIZATION_VERSION,
+                                DigestType.SHA_384,
+                                CURRENT_SERIALIZATION_VERSION,
+                                keySerializer.getSerializedSize(),
+                                new PayerRecordKeySupplier(),
+                                CURRENT_SERIALIZATION_VERSION,
+                                PayerRecordValue.serializedSizeInBytes(),
+                                new PayerRecordValueSupplier(),
+                                false);
+
+        final JasperDbBuilder<PayerRecordKey, PayerRecordValue> dsBuilder =
+                jdbBuilderFactory.newJdbBuilder();
+        dsBuilder
+                .virtualLeafRecordSerializer(recordLeafRecordSerializer)
+                .virtualInternalRecordSerializer(new VirtualInternalRecordSerializer())
+                .keySerializer(keySerializer)
+                .maxNumOfKeys(MAX_PAYER_RECORDS)
+                .preferDiskBasedIndexes(PREFER_DISK_BASED_INDICIES)
+                .internalHashesRamToDiskThreshold(MAX_IN_MEMORY_INTERNAL_HASHES);
+        return new VirtualMap<>(PAYER_RECORDS_VM_NAME, dsBuilder);
+    }
+
     public VirtualMap<UniqueTokenKey, UniqueTokenValue> newVirtualizedUniqueTokenStorage() {
         var storageKeySerializer = new UniqueTokenKeySerializer();
         VirtualLeafRecordSerializer<UniqueTokenKey, UniqueTokenValue> storageLeafRecordSerializer =
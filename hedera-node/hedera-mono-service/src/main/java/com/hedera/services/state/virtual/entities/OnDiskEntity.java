@@ -0,0 +1,158 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.state.virtual.entities;
+
+import com.hedera.services.utils.EntityNum;
+import com.swirlds.common.io.streams.SerializableDataInputStream;
+import com.swirlds.common.io.streams.SerializableDataOutputStream;
+import com.swirlds.common.merkle.MerkleLeaf;
+import com.swirlds.common.merkle.utility.Keyed;
+import com.swirlds.jasperdb.files.DataFileCommon;
+import com.swirlds.virtualmap.VirtualValue;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * A {@link VirtualValue} that stores an entity leaf such as a {@link
+ * com.hedera.services.state.merkle.MerkleToken} on disk, re-using the leaf's existing
+ * serialization format behind a one-byte {@link OnDiskEntityType} id; the wrapped leaf is what the
+ * rest of the code reads and mutates.
+ *
+ * @param <V> the type of the wrapped leaf
+ */
+public class OnDiskEntity<V extends MerkleLeaf & Keyed<EntityNum>> implements VirtualValue {
+    private static final int CURRENT_VERSION = 1;
+    private static final long CLASS_ID = 0x2c5f7a9e13b8d046L;
+
+    private OnDiskEntityType<V> type;
+    private V entity;
+
+    private boolean immutable = false;
+
+    public OnDiskEntity() {
+        /* Required by deserialization facility */
+    }
+
+    public OnDiskEntity(final OnDiskEntityType<V> type) {
+        this(type, type.newEmpty());
+    }
+
+    public OnDiskEntity(final OnDiskEntityType<V> type, final V entity) {
+        this.type = type;
+        this.entity = entity;
+    }
+
+    public static <V extends MerkleLeaf & Keyed<EntityNum>> OnDiskEntity<V> from(
+            final OnDiskEntityType<V> type, final V inMemoryEntity) {
+        return new OnDiskEntity<>(type, type.detachedCopyOf(inMemoryEntity));
+    }
+
+    public static int serializedSizeInBytes() {
+        return DataFileCommon.VARIABLE_DATA_SIZE;
+    }
+
+    public OnDiskEntityType<V> getType() {
+        return type;
+    }
+
+    public V getEntity() {
+        return entity;
+    }
+
+    @Override
+    public long getClassId() {
+        return CLASS_ID;
+    }
+
+    @Override
+    public int getVersion() {
+        return CURRENT_VERSION;
+    }
+
+    @Override
+    public boolean isImmutable() {
+        return immutable;
+    }
+
+    @Override
+    public OnDiskEntity<V> copy() {
+        this.immutable = true;
+        return new OnDiskEntity<>(type, type.fastCopyOf(entity));
+    }
+
+    @Override
+    public VirtualValue asReadOnly() {
+        final var copy = new OnDiskEntity<>(type, type.detachedCopyOf(entity));
+        copy.immutable = true;
+        return copy;
+    }
+
+    @Override
+    public void serialize(final ByteBuffer to) throws IOException {
+        to.put((byte) type.id());
+        WrappedLeafSerdes.serializeTo(to, entity);
+    }
+
+    @Override
+    public void deserialize(final ByteBuffer from, final int version) throws IOException {
+        throwIfImmutable();
+        resetTo(0xff & from.get());
+        WrappedLeafSerdes.deserializeFrom(from, entity);
+    }
+
+    @Override
+    public void serialize(final SerializableDataOutputStream out) throws IOException {
+        out.writeByte(type.id());
+        WrappedLeafSerdes.serializeTo(out, entity);
+    }
+
+    @Override
+    public void deserialize(final SerializableDataInputStream in, final int version)
+            throws IOException {
+        throwIfImmutable();
+        resetTo(0xff & in.readByte());
+        WrappedLeafSerdes.deserializeFrom(in, entity);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final var that = (OnDiskEntity<?>) o;
+        return type == that.type && Objects.equals(entity, that.entity);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, entity);
+    }
+
+    @Override
+    public String toString() {
+        return "OnDiskEntity{" + type + "=" + entity + "}";
+    }
+
+    @SuppressWarnings("unchecked")
+    private void resetTo(final int typeId) {
+        type = (OnDiskEntityType<V>) OnDiskEntityType.fromId(typeId);
+        entity = type.newEmpty();
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.state.virtual.entities;
+
+import com.hedera.services.utils.EntityNum;
+import com.swirlds.common.io.streams.SerializableDataInputStream;
+import com.swirlds.common.io.streams.SerializableDataOutputStream;
+import com.swirlds.common.merkle.MerkleLeaf;
+import com.swirlds.common.merkle.utility.Keyed;
+import com.swirlds.jasperdb.SelfSerializableSupplier;
+import java.io.IOException;
+
+/**
+ * Supplies empty {@link OnDiskEntity} values of one {@link OnDiskEntityType}; the type id is
+ * serialized with the supplier, so a restored map keeps supplying the right kind of entity.
+ *
+ * @param <V> the type of the wrapped leaf
+ */
+public class OnDiskEntitySupplier<V extends MerkleLeaf & Keyed<EntityNum>>
+        implements SelfSerializableSupplier<OnDiskEntity<V>> {
+    static final long CLASS_ID = 0x6a1d3f08c2e94b57L;
+    static final int CURRENT_VERSION = 1;
+
+    private OnDiskEntityType<V> type;
+
+    public OnDiskEntitySupplier() {
+        /* Required by deserialization facility */
+    }
+
+    public OnDiskEntitySupplier(final OnDiskEntityType<V> type) {
+        this.type = type;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void deserialize(final SerializableDataInputStream in, final int version)
+            throws IOException {
+        type = (OnDiskEntityType<V>) OnDiskEntityType.fromId(0xff & in.readByte());
+    }
+
+    @Override
+    public void serialize(final SerializableDataOutputStream out) throws IOException {
+        out.writeByte(type.id());
+    }
+
+    @Override
+    public long getClassId() {
+        return CLASS_ID;
+    }
+
+    @Override
+    public int getVersion() {
+        return CURRENT_VERSION;
+    }
+
+    @Override
+    public OnDiskEntity<V> get() {
+        return new OnDiskEntity<>(type);
+    }
+}
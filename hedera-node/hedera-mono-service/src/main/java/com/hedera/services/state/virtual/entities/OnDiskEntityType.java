@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.state.virtual.entities;
+
+import com.hedera.services.state.merkle.MerkleToken;
+import com.hedera.services.state.merkle.MerkleTopic;
+import com.hedera.services.utils.EntityNum;
+import com.swirlds.common.merkle.MerkleLeaf;
+import com.swirlds.common.merkle.utility.Keyed;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * The kinds of Merkle leaf an {@link OnDiskEntity} can wrap. Each kind has an id that is written
+ * ahead of the wrapped leaf, so a serialized {@link OnDiskEntity} knows what it holds.
+ *
+ * @param <V> the type of the wrapped leaf
+ */
+public final class OnDiskEntityType<V extends MerkleLeaf & Keyed<EntityNum>> {
+    public static final OnDiskEntityType<MerkleToken> TOKEN =
+            new OnDiskEntityType<>(
+                    0, "token", MerkleToken::new, MerkleToken::new, MerkleToken::copy);
+    public static final OnDiskEntityType<MerkleTopic> TOPIC =
+            new OnDiskEntityType<>(
+                    1, "topic", MerkleTopic::new, MerkleTopic::new, MerkleTopic::copy);
+
+    private static final OnDiskEntityType<?>[] ENTITY_TYPES = {TOKEN, TOPIC};
+
+    private final int id;
+    private final String name;
+    private final Supplier<V> emptyFactory;
+    private final UnaryOperator<V> detachedCopier;
+    private final UnaryOperator<V> fastCopier;
+
+    private OnDiskEntityType(
+            final int id,
+            final String name,
+            final Supplier<V> emptyFactory,
+            final UnaryOperator<V> detachedCopier,
+            final UnaryOperator<V> fastCopier) {
+        this.id = id;
+        this.name = name;
+        this.emptyFactory = emptyFactory;
+        this.detachedCopier = detachedCopier;
+        this.fastCopier = fastCopier;
+    }
+
+    static OnDiskEntityType<?> fromId(final int id) {
+        if (id < 0 || id >= ENTITY_TYPES.length) {
+            throw new IllegalArgumentException("Invalid on-disk entity type id " + id);
+        }
+        return ENTITY_TYPES[id];
+    }
+
+    int id() {
+        return id;
+    }
+
+    V newEmpty() {
+        return emptyFactory.get();
+    }
+
+    /**
+     * Returns a mutable copy of the given leaf that leaves the leaf itself mutable.
+     *
+     * @param entity the leaf to copy
+     * @return the copy
+     */
+    V detachedCopyOf(final V entity) {
+        return detachedCopier.apply(entity);
+    }
+
+    /**
+     * Returns a fast copy of the given leaf, which makes the leaf itself immutable.
+     *
+     * @param entity the leaf to copy
+     * @return the copy
+     */
+    V fastCopyOf(final V entity) {
+        return fastCopier.apply(entity);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.state.virtual.entities;
+
+import com.swirlds.common.io.SelfSerializable;
+import com.swirlds.common.io.streams.SerializableDataInputStream;
+import com.swirlds.common.io.streams.SerializableDataOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Writes and reads a self-serializable Merkle leaf to and from a {@link ByteBuffer} as its
+ * serialization version, followed by its length-prefixed stream serialization; so a {@link
+ * com.swirlds.virtualmap.VirtualValue} can store an existing leaf type without duplicating its
+ * serialization format.
+ */
+final class WrappedLeafSerdes {
+    private WrappedLeafSerdes() {
+        throw new UnsupportedOperationException("Utility Class");
+    }
+
+    static void serializeTo(final ByteBuffer to, final SelfSerializable leaf) throws IOException {
+        final var baos = new ByteArrayOutputStream();
+        try (final var out = new SerializableDataOutputStream(baos)) {
+            leaf.serialize(out);
+        }
+        final var bytes = baos.toByteArray();
+        to.putInt(leaf.getVersion());
+        to.putInt(bytes.length);
+        to.put(bytes);
+    }
+
+    static void deserializeFrom(final ByteBuffer from, final SelfSerializable leaf)
+            throws IOException {
+        final var version = from.getInt();
+        final var bytes = new byte[from.getInt()];
+        from.get(bytes);
+        try (final var in = new SerializableDataInputStream(new ByteArrayInputStream(bytes))) {
+            leaf.deserialize(in, version);
+        }
+    }
+
+    static void serializeTo(final SerializableDataOutputStream out, final SelfSerializable leaf)
+            throws IOException {
+        out.writeInt(leaf.getVersion());
+        leaf.serialize(out);
+    }
+
+    static void deserializeFrom(final SerializableDataInputStream in, final SelfSerializable leaf)
+            throws IOException {
+        leaf.deserialize(in, in.readInt());
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.state.virtual.records;
+
+import com.google.common.base.MoreObjects;
+import com.hedera.services.state.submerkle.RichInstant;
+import com.hedera.services.utils.EntityNum;
+import com.hedera.services.utils.MiscUtils;
+import com.swirlds.common.io.streams.SerializableDataInputStream;
+import com.swirlds.common.io.streams.SerializableDataOutputStream;
+import com.swirlds.virtualmap.VirtualKey;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A {@link VirtualKey} for a payer record, identified by the number of the account that paid for
+ * the transaction and the consensus time at which the transaction was handled.
+ *
+ * <p>Keys sort first by payer number and then by consensus time, so all the records of a given
+ * payer are contiguous and in the same (FIFO) order they would have in a payer's {@link
+ * com.swirlds.fcqueue.FCQueue}. The key returned by {@link #headOf(EntityNum)} sorts before all
+ * other keys of its payer, and identifies the head of that payer's list of records.
+ */
+public final class PayerRecordKey implements VirtualKey<PayerRecordKey> {
+    static final long CLASS_ID = 0x4a1cd1a0b0c7d2e5L;
+    static final int BYTES_IN_SERIALIZED_FORM = 2 * Long.BYTES + Integer.BYTES;
+    static final long HEAD_SECONDS = -1;
+
+    public static final int CURRENT_VERSION = 1;
+
+    private long payerNum;
+    private long seconds;
+    private int nanos;
+
+    public PayerRecordKey() {
+        this(-1, 0, 0);
+    }
+
+    public PayerRecordKey(final long payerNum, final long seconds, final int nanos) {
+        this.payerNum = payerNum;
+        this.seconds = seconds;
+        this.nanos = nanos;
+    }
+
+    public static PayerRecordKey from(final EntityNum payerNum, final RichInstant consensusTime) {
+        return new PayerRecordKey(
+                payerNum.longValue(), consensusTime.getSeconds(), consensusTime.getNanos());
+    }
+
+    public static PayerRecordKey headOf(final EntityNum payerNum) {
+        return new PayerRecordKey(payerNum.longValue(), HEAD_SECONDS, 0);
+    }
+
+    public static int sizeInBytes() {
+        return BYTES_IN_SERIALIZED_FORM;
+    }
+
+    public long getPayerNum() {
+        return payerNum;
+    }
+
+    public boolean isHead() {
+        return seconds == HEAD_SECONDS;
+    }
+
+    public RichInstant getConsensusTime() {
+        return new RichInstant(seconds, nanos);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getClassId() {
+        return CLASS_ID;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getVersion() {
+        return CURRENT_VERSION;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void serialize(final SerializableDataOutputStream out) throws IOException {
+        out.writeLong(payerNum);
+        out.writeLong(seconds);
+        out.writeInt(nanos);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void deserialize(final SerializableDataInputStream in, final int version)
+            throws IOException {
+        payerNum = in.readLong();
+        seconds = in.readLong();
+        nanos = in.readInt();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void serialize(final ByteBuffer buffer) throws IOException {
+        buffer.putLong(payerNum);
+        buffer.putLong(seconds);
+        buffer.putInt(nanos);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void deserialize(final ByteBuffer buffer, final int version) throws IOException {
+        payerNum = buffer.getLong();
+        seconds = buffer.getLong();
+        nanos = buffer.getInt();
+    }
+
+    /**
+     * Verifies if the content from {@code buffer} is equal to the content of this instance.
+     *
+     * @param buffer The buffer with data to be compared with this class.
+     * @param version The version of the data inside the given {@code buffer}.
+     * @return {@code true} if the content from the buffer has the same data as this instance.
+     *     {@code false}, otherwise.
+     * @throws IOException
+     */
+    public boolean equals(final ByteBuffer buffer, final int version) throws IOException {
+        return buffer.getLong() == payerNum
+                && buffer.getLong() == seconds
+                && buffer.getInt() == nanos;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int compareTo(@NotNull final PayerRecordKey that) {
+        if (this == that) {
+            return 0;
+        }
+        if (payerNum != that.payerNum) {
+            return Long.compare(payerNum, that.payerNum);
+        }
+        if (seconds != that.seconds) {
+            return Long.compare(seconds, that.seconds);
+        }
+        return Integer.compare(nanos, that.nanos);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final PayerRecordKey that = (PayerRecordKey) o;
+        return payerNum == that.payerNum && seconds == that.seconds && nanos == that.nanos;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode() {
+        final var timeHash = MiscUtils.perm64(seconds * 1_000_000_000L + nanos);
+        return (int) MiscUtils.perm64(payerNum ^ timeHash);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(PayerRecordKey.class)
+                .add("payerNum", payerNum)
+                .add("seconds", seconds)
+                .add("nanos", nanos)
+                .toString();
+    }
+}
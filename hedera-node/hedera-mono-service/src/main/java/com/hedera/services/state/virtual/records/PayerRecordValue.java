@@ -0,0 +1,280 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.state.virtual.records;
+
+import static com.hedera.services.state.submerkle.RichInstant.MISSING_INSTANT;
+
+import com.google.common.base.MoreObjects;
+import com.hedera.services.state.submerkle.ExpirableTxnRecord;
+import com.hedera.services.state.submerkle.RichInstant;
+import com.swirlds.common.io.streams.SerializableDataInputStream;
+import com.swirlds.common.io.streams.SerializableDataOutputStream;
+import com.swirlds.jasperdb.files.DataFileCommon;
+import com.swirlds.virtualmap.VirtualValue;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * A {@link VirtualValue} holding a single payer record, plus links to the consensus times of the
+ * previous (older) and next (newer) records of the same payer.
+ *
+ * <p>Since a payer's records are always added in consensus order, and always expire in that same
+ * order, these links let us treat the records of a payer as a doubly-linked list on disk.
+ *
+ * <p>The list is anchored by a <i>head</i> value (stored under {@link
+ * PayerRecordKey#headOf(com.hedera.services.utils.EntityNum)}) that has no record; but whose
+ * {@code prev} and {@code next} links are the consensus times of the oldest and newest records of
+ * the payer, and whose {@code numRecords} is the length of the list.
+ */
+public class PayerRecordValue implements VirtualValue {
+    private static final int CURRENT_VERSION = 1;
+    private static final long CLASS_ID = 0x1b3e80f9a6c25d47L;
+
+    private RichInstant prev = MISSING_INSTANT;
+    private RichInstant next = MISSING_INSTANT;
+    private int numRecords;
+    private ExpirableTxnRecord payerRecord;
+
+    private boolean immutable = false;
+
+    public PayerRecordValue() {
+        // Intentional no-op
+    }
+
+    public PayerRecordValue(final ExpirableTxnRecord payerRecord) {
+        this.payerRecord = payerRecord;
+    }
+
+    public PayerRecordValue(final PayerRecordValue that) {
+        this.prev = that.prev;
+        this.next = that.next;
+        this.numRecords = that.numRecords;
+        this.payerRecord = that.payerRecord;
+    }
+
+    public static PayerRecordValue newHead() {
+        return new PayerRecordValue();
+    }
+
+    public static int serializedSizeInBytes() {
+        return DataFileCommon.VARIABLE_DATA_SIZE;
+    }
+
+    @Override
+    public long getClassId() {
+        return CLASS_ID;
+    }
+
+    @Override
+    public int getVersion() {
+        return CURRENT_VERSION;
+    }
+
+    @Override
+    public boolean isImmutable() {
+        return immutable;
+    }
+
+    @Override
+    public PayerRecordValue copy() {
+        this.immutable = true;
+        return new PayerRecordValue(this);
+    }
+
+    @Override
+    public VirtualValue asReadOnly() {
+        final var copy = new PayerRecordValue(this);
+        copy.immutable = true;
+        return copy;
+    }
+
+    @Override
+    public void serialize(final SerializableDataOutputStream out) throws IOException {
+        out.writeLong(prev.getSeconds());
+        out.writeInt(prev.getNanos());
+        out.writeLong(next.getSeconds());
+        out.writeInt(next.getNanos());
+        out.writeInt(numRecords);
+        if (payerRecord == null) {
+            out.writeBoolean(false);
+        } else {
+            out.writeBoolean(true);
+            out.writeSerializable(payerRecord, false);
+        }
+    }
+
+    @Override
+    public void deserialize(final SerializableDataInputStream in, final int version)
+            throws IOException {
+        throwIfImmutable();
+        prev = new RichInstant(in.readLong(), in.readInt());
+        next = new RichInstant(in.readLong(), in.readInt());
+        numRecords = in.readInt();
+        payerRecord = in.readBoolean() ? in.readSerializable(false, ExpirableTxnRecord::new) : null;
+    }
+
+    @Override
+    public void serialize(final ByteBuffer to) throws IOException {
+        to.putLong(prev.getSeconds());
+        to.putInt(prev.getNanos());
+        to.putLong(next.getSeconds());
+        to.putInt(next.getNanos());
+        to.putInt(numRecords);
+        if (payerRecord == null) {
+            to.putInt(0);
+        } else {
+            final var recordBytes = serializedRecord();
+            to.putInt(recordBytes.length);
+            to.put(recordBytes);
+        }
+    }
+
+    @Override
+    public void deserialize(final ByteBuffer from, final int version) throws IOException {
+        throwIfImmutable();
+        prev = new RichInstant(from.getLong(), from.getInt());
+        next = new RichInstant(from.getLong(), from.getInt());
+        numRecords = from.getInt();
+        final var recordLen = from.getInt();
+        if (recordLen == 0) {
+            payerRecord = null;
+        } else {
+            final var recordBytes = new byte[recordLen];
+            from.get(recordBytes);
+            deserializeRecord(recordBytes);
+        }
+    }
+
+    public ExpirableTxnRecord payerRecord() {
+        return payerRecord;
+    }
+
+    public boolean isHead() {
+        return payerRecord == null;
+    }
+
+    public int numRecords() {
+        return numRecords;
+    }
+
+    public RichInstant prev() {
+        return prev;
+    }
+
+    public RichInstant next() {
+        return next;
+    }
+
+    public boolean hasPrev() {
+        return !prev.isMissing();
+    }
+
+    public boolean hasNext() {
+        return !next.isMissing();
+    }
+
+    public void setPrev(final RichInstant prev) {
+        throwIfImmutable("Tried to set prev on an immutable PayerRecordValue");
+        this.prev = prev;
+    }
+
+    public void setNext(final RichInstant next) {
+        throwIfImmutable("Tried to set next on an immutable PayerRecordValue");
+        this.next = next;
+    }
+
+    /**
+     * Updates this head to include a new (newest) record with the given consensus time.
+     *
+     * @param consensusTime the consensus time of the new record
+     */
+    public void trackNewest(final RichInstant consensusTime) {
+        throwIfImmutable("Tried to track a record on an immutable PayerRecordValue");
+        if (numRecords == 0) {
+            prev = consensusTime;
+        }
+        next = consensusTime;
+        numRecords++;
+    }
+
+    /**
+     * Updates this head to exclude its oldest record; where the given consensus time is that of the
+     * new oldest record, if any records remain.
+     *
+     * @param nextOldest the consensus time of the new oldest record
+     */
+    public void forgetOldest(final RichInstant nextOldest) {
+        throwIfImmutable("Tried to forget a record on an immutable PayerRecordValue");
+        if (--numRecords == 0) {
+            prev = MISSING_INSTANT;
+            next = MISSING_INSTANT;
+        } else {
+            prev = nextOldest;
+        }
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || PayerRecordValue.class != o.getClass()) {
+            return false;
+        }
+        final var that = (PayerRecordValue) o;
+        return numRecords == that.numRecords
+                && prev.equals(that.prev)
+                && next.equals(that.next)
+                && Objects.equals(payerRecord, that.payerRecord);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(prev, next, numRecords, payerRecord);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(PayerRecordValue.class)
+                .add("prev", prev)
+                .add("next", next)
+                .add("numRecords", numRecords)
+                .add("payerRecord", payerRecord)
+                .toString();
+    }
+
+    private byte[] serializedRecord() throws IOException {
+        try (final var baos = new ByteArrayOutputStream()) {
+            try (final var out = new SerializableDataOutputStream(baos)) {
+                out.writeSerializable(payerRecord, false);
+                out.flush();
+            }
+            baos.flush();
+            return baos.toByteArray();
+        }
+    }
+
+    private void deserializeRecord(final byte[] source) throws IOException {
+        try (final var bais = new ByteArrayInputStream(source)) {
+            try (final var in = new SerializableDataInputStream(bais)) {
+                payerRecord = in.readSerializable(false, ExpirableTxnRecord::new);
+            }
+        }
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.stats;
+
+import static com.hedera.services.stats.ServicesStatsManager.GAUGE_FORMAT;
+import static com.hedera.services.stats.ServicesStatsManager.STAT_CATEGORY;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.utils.MiscUtils;
+import com.hederahashgraph.api.proto.java.HederaFunctionality;
+import com.swirlds.common.metrics.DoubleGauge;
+import com.swirlds.common.system.Platform;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Keeps a {@link LatencyHistogram} per {@link HederaFunctionality} for each {@link Stage} of
+ * processing a transaction, so that tail latencies are visible and not just averages.
+ *
+ * <p>On each {@link #updateAll()}, the p50, p99, and p99.9 latencies (in ms) of every histogram
+ * that has recorded anything are computed over the values recorded since the previous update,
+ * and exported as gauges named like {@code CryptoTransferHandleP99Ms}. If {@code
+ * stats.latencyHistograms.dumpDir} is set, the cumulative bucket counts are also written there as
+ * CSV for offline analysis.
+ */
+@Singleton
+public class FunctionalityLatencies {
+    private static final Logger log = LogManager.getLogger(FunctionalityLatencies.class);
+
+    static final String DUMP_FILE_NAME = "latencyHistograms.csv";
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double[] PERCENTILES = {50.0, 99.0, 99.9};
+    private static final String[] PERCENTILE_NAMES = {"P50", "P99", "P999"};
+    private static final String NAME_TPL = "%s%s%sMs";
+    private static final String DESC_TPL = "%s latency of %s %s in ms since last update";
+    private static final HederaFunctionality[] ALL_FUNCTIONS = HederaFunctionality.values();
+
+    public enum Stage {
+        HANDLE("Handle", "handleTransaction"),
+        PRE_HANDLE("PreHandle", "pre-handle"),
+        SIG_EXPANSION("SigExpansion", "signature expansion"),
+        RECORD_STREAM_HANDOFF("RecordHandoff", "record stream handoff");
+
+        private final String statName;
+        private final String description;
+
+        Stage(final String statName, final String description) {
+            this.statName = statName;
+            this.description = description;
+        }
+    }
+
+    private final String dumpDir;
+    private final Function<HederaFunctionality, String> statNameFn;
+    private final Map<Stage, AtomicReferenceArray<LatencyHistogram>> histograms =
+            new EnumMap<>(Stage.class);
+    private final Map<LatencyHistogram, long[]> lastSnapshots = new HashMap<>();
+    private final Map<LatencyHistogram, DoubleGauge[]> gauges = new HashMap<>();
+
+    private Platform platform;
+
+    @Inject
+    public FunctionalityLatencies(final NodeLocalProperties nodeLocalProperties) {
+        this(nodeLocalProperties.latencyHistogramsDumpDir(), MiscUtils::baseStatNameOf);
+    }
+
+    @VisibleForTesting
+    FunctionalityLatencies(
+            final String dumpDir, final Function<HederaFunctionality, String> statNameFn) {
+        this.dumpDir = dumpDir;
+        this.statNameFn = statNameFn;
+        for (final var stage : Stage.values()) {
+            histograms.put(stage, new AtomicReferenceArray<>(ALL_FUNCTIONS.length));
+        }
+    }
+
+    public void registerWith(final Platform platform) {
+        this.platform = platform;
+    }
+
+    /**
+     * Records how long the given stage took for a transaction of the given functionality.
+     *
+     * @param stage the processing stage
+     * @param function the transaction's functionality
+     * @param nanos the elapsed time
+     */
+    public void record(final Stage stage, final HederaFunctionality function, final long nanos) {
+        histogramFor(stage, function).record(nanos);
+    }
+
+    /** Exports percentiles since the last update, and dumps the histograms if configured. */
+    public void updateAll() {
+        for (final var stage : Stage.values()) {
+            final var stageHistograms = histograms.get(stage);
+            for (int i = 0; i < ALL_FUNCTIONS.length; i++) {
+                final var histogram = stageHistograms.get(i);
+                if (histogram != null) {
+                    update(stage, ALL_FUNCTIONS[i], histogram);
+                }
+            }
+        }
+        if (dumpDir != null && !dumpDir.isBlank()) {
+            dumpTo(Path.of(dumpDir, DUMP_FILE_NAME));
+        }
+    }
+
+    /**
+     * Writes the non-empty buckets of every histogram as CSV lines of the form {@code
+     * stage,functionality,lowestNanos,highestNanos,count}.
+     *
+     * @param path the file to (over)write
+     */
+    public void dumpTo(final Path path) {
+        try {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            try (final var writer = Files.newBufferedWriter(path)) {
+                writer.write("stage,functionality,lowestNanos,highestNanos,count");
+                writer.newLine();
+                for (final var stage : Stage.values()) {
+                    final var stageHistograms = histograms.get(stage);
+                    for (int i = 0; i < ALL_FUNCTIONS.length; i++) {
+                        final var histogram = stageHistograms.get(i);
+                        if (histogram == null) {
+                            continue;
+                        }
+                        final var counts = histogram.snapshot();
+                        for (int j = 0; j < counts.length; j++) {
+                            if (counts[j] > 0) {
+                                writer.write(
+                                        String.join(
+                                                ",",
+                                                stage.name(),
+                                                ALL_FUNCTIONS[i].name(),
+                                                String.valueOf(
+                                                        LatencyHistogram.lowestEquivalentValue(j)),
+                                                String.valueOf(
+                                                        LatencyHistogram.highestEquivalentValue(j)),
+                                                String.valueOf(counts[j])));
+                                writer.newLine();
+                            }
+                        }
+                    }
+                }
+            }
+        } catch (final IOException e) {
+            log.warn("Unable to dump latency histograms to {}", path, e);
+        }
+    }
+
+    private void update(
+            final Stage stage,
+            final HederaFunctionality function,
+            final LatencyHistogram histogram) {
+        final var current = histogram.snapshot();
+        final var last = lastSnapshots.put(histogram, current);
+        if (last != null) {
+            for (int i = 0; i < current.length; i++) {
+                last[i] = current[i] - last[i];
+            }
+        }
+        final var interval = last == null ? current : last;
+        final var stageGauges =
+                gauges.computeIfAbsent(histogram, ignore -> gaugesFor(stage, function));
+        if (stageGauges == null) {
+            return;
+        }
+        for (int i = 0; i < PERCENTILES.length; i++) {
+            stageGauges[i].set(
+                    LatencyHistogram.valueAtPercentile(interval, PERCENTILES[i])
+                            / NANOS_PER_MILLI);
+        }
+    }
+
+    private DoubleGauge[] gaugesFor(final Stage stage, final HederaFunctionality function) {
+        if (platform == null) {
+            return null;
+        }
+        final var baseName = statNameFn.apply(function);
+        final var answer = new DoubleGauge[PERCENTILES.length];
+        for (int i = 0; i < PERCENTILES.length; i++) {
+            final var name =
+                    String.format(NAME_TPL, baseName, stage.statName, PERCENTILE_NAMES[i]);
+            final var desc =
+                    String.format(DESC_TPL, PERCENTILE_NAMES[i], baseName, stage.description);
+            answer[i] =
+                    platform.getMetrics()
+                            .getOrCreate(
+                                    new DoubleGauge.Config(STAT_CATEGORY, name)
+                                            .withDescription(desc)
+                                            .withFormat(GAUGE_FORMAT));
+        }
+        return answer;
+    }
+
+    private LatencyHistogram histogramFor(final Stage stage, final HederaFunctionality function) {
+        final var stageHistograms = histograms.get(stage);
+        final var i = function.ordinal();
+        final var histogram = stageHistograms.get(i);
+        if (histogram != null) {
+            return histogram;
+        }
+        stageHistograms.compareAndSet(i, null, new LatencyHistogram());
+        return stageHistograms.get(i);
+    }
+
+    @VisibleForTesting
+    LatencyHistogram histogramIfPresent(final Stage stage, final HederaFunctionality function) {
+        return histograms.get(stage).get(function.ordinal());
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.stats;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free, fixed-size histogram of nanosecond latencies in the style of HdrHistogram. Values
+ * below {@code 2^(SUB_BUCKET_BITS + 1)} get one bucket each; every larger power-of-two range is
+ * split into {@code 2^SUB_BUCKET_BITS} equal buckets, so any recorded value is reported with a
+ * relative error of at most {@code 1/32}. Values above {@code 2^MAX_VALUE_BITS} nanos (about 18
+ * minutes) are counted in the last bucket.
+ *
+ * <p>Recording is a single {@link AtomicLongArray#incrementAndGet(int)}, so it is safe to call
+ * from any number of threads while another thread takes {@link #snapshot()}s.
+ */
+public class LatencyHistogram {
+    static final int SUB_BUCKET_BITS = 5;
+    static final int MAX_VALUE_BITS = 40;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final long MAX_VALUE = (1L << MAX_VALUE_BITS) - 1;
+    static final int NUM_BUCKETS = bucketIndexOf(MAX_VALUE) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(NUM_BUCKETS);
+
+    public void record(final long nanos) {
+        counts.incrementAndGet(bucketIndexOf(Math.min(Math.max(nanos, 0), MAX_VALUE)));
+    }
+
+    /**
+     * Returns a copy of the current bucket counts. (Concurrent recordings may or may not be
+     * included.)
+     *
+     * @return the bucket counts
+     */
+    public long[] snapshot() {
+        final var answer = new long[NUM_BUCKETS];
+        for (int i = 0; i < NUM_BUCKETS; i++) {
+            answer[i] = counts.get(i);
+        }
+        return answer;
+    }
+
+    /**
+     * Returns the highest value equivalent to the bucket holding the given percentile of the
+     * counted values, or zero if nothing was counted.
+     *
+     * @param counts bucket counts as returned by {@link #snapshot()}, or a difference of two
+     * @param percentile the percentile, in the range {@code (0, 100]}
+     * @return the approximate value at that percentile
+     */
+    public static long valueAtPercentile(final long[] counts, final double percentile) {
+        var total = 0L;
+        for (final var count : counts) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        final var target = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+        var seen = 0L;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return highestEquivalentValue(i);
+            }
+        }
+        return highestEquivalentValue(counts.length - 1);
+    }
+
+    static int bucketIndexOf(final long value) {
+        if (value < 2 * SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        final var shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKET_COUNT + (int) (value >>> shift) - SUB_BUCKET_COUNT;
+    }
+
+    static long lowestEquivalentValue(final int index) {
+        if (index < 2 * SUB_BUCKET_COUNT) {
+            return index;
+        }
+        final var shift = index / SUB_BUCKET_COUNT - 1;
+        return (long) (SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT) << shift;
+    }
+
+    static long highestEquivalentValue(final int index) {
+        return index + 1 < NUM_BUCKETS ? lowestEquivalentValue(index + 1) - 1 : MAX_VALUE;
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.stats;
+
+import static com.hedera.services.stats.ServicesStatsManager.RUNNING_AVG_FORMAT;
+import static com.hedera.services.stats.ServicesStatsManager.SPEEDOMETER_FORMAT;
+import static com.hedera.services.stats.ServicesStatsManager.STAT_CATEGORY;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.swirlds.common.metrics.Counter;
+import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.common.metrics.SpeedometerMetric;
+import com.swirlds.common.system.Platform;
+
+/**
+ * Metrics for the {@code ContractCallLocal} worker pool; that is, how long admitted calls wait
+ * for a worker, how long they run, how much gas they burn per second, and how many are turned
+ * away or aborted.
+ */
+public class LocalCallStats {
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final double halfLife;
+    private RunningAverageMetric queueMs;
+    private RunningAverageMetric executionMs;
+    private SpeedometerMetric gasPerSec;
+    private Counter rejected;
+    private Counter deadlinesExceeded;
+
+    public LocalCallStats(final double halfLife) {
+        this.halfLife = halfLife;
+    }
+
+    public void registerWith(final Platform platform) {
+        queueMs =
+                platform.getMetrics()
+                        .getOrCreate(
+                                new RunningAverageMetric.Config(STAT_CATEGORY, Names.QUEUE_MS)
+                                        .withDescription(Descriptions.QUEUE_MS)
+                                        .withFormat(RUNNING_AVG_FORMAT)
+                                        .withHalfLife(halfLife));
+        executionMs =
+                platform.getMetrics()
+                        .getOrCreate(
+                                new RunningAverageMetric.Config(STAT_CATEGORY, Names.EXECUTION_MS)
+                                        .withDescription(Descriptions.EXECUTION_MS)
+                                        .withFormat(RUNNING_AVG_FORMAT)
+                                        .withHalfLife(halfLife));
+        gasPerSec =
+                platform.getMetrics()
+                        .getOrCreate(
+                                new SpeedometerMetric.Config(STAT_CATEGORY, Names.GAS_PER_SEC)
+                                        .withDescription(Descriptions.GAS_PER_SEC)
+                                        .withFormat(SPEEDOMETER_FORMAT)
+                                        .withHalfLife(halfLife));
+        rejected =
+                platform.getMetrics()
+                        .getOrCreate(
+                                new Counter.Config(STAT_CATEGORY, Names.REJECTED)
+                                        .withDescription(Descriptions.REJECTED));
+        deadlinesExceeded =
+                platform.getMetrics()
+                        .getOrCreate(
+                                new Counter.Config(STAT_CATEGORY, Names.DEADLINES_EXCEEDED)
+                                        .withDescription(Descriptions.DEADLINES_EXCEEDED));
+    }
+
+    public void recordQueueNanos(final long nanos) {
+        queueMs.update(nanos / NANOS_PER_MILLI);
+    }
+
+    public void recordExecution(final long nanos, final long gasUsed) {
+        executionMs.update(nanos / NANOS_PER_MILLI);
+        gasPerSec.update(gasUsed);
+    }
+
+    public void countRejected() {
+        rejected.increment();
+    }
+
+    public void countDeadlineExceeded() {
+        deadlinesExceeded.increment();
+    }
+
+    public static final class Names {
+        static final String QUEUE_MS = "localCallQueueMs";
+        static final String EXECUTION_MS = "localCallExecMs";
+        static final String GAS_PER_SEC = "localCallGas/sec";
+        static final String REJECTED = "localCallsRejected";
+        static final String DEADLINES_EXCEEDED = "localCallsPastDeadline";
+
+        private Names() {
+            throw new UnsupportedOperationException("Utility Class");
+        }
+    }
+
+    public static final class Descriptions {
+        static final String QUEUE_MS =
+                "average ms a ContractCallLocal waited for admission and a free worker";
+        static final String EXECUTION_MS = "average ms a ContractCallLocal spent executing";
+        static final String GAS_PER_SEC = "EVM gas used per second by ContractCallLocal queries";
+        static final String REJECTED =
+                "number of ContractCallLocal queries answered BUSY since last restart because the"
+                        + " local call gas budget was exhausted";
+        static final String DEADLINES_EXCEEDED =
+                "number of ContractCallLocal executions aborted at their deadline since last"
+                        + " restart";
+
+        private Descriptions() {
+            throw new UnsupportedOperationException("Utility Class");
+        }
+    }
+
+    @VisibleForTesting
+    void setQueueMs(final RunningAverageMetric queueMs) {
+        this.queueMs = queueMs;
+    }
+
+    @VisibleForTesting
+    void setExecutionMs(final RunningAverageMetric executionMs) {
+        this.executionMs = executionMs;
+    }
+
+    @VisibleForTesting
+    void setGasPerSec(final SpeedometerMetric gasPerSec) {
+        this.gasPerSec = gasPerSec;
+    }
+
+    @VisibleForTesting
+    void setRejected(final Counter rejected) {
+        this.rejected = rejected;
+    }
+
+    @VisibleForTesting
+    void setDeadlinesExceeded(final Counter deadlinesExceeded) {
+        this.deadlinesExceeded = deadlinesExceeded;
+    }
+}
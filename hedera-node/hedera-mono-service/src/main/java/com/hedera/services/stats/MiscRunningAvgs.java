@@ -23,11 +23,15 @@ import com.swirlds.common.metrics.RunningAverageMetric;
 import com.swirlds.common.system.Platform;
 
 public class MiscRunningAvgs {
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
     final double halfLife;
     private RunningAverageMetric gasPerConsSec;
     private RunningAverageMetric handledSubmitMessageSize;
     private RunningAverageMetric writeQueueSizeRecordStream;
     private RunningAverageMetric hashQueueSizeRecordStream;
+    private RunningAverageMetric platformSubmissionBatchSize;
+    private RunningAverageMetric platformSubmissionWaitMs;
 
     public MiscRunningAvgs(final double halfLife) {
         this.halfLife = halfLife;
@@ -67,6 +71,23 @@ public class MiscRunningAvgs {
                                         .withDescription(Descriptions.HASH_QUEUE_SIZE_RECORD_STREAM)
                                         .withFormat(RUNNING_AVG_FORMAT)
                                         .withHalfLife(halfLife));
+        platformSubmissionBatchSize =
+                platform.getMetrics()
+                        .getOrCreate(
+                                new RunningAverageMetric.Config(
+                                                STAT_CATEGORY, Names.PLATFORM_SUBMISSION_BATCH_SIZE)
+                                        .withDescription(
+                                                Descriptions.PLATFORM_SUBMISSION_BATCH_SIZE)
+                                        .withFormat(RUNNING_AVG_FORMAT)
+                                        .withHalfLife(halfLife));
+        platformSubmissionWaitMs =
+                platform.getMetrics()
+                        .getOrCreate(
+                                new RunningAverageMetric.Config(
+                                                STAT_CATEGORY, Names.PLATFORM_SUBMISSION_WAIT_MS)
+                                        .withDescription(Descriptions.PLATFORM_SUBMISSION_WAIT_MS)
+                                        .withFormat(RUNNING_AVG_FORMAT)
+                                        .withHalfLife(halfLife));
     }
 
     public void recordHandledSubmitMessageSize(final int bytes) {
@@ -85,12 +106,22 @@ public class MiscRunningAvgs {
         gasPerConsSec.update(gas);
     }
 
+    public void recordPlatformSubmissionBatchSize(final int n) {
+        platformSubmissionBatchSize.update(n);
+    }
+
+    public void recordPlatformSubmissionWaitNanos(final long nanos) {
+        platformSubmissionWaitMs.update(nanos / NANOS_PER_MILLI);
+    }
+
     public static final class Names {
         static final String GAS_PER_CONSENSUS_SEC = "gasPerConsSec";
         static final String HANDLED_SUBMIT_MESSAGE_SIZE = "avgHdlSubMsgSize";
 
         static final String WRITE_QUEUE_SIZE_RECORD_STREAM = "writeQueueSizeRecordStream";
         static final String HASH_QUEUE_SIZE_RECORD_STREAM = "hashQueueSizeRecordStream";
+        static final String PLATFORM_SUBMISSION_BATCH_SIZE = "platformSubmissionBatchSize";
+        static final String PLATFORM_SUBMISSION_WAIT_MS = "platformSubmissionWaitMs";
 
         private Names() {
             throw new UnsupportedOperationException("Utility Class");
@@ -106,6 +137,10 @@ public class MiscRunningAvgs {
                 "size of the queue from which we take records and write to RecordStream file";
         static final String HASH_QUEUE_SIZE_RECORD_STREAM =
                 "size of working queue for calculating hash and runningHash";
+        static final String PLATFORM_SUBMISSION_BATCH_SIZE =
+                "average number of transactions submitted to the platform together";
+        static final String PLATFORM_SUBMISSION_WAIT_MS =
+                "average ms from admitting a transaction until it is given to the platform";
 
         private Descriptions() {
             throw new UnsupportedOperationException("Utility Class");
@@ -131,4 +166,14 @@ public class MiscRunningAvgs {
     void setHashQueueSizeRecordStream(RunningAverageMetric hashQueueSizeRecordStream) {
         this.hashQueueSizeRecordStream = hashQueueSizeRecordStream;
     }
+
+    @VisibleForTesting
+    void setPlatformSubmissionBatchSize(RunningAverageMetric platformSubmissionBatchSize) {
+        this.platformSubmissionBatchSize = platformSubmissionBatchSize;
+    }
+
+    @VisibleForTesting
+    void setPlatformSubmissionWaitMs(RunningAverageMetric platformSubmissionWaitMs) {
+        this.platformSubmissionWaitMs = platformSubmissionWaitMs;
+    }
 }
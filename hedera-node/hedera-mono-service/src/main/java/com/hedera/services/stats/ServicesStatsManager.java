@@ -54,6 +54,10 @@ public class ServicesStatsManager {
     private final HapiOpCounters opCounters;
     private final MiscRunningAvgs runningAvgs;
     private final MiscSpeedometers speedometers;
+    private final LocalCallStats localCallStats;
+    private final SigVerificationStats sigVerificationStats;
+    private final FunctionalityLatencies functionalityLatencies;
+    private final StateAccessProfiler stateAccessProfiler;
     private final HapiOpSpeedometers opSpeedometers;
     private final NodeLocalProperties localProperties;
     private final ThrottleGauges throttleGauges;
@@ -69,6 +73,10 @@ public class ServicesStatsManager {
             final MiscRunningAvgs runningAvgs,
             final EntityUtilGauges entityUtilGauges,
             final MiscSpeedometers speedometers,
+            final LocalCallStats localCallStats,
+            final SigVerificationStats sigVerificationStats,
+            final FunctionalityLatencies functionalityLatencies,
+            final StateAccessProfiler stateAccessProfiler,
             final HapiOpSpeedometers opSpeedometers,
             final NodeLocalProperties localProperties,
             final Supplier<VirtualMap<ContractKey, IterableContractValue>> storage,
@@ -80,6 +88,10 @@ public class ServicesStatsManager {
         this.opCounters = opCounters;
         this.runningAvgs = runningAvgs;
         this.speedometers = speedometers;
+        this.localCallStats = localCallStats;
+        this.sigVerificationStats = sigVerificationStats;
+        this.functionalityLatencies = functionalityLatencies;
+        this.stateAccessProfiler = stateAccessProfiler;
         this.opSpeedometers = opSpeedometers;
         this.throttleGauges = throttleGauges;
         this.entityUtilGauges = entityUtilGauges;
@@ -90,6 +102,10 @@ public class ServicesStatsManager {
         expiryStats.registerWith(platform);
         runningAvgs.registerWith(platform);
         speedometers.registerWith(platform);
+        localCallStats.registerWith(platform);
+        sigVerificationStats.registerWith(platform);
+        functionalityLatencies.registerWith(platform);
+        stateAccessProfiler.registerWith(platform);
         throttleGauges.registerWith(platform);
         opSpeedometers.registerWith(platform);
         entityUtilGauges.registerWith(platform);
@@ -124,6 +140,8 @@ public class ServicesStatsManager {
                             final var n = numPauses.incrementAndGet();
                             if (n % pausesBetweenHapiOpsUpdate == 0) {
                                 opSpeedometers.updateAll();
+                                functionalityLatencies.updateAll();
+                                stateAccessProfiler.updateAll();
                             }
                             if (n % pausesBetweenThrottleUtilUpdate == 0) {
                                 throttleGauges.updateAll();
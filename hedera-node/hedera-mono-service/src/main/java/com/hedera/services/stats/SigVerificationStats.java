@@ -0,0 +1,192 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.stats;
+
+import static com.hedera.services.stats.ServicesStatsManager.RUNNING_AVG_FORMAT;
+import static com.hedera.services.stats.ServicesStatsManager.SPEEDOMETER_FORMAT;
+import static com.hedera.services.stats.ServicesStatsManager.STAT_CATEGORY;
+import static com.swirlds.common.crypto.SignatureType.ECDSA_SECP256K1;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.swirlds.common.crypto.SignatureType;
+import com.swirlds.common.metrics.Counter;
+import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.common.metrics.SpeedometerMetric;
+import com.swirlds.common.system.Platform;
+
+/**
+ * Metrics for asynchronous signature verification, split by key type; that is, how many Ed25519
+ * and ECDSA(secp256k1) signatures per second are submitted for verification during event
+ * expansion, and how long {@code handleTransaction} has to wait for a still-pending result of
+ * each type. Also tracks how often the signer of an {@code EthereumTransaction} is found in the
+ * recovered-key cache instead of being recovered again.
+ */
+public class SigVerificationStats {
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final double halfLife;
+    private SpeedometerMetric ed25519SigsPerSec;
+    private SpeedometerMetric ecdsaSigsPerSec;
+    private RunningAverageMetric ed25519WaitMs;
+    private RunningAverageMetric ecdsaWaitMs;
+    private RunningAverageMetric ethRecoveryHitRate;
+    private Counter ethRecoveryHits;
+    private Counter ethRecoveryMisses;
+
+    public SigVerificationStats(final double halfLife) {
+        this.halfLife = halfLife;
+    }
+
+    public void registerWith(final Platform platform) {
+        ed25519SigsPerSec = speedometer(platform, Names.ED25519_SIGS, Descriptions.ED25519_SIGS);
+        ecdsaSigsPerSec = speedometer(platform, Names.ECDSA_SIGS, Descriptions.ECDSA_SIGS);
+        ed25519WaitMs = runningAvg(platform, Names.ED25519_WAIT_MS, Descriptions.ED25519_WAIT_MS);
+        ecdsaWaitMs = runningAvg(platform, Names.ECDSA_WAIT_MS, Descriptions.ECDSA_WAIT_MS);
+        ethRecoveryHitRate =
+                runningAvg(
+                        platform,
+                        Names.ETH_RECOVERY_HIT_RATE,
+                        Descriptions.ETH_RECOVERY_HIT_RATE);
+        ethRecoveryHits =
+                counter(platform, Names.ETH_RECOVERY_HITS, Descriptions.ETH_RECOVERY_HITS);
+        ethRecoveryMisses =
+                counter(platform, Names.ETH_RECOVERY_MISSES, Descriptions.ETH_RECOVERY_MISSES);
+    }
+
+    public void recordSubmitted(final SignatureType type, final int n) {
+        if (type == ECDSA_SECP256K1) {
+            ecdsaSigsPerSec.update(n);
+        } else {
+            ed25519SigsPerSec.update(n);
+        }
+    }
+
+    public void recordWaitNanos(final SignatureType type, final long nanos) {
+        if (type == ECDSA_SECP256K1) {
+            ecdsaWaitMs.update(nanos / NANOS_PER_MILLI);
+        } else {
+            ed25519WaitMs.update(nanos / NANOS_PER_MILLI);
+        }
+    }
+
+    public void countEthSigRecovery(final boolean wasCached) {
+        if (wasCached) {
+            ethRecoveryHits.increment();
+            ethRecoveryHitRate.update(1.0);
+        } else {
+            ethRecoveryMisses.increment();
+            ethRecoveryHitRate.update(0.0);
+        }
+    }
+
+    private Counter counter(final Platform platform, final String name, final String description) {
+        return platform.getMetrics()
+                .getOrCreate(new Counter.Config(STAT_CATEGORY, name).withDescription(description));
+    }
+
+    private SpeedometerMetric speedometer(
+            final Platform platform, final String name, final String description) {
+        return platform.getMetrics()
+                .getOrCreate(
+                        new SpeedometerMetric.Config(STAT_CATEGORY, name)
+                                .withDescription(description)
+                                .withFormat(SPEEDOMETER_FORMAT)
+                                .withHalfLife(halfLife));
+    }
+
+    private RunningAverageMetric runningAvg(
+            final Platform platform, final String name, final String description) {
+        return platform.getMetrics()
+                .getOrCreate(
+                        new RunningAverageMetric.Config(STAT_CATEGORY, name)
+                                .withDescription(description)
+                                .withFormat(RUNNING_AVG_FORMAT)
+                                .withHalfLife(halfLife));
+    }
+
+    public static final class Names {
+        static final String ED25519_SIGS = "ed25519SigsSubmitted/sec";
+        static final String ECDSA_SIGS = "ecdsaSigsSubmitted/sec";
+        static final String ED25519_WAIT_MS = "ed25519SigWaitMs";
+        static final String ECDSA_WAIT_MS = "ecdsaSigWaitMs";
+        static final String ETH_RECOVERY_HIT_RATE = "ethSigRecoveryCacheHitRate";
+        static final String ETH_RECOVERY_HITS = "ethSigRecoveryCacheHits";
+        static final String ETH_RECOVERY_MISSES = "ethSigRecoveryCacheMisses";
+
+        private Names() {
+            throw new UnsupportedOperationException("Utility Class");
+        }
+    }
+
+    public static final class Descriptions {
+        static final String ED25519_SIGS =
+                "number of Ed25519 signatures submitted per second for async verification";
+        static final String ECDSA_SIGS =
+                "number of ECDSA(secp256k1) signatures submitted per second for async"
+                        + " verification";
+        static final String ED25519_WAIT_MS =
+                "average ms handleTransaction waited on a pending Ed25519 verification";
+        static final String ECDSA_WAIT_MS =
+                "average ms handleTransaction waited on a pending ECDSA(secp256k1) verification";
+        static final String ETH_RECOVERY_HIT_RATE =
+                "average fraction of EthereumTransaction signer recoveries served from cache";
+        static final String ETH_RECOVERY_HITS =
+                "number of EthereumTransaction signer recoveries served from cache since last"
+                        + " restart";
+        static final String ETH_RECOVERY_MISSES =
+                "number of EthereumTransaction signers recovered with secp256k1 since last"
+                        + " restart";
+
+        private Descriptions() {
+            throw new UnsupportedOperationException("Utility Class");
+        }
+    }
+
+    @VisibleForTesting
+    void setEd25519SigsPerSec(final SpeedometerMetric ed25519SigsPerSec) {
+        this.ed25519SigsPerSec = ed25519SigsPerSec;
+    }
+
+    @VisibleForTesting
+    void setEcdsaSigsPerSec(final SpeedometerMetric ecdsaSigsPerSec) {
+        this.ecdsaSigsPerSec = ecdsaSigsPerSec;
+    }
+
+    @VisibleForTesting
+    void setEd25519WaitMs(final RunningAverageMetric ed25519WaitMs) {
+        this.ed25519WaitMs = ed25519WaitMs;
+    }
+
+    @VisibleForTesting
+    void setEcdsaWaitMs(final RunningAverageMetric ecdsaWaitMs) {
+        this.ecdsaWaitMs = ecdsaWaitMs;
+    }
+
+    @VisibleForTesting
+    void setEthRecoveryHitRate(final RunningAverageMetric ethRecoveryHitRate) {
+        this.ethRecoveryHitRate = ethRecoveryHitRate;
+    }
+
+    @VisibleForTesting
+    void setEthRecoveryHits(final Counter ethRecoveryHits) {
+        this.ethRecoveryHits = ethRecoveryHits;
+    }
+
+    @VisibleForTesting
+    void setEthRecoveryMisses(final Counter ethRecoveryMisses) {
+        this.ethRecoveryMisses = ethRecoveryMisses;
+    }
+}
@@ -0,0 +1,321 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.stats;
+
+import static com.hedera.services.stats.ServicesStatsManager.GAUGE_FORMAT;
+import static com.hedera.services.stats.ServicesStatsManager.STAT_CATEGORY;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.utils.MiscUtils;
+import com.hederahashgraph.api.proto.java.HederaFunctionality;
+import com.swirlds.common.metrics.DoubleGauge;
+import com.swirlds.common.system.Platform;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * When {@code stats.stateAccess.profilingEnabled=true}, counts and times the reads and writes that
+ * each {@link HederaFunctionality} makes to the large entity stores (accounts, token
+ * associations, NFTs, contract storage, and the blobs holding file contents and contract
+ * bytecode), so the functionalities driving state access cost can be identified.
+ *
+ * <p>The {@link com.swirlds.virtualmap.VirtualMap} API does not say whether a read was served from
+ * its cache or from disk; so a read taking longer than {@code stats.stateAccess.slowReadMicros}
+ * is counted as a <i>slow read</i>, as a proxy for a disk miss.
+ *
+ * <p>The active functionality is tracked per thread, since the handle thread sets it while other
+ * threads (for example, signature expansion during pre-handle, or queries) read the same stores;
+ * accesses from any thread without an active functionality are counted under {@link
+ * HederaFunctionality#NONE}.
+ *
+ * <p>On each {@link #updateAll()}, the number of reads, slow reads, and writes since the previous
+ * update, along with the average read latency, are exported as gauges named like {@code
+ * CryptoTransferAccountsReads}. A one-line summary of each round's accesses is also logged.
+ */
+@Singleton
+public class StateAccessProfiler {
+    private static final Logger log = LogManager.getLogger(StateAccessProfiler.class);
+
+    static final int READS = 0;
+    static final int READ_NANOS = 1;
+    static final int SLOW_READS = 2;
+    static final int WRITES = 3;
+    static final int WRITE_NANOS = 4;
+    private static final int NUM_FIELDS = 5;
+    private static final double NANOS_PER_MICRO = 1_000.0;
+    private static final String[] GAUGE_NAMES = {"Reads", "SlowReads", "Writes", "AvgReadUs"};
+    private static final String[] GAUGE_DESCS = {
+        "reads of", "reads over the slow threshold of", "writes to", "average read latency (us) of"
+    };
+    private static final String DESC_TPL = "# of %s %s by %s since last update";
+    private static final String AVG_DESC_TPL = "%s %s by %s since last update";
+    private static final HederaFunctionality[] ALL_FUNCTIONS = HederaFunctionality.values();
+    private static final Store[] ALL_STORES = Store.values();
+
+    public enum Store {
+        ACCOUNTS("Accounts"),
+        TOKEN_RELS("TokenRels"),
+        NFTS("Nfts"),
+        CONTRACT_STORAGE("Storage"),
+        BLOBS("Blobs");
+
+        private final String statName;
+
+        Store(final String statName) {
+            this.statName = statName;
+        }
+    }
+
+    /** A profiler that records nothing, for use by stores whose accesses are not profiled. */
+    public static final StateAccessProfiler NOT_PROFILING =
+            new StateAccessProfiler(false, Long.MAX_VALUE, MiscUtils::baseStatNameOf);
+
+    private final boolean enabled;
+    private final long slowReadNanos;
+    private final Function<HederaFunctionality, String> statNameFn;
+    private final AtomicReferenceArray<AtomicLongArray> counts =
+            new AtomicReferenceArray<>(ALL_FUNCTIONS.length);
+    private final AtomicLongArray roundCounts = new AtomicLongArray(ALL_STORES.length * NUM_FIELDS);
+    private final Map<Integer, long[]> lastSnapshots = new HashMap<>();
+    private final Map<Integer, DoubleGauge[]> gauges = new HashMap<>();
+
+    private final ThreadLocal<HederaFunctionality> activeFunction =
+            ThreadLocal.withInitial(() -> HederaFunctionality.NONE);
+    private Platform platform;
+
+    @Inject
+    public StateAccessProfiler(final NodeLocalProperties nodeLocalProperties) {
+        this(
+                nodeLocalProperties.stateAccessProfilingEnabled(),
+                nodeLocalProperties.stateAccessSlowReadMicros() * 1_000L,
+                MiscUtils::baseStatNameOf);
+    }
+
+    @VisibleForTesting
+    public StateAccessProfiler(
+            final boolean enabled,
+            final long slowReadNanos,
+            final Function<HederaFunctionality, String> statNameFn) {
+        this.enabled = enabled;
+        this.slowReadNanos = slowReadNanos;
+        this.statNameFn = statNameFn;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void registerWith(final Platform platform) {
+        this.platform = platform;
+    }
+
+    /**
+     * Attributes all following accesses by the calling thread to the given functionality, until
+     * the thread's next call to this method or to {@link #clearActiveFunction()}.
+     *
+     * @param function the functionality of the transaction being handled
+     */
+    public void setActiveFunction(final HederaFunctionality function) {
+        activeFunction.set(function);
+    }
+
+    /**
+     * Attributes all following accesses by the calling thread to {@link HederaFunctionality#NONE}.
+     */
+    public void clearActiveFunction() {
+        activeFunction.remove();
+    }
+
+    /**
+     * Returns the start time to pass to {@link #recordRead(Store, long)} or {@link
+     * #recordWrite(Store, long)} after an access; without reading the clock if disabled.
+     *
+     * @return the current {@link System#nanoTime()}, or zero if disabled
+     */
+    public long startTiming() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Records a read from the given store that started at the given {@link System#nanoTime()}; or
+     * does nothing, if disabled.
+     *
+     * @param store the store read from
+     * @param startNanos when the read started
+     */
+    public void recordRead(final Store store, final long startNanos) {
+        if (!enabled) {
+            return;
+        }
+        final var elapsed = System.nanoTime() - startNanos;
+        final var functionCounts = countsFor(activeFunction.get());
+        final var base = store.ordinal() * NUM_FIELDS;
+        functionCounts.incrementAndGet(base + READS);
+        functionCounts.addAndGet(base + READ_NANOS, elapsed);
+        roundCounts.incrementAndGet(base + READS);
+        roundCounts.addAndGet(base + READ_NANOS, elapsed);
+        if (elapsed > slowReadNanos) {
+            functionCounts.incrementAndGet(base + SLOW_READS);
+            roundCounts.incrementAndGet(base + SLOW_READS);
+        }
+    }
+
+    /**
+     * Records a write to the given store that started at the given {@link System#nanoTime()}; or
+     * does nothing, if disabled.
+     *
+     * @param store the store written to
+     * @param startNanos when the write started
+     */
+    public void recordWrite(final Store store, final long startNanos) {
+        if (!enabled) {
+            return;
+        }
+        final var elapsed = System.nanoTime() - startNanos;
+        final var functionCounts = countsFor(activeFunction.get());
+        final var base = store.ordinal() * NUM_FIELDS;
+        functionCounts.incrementAndGet(base + WRITES);
+        functionCounts.addAndGet(base + WRITE_NANOS, elapsed);
+        roundCounts.incrementAndGet(base + WRITES);
+        roundCounts.addAndGet(base + WRITE_NANOS, elapsed);
+    }
+
+    /** Logs the accesses made to each store during the round just handled, if any. */
+    public void summarizeRound() {
+        if (!enabled) {
+            return;
+        }
+        final var sb = new StringBuilder();
+        for (final var store : ALL_STORES) {
+            final var base = store.ordinal() * NUM_FIELDS;
+            final var reads = roundCounts.getAndSet(base + READS, 0);
+            final var readNanos = roundCounts.getAndSet(base + READ_NANOS, 0);
+            final var slowReads = roundCounts.getAndSet(base + SLOW_READS, 0);
+            final var writes = roundCounts.getAndSet(base + WRITES, 0);
+            final var writeNanos = roundCounts.getAndSet(base + WRITE_NANOS, 0);
+            if (reads + writes > 0) {
+                sb.append(
+                        String.format(
+                                " %s[reads=%d (%d slow, %.1fus), writes=%d (%.1fus)]",
+                                store.statName,
+                                reads,
+                                slowReads,
+                                readNanos / NANOS_PER_MICRO,
+                                writes,
+                                writeNanos / NANOS_PER_MICRO));
+            }
+        }
+        if (!sb.isEmpty()) {
+            log.info("State accesses in last round:{}", sb);
+        }
+    }
+
+    /** Exports the accesses made by each functionality since the last update. */
+    public void updateAll() {
+        if (!enabled) {
+            return;
+        }
+        for (int i = 0; i < ALL_FUNCTIONS.length; i++) {
+            final var functionCounts = counts.get(i);
+            if (functionCounts != null) {
+                update(i, functionCounts);
+            }
+        }
+    }
+
+    private void update(final int functionIndex, final AtomicLongArray functionCounts) {
+        final var current = new long[functionCounts.length()];
+        for (int i = 0; i < current.length; i++) {
+            current[i] = functionCounts.get(i);
+        }
+        final var last = lastSnapshots.put(functionIndex, current);
+        for (final var store : ALL_STORES) {
+            final var base = store.ordinal() * NUM_FIELDS;
+            final var reads = delta(current, last, base + READS);
+            final var writes = delta(current, last, base + WRITES);
+            if (reads + writes == 0) {
+                continue;
+            }
+            final var storeGauges =
+                    gauges.computeIfAbsent(
+                            functionIndex * ALL_STORES.length + store.ordinal(),
+                            ignore -> gaugesFor(ALL_FUNCTIONS[functionIndex], store));
+            if (storeGauges == null) {
+                continue;
+            }
+            final var readNanos = delta(current, last, base + READ_NANOS);
+            storeGauges[0].set(reads);
+            storeGauges[1].set(delta(current, last, base + SLOW_READS));
+            storeGauges[2].set(writes);
+            storeGauges[3].set(reads == 0 ? 0.0 : readNanos / NANOS_PER_MICRO / reads);
+        }
+    }
+
+    private static long delta(final long[] current, final long[] last, final int i) {
+        return last == null ? current[i] : current[i] - last[i];
+    }
+
+    private DoubleGauge[] gaugesFor(final HederaFunctionality function, final Store store) {
+        if (platform == null) {
+            return null;
+        }
+        final var baseName = statNameFn.apply(function);
+        final var answer = new DoubleGauge[GAUGE_NAMES.length];
+        for (int i = 0; i < GAUGE_NAMES.length; i++) {
+            final var name = baseName + store.statName + GAUGE_NAMES[i];
+            final var tpl = (i == GAUGE_NAMES.length - 1) ? AVG_DESC_TPL : DESC_TPL;
+            final var desc = String.format(tpl, GAUGE_DESCS[i], store.statName, baseName);
+            answer[i] =
+                    platform.getMetrics()
+                            .getOrCreate(
+                                    new DoubleGauge.Config(STAT_CATEGORY, name)
+                                            .withDescription(desc)
+                                            .withFormat(GAUGE_FORMAT));
+        }
+        return answer;
+    }
+
+    private AtomicLongArray countsFor(final HederaFunctionality function) {
+        final var i = function.ordinal();
+        final var functionCounts = counts.get(i);
+        if (functionCounts != null) {
+            return functionCounts;
+        }
+        counts.compareAndSet(i, null, new AtomicLongArray(ALL_STORES.length * NUM_FIELDS));
+        return counts.get(i);
+    }
+
+    @VisibleForTesting
+    long countOf(final HederaFunctionality function, final Store store, final int field) {
+        final var functionCounts = counts.get(function.ordinal());
+        return functionCounts == null
+                ? 0
+                : functionCounts.get(store.ordinal() * NUM_FIELDS + field);
+    }
+
+    @VisibleForTesting
+    HederaFunctionality getActiveFunction() {
+        return activeFunction.get();
+    }
+}
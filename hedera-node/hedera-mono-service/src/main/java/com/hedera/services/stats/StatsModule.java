@@ -40,6 +40,20 @@ public final class StatsModule {
         return new MiscRunningAvgs(nodeLocalProperties.statsRunningAvgHalfLifeSecs());
     }
 
+    @Provides
+    @Singleton
+    public static LocalCallStats provideLocalCallStats(
+            final NodeLocalProperties nodeLocalProperties) {
+        return new LocalCallStats(nodeLocalProperties.statsRunningAvgHalfLifeSecs());
+    }
+
+    @Provides
+    @Singleton
+    public static SigVerificationStats provideSigVerificationStats(
+            final NodeLocalProperties nodeLocalProperties) {
+        return new SigVerificationStats(nodeLocalProperties.statsRunningAvgHalfLifeSecs());
+    }
+
     @Provides
     @Singleton
     public static ThrottleGauges provideThrottleUtilizations(
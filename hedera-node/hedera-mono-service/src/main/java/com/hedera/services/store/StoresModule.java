@@ -53,10 +53,8 @@ import com.hedera.services.store.schedule.ScheduleStore;
 import com.hedera.services.store.tokens.HederaTokenStore;
 import com.hedera.services.store.tokens.TokenStore;
 import com.hedera.services.store.tokens.annotations.AreTreasuryWildcardsEnabled;
-import com.hedera.services.utils.EntityNum;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.TokenID;
-import com.swirlds.merkle.map.MerkleMap;
 import dagger.Binds;
 import dagger.Module;
 import dagger.Provides;
@@ -106,7 +104,7 @@ public interface StoresModule {
     @Singleton
     static TransactionalLedger<TokenID, TokenProperty, MerkleToken> provideTokensLedger(
             final UsageLimits usageLimits,
-            final Supplier<MerkleMap<EntityNum, MerkleToken>> tokens) {
+            final Supplier<EntityStorageAdapter<MerkleToken>> tokens) {
         final var interceptor = new TokensCommitInterceptor(usageLimits);
         final var tokensLedger =
                 new TransactionalLedger<>(
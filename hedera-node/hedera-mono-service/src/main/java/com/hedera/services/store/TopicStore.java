@@ -19,8 +19,8 @@ import static com.hedera.services.store.models.TopicConversion.fromModel;
 
 import com.hedera.services.records.TransactionRecordService;
 import com.hedera.services.state.merkle.MerkleTopic;
+import com.hedera.services.state.migration.EntityStorageAdapter;
 import com.hedera.services.store.models.Topic;
-import com.hedera.services.utils.EntityNum;
 import com.swirlds.merkle.map.MerkleMap;
 import java.util.function.Supplier;
 import javax.inject.Inject;
@@ -33,12 +33,12 @@ import javax.inject.Singleton;
  */
 @Singleton
 public class TopicStore {
-    private final Supplier<MerkleMap<EntityNum, MerkleTopic>> topics;
+    private final Supplier<EntityStorageAdapter<MerkleTopic>> topics;
     private final TransactionRecordService transactionRecordService;
 
     @Inject
     public TopicStore(
-            final Supplier<MerkleMap<EntityNum, MerkleTopic>> topics,
+            final Supplier<EntityStorageAdapter<MerkleTopic>> topics,
             final TransactionRecordService transactionRecordService) {
         this.topics = topics;
         this.transactionRecordService = transactionRecordService;
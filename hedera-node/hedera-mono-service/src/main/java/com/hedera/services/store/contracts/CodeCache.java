@@ -15,10 +15,13 @@
  */
 package com.hedera.services.store.contracts;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import com.hedera.services.context.properties.NodeLocalProperties;
 import com.hedera.services.evm.store.contracts.AbstractCodeCache;
+import com.hedera.services.evm.store.contracts.utils.BytesKey;
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import org.hyperledger.besu.evm.Code;
 
 /**
  * Weak reference cache with expiration TTL for EVM bytecode. This cache is primarily used to store
@@ -37,4 +40,16 @@ public class CodeCache extends AbstractCodeCache {
     public CodeCache(final NodeLocalProperties properties, final EntityAccess entityAccess) {
         super(properties.prefetchCodeCacheTtlSecs(), entityAccess);
     }
+
+    /**
+     * Creates a code cache that fetches missing bytecode through the given entity access, but
+     * stores it in a cache shared with other instances; useful when many short-lived instances
+     * read the same (immutable) bytecode.
+     *
+     * @param entityAccess the source of missing bytecode
+     * @param sharedCache the shared cache of analyzed code
+     */
+    public CodeCache(final EntityAccess entityAccess, final Cache<BytesKey, Code> sharedCache) {
+        super(entityAccess, sharedCache);
+    }
 }
@@ -18,6 +18,7 @@ package com.hedera.services.store.contracts;
 import static com.hedera.services.context.properties.StaticPropertiesHolder.STATIC_PROPERTIES;
 import static com.hedera.services.ledger.properties.AccountProperty.FIRST_CONTRACT_STORAGE_KEY;
 import static com.hedera.services.ledger.properties.AccountProperty.NUM_CONTRACT_KV_PAIRS;
+import static com.hedera.services.stats.StateAccessProfiler.Store.CONTRACT_STORAGE;
 import static com.hedera.services.utils.EntityNum.fromLong;
 import static org.apache.tuweni.units.bigints.UInt256.ZERO;
 
@@ -31,6 +32,7 @@ import com.hedera.services.state.migration.HederaAccount;
 import com.hedera.services.state.validation.ContractStorageLimits;
 import com.hedera.services.state.virtual.ContractKey;
 import com.hedera.services.state.virtual.IterableContractValue;
+import com.hedera.services.stats.StateAccessProfiler;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.swirlds.virtualmap.VirtualMap;
 import java.util.HashMap;
@@ -74,6 +76,8 @@ public class SizeLimitedStorage {
     private final Supplier<AccountStorageAdapter> accounts;
     // Used to both read and write key/value pairs throughout the lifecycle of a change set
     private final Supplier<VirtualMap<ContractKey, IterableContractValue>> storage;
+    // Used to record reads and writes of contract storage, if enabled
+    private final StateAccessProfiler stateAccessProfiler;
 
     private final Map<Long, ContractKey> newFirstKeys = new HashMap<>();
     private final Map<Long, KvUsageInfo> usageChanges = new TreeMap<>();
@@ -90,13 +94,15 @@ public class SizeLimitedStorage {
             final IterableStorageUpserter storageUpserter,
             final IterableStorageRemover storageRemover,
             final Supplier<AccountStorageAdapter> accounts,
-            final Supplier<VirtualMap<ContractKey, IterableContractValue>> storage) {
+            final Supplier<VirtualMap<ContractKey, IterableContractValue>> storage,
+            final StateAccessProfiler stateAccessProfiler) {
         this.storageRemover = storageRemover;
         this.storageUpserter = storageUpserter;
         this.storageFeeCharging = storageFeeCharging;
         this.usageLimits = usageLimits;
         this.accounts = accounts;
         this.storage = storage;
+        this.stateAccessProfiler = stateAccessProfiler;
         this.usageInfoLookup = num -> new KvUsageInfo(kvPairsLookup(num));
     }
 
@@ -173,7 +179,9 @@ public class SizeLimitedStorage {
 
         var effectiveValue = newMappings.get(contractKey);
         if (effectiveValue == null) {
+            final var start = stateAccessProfiler.startTiming();
             effectiveValue = storage.get().get(contractKey);
+            stateAccessProfiler.recordRead(CONTRACT_STORAGE, start);
         }
         return (effectiveValue == null) ? ZERO : effectiveValue.asUInt256();
     }
@@ -371,6 +379,7 @@ public class SizeLimitedStorage {
                     for (final var changedKey : changeSet) {
                         final var newValue = newMappings.get(changedKey);
                         final var preInsertSize = curStorage.size();
+                        final var start = stateAccessProfiler.startTiming();
                         try {
                             firstKey =
                                     storageUpserter.upsertMapping(
@@ -383,6 +392,7 @@ public class SizeLimitedStorage {
                                     newValue,
                                     irreparable);
                         }
+                        stateAccessProfiler.recordWrite(CONTRACT_STORAGE, start);
                         // If newValue was just added to the map, it is the mutable root value; but
                         // if we only updated the existing root, newValue is NOT the mutable root
                         // value
@@ -404,6 +414,7 @@ public class SizeLimitedStorage {
                 (id, zeroedOut) -> {
                     var firstKey = firstKeyLookup(id);
                     for (final var removedKey : zeroedOut) {
+                        final var start = stateAccessProfiler.startTiming();
                         try {
                             firstKey =
                                     storageRemover.removeMapping(removedKey, firstKey, curStorage);
@@ -414,6 +425,7 @@ public class SizeLimitedStorage {
                                     removedKey,
                                     irreparable);
                         }
+                        stateAccessProfiler.recordWrite(CONTRACT_STORAGE, start);
                     }
                     newFirstKeys.put(id, firstKey);
                 });
@@ -29,6 +29,7 @@ import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_TOKEN_
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_TOKEN_NFT_SERIAL_NUMBER;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import com.google.protobuf.ByteString;
 import com.hedera.services.context.primitives.StateView;
 import com.hedera.services.ledger.TransactionalLedger;
@@ -49,7 +50,6 @@ import com.hedera.services.utils.EntityIdUtils;
 import com.hedera.services.utils.EntityNum;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.TokenID;
-import com.swirlds.merkle.map.MerkleMap;
 import com.swirlds.virtualmap.VirtualMap;
 import java.util.function.Function;
 import javax.annotation.Nullable;
@@ -62,16 +62,35 @@ public class StaticEntityAccess implements EntityAccess {
     private final StateView view;
     private final ContractAliases aliases;
     private final OptionValidator validator;
-    private final MerkleMap<EntityNum, MerkleToken> tokens;
+    private final EntityStorageAdapter<MerkleToken> tokens;
     private final AccountStorageAdapter accounts;
     private final UniqueTokenMapAdapter nfts;
     private final TokenRelStorageAdapter tokenAssociations;
     private final VirtualMap<ContractKey, IterableContractValue> storage;
     private final VirtualMap<VirtualBlobKey, VirtualBlobValue> bytecode;
+    private final @Nullable Cache<ContractKey, UInt256> storageCache;
 
     public StaticEntityAccess(
             final StateView view, final ContractAliases aliases, final OptionValidator validator) {
+        this(view, aliases, validator, null);
+    }
+
+    /**
+     * Creates an entity access that, if given a cache of storage slot values, reads slots through
+     * it; the cache must be used only with views of the same (immutable) state.
+     *
+     * @param view the view of the state to access
+     * @param aliases the contract aliases
+     * @param validator the option validator
+     * @param storageCache if not null, a cache of storage slot values in the viewed state
+     */
+    public StaticEntityAccess(
+            final StateView view,
+            final ContractAliases aliases,
+            final OptionValidator validator,
+            @Nullable final Cache<ContractKey, UInt256> storageCache) {
         this.view = view;
+        this.storageCache = storageCache;
         this.aliases = aliases;
         this.validator = validator;
         this.bytecode = view.storage();
@@ -142,6 +161,12 @@ public class StaticEntityAccess implements EntityAccess {
     public UInt256 getStorage(Address address, Bytes key) {
         final var num = numFromEvmAddress(address.toArrayUnsafe());
         final var contractKey = new ContractKey(num, key.toArray());
+        return (storageCache == null)
+                ? storageValue(contractKey)
+                : storageCache.get(contractKey, this::storageValue);
+    }
+
+    private UInt256 storageValue(final ContractKey contractKey) {
         IterableContractValue value = storage.get(contractKey);
         return value == null ? UInt256.ZERO : UInt256.fromBytes(Bytes32.wrap(value.getValue()));
     }
@@ -208,7 +208,7 @@ public class HTSPrecompiledContract extends AbstractPrecompiledContract {
                                     frame,
                                     precompilePricingUtils::computeViewFunctionGas,
                                     currentView,
-                                    ledgers);
+                                    proxyUpdater.trackingLedgers());
                     return executor.computeCosted();
                 }
             }
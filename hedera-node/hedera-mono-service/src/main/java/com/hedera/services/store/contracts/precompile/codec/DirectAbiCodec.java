@@ -0,0 +1,364 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.store.contracts.precompile.codec;
+
+import static com.hedera.services.store.contracts.precompile.AbiConstants.ABI_ID_GET_TOKEN_INFO;
+import static com.hedera.services.store.contracts.precompile.AbiConstants.ABI_ID_TRANSFER_TOKEN;
+import static com.hedera.services.store.contracts.precompile.AbiConstants.ABI_ID_TRANSFER_TOKENS;
+import static com.hedera.services.store.contracts.precompile.codec.DecodingFacade.NO_NFT_EXCHANGES;
+import static com.hedera.services.store.contracts.precompile.codec.DecodingFacade.addSignedAdjustment;
+import static com.hedera.services.store.contracts.precompile.codec.DecodingFacade.convertAddressBytesToTokenID;
+import static com.hedera.services.store.contracts.precompile.codec.DecodingFacade.convertLeftPaddedAddressToAccountId;
+
+import com.google.protobuf.ByteString;
+import com.hedera.services.legacy.proto.utils.ByteStringUtils;
+import com.hedera.services.store.contracts.precompile.SyntheticTxnFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.UnaryOperator;
+import javax.annotation.Nullable;
+import org.apache.tuweni.bytes.Bytes;
+
+/**
+ * Hand-specialized ABI codecs for the hottest HTS precompile selectors. Each decoder reads its
+ * arguments straight out of the call data into the same wrapper the headlong-based decoder
+ * produces, without materializing intermediate {@code Tuple}s.
+ *
+ * <p>The decoders only accept call data in the canonical (Solidity-emitted) layout with exactly
+ * the expected length. For anything else they return {@code null}, and the caller must fall back
+ * to the general-purpose decoder; so the accepted and rejected inputs, and any exception raised
+ * for malformed input, are exactly those of the headlong path.
+ *
+ * <p>The encoders write fixed-layout results directly into an exactly-sized array, and reject the
+ * same out-of-range values that headlong rejects.
+ */
+public final class DirectAbiCodec {
+    private static final int WORD = 32;
+    private static final int ARGS = 4;
+    private static final int NOT_CANONICAL = -1;
+    private static final int UINT8_MAX = 0xFF;
+
+    private DirectAbiCodec() {
+        throw new UnsupportedOperationException("Utility Class");
+    }
+
+    /**
+     * Decodes {@code transferTokens(address,address[],int64[])} call data.
+     *
+     * @param input the call data, including selector
+     * @param aliasResolver the resolver for account aliases
+     * @return the decoded transfer, or null if the input is not canonically encoded
+     */
+    @Nullable
+    public static CryptoTransferWrapper decodeTransferTokens(
+            final Bytes input, final UnaryOperator<byte[]> aliasResolver) {
+        final var raw = input.toArrayUnsafe();
+        if (!hasSelector(raw, ABI_ID_TRANSFER_TOKENS) || raw.length < ARGS + 5 * WORD) {
+            return null;
+        }
+        final var accountsAt = ARGS + 3 * WORD;
+        if (uint31At(raw, ARGS + WORD) != 3 * WORD) {
+            return null;
+        }
+        final var n = uint31At(raw, accountsAt);
+        if (n == NOT_CANONICAL || n > raw.length / WORD) {
+            return null;
+        }
+        final var amountsAt = accountsAt + WORD + n * WORD;
+        if (uint31At(raw, ARGS + 2 * WORD) != amountsAt - ARGS
+                || uint31At(raw, amountsAt) != n
+                || raw.length != amountsAt + WORD + n * WORD) {
+            return null;
+        }
+        for (int i = 1; i <= n; i++) {
+            if (!isInt64Word(raw, amountsAt + i * WORD)) {
+                return null;
+            }
+        }
+
+        final var tokenType = convertAddressBytesToTokenID(wordAt(raw, ARGS));
+        final List<SyntheticTxnFactory.FungibleTokenTransfer> fungibleTransfers =
+                new ArrayList<>(n);
+        for (int i = 1; i <= n; i++) {
+            final var accountId =
+                    convertLeftPaddedAddressToAccountId(
+                            wordAt(raw, accountsAt + i * WORD), aliasResolver);
+            final var amount = int64At(raw, amountsAt + i * WORD);
+            addSignedAdjustment(fungibleTransfers, tokenType, accountId, amount, false);
+        }
+        return new CryptoTransferWrapper(
+                new TransferWrapper(Collections.emptyList()),
+                Collections.singletonList(
+                        new TokenTransferWrapper(NO_NFT_EXCHANGES, fungibleTransfers)));
+    }
+
+    /**
+     * Decodes {@code transferToken(address,address,address,int64)} call data.
+     *
+     * @param input the call data, including selector
+     * @param aliasResolver the resolver for account aliases
+     * @return the decoded transfer, or null if the input is not canonically encoded
+     */
+    @Nullable
+    public static CryptoTransferWrapper decodeTransferToken(
+            final Bytes input, final UnaryOperator<byte[]> aliasResolver) {
+        final var raw = input.toArrayUnsafe();
+        if (!hasSelector(raw, ABI_ID_TRANSFER_TOKEN)
+                || raw.length != ARGS + 4 * WORD
+                || !isInt64Word(raw, ARGS + 3 * WORD)) {
+            return null;
+        }
+        final var tokenId = convertAddressBytesToTokenID(wordAt(raw, ARGS));
+        final var sender =
+                convertLeftPaddedAddressToAccountId(wordAt(raw, ARGS + WORD), aliasResolver);
+        final var receiver =
+                convertLeftPaddedAddressToAccountId(wordAt(raw, ARGS + 2 * WORD), aliasResolver);
+        final var amount = int64At(raw, ARGS + 3 * WORD);
+        return new CryptoTransferWrapper(
+                new TransferWrapper(Collections.emptyList()),
+                Collections.singletonList(
+                        new TokenTransferWrapper(
+                                NO_NFT_EXCHANGES,
+                                List.of(
+                                        new SyntheticTxnFactory.FungibleTokenTransfer(
+                                                amount, false, tokenId, sender, receiver)))));
+    }
+
+    /**
+     * Decodes {@code mintToken(address,uint64,bytes[])} or {@code mintToken(address,int64,bytes[])}
+     * call data; both are decoded with a signed amount.
+     *
+     * @param input the call data, including selector
+     * @param selector the expected function selector
+     * @return the decoded mint, or null if the input is not canonically encoded
+     */
+    @Nullable
+    public static MintWrapper decodeMint(final Bytes input, final int selector) {
+        final var raw = input.toArrayUnsafe();
+        if (!hasSelector(raw, selector)
+                || raw.length < ARGS + 4 * WORD
+                || !isInt64Word(raw, ARGS + WORD)
+                || uint31At(raw, ARGS + 2 * WORD) != 3 * WORD) {
+            return null;
+        }
+        final var arrayAt = ARGS + 3 * WORD;
+        final var k = uint31At(raw, arrayAt);
+        if (k == NOT_CANONICAL || k > raw.length / WORD) {
+            return null;
+        }
+        final var contentAt = arrayAt + WORD;
+        var expectedOffset = k * WORD;
+        for (int j = 0; j < k; j++) {
+            if (uint31At(raw, contentAt + j * WORD) != expectedOffset) {
+                return null;
+            }
+            final var lenAt = contentAt + expectedOffset;
+            final var len = uint31At(raw, lenAt);
+            if (len == NOT_CANONICAL || len > raw.length) {
+                return null;
+            }
+            final var dataAt = lenAt + WORD;
+            final var padded = roundUpToWord(len);
+            if (dataAt + padded > raw.length || !isZero(raw, dataAt + len, dataAt + padded)) {
+                return null;
+            }
+            expectedOffset += WORD + padded;
+        }
+        if (contentAt + expectedOffset != raw.length) {
+            return null;
+        }
+
+        final var tokenId = convertAddressBytesToTokenID(wordAt(raw, ARGS));
+        final var amount = int64At(raw, ARGS + WORD);
+        if (amount > 0) {
+            return MintWrapper.forFungible(tokenId, amount);
+        }
+        final List<ByteString> metadata = new ArrayList<>(k);
+        for (int j = 0; j < k; j++) {
+            final var lenAt = contentAt + uint31At(raw, contentAt + j * WORD);
+            final var dataAt = lenAt + WORD;
+            final var meta = Arrays.copyOfRange(raw, dataAt, dataAt + uint31At(raw, lenAt));
+            metadata.add(ByteStringUtils.wrapUnsafely(meta));
+        }
+        return MintWrapper.forNonFungible(tokenId, metadata);
+    }
+
+    /**
+     * Decodes {@code getTokenInfo(address)} call data.
+     *
+     * @param input the call data, including selector
+     * @return the decoded token, or null if the input is not canonically encoded
+     */
+    @Nullable
+    public static TokenInfoWrapper decodeGetTokenInfo(final Bytes input) {
+        final var raw = input.toArrayUnsafe();
+        if (!hasSelector(raw, ABI_ID_GET_TOKEN_INFO) || raw.length != ARGS + WORD) {
+            return null;
+        }
+        return TokenInfoWrapper.forToken(convertAddressBytesToTokenID(wordAt(raw, ARGS)));
+    }
+
+    /**
+     * Encodes a {@code (uint256)} result from a {@code long}.
+     *
+     * @param value the value to encode
+     * @return the encoded result
+     * @throws IllegalArgumentException if the value is negative
+     */
+    public static Bytes encodeUint256(final long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Signed value " + value + " for unsigned type");
+        }
+        final var out = new byte[WORD];
+        putInt64(out, 0, value);
+        return Bytes.wrap(out);
+    }
+
+    /**
+     * Encodes a {@code (uint8)} result.
+     *
+     * @param value the value to encode
+     * @return the encoded result
+     * @throws IllegalArgumentException if the value does not fit in a uint8
+     */
+    public static Bytes encodeUint8(final int value) {
+        if (value < 0 || value > UINT8_MAX) {
+            throw new IllegalArgumentException("Value " + value + " out of range for uint8");
+        }
+        final var out = new byte[WORD];
+        out[WORD - 1] = (byte) value;
+        return Bytes.wrap(out);
+    }
+
+    /**
+     * Encodes a {@code (bool)} result.
+     *
+     * @param value the value to encode
+     * @return the encoded result
+     */
+    public static Bytes encodeBool(final boolean value) {
+        final var out = new byte[WORD];
+        out[WORD - 1] = value ? (byte) 1 : 0;
+        return Bytes.wrap(out);
+    }
+
+    /**
+     * Encodes an HTS mint result, {@code (int32,uint64,int64[])}.
+     *
+     * @param status the response code
+     * @param totalSupply the new total supply
+     * @param serialNumbers the minted serial numbers
+     * @return the encoded result
+     * @throws IllegalArgumentException if the total supply is negative
+     */
+    public static Bytes encodeMintResult(
+            final int status, final long totalSupply, final long[] serialNumbers) {
+        if (totalSupply < 0) {
+            throw new IllegalArgumentException(
+                    "Signed value " + totalSupply + " for unsigned type");
+        }
+        final var out = new byte[(4 + serialNumbers.length) * WORD];
+        putInt64(out, 0, status);
+        putInt64(out, WORD, totalSupply);
+        putInt64(out, 2 * WORD, 3L * WORD);
+        putInt64(out, 3 * WORD, serialNumbers.length);
+        for (int i = 0; i < serialNumbers.length; i++) {
+            putInt64(out, (4 + i) * WORD, serialNumbers[i]);
+        }
+        return Bytes.wrap(out);
+    }
+
+    /* --- Word helpers --- */
+    private static boolean hasSelector(final byte[] raw, final int selector) {
+        return raw.length >= ARGS
+                && ((raw[0] & 0xFF) << 24
+                                | (raw[1] & 0xFF) << 16
+                                | (raw[2] & 0xFF) << 8
+                                | (raw[3] & 0xFF))
+                        == selector;
+    }
+
+    private static byte[] wordAt(final byte[] raw, final int at) {
+        return Arrays.copyOfRange(raw, at, at + WORD);
+    }
+
+    /**
+     * Returns the non-negative {@code int} held in the word at the given position, or {@link
+     * #NOT_CANONICAL} if the word is out of bounds or does not hold such a value.
+     */
+    private static int uint31At(final byte[] raw, final int at) {
+        if (at < 0 || at + WORD > raw.length) {
+            return NOT_CANONICAL;
+        }
+        for (int i = at, n = at + WORD - Integer.BYTES; i < n; i++) {
+            if (raw[i] != 0) {
+                return NOT_CANONICAL;
+            }
+        }
+        final var i = at + WORD - Integer.BYTES;
+        final var value =
+                (raw[i] & 0xFF) << 24
+                        | (raw[i + 1] & 0xFF) << 16
+                        | (raw[i + 2] & 0xFF) << 8
+                        | (raw[i + 3] & 0xFF);
+        return value < 0 ? NOT_CANONICAL : value;
+    }
+
+    private static boolean isInt64Word(final byte[] raw, final int at) {
+        if (at + WORD > raw.length) {
+            return false;
+        }
+        final var signByte = raw[at + WORD - Long.BYTES] < 0 ? (byte) 0xFF : 0;
+        for (int i = at, n = at + WORD - Long.BYTES; i < n; i++) {
+            if (raw[i] != signByte) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long int64At(final byte[] raw, final int at) {
+        long value = 0;
+        for (int i = at + WORD - Long.BYTES, n = at + WORD; i < n; i++) {
+            value = (value << 8) | (raw[i] & 0xFF);
+        }
+        return value;
+    }
+
+    private static void putInt64(final byte[] out, final int at, final long value) {
+        if (value < 0) {
+            Arrays.fill(out, at, at + WORD - Long.BYTES, (byte) 0xFF);
+        }
+        for (int i = 0; i < Long.BYTES; i++) {
+            out[at + WORD - 1 - i] = (byte) (value >>> (8 * i));
+        }
+    }
+
+    private static boolean isZero(final byte[] raw, final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            if (raw[i] != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int roundUpToWord(final int len) {
+        return (len + WORD - 1) / WORD * WORD;
+    }
+}
@@ -15,12 +15,8 @@
  */
 package com.hedera.services.store.contracts.precompile.codec;
 
-import static com.hedera.services.contracts.ParsingConstants.FunctionType.HAPI_MINT;
 import static com.hedera.services.contracts.ParsingConstants.addressTuple;
-import static com.hedera.services.contracts.ParsingConstants.bigIntegerTuple;
-import static com.hedera.services.contracts.ParsingConstants.booleanTuple;
 import static com.hedera.services.contracts.ParsingConstants.burnReturnType;
-import static com.hedera.services.contracts.ParsingConstants.decimalsType;
 import static com.hedera.services.contracts.ParsingConstants.getFungibleTokenInfoType;
 import static com.hedera.services.contracts.ParsingConstants.getNonFungibleTokenInfoType;
 import static com.hedera.services.contracts.ParsingConstants.getTokenCustomFeesType;
@@ -32,7 +28,6 @@ import static com.hedera.services.contracts.ParsingConstants.intAddressTuple;
 import static com.hedera.services.contracts.ParsingConstants.intBoolTuple;
 import static com.hedera.services.contracts.ParsingConstants.intPairTuple;
 import static com.hedera.services.contracts.ParsingConstants.intTuple;
-import static com.hedera.services.contracts.ParsingConstants.mintReturnType;
 import static com.hedera.services.contracts.ParsingConstants.notSpecifiedType;
 import static com.hedera.services.contracts.ParsingConstants.stringTuple;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.SUCCESS;
@@ -118,10 +113,7 @@ public class EncodingFacade {
     }
 
     public Bytes encodeBalance(final long balance) {
-        return functionResultBuilder()
-                .forFunction(FunctionType.ERC_BALANCE)
-                .withBalance(balance)
-                .build();
+        return DirectAbiCodec.encodeUint256(balance);
     }
 
     public Bytes encodeIsFrozen(final boolean isFrozen) {
@@ -133,10 +125,7 @@ public class EncodingFacade {
     }
 
     public Bytes encodeAllowance(final long allowance) {
-        return functionResultBuilder()
-                .forFunction(FunctionType.ERC_ALLOWANCE)
-                .withAllowance(allowance)
-                .build();
+        return DirectAbiCodec.encodeUint256(allowance);
     }
 
     public Bytes encodeAllowance(final int responseCode, final long allowance) {
@@ -148,10 +137,7 @@ public class EncodingFacade {
     }
 
     public Bytes encodeApprove(final boolean approve) {
-        return functionResultBuilder()
-                .forFunction(FunctionType.ERC_APPROVE)
-                .withApprove(approve)
-                .build();
+        return DirectAbiCodec.encodeBool(approve);
     }
 
     public Bytes encodeApprove(final int responseCode, final boolean approve) {
@@ -170,35 +156,22 @@ public class EncodingFacade {
     }
 
     public Bytes encodeDecimals(final int decimals) {
-        return functionResultBuilder()
-                .forFunction(FunctionType.ERC_DECIMALS)
-                .withDecimals(decimals)
-                .build();
+        return DirectAbiCodec.encodeUint8(decimals);
     }
 
     public Bytes encodeTotalSupply(final long totalSupply) {
-        return functionResultBuilder()
-                .forFunction(FunctionType.ERC_TOTAL_SUPPLY)
-                .withTotalSupply(totalSupply)
-                .build();
+        return DirectAbiCodec.encodeUint256(totalSupply);
     }
 
     public Bytes encodeMintSuccess(final long totalSupply, final long[] serialNumbers) {
-        return functionResultBuilder()
-                .forFunction(HAPI_MINT)
-                .withStatus(SUCCESS.getNumber())
-                .withTotalSupply(totalSupply)
-                .withSerialNumbers(serialNumbers != null ? serialNumbers : NO_MINTED_SERIAL_NUMBERS)
-                .build();
+        return DirectAbiCodec.encodeMintResult(
+                SUCCESS.getNumber(),
+                totalSupply,
+                serialNumbers != null ? serialNumbers : NO_MINTED_SERIAL_NUMBERS);
     }
 
     public Bytes encodeMintFailure(@NotNull final ResponseCodeEnum status) {
-        return functionResultBuilder()
-                .forFunction(HAPI_MINT)
-                .withStatus(status.getNumber())
-                .withTotalSupply(0L)
-                .withSerialNumbers(NO_MINTED_SERIAL_NUMBERS)
-                .build();
+        return DirectAbiCodec.encodeMintResult(status.getNumber(), 0L, NO_MINTED_SERIAL_NUMBERS);
     }
 
     public Bytes encodeBurnSuccess(final long totalSupply) {
@@ -218,10 +191,7 @@ public class EncodingFacade {
     }
 
     public Bytes encodeEcFungibleTransfer(final boolean ercFungibleTransferStatus) {
-        return functionResultBuilder()
-                .forFunction(FunctionType.ERC_TRANSFER)
-                .withErcFungibleTransferStatus(ercFungibleTransferStatus)
-                .build();
+        return DirectAbiCodec.encodeBool(ercFungibleTransferStatus);
     }
 
     public Bytes encodeCreateSuccess(final Address newTokenAddress) {
@@ -241,10 +211,7 @@ public class EncodingFacade {
     }
 
     public Bytes encodeIsApprovedForAll(final boolean isApprovedForAllStatus) {
-        return functionResultBuilder()
-                .forFunction(FunctionType.ERC_IS_APPROVED_FOR_ALL)
-                .withIsApprovedForAllStatus(isApprovedForAllStatus)
-                .build();
+        return DirectAbiCodec.encodeBool(isApprovedForAllStatus);
     }
 
     public Bytes encodeIsApprovedForAll(final int status, final boolean isApprovedForAllStatus) {
@@ -354,17 +321,13 @@ public class EncodingFacade {
         private TupleType tupleType;
         private int status;
         private Address newTokenAddress;
-        private boolean ercFungibleTransferStatus;
         private boolean isApprovedForAllStatus;
         private boolean tokenDefaultFreezeStatus;
         private boolean tokenDefaultKycStatus;
         private boolean isKyc;
         private long totalSupply;
-        private long balance;
         private long allowance;
         private boolean approve;
-        private long[] serialNumbers;
-        private int decimals;
         private Address owner;
         private Address approved;
         private String name;
@@ -383,13 +346,9 @@ public class EncodingFacade {
             this.tupleType =
                     switch (functionType) {
                         case HAPI_CREATE, HAPI_GET_APPROVED -> intAddressTuple;
-                        case HAPI_MINT -> mintReturnType;
                         case HAPI_BURN -> burnReturnType;
-                        case ERC_TOTAL_SUPPLY, ERC_ALLOWANCE, ERC_BALANCE -> bigIntegerTuple;
-                        case ERC_DECIMALS -> decimalsType;
                         case ERC_OWNER, ERC_GET_APPROVED -> addressTuple;
                         case ERC_NAME, ERC_TOKEN_URI, ERC_SYMBOL -> stringTuple;
-                        case ERC_TRANSFER, ERC_IS_APPROVED_FOR_ALL, ERC_APPROVE -> booleanTuple;
                         case HAPI_ALLOWANCE -> hapiAllowanceOfType;
                         case HAPI_APPROVE,
                                 HAPI_IS_TOKEN,
@@ -428,21 +387,6 @@ public class EncodingFacade {
             return this;
         }
 
-        private FunctionResultBuilder withSerialNumbers(final long[] serialNumbers) {
-            this.serialNumbers = serialNumbers;
-            return this;
-        }
-
-        private FunctionResultBuilder withDecimals(final int decimals) {
-            this.decimals = decimals;
-            return this;
-        }
-
-        private FunctionResultBuilder withBalance(final long balance) {
-            this.balance = balance;
-            return this;
-        }
-
         private FunctionResultBuilder withIsFrozen(final boolean isFrozen) {
             this.isFrozen = isFrozen;
             return this;
@@ -483,12 +427,6 @@ public class EncodingFacade {
             return this;
         }
 
-        private FunctionResultBuilder withErcFungibleTransferStatus(
-                final boolean ercFungibleTransferStatus) {
-            this.ercFungibleTransferStatus = ercFungibleTransferStatus;
-            return this;
-        }
-
         private FunctionResultBuilder withIsApprovedForAllStatus(
                 final boolean isApprovedForAllStatus) {
             this.isApprovedForAllStatus = isApprovedForAllStatus;
@@ -567,22 +505,13 @@ public class EncodingFacade {
                     switch (functionType) {
                         case HAPI_CREATE -> Tuple.of(
                                 status, convertBesuAddressToHeadlongAddress(newTokenAddress));
-                        case HAPI_MINT -> Tuple.of(
-                                status, BigInteger.valueOf(totalSupply), serialNumbers);
                         case HAPI_BURN -> Tuple.of(status, BigInteger.valueOf(totalSupply));
-                        case ERC_TOTAL_SUPPLY -> Tuple.of(BigInteger.valueOf(totalSupply));
-                        case ERC_DECIMALS -> Tuple.of(decimals);
-                        case ERC_BALANCE -> Tuple.of(BigInteger.valueOf(balance));
                         case ERC_OWNER -> Tuple.of(convertBesuAddressToHeadlongAddress(owner));
                         case ERC_NAME -> Tuple.of(name);
                         case ERC_SYMBOL -> Tuple.of(symbol);
                         case ERC_TOKEN_URI -> Tuple.of(metadata);
-                        case ERC_TRANSFER -> Tuple.of(ercFungibleTransferStatus);
-                        case ERC_ALLOWANCE -> Tuple.of(BigInteger.valueOf(allowance));
-                        case ERC_APPROVE -> Tuple.of(approve);
                         case ERC_GET_APPROVED -> Tuple.of(
                                 convertBesuAddressToHeadlongAddress(approved));
-                        case ERC_IS_APPROVED_FOR_ALL -> Tuple.of(isApprovedForAllStatus);
                         case HAPI_APPROVE -> Tuple.of(status, approve);
                         case HAPI_APPROVE_NFT -> Tuple.of(status);
                         case HAPI_ALLOWANCE -> Tuple.of(status, BigInteger.valueOf(allowance));
@@ -41,6 +41,7 @@ import com.hedera.services.store.contracts.WorldLedgers;
 import com.hedera.services.store.contracts.precompile.AbiConstants;
 import com.hedera.services.store.contracts.precompile.InfrastructureFactory;
 import com.hedera.services.store.contracts.precompile.SyntheticTxnFactory;
+import com.hedera.services.store.contracts.precompile.codec.DirectAbiCodec;
 import com.hedera.services.store.contracts.precompile.codec.EncodingFacade;
 import com.hedera.services.store.contracts.precompile.codec.MintWrapper;
 import com.hedera.services.store.contracts.precompile.utils.KeyActivationUtils;
@@ -172,10 +173,15 @@ public class MintPrecompile extends AbstractWritePrecompile {
     }
 
     public static MintWrapper decodeMint(final Bytes input) {
-        return getMintWrapper(input, MINT_TOKEN_SELECTOR);
+        return getMintWrapper(input, MINT_TOKEN_SELECTOR, AbiConstants.ABI_ID_MINT_TOKEN);
     }
 
-    private static MintWrapper getMintWrapper(Bytes input, Bytes mintTokenSelector) {
+    private static MintWrapper getMintWrapper(
+            final Bytes input, final Bytes mintTokenSelector, final int functionId) {
+        final var directlyDecoded = DirectAbiCodec.decodeMint(input, functionId);
+        if (directlyDecoded != null) {
+            return directlyDecoded;
+        }
         final Tuple decodedArguments =
                 decodeFunctionCall(input, mintTokenSelector, MINT_TOKEN_DECODER);
 
@@ -194,6 +200,6 @@ public class MintPrecompile extends AbstractWritePrecompile {
     }
 
     public static MintWrapper decodeMintV2(final Bytes input) {
-        return getMintWrapper(input, MINT_TOKEN_SELECTOR_V2);
+        return getMintWrapper(input, MINT_TOKEN_SELECTOR_V2, AbiConstants.ABI_ID_MINT_TOKEN_V2);
     }
 }
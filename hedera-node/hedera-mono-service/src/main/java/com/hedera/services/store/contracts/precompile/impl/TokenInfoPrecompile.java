@@ -28,6 +28,7 @@ import com.hedera.services.context.primitives.StateView;
 import com.hedera.services.state.submerkle.ExpirableTxnRecord;
 import com.hedera.services.store.contracts.WorldLedgers;
 import com.hedera.services.store.contracts.precompile.SyntheticTxnFactory;
+import com.hedera.services.store.contracts.precompile.codec.DirectAbiCodec;
 import com.hedera.services.store.contracts.precompile.codec.EncodingFacade;
 import com.hedera.services.store.contracts.precompile.codec.TokenInfoWrapper;
 import com.hedera.services.store.contracts.precompile.utils.PrecompilePricingUtils;
@@ -69,6 +70,10 @@ public class TokenInfoPrecompile extends AbstractTokenInfoPrecompile {
     }
 
     public static TokenInfoWrapper decodeGetTokenInfo(final Bytes input) {
+        final var directlyDecoded = DirectAbiCodec.decodeGetTokenInfo(input);
+        if (directlyDecoded != null) {
+            return directlyDecoded;
+        }
         final Tuple decodedArguments =
                 decodeFunctionCall(input, GET_TOKEN_INFO_SELECTOR, GET_TOKEN_INFO_DECODER);
 
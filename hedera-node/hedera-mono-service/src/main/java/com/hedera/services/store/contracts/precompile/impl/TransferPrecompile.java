@@ -50,6 +50,7 @@ import com.hedera.services.store.contracts.precompile.AbiConstants;
 import com.hedera.services.store.contracts.precompile.InfrastructureFactory;
 import com.hedera.services.store.contracts.precompile.SyntheticTxnFactory;
 import com.hedera.services.store.contracts.precompile.codec.CryptoTransferWrapper;
+import com.hedera.services.store.contracts.precompile.codec.DirectAbiCodec;
 import com.hedera.services.store.contracts.precompile.codec.TokenTransferWrapper;
 import com.hedera.services.store.contracts.precompile.codec.TransferWrapper;
 import com.hedera.services.store.contracts.precompile.utils.KeyActivationUtils;
@@ -424,6 +425,10 @@ public class TransferPrecompile extends AbstractWritePrecompile {
 
     public static CryptoTransferWrapper decodeTransferTokens(
             final Bytes input, final UnaryOperator<byte[]> aliasResolver) {
+        final var directlyDecoded = DirectAbiCodec.decodeTransferTokens(input, aliasResolver);
+        if (directlyDecoded != null) {
+            return directlyDecoded;
+        }
         final List<SyntheticTxnFactory.HbarTransfer> hbarTransfers = Collections.emptyList();
         final Tuple decodedArguments =
                 decodeFunctionCall(input, TRANSFER_TOKENS_SELECTOR, TRANSFER_TOKENS_DECODER);
@@ -449,6 +454,10 @@ public class TransferPrecompile extends AbstractWritePrecompile {
 
     public static CryptoTransferWrapper decodeTransferToken(
             final Bytes input, final UnaryOperator<byte[]> aliasResolver) {
+        final var directlyDecoded = DirectAbiCodec.decodeTransferToken(input, aliasResolver);
+        if (directlyDecoded != null) {
+            return directlyDecoded;
+        }
         final List<SyntheticTxnFactory.HbarTransfer> hbarTransfers = Collections.emptyList();
         final Tuple decodedArguments =
                 decodeFunctionCall(input, TRANSFER_TOKEN_SELECTOR, TRANSFER_TOKEN_DECODER);
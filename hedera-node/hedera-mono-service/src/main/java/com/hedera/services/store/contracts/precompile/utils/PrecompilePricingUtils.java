@@ -49,6 +49,8 @@ import com.hedera.services.fees.calculation.UsagePricesProvider;
 import com.hedera.services.pricing.AssetsLoader;
 import com.hedera.services.store.contracts.precompile.Precompile;
 import com.hedera.services.utils.accessors.AccessorFactory;
+import com.hederahashgraph.api.proto.java.ExchangeRate;
+import com.hederahashgraph.api.proto.java.FeeData;
 import com.hederahashgraph.api.proto.java.HederaFunctionality;
 import com.hederahashgraph.api.proto.java.Query;
 import com.hederahashgraph.api.proto.java.SignatureMap;
@@ -65,6 +67,7 @@ import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.EnumMap;
 import java.util.Map;
+import java.util.Objects;
 import javax.inject.Inject;
 import javax.inject.Provider;
 
@@ -92,6 +95,12 @@ public class PrecompilePricingUtils {
     private final AccessorFactory accessorFactory;
     Map<GasCostType, Long> canonicalOperationCostsInTinyCents;
 
+    /**
+     * The view function fee and gas price last computed by the fee calculator, together with the
+     * prices and rate they were derived from; only recomputed when those inputs change.
+     */
+    private volatile ViewPricing viewPricing;
+
     @Inject
     public PrecompilePricingUtils(
             AssetsLoader assetsLoader,
@@ -156,16 +165,9 @@ public class PrecompilePricingUtils {
     }
 
     public long computeViewFunctionGas(final Timestamp now, final long minimumTinybarCost) {
-        final var calculator = feeCalculator.get();
-        final var usagePrices = resourceCosts.defaultPricesGiven(TokenGetInfo, now);
-        final var fees =
-                calculator.estimatePayment(
-                        SYNTHETIC_REDIRECT_QUERY, usagePrices, currentView, now, ANSWER_ONLY);
-
-        final long gasPriceInTinybars = calculator.estimatedGasPriceInTinybars(ContractCall, now);
-        final long calculatedFeeInTinybars =
-                fees.getNetworkFee() + fees.getNodeFee() + fees.getServiceFee();
-        final long actualFeeInTinybars = Math.max(minimumTinybarCost, calculatedFeeInTinybars);
+        final var pricing = viewPricingAt(now);
+        final long gasPriceInTinybars = pricing.gasPriceInTinybars();
+        final long actualFeeInTinybars = Math.max(minimumTinybarCost, pricing.feeInTinybars());
 
         // convert to gas cost
         final long baseGasCost =
@@ -175,6 +177,47 @@ public class PrecompilePricingUtils {
         return baseGasCost + (baseGasCost / 5L);
     }
 
+    private ViewPricing viewPricingAt(final Timestamp now) {
+        final var viewPrices = resourceCosts.defaultPricesGiven(TokenGetInfo, now);
+        final var callPrices = resourceCosts.defaultPricesGiven(ContractCall, now);
+        final var rate = exchange.rate(now);
+        final var cached = viewPricing;
+        if (cached != null && cached.isDerivedFrom(viewPrices, callPrices, rate)) {
+            return cached;
+        }
+
+        final var calculator = feeCalculator.get();
+        final var fees =
+                calculator.estimatePayment(
+                        SYNTHETIC_REDIRECT_QUERY, viewPrices, currentView, now, ANSWER_ONLY);
+        final long gasPriceInTinybars = calculator.estimatedGasPriceInTinybars(ContractCall, now);
+        final var fresh =
+                new ViewPricing(
+                        viewPrices,
+                        callPrices,
+                        rate,
+                        fees.getNetworkFee() + fees.getNodeFee() + fees.getServiceFee(),
+                        gasPriceInTinybars);
+        viewPricing = fresh;
+        return fresh;
+    }
+
+    private record ViewPricing(
+            FeeData viewPrices,
+            FeeData callPrices,
+            ExchangeRate rate,
+            long feeInTinybars,
+            long gasPriceInTinybars) {
+        boolean isDerivedFrom(
+                final FeeData viewPrices, final FeeData callPrices, final ExchangeRate rate) {
+            // Price schedules and rates are replaced wholesale on update, so the reference
+            // check in Objects.equals() almost always short-circuits
+            return Objects.equals(this.viewPrices, viewPrices)
+                    && Objects.equals(this.callPrices, callPrices)
+                    && Objects.equals(this.rate, rate);
+        }
+    }
+
     public long computeGasRequirement(
             final long blockTimestamp,
             final Precompile precompile,
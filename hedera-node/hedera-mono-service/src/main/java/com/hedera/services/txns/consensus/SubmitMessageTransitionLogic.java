@@ -18,7 +18,6 @@ package com.hedera.services.txns.consensus;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_CHUNK_NUMBER;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_CHUNK_TRANSACTION_ID;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_TOPIC_MESSAGE;
-import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_TRANSACTION;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.MESSAGE_SIZE_TOO_LARGE;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.SUCCESS;
@@ -26,36 +25,31 @@ import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.SUCCESS;
 import com.hedera.services.context.TransactionContext;
 import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hedera.services.state.merkle.MerkleTopic;
+import com.hedera.services.state.migration.EntityStorageAdapter;
 import com.hedera.services.txns.TransitionLogic;
 import com.hedera.services.txns.validation.OptionValidator;
 import com.hedera.services.utils.EntityNum;
 import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
 import com.hederahashgraph.api.proto.java.TransactionBody;
-import com.swirlds.merkle.map.MerkleMap;
-import java.io.IOException;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import javax.inject.Inject;
 import javax.inject.Singleton;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
 
 @Singleton
 public class SubmitMessageTransitionLogic implements TransitionLogic {
-    private static final Logger log = LogManager.getLogger(SubmitMessageTransitionLogic.class);
-
     private static final Function<TransactionBody, ResponseCodeEnum> SEMANTIC_RUBBER_STAMP =
             ignore -> OK;
 
     private final OptionValidator validator;
     private final TransactionContext transactionContext;
-    private final Supplier<MerkleMap<EntityNum, MerkleTopic>> topics;
+    private final Supplier<EntityStorageAdapter<MerkleTopic>> topics;
     private final GlobalDynamicProperties globalDynamicProperties;
 
     @Inject
     public SubmitMessageTransitionLogic(
-            Supplier<MerkleMap<EntityNum, MerkleTopic>> topics,
+            Supplier<EntityStorageAdapter<MerkleTopic>> topics,
             OptionValidator validator,
             TransactionContext transactionContext,
             GlobalDynamicProperties globalDynamicProperties) {
@@ -111,20 +105,15 @@ public class SubmitMessageTransitionLogic implements TransitionLogic {
 
         var topicId = EntityNum.fromTopicId(op.getTopicID());
         var mutableTopic = topics.get().getForModify(topicId);
-        try {
-            mutableTopic.updateRunningHashAndSequenceNumber(
-                    // tbd : handle custom payer here
-                    transactionBody.getTransactionID().getAccountID(),
-                    op.getMessage().toByteArray(),
-                    op.getTopicID(),
-                    transactionContext.consensusTime());
-            transactionContext.setTopicRunningHash(
-                    mutableTopic.getRunningHash(), mutableTopic.getSequenceNumber());
-            transactionContext.setStatus(SUCCESS);
-        } catch (IOException e) {
-            log.error("Updating topic running hash failed.", e);
-            transactionContext.setStatus(INVALID_TRANSACTION);
-        }
+        mutableTopic.updateRunningHashAndSequenceNumber(
+                // tbd : handle custom payer here
+                transactionBody.getTransactionID().getAccountID(),
+                op.getMessage().toByteArray(),
+                op.getTopicID(),
+                transactionContext.consensusTime());
+        transactionContext.setTopicRunningHash(
+                mutableTopic.getRunningHash(), mutableTopic.getSequenceNumber());
+        transactionContext.setStatus(SUCCESS);
     }
 
     @Override
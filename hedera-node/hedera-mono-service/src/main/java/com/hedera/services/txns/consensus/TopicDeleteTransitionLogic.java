@@ -22,12 +22,12 @@ import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.UNAUTHORIZED;
 import com.hedera.services.context.TransactionContext;
 import com.hedera.services.ledger.SigImpactHistorian;
 import com.hedera.services.state.merkle.MerkleTopic;
+import com.hedera.services.state.migration.EntityStorageAdapter;
 import com.hedera.services.txns.TransitionLogic;
 import com.hedera.services.txns.validation.OptionValidator;
 import com.hedera.services.utils.EntityNum;
 import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
 import com.hederahashgraph.api.proto.java.TransactionBody;
-import com.swirlds.merkle.map.MerkleMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -39,14 +39,14 @@ public class TopicDeleteTransitionLogic implements TransitionLogic {
     private static final Function<TransactionBody, ResponseCodeEnum> SEMANTIC_RUBBER_STAMP =
             ignore -> OK;
 
-    private final Supplier<MerkleMap<EntityNum, MerkleTopic>> topics;
+    private final Supplier<EntityStorageAdapter<MerkleTopic>> topics;
     private final OptionValidator validator;
     private final SigImpactHistorian sigImpactHistorian;
     private final TransactionContext transactionContext;
 
     @Inject
     public TopicDeleteTransitionLogic(
-            final Supplier<MerkleMap<EntityNum, MerkleTopic>> topics,
+            final Supplier<EntityStorageAdapter<MerkleTopic>> topics,
             final OptionValidator validator,
             final SigImpactHistorian sigImpactHistorian,
             final TransactionContext transactionContext) {
@@ -17,48 +17,78 @@ package com.hedera.services.txns.customfees;
 
 import com.hedera.services.grpc.marshalling.CustomFeeMeta;
 import com.hedera.services.state.merkle.MerkleToken;
+import com.hedera.services.state.migration.EntityStorageAdapter;
 import com.hedera.services.store.models.Id;
 import com.hedera.services.utils.EntityNum;
-import com.swirlds.merkle.map.MerkleMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 
-/** Active CustomFeeSchedules for an entity in the tokens FCMap */
+/**
+ * Active CustomFeeSchedules for an entity in the tokens FCMap.
+ *
+ * <p>Marketplace-style transfers look up the same few tokens' schedules many times per round (to
+ * assess fees, and again to check a pre-computed {@link
+ * com.hedera.services.grpc.marshalling.ImpliedTransfersMeta} is still valid). So the {@link
+ * CustomFeeMeta} built for a token is cached for as long as the tokens map instance is current
+ * (that is, for a round), and re-used as long as the token still has the same fee schedule list
+ * and treasury. Since a fee schedule update always installs a new list, re-use implies the
+ * schedule is unchanged; and returning the identical meta lets later {@code equals()} checks
+ * short-circuit.
+ */
 @Singleton
 public class FcmCustomFeeSchedules implements CustomFeeSchedules {
-    private final Supplier<MerkleMap<EntityNum, MerkleToken>> tokens;
+    private static final String[] NON_IDENTITY_FIELDS = {"metaCache", "cachedTokens"};
+
+    private final Supplier<EntityStorageAdapter<MerkleToken>> tokens;
+    private final Map<EntityNum, CustomFeeMeta> metaCache = new ConcurrentHashMap<>();
+    private volatile EntityStorageAdapter<MerkleToken> cachedTokens;
 
     @Inject
-    public FcmCustomFeeSchedules(Supplier<MerkleMap<EntityNum, MerkleToken>> tokens) {
+    public FcmCustomFeeSchedules(Supplier<EntityStorageAdapter<MerkleToken>> tokens) {
         this.tokens = tokens;
     }
 
     @Override
     public CustomFeeMeta lookupMetaFor(final Id tokenId) {
         final var currentTokens = tokens.get();
+        if (currentTokens != cachedTokens) {
+            metaCache.clear();
+            cachedTokens = currentTokens;
+        }
         final var key = EntityNum.fromModel(tokenId);
-        if (!currentTokens.containsKey(key)) {
+        final var merkleToken = currentTokens.get(key);
+        if (merkleToken == null) {
             return CustomFeeMeta.forMissingLookupOf(tokenId);
         }
-        final var merkleToken = currentTokens.get(key);
-        return new CustomFeeMeta(
-                tokenId, merkleToken.treasury().asId(), merkleToken.customFeeSchedule());
+        final var cachedMeta = metaCache.get(key);
+        if (cachedMeta != null
+                && cachedMeta.customFees() == merkleToken.customFeeSchedule()
+                && merkleToken.treasury().matches(cachedMeta.treasuryId())) {
+            return cachedMeta;
+        }
+        final var meta =
+                new CustomFeeMeta(
+                        tokenId, merkleToken.treasury().asId(), merkleToken.customFeeSchedule());
+        metaCache.put(key, meta);
+        return meta;
     }
 
-    public Supplier<MerkleMap<EntityNum, MerkleToken>> getTokens() {
+    public Supplier<EntityStorageAdapter<MerkleToken>> getTokens() {
         return tokens;
     }
 
     @Override
     public boolean equals(Object obj) {
-        return EqualsBuilder.reflectionEquals(this, obj);
+        return EqualsBuilder.reflectionEquals(this, obj, NON_IDENTITY_FIELDS);
     }
 
     @Override
     public int hashCode() {
-        return HashCodeBuilder.reflectionHashCode(this);
+        return HashCodeBuilder.reflectionHashCode(this, NON_IDENTITY_FIELDS);
     }
 }
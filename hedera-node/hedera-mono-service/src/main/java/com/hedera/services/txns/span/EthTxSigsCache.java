@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.txns.span;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
+import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.ethereum.EthTxData;
+import com.hedera.services.ethereum.EthTxSigs;
+import com.hedera.services.evm.store.contracts.utils.BytesKey;
+import com.hedera.services.stats.SigVerificationStats;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Recovers the signer of an {@link EthTxData}, remembering the result for recently seen
+ * transactions. The same {@code EthereumTransaction} is typically recovered at least twice (once
+ * in pre-handle span expansion, and again in {@code handleTransaction} whenever its span has to be
+ * re-computed), and secp256k1 recovery is much more expensive than hashing the signable message.
+ *
+ * <p>Entries are keyed by the Keccak-256 signing hash, the {@code r} and {@code s} values, and the
+ * recovery id; so a hit returns exactly what {@link EthTxSigs#extractSignatures(EthTxData)} would.
+ * Failed recoveries are not cached. A non-positive {@code hedera.ethTxSigs.maxCachedRecoveries}
+ * disables the cache.
+ */
+@Singleton
+public class EthTxSigsCache implements Function<EthTxData, EthTxSigs> {
+    private static final int SCALAR_LEN = 32;
+
+    private final SigVerificationStats sigVerificationStats;
+    private final BiFunction<EthTxData, byte[], EthTxSigs> recovery;
+    private final Cache<BytesKey, EthTxSigs> recovered;
+
+    @Inject
+    public EthTxSigsCache(
+            final NodeLocalProperties nodeLocalProperties,
+            final SigVerificationStats sigVerificationStats) {
+        this(
+                nodeLocalProperties.ethTxSigsMaxCachedRecoveries(),
+                sigVerificationStats,
+                EthTxSigs::extractSignatures);
+    }
+
+    @VisibleForTesting
+    EthTxSigsCache(
+            final int maxCachedRecoveries,
+            final SigVerificationStats sigVerificationStats,
+            final BiFunction<EthTxData, byte[], EthTxSigs> recovery) {
+        this.recovery = recovery;
+        this.sigVerificationStats = sigVerificationStats;
+        this.recovered =
+                maxCachedRecoveries > 0
+                        ? Caffeine.newBuilder().maximumSize(maxCachedRecoveries).build()
+                        : null;
+    }
+
+    @Override
+    public EthTxSigs apply(final EthTxData ethTxData) {
+        final var signingHash = EthTxSigs.calculateSigningHash(ethTxData);
+        if (recovered == null || !hasCacheableSig(ethTxData)) {
+            return recovery.apply(ethTxData, signingHash);
+        }
+        final var key = keyFor(signingHash, ethTxData);
+        final var cached = recovered.getIfPresent(key);
+        if (cached != null) {
+            sigVerificationStats.countEthSigRecovery(true);
+            return cached;
+        }
+        final var sigs = recovery.apply(ethTxData, signingHash);
+        sigVerificationStats.countEthSigRecovery(false);
+        recovered.put(key, sigs);
+        return sigs;
+    }
+
+    private static boolean hasCacheableSig(final EthTxData ethTxData) {
+        return ethTxData.r().length <= SCALAR_LEN && ethTxData.s().length <= SCALAR_LEN;
+    }
+
+    static BytesKey keyFor(final byte[] signingHash, final EthTxData ethTxData) {
+        final var r = ethTxData.r();
+        final var s = ethTxData.s();
+        // r and s are minimal big-endian encodings, so their lengths must be part of the key
+        final var key = new byte[signingHash.length + r.length + s.length + 3];
+        var i = 0;
+        System.arraycopy(signingHash, 0, key, i, signingHash.length);
+        i += signingHash.length;
+        key[i++] = (byte) r.length;
+        System.arraycopy(r, 0, key, i, r.length);
+        i += r.length;
+        key[i++] = (byte) s.length;
+        System.arraycopy(s, 0, key, i, s.length);
+        i += s.length;
+        key[i] = (byte) ethTxData.recId();
+        return new BytesKey(key);
+    }
+
+    @VisibleForTesting
+    long cachedRecoveries() {
+        return recovered == null ? 0 : recovered.estimatedSize();
+    }
+}
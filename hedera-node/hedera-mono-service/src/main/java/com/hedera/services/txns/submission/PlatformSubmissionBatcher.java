@@ -0,0 +1,313 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.txns.submission;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.records.RecordCache;
+import com.hedera.services.stats.MiscRunningAvgs;
+import com.hederahashgraph.api.proto.java.TransactionID;
+import com.swirlds.common.system.Platform;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Gives admitted transactions to the platform, and marks their ids as pending in the {@link
+ * RecordCache}.
+ *
+ * <p>When {@code hedera.submission.maxBatchSize} is greater than one, transactions from all gRPC
+ * threads are coalesced by a single submission thread. It takes the first waiting transaction,
+ * plus any others already queued behind it (up to the max batch size); creates every transaction
+ * in the batch on the platform; and finally marks all the created ids in the record cache at once,
+ * before releasing the waiting gRPC threads. So the platform sees one submitting thread instead of
+ * many contending ones; a lone transaction is submitted as soon as the thread is free; and batches
+ * only grow while submissions are arriving faster than the platform accepts them.
+ *
+ * <p>A caller waits at most {@code hedera.submission.maxWaitMs} for the submission thread to claim
+ * its transaction. If the deadline passes first, the caller abandons the transaction, which the
+ * submission thread then skips; and the transaction is reported as not created. Claiming and
+ * abandoning are a single atomic race, so a transaction the platform may have created is never
+ * reported as not created; once its transaction is claimed, the caller waits for the real outcome.
+ * A failure while submitting a batch fails only the transactions in that batch; and if the
+ * submission thread ever exits, the next submission starts another one.
+ */
+@Singleton
+public class PlatformSubmissionBatcher {
+    private static final Logger log = LogManager.getLogger(PlatformSubmissionBatcher.class);
+
+    private static final String THREAD_NAME = "platform-submission";
+
+    private final int maxBatchSize;
+    private final long maxWaitMs;
+    private final Platform platform;
+    private final RecordCache recordCache;
+    private final MiscRunningAvgs runningAvgs;
+    private final AtomicBoolean started = new AtomicBoolean(false);
+    private final BlockingQueue<PendingSubmission> pending = new LinkedBlockingQueue<>();
+    private final ExecutorService executor;
+
+    private LongSupplier nanoClock = System::nanoTime;
+
+    @Inject
+    public PlatformSubmissionBatcher(
+            final Platform platform,
+            final RecordCache recordCache,
+            final MiscRunningAvgs runningAvgs,
+            final NodeLocalProperties nodeLocalProperties) {
+        this(
+                platform,
+                recordCache,
+                runningAvgs,
+                nodeLocalProperties.submissionMaxBatchSize(),
+                nodeLocalProperties.submissionMaxWaitMs());
+    }
+
+    @VisibleForTesting
+    PlatformSubmissionBatcher(
+            final Platform platform,
+            final RecordCache recordCache,
+            final MiscRunningAvgs runningAvgs,
+            final int maxBatchSize,
+            final long maxWaitMs) {
+        this.platform = platform;
+        this.recordCache = recordCache;
+        this.runningAvgs = runningAvgs;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitMs = maxWaitMs;
+        this.executor =
+                isBatching()
+                        ? Executors.newSingleThreadExecutor(
+                                runnable -> {
+                                    final var submitter = new Thread(runnable, THREAD_NAME);
+                                    submitter.setDaemon(true);
+                                    return submitter;
+                                })
+                        : null;
+    }
+
+    /**
+     * Gives a transaction to the platform, blocking until it is either created or rejected.
+     *
+     * @param signedTxnWrapperBytes the bytes of the transaction to create
+     * @param txnId the id of the transaction
+     * @return whether the platform created the transaction
+     */
+    public boolean submit(final byte[] signedTxnWrapperBytes, final TransactionID txnId) {
+        if (!isBatching()) {
+            final var created = platform.createTransaction(signedTxnWrapperBytes);
+            if (created) {
+                recordCache.addPreConsensus(txnId);
+            }
+            return created;
+        }
+        final var submission =
+                new PendingSubmission(signedTxnWrapperBytes, txnId, nanoClock.getAsLong());
+        pending.add(submission);
+        ensureSubmitting();
+        final var result = submission.result();
+        try {
+            if (maxWaitMs > 0 && abandonedAfterMaxWait(submission)) {
+                return false;
+            }
+            return result.join();
+        } catch (final CompletionException | CancellationException e) {
+            // Already counted as a platform rejection by our caller
+            log.debug("Transaction {} was not created on the platform", txnId, e);
+            return false;
+        }
+    }
+
+    /**
+     * Waits up to {@code maxWaitMs} for the given submission's result; and if it is still not
+     * available, tries to abandon the submission before the submission thread claims it.
+     *
+     * @param submission the submission to wait for
+     * @return whether the submission was abandoned; if not, its result is (or will be) available
+     */
+    private boolean abandonedAfterMaxWait(final PendingSubmission submission) {
+        try {
+            submission.result().get(maxWaitMs, TimeUnit.MILLISECONDS);
+            return false;
+        } catch (final ExecutionException e) {
+            // The result is available, and joining it will surface the failure
+            return false;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final TimeoutException e) {
+            // Fall through and try to abandon the submission
+        }
+        if (submission.abandon()) {
+            log.debug("Gave up waiting to submit transaction {}", submission.txnId());
+            return true;
+        }
+        // Too late to abandon it; the platform may already have created it
+        return false;
+    }
+
+    private void ensureSubmitting() {
+        if (started.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::submitBatches);
+            } catch (final RejectedExecutionException e) {
+                started.set(false);
+                PendingSubmission submission;
+                while ((submission = pending.poll()) != null) {
+                    submission.result().completeExceptionally(e);
+                }
+            }
+        }
+    }
+
+    private void submitBatches() {
+        final List<PendingSubmission> batch = new ArrayList<>(maxBatchSize);
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                try {
+                    collectBatch(batch);
+                    submitBatch(batch);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (final RuntimeException e) {
+                    log.error("Unable to submit a batch of {} transactions", batch.size(), e);
+                    batch.forEach(submission -> submission.result().completeExceptionally(e));
+                } finally {
+                    batch.forEach(submission -> submission.result().complete(false));
+                    batch.clear();
+                }
+            }
+        } finally {
+            // Let the next submission start a new thread; or start one now, if a submission
+            // arrived after this thread stopped taking from the queue
+            started.set(false);
+            if (!pending.isEmpty()) {
+                ensureSubmitting();
+            }
+        }
+    }
+
+    @VisibleForTesting
+    void collectBatch(final List<PendingSubmission> batch) throws InterruptedException {
+        batch.add(pending.take());
+        pending.drainTo(batch, maxBatchSize - 1);
+    }
+
+    @VisibleForTesting
+    void submitBatch(final List<PendingSubmission> batch) {
+        final var created = new boolean[batch.size()];
+        final List<TransactionID> createdIds = new ArrayList<>(batch.size());
+        for (int i = 0, n = batch.size(); i < n; i++) {
+            final var submission = batch.get(i);
+            if (!submission.claim()) {
+                // Its caller already stopped waiting, and reported it as not created
+                continue;
+            }
+            try {
+                created[i] = platform.createTransaction(submission.signedTxnWrapperBytes());
+            } catch (final RuntimeException e) {
+                log.warn("Unable to create transaction {} on the platform", submission.txnId(), e);
+            }
+            runningAvgs.recordPlatformSubmissionWaitNanos(
+                    nanoClock.getAsLong() - submission.admittedAt());
+            if (created[i]) {
+                createdIds.add(submission.txnId());
+            }
+        }
+        if (!createdIds.isEmpty()) {
+            recordCache.addPreConsensus(createdIds);
+        }
+        for (int i = 0, n = batch.size(); i < n; i++) {
+            batch.get(i).result().complete(created[i]);
+        }
+        runningAvgs.recordPlatformSubmissionBatchSize(batch.size());
+    }
+
+    private boolean isBatching() {
+        return maxBatchSize > 1;
+    }
+
+    @VisibleForTesting
+    enum ClaimState {
+        PENDING,
+        CLAIMED,
+        ABANDONED
+    }
+
+    @VisibleForTesting
+    record PendingSubmission(
+            byte[] signedTxnWrapperBytes,
+            TransactionID txnId,
+            long admittedAt,
+            CompletableFuture<Boolean> result,
+            AtomicReference<ClaimState> claimState) {
+        PendingSubmission(
+                final byte[] signedTxnWrapperBytes,
+                final TransactionID txnId,
+                final long admittedAt) {
+            this(
+                    signedTxnWrapperBytes,
+                    txnId,
+                    admittedAt,
+                    new CompletableFuture<>(),
+                    new AtomicReference<>(ClaimState.PENDING));
+        }
+
+        /**
+         * Called by the submission thread before creating the transaction on the platform.
+         *
+         * @return whether the transaction should be created
+         */
+        boolean claim() {
+            return claimState.compareAndSet(ClaimState.PENDING, ClaimState.CLAIMED);
+        }
+
+        /**
+         * Called by a caller whose wait has expired.
+         *
+         * @return whether the transaction will never be created
+         */
+        boolean abandon() {
+            return claimState.compareAndSet(ClaimState.PENDING, ClaimState.ABANDONED);
+        }
+    }
+
+    @VisibleForTesting
+    BlockingQueue<PendingSubmission> getPending() {
+        return pending;
+    }
+
+    @VisibleForTesting
+    void setNanoClock(final LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+    }
+}
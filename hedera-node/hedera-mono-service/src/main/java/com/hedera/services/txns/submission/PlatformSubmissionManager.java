@@ -19,11 +19,9 @@ import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.PLATFORM_TRANSACTION_NOT_CREATED;
 
 import com.google.protobuf.InvalidProtocolBufferException;
-import com.hedera.services.records.RecordCache;
 import com.hedera.services.stats.MiscSpeedometers;
 import com.hedera.services.utils.accessors.SignedTxnAccessor;
 import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
-import com.swirlds.common.system.Platform;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import org.apache.logging.log4j.LogManager;
@@ -33,15 +31,13 @@ import org.apache.logging.log4j.Logger;
 public class PlatformSubmissionManager {
     private static final Logger log = LogManager.getLogger(PlatformSubmissionManager.class);
 
-    private final Platform platform;
-    private final RecordCache recordCache;
     private final MiscSpeedometers speedometers;
+    private final PlatformSubmissionBatcher submissionBatcher;
 
     @Inject
     public PlatformSubmissionManager(
-            Platform platform, RecordCache recordCache, MiscSpeedometers speedometers) {
-        this.platform = platform;
-        this.recordCache = recordCache;
+            PlatformSubmissionBatcher submissionBatcher, MiscSpeedometers speedometers) {
+        this.submissionBatcher = submissionBatcher;
         this.speedometers = speedometers;
     }
 
@@ -50,9 +46,9 @@ public class PlatformSubmissionManager {
 
         var success =
                 (accessor != null)
-                        && platform.createTransaction(accessor.getSignedTxnWrapperBytes());
+                        && submissionBatcher.submit(
+                                accessor.getSignedTxnWrapperBytes(), accessor.getTxnId());
         if (success) {
-            recordCache.addPreConsensus(accessor.getTxnId());
             return OK;
         } else {
             speedometers.cyclePlatformTxnRejections();
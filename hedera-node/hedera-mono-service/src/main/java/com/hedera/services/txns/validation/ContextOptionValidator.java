@@ -41,6 +41,7 @@ import com.hedera.services.ledger.TransactionalLedger;
 import com.hedera.services.ledger.properties.AccountProperty;
 import com.hedera.services.legacy.core.jproto.JKey;
 import com.hedera.services.state.merkle.MerkleTopic;
+import com.hedera.services.state.migration.EntityStorageAdapter;
 import com.hedera.services.state.migration.HederaAccount;
 import com.hedera.services.utils.EntityNum;
 import com.hederahashgraph.api.proto.java.AccountID;
@@ -50,7 +51,6 @@ import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
 import com.hederahashgraph.api.proto.java.Timestamp;
 import com.hederahashgraph.api.proto.java.TopicID;
 import com.hederahashgraph.api.proto.java.TransferList;
-import com.swirlds.merkle.map.MerkleMap;
 import java.time.Instant;
 import java.util.Optional;
 import javax.inject.Inject;
@@ -218,7 +218,7 @@ public class ContextOptionValidator implements OptionValidator {
 
     @Override
     public ResponseCodeEnum queryableTopicStatus(
-            TopicID id, MerkleMap<EntityNum, MerkleTopic> topics) {
+            TopicID id, EntityStorageAdapter<MerkleTopic> topics) {
         MerkleTopic merkleTopic = topics.get(EntityNum.fromTopicId(id));
 
         return Optional.ofNullable(merkleTopic)
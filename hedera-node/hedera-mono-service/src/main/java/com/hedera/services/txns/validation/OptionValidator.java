@@ -22,6 +22,7 @@ import com.hedera.services.ledger.properties.AccountProperty;
 import com.hedera.services.legacy.core.jproto.JKey;
 import com.hedera.services.state.merkle.MerkleTopic;
 import com.hedera.services.state.migration.AccountStorageAdapter;
+import com.hedera.services.state.migration.EntityStorageAdapter;
 import com.hedera.services.state.migration.HederaAccount;
 import com.hedera.services.utils.EntityNum;
 import com.hedera.services.utils.accessors.TxnAccessor;
@@ -34,7 +35,6 @@ import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
 import com.hederahashgraph.api.proto.java.Timestamp;
 import com.hederahashgraph.api.proto.java.TopicID;
 import com.hederahashgraph.api.proto.java.TransferList;
-import com.swirlds.merkle.map.MerkleMap;
 import java.time.Instant;
 
 /**
@@ -87,7 +87,7 @@ public interface OptionValidator {
 
     ResponseCodeEnum nftMaxQueryRangeCheck(long start, long end);
 
-    ResponseCodeEnum queryableTopicStatus(TopicID id, MerkleMap<EntityNum, MerkleTopic> topics);
+    ResponseCodeEnum queryableTopicStatus(TopicID id, EntityStorageAdapter<MerkleTopic> topics);
 
     JKey attemptToDecodeOrThrow(Key key, ResponseCodeEnum code);
 
@@ -25,6 +25,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 
+import com.hedera.services.context.BasicTransactionContext;
 import com.hedera.services.context.CurrentPlatformStatus;
 import com.hedera.services.context.MutableStateChildren;
 import com.hedera.services.context.NodeInfo;
@@ -57,6 +58,7 @@ import com.hedera.services.stats.ServicesStatsManager;
 import com.hedera.services.stream.RecordStreamManager;
 import com.hedera.services.txns.network.UpgradeActions;
 import com.hedera.services.txns.prefetch.PrefetchProcessor;
+import com.hedera.services.txns.submission.BasicSubmissionFlow;
 import com.hedera.services.utils.JvmSystemExits;
 import com.swirlds.common.crypto.Cryptography;
 import com.swirlds.common.system.NodeId;
@@ -141,6 +143,8 @@ class ServicesAppTest {
         assertThat(subject.upgradeActions(), instanceOf(UpgradeActions.class));
         assertThat(subject.virtualMapFactory(), instanceOf(VirtualMapFactory.class));
         assertThat(subject.prefetchProcessor(), instanceOf(PrefetchProcessor.class));
+        assertThat(subject.submissionFlow(), instanceOf(BasicSubmissionFlow.class));
+        assertThat(subject.txnCtx(), instanceOf(BasicTransactionContext.class));
         assertSame(subject.nodeId(), selfNodeId);
         assertSame(SLEEPING_PAUSE, subject.pause());
         assertTrue(subject.consoleOut().isEmpty());
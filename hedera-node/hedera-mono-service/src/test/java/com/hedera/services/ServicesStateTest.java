@@ -427,6 +427,12 @@ class ServicesStateTest {
                 .willReturn(false);
         given(bootstrapProperties.getBooleanProperty(PropertyNames.ACCOUNTS_STORE_ON_DISK))
                 .willReturn(false);
+        given(bootstrapProperties.getBooleanProperty(PropertyNames.LEDGER_RECORDS_STORE_ON_DISK))
+                .willReturn(false);
+        given(bootstrapProperties.getBooleanProperty(PropertyNames.TOKENS_STORE_ON_DISK))
+                .willReturn(false);
+        given(bootstrapProperties.getBooleanProperty(PropertyNames.TOPICS_STORE_ON_DISK))
+                .willReturn(false);
         ServicesState.setAppBuilder(() -> appBuilder);
 
         given(addressBook.getSize()).willReturn(3);
@@ -627,6 +633,12 @@ class ServicesStateTest {
                 .willReturn(true);
         given(bootstrapProperties.getBooleanProperty(PropertyNames.TOKENS_STORE_RELS_ON_DISK))
                 .willReturn(false);
+        given(bootstrapProperties.getBooleanProperty(PropertyNames.LEDGER_RECORDS_STORE_ON_DISK))
+                .willReturn(false);
+        given(bootstrapProperties.getBooleanProperty(PropertyNames.TOKENS_STORE_ON_DISK))
+                .willReturn(false);
+        given(bootstrapProperties.getBooleanProperty(PropertyNames.TOPICS_STORE_ON_DISK))
+                .willReturn(false);
         ServicesState.setMapToDiskMigration(mapToDiskMigration);
         ServicesState.setVmFactory(vmf);
         given(vmf.apply(any())).willReturn(virtualMapFactory);
@@ -674,6 +686,12 @@ class ServicesStateTest {
                 .willReturn(false);
         given(bootstrapProperties.getBooleanProperty(PropertyNames.TOKENS_STORE_RELS_ON_DISK))
                 .willReturn(true);
+        given(bootstrapProperties.getBooleanProperty(PropertyNames.LEDGER_RECORDS_STORE_ON_DISK))
+                .willReturn(false);
+        given(bootstrapProperties.getBooleanProperty(PropertyNames.TOKENS_STORE_ON_DISK))
+                .willReturn(false);
+        given(bootstrapProperties.getBooleanProperty(PropertyNames.TOPICS_STORE_ON_DISK))
+                .willReturn(false);
         ServicesState.setMapToDiskMigration(mapToDiskMigration);
         ServicesState.setVmFactory(vmf);
         given(vmf.apply(any())).willReturn(virtualMapFactory);
@@ -711,6 +729,110 @@ class ServicesStateTest {
         ServicesState.setMapToDiskMigration(MapMigrationToDisk::migrateToDiskAsApropos);
     }
 
+    @Test
+    void nonGenesisInitHandlesTokenAndTopicMigrationToDisk() {
+        subject = new ServicesState(bootstrapProperties);
+        given(bootstrapProperties.getBooleanProperty(PropertyNames.TOKENS_NFTS_USE_VIRTUAL_MERKLE))
+                .willReturn(false);
+        given(bootstrapProperties.getBooleanProperty(PropertyNames.ACCOUNTS_STORE_ON_DISK))
+                .willReturn(false);
+        given(bootstrapProperties.getBooleanProperty(PropertyNames.TOKENS_STORE_RELS_ON_DISK))
+                .willReturn(false);
+        given(bootstrapProperties.getBooleanProperty(PropertyNames.LEDGER_RECORDS_STORE_ON_DISK))
+                .willReturn(false);
+        given(bootstrapProperties.getBooleanProperty(PropertyNames.TOKENS_STORE_ON_DISK))
+                .willReturn(true);
+        given(bootstrapProperties.getBooleanProperty(PropertyNames.TOPICS_STORE_ON_DISK))
+                .willReturn(true);
+        ServicesState.setMapToDiskMigration(mapToDiskMigration);
+        ServicesState.setVmFactory(vmf);
+        given(vmf.apply(any())).willReturn(virtualMapFactory);
+
+        final var vmap = mock(VirtualMap.class);
+        setAllMmsTo(mock(MerkleMap.class));
+        subject.setChild(StateChildIndices.NETWORK_CTX, networkContext);
+        subject.setChild(StateChildIndices.STORAGE, vmap);
+        subject.setChild(StateChildIndices.CONTRACT_STORAGE, vmap);
+
+        final var when = Instant.ofEpochSecond(1_234_567L, 890);
+        given(dualState.getFreezeTime()).willReturn(when);
+        given(dualState.getLastFrozenTime()).willReturn(when);
+
+        given(app.hashLogger()).willReturn(hashLogger);
+        given(app.initializationFlow()).willReturn(initFlow);
+        given(app.dualStateAccessor()).willReturn(dualStateAccessor);
+        given(platform.getSelfId()).willReturn(selfId);
+        given(app.sysFilesManager()).willReturn(systemFilesManager);
+        // and:
+        APPS.save(selfId.getId(), app);
+
+        // when:
+        subject.init(platform, addressBook, dualState, RESTART, currentVersion);
+        verify(mapToDiskMigration)
+                .migrateToDiskAsApropos(
+                        INSERTIONS_PER_COPY,
+                        subject,
+                        new ToDiskMigrations(false, false, false, true, true),
+                        virtualMapFactory,
+                        ServicesState.accountMigrator,
+                        ServicesState.tokenRelMigrator);
+
+        ServicesState.setVmFactory(VirtualMapFactory::new);
+        ServicesState.setMapToDiskMigration(MapMigrationToDisk::migrateToDiskAsApropos);
+    }
+
+    @Test
+    void nonGenesisInitHandlesPayerRecordMigrationToDisk() {
+        subject = new ServicesState(bootstrapProperties);
+        given(bootstrapProperties.getBooleanProperty(PropertyNames.TOKENS_NFTS_USE_VIRTUAL_MERKLE))
+                .willReturn(false);
+        given(bootstrapProperties.getBooleanProperty(PropertyNames.ACCOUNTS_STORE_ON_DISK))
+                .willReturn(true);
+        given(bootstrapProperties.getBooleanProperty(PropertyNames.TOKENS_STORE_RELS_ON_DISK))
+                .willReturn(false);
+        given(bootstrapProperties.getBooleanProperty(PropertyNames.LEDGER_RECORDS_STORE_ON_DISK))
+                .willReturn(true);
+        given(bootstrapProperties.getBooleanProperty(PropertyNames.TOKENS_STORE_ON_DISK))
+                .willReturn(false);
+        given(bootstrapProperties.getBooleanProperty(PropertyNames.TOPICS_STORE_ON_DISK))
+                .willReturn(false);
+        ServicesState.setMapToDiskMigration(mapToDiskMigration);
+        ServicesState.setVmFactory(vmf);
+        given(vmf.apply(any())).willReturn(virtualMapFactory);
+
+        final var vmap = mock(VirtualMap.class);
+        setAllMmsTo(mock(MerkleMap.class));
+        subject.setChild(StateChildIndices.NETWORK_CTX, networkContext);
+        subject.setChild(StateChildIndices.STORAGE, vmap);
+        subject.setChild(StateChildIndices.CONTRACT_STORAGE, vmap);
+
+        final var when = Instant.ofEpochSecond(1_234_567L, 890);
+        given(dualState.getFreezeTime()).willReturn(when);
+        given(dualState.getLastFrozenTime()).willReturn(when);
+
+        given(app.hashLogger()).willReturn(hashLogger);
+        given(app.initializationFlow()).willReturn(initFlow);
+        given(app.dualStateAccessor()).willReturn(dualStateAccessor);
+        given(platform.getSelfId()).willReturn(selfId);
+        given(app.sysFilesManager()).willReturn(systemFilesManager);
+        // and:
+        APPS.save(selfId.getId(), app);
+
+        // when:
+        subject.init(platform, addressBook, dualState, RESTART, currentVersion);
+        verify(mapToDiskMigration)
+                .migrateToDiskAsApropos(
+                        INSERTIONS_PER_COPY,
+                        subject,
+                        new ToDiskMigrations(true, false, true),
+                        virtualMapFactory,
+                        ServicesState.accountMigrator,
+                        ServicesState.tokenRelMigrator);
+
+        ServicesState.setVmFactory(VirtualMapFactory::new);
+        ServicesState.setMapToDiskMigration(MapMigrationToDisk::migrateToDiskAsApropos);
+    }
+
     @Test
     void copySetsMutabilityAsExpected() {
         // when:
@@ -733,6 +855,7 @@ class ServicesStateTest {
         final var copy = subject.copy();
 
         // then:
+        verify(workingState).materializeHotAccountWrites();
         verify(workingState).updateFrom(copy);
     }
 
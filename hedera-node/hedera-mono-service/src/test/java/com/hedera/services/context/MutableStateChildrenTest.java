@@ -18,7 +18,11 @@ package com.hedera.services.context;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 import com.google.protobuf.ByteString;
 import com.hedera.services.ServicesState;
@@ -29,12 +33,14 @@ import com.hedera.services.state.merkle.MerkleStakingInfo;
 import com.hedera.services.state.merkle.MerkleToken;
 import com.hedera.services.state.merkle.MerkleTopic;
 import com.hedera.services.state.migration.AccountStorageAdapter;
+import com.hedera.services.state.migration.EntityStorageAdapter;
 import com.hedera.services.state.migration.TokenRelStorageAdapter;
 import com.hedera.services.state.migration.UniqueTokenMapAdapter;
 import com.hedera.services.state.virtual.ContractKey;
 import com.hedera.services.state.virtual.IterableContractValue;
 import com.hedera.services.state.virtual.VirtualBlobKey;
 import com.hedera.services.state.virtual.VirtualBlobValue;
+import com.hedera.services.stats.StateAccessProfiler;
 import com.hedera.services.stream.RecordsRunningHashLeaf;
 import com.hedera.services.utils.EntityNum;
 import com.swirlds.common.system.address.AddressBook;
@@ -42,6 +48,7 @@ import com.swirlds.fchashmap.FCHashMap;
 import com.swirlds.merkle.map.MerkleMap;
 import com.swirlds.virtualmap.VirtualMap;
 import java.time.Instant;
+import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -53,8 +60,8 @@ class MutableStateChildrenTest {
     @Mock private AccountStorageAdapter accounts;
     @Mock private VirtualMap<VirtualBlobKey, VirtualBlobValue> storage;
     @Mock private VirtualMap<ContractKey, IterableContractValue> contractStorage;
-    @Mock private MerkleMap<EntityNum, MerkleTopic> topics;
-    @Mock private MerkleMap<EntityNum, MerkleToken> tokens;
+    @Mock private EntityStorageAdapter<MerkleTopic> topics;
+    @Mock private EntityStorageAdapter<MerkleToken> tokens;
     @Mock private TokenRelStorageAdapter tokenAssociations;
     @Mock private MerkleScheduledTransactions scheduleTxs;
     @Mock private MerkleNetworkContext networkCtx;
@@ -64,6 +71,7 @@ class MutableStateChildrenTest {
     @Mock private RecordsRunningHashLeaf runningHashLeaf;
     @Mock private FCHashMap<ByteString, EntityNum> aliases;
     @Mock private MerkleMap<EntityNum, MerkleStakingInfo> stakingInfo;
+    @Mock private StateAccessProfiler stateAccessProfiler;
 
     private MutableStateChildren subject = new MutableStateChildren();
 
@@ -84,6 +92,70 @@ class MutableStateChildrenTest {
         assertEquals(signedAt, subject.signedAt());
     }
 
+    @Test
+    void hotAccountCoalescingAppliesToCurrentAndLaterAccounts() {
+        final var hotNums = Set.of(EntityNum.fromInt(98));
+        givenStateWithMockChildren();
+        given(state.isInitialized()).willReturn(true);
+        subject.updateFromImmutable(state, signedAt);
+
+        subject.coalesceHotAccountWrites(hotNums);
+        subject.updateFromImmutable(state, signedAt);
+        subject.materializeHotAccountWrites();
+
+        verify(accounts, times(2)).coalesceWritesTo(hotNums);
+        verify(accounts).materializeHotAccountWrites();
+    }
+
+    @Test
+    void hotAccountCoalescingIsNoopWithoutAccounts() {
+        subject.coalesceHotAccountWrites(Set.of(EntityNum.fromInt(98)));
+        subject.materializeHotAccountWrites();
+
+        verifyNoInteractions(accounts);
+    }
+
+    @Test
+    void stateAccessProfilingAppliesToCurrentAndLaterAdapters() {
+        givenStateWithMockChildren();
+        given(state.isInitialized()).willReturn(true);
+        subject.updateFromImmutable(state, signedAt);
+
+        subject.profileStateAccessWith(stateAccessProfiler);
+        subject.updateFromImmutable(state, signedAt);
+
+        verify(accounts, times(2)).profileAccessWith(stateAccessProfiler);
+        verify(tokenAssociations, times(2)).profileAccessWith(stateAccessProfiler);
+        verify(uniqueTokens, times(2)).profileAccessWith(stateAccessProfiler);
+    }
+
+    @Test
+    void stateAccessProfilingIsNoopWithoutAdapters() {
+        subject.profileStateAccessWith(stateAccessProfiler);
+
+        verifyNoInteractions(accounts, tokenAssociations, uniqueTokens);
+    }
+
+    @Test
+    void hotTokenAndTopicCachingAppliesToCurrentAndLaterAdapters() {
+        givenStateWithMockChildren();
+        given(state.isInitialized()).willReturn(true);
+        subject.updateFromImmutable(state, signedAt);
+
+        subject.cacheHotTokensAndTopics(128, 64);
+        subject.updateFromImmutable(state, signedAt);
+
+        verify(tokens, times(2)).cacheHotEntitiesIn(argThat(cache -> cache.capacity() == 128));
+        verify(topics, times(2)).cacheHotEntitiesIn(argThat(cache -> cache.capacity() == 64));
+    }
+
+    @Test
+    void hotTokenAndTopicCachingIsNoopWithoutAdapters() {
+        subject.cacheHotTokensAndTopics(128, 64);
+
+        verifyNoInteractions(tokens, topics);
+    }
+
     @Test
     void getsSizes() {
         givenStateWithMockChildren();
@@ -94,9 +166,9 @@ class MutableStateChildrenTest {
         given(storage.size()).willReturn(2L);
         given(contractStorage.size()).willReturn(3L);
         given(scheduleTxs.getNumSchedules()).willReturn(4L);
-        given(tokens.size()).willReturn(5);
+        given(tokens.size()).willReturn(5L);
         given(tokenAssociations.size()).willReturn(6L);
-        given(topics.size()).willReturn(7);
+        given(topics.size()).willReturn(7L);
         given(uniqueTokens.size()).willReturn(8L);
 
         assertEquals(1L, subject.numAccountAndContracts());
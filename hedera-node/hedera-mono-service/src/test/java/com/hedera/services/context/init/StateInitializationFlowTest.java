@@ -15,8 +15,17 @@
  */
 package com.hedera.services.context.init;
 
+import static com.hedera.services.context.properties.PropertyNames.ACCOUNTS_COALESCE_HOT_WRITES;
 import static com.hedera.services.context.properties.PropertyNames.ACCOUNTS_LAST_THROTTLE_EXEMPT;
+import static com.hedera.services.context.properties.PropertyNames.ACCOUNTS_NODE_REWARD_ACCOUNT;
+import static com.hedera.services.context.properties.PropertyNames.ACCOUNTS_STAKING_REWARD_ACCOUNT;
+import static com.hedera.services.context.properties.PropertyNames.LEDGER_FUNDING_ACCOUNT;
+import static com.hedera.services.context.properties.PropertyNames.TOKENS_HOT_CACHE_SIZE;
+import static com.hedera.services.context.properties.PropertyNames.TOKENS_STORE_ON_DISK;
+import static com.hedera.services.context.properties.PropertyNames.TOPICS_HOT_CACHE_SIZE;
+import static com.hedera.services.context.properties.PropertyNames.TOPICS_STORE_ON_DISK;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -29,10 +38,14 @@ import com.hedera.services.context.properties.BootstrapProperties;
 import com.hedera.services.context.properties.StaticPropertiesHolder;
 import com.hedera.services.files.FileUpdateInterceptor;
 import com.hedera.services.files.HederaFs;
+import com.hedera.services.stats.StateAccessProfiler;
 import com.hedera.services.stream.RecordStreamManager;
 import com.hedera.services.stream.RecordsRunningHashLeaf;
+import com.hedera.services.utils.EntityNum;
 import com.swirlds.common.crypto.Hash;
 import com.swirlds.common.crypto.RunningHash;
+import com.swirlds.common.system.address.Address;
+import com.swirlds.common.system.address.AddressBook;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -48,9 +61,13 @@ class StateInitializationFlowTest {
     @Mock private HederaFs hfs;
     @Mock private RunningHash runningHash;
     @Mock private ServicesState activeState;
+    @Mock private AddressBook addressBook;
+    @Mock private Address aAddress;
+    @Mock private Address bAddress;
     @Mock private BootstrapProperties bootstrapProperties;
     @Mock private RecordsRunningHashLeaf runningHashLeaf;
     @Mock private MutableStateChildren workingState;
+    @Mock private StateAccessProfiler stateAccessProfiler;
     @Mock private RecordStreamManager recordStreamManager;
     @Mock private FileUpdateInterceptor aFileInterceptor;
     @Mock private FileUpdateInterceptor bFileInterceptor;
@@ -66,6 +83,7 @@ class StateInitializationFlowTest {
                         defaultNumbers,
                         recordStreamManager,
                         workingState,
+                        stateAccessProfiler,
                         Set.of(aFileInterceptor, bFileInterceptor));
     }
 
@@ -87,6 +105,55 @@ class StateInitializationFlowTest {
         verify(recordStreamManager).setInitialHash(hash);
         verify(hfs).register(aFileInterceptor);
         verify(hfs).register(bFileInterceptor);
+        verify(workingState, never()).profileStateAccessWith(any());
+        verify(workingState, never()).cacheHotTokensAndTopics(anyInt(), anyInt());
+
+        cleanupMockNumInitialization();
+    }
+
+    @Test
+    void cachesHotTokensAndTopicsIfEitherIsOnDisk() {
+        setupMockNumInitialization();
+
+        given(runningHash.getHash()).willReturn(hash);
+        given(runningHashLeaf.getRunningHash()).willReturn(runningHash);
+        given(activeState.runningHashLeaf()).willReturn(runningHashLeaf);
+        given(hfs.numRegisteredInterceptors()).willReturn(5);
+        given(bootstrapProperties.getLongProperty(ACCOUNTS_LAST_THROTTLE_EXEMPT)).willReturn(100L);
+        given(bootstrapProperties.getBooleanProperty(ACCOUNTS_COALESCE_HOT_WRITES))
+                .willReturn(false);
+        given(bootstrapProperties.getBooleanProperty(TOKENS_STORE_ON_DISK)).willReturn(false);
+        given(bootstrapProperties.getBooleanProperty(TOPICS_STORE_ON_DISK)).willReturn(true);
+        given(bootstrapProperties.getIntProperty(TOKENS_HOT_CACHE_SIZE)).willReturn(128);
+        given(bootstrapProperties.getIntProperty(TOPICS_HOT_CACHE_SIZE)).willReturn(64);
+
+        // when:
+        subject.runWith(activeState, bootstrapProperties);
+
+        // then:
+        verify(workingState).updateFrom(activeState);
+        verify(workingState).cacheHotTokensAndTopics(128, 64);
+
+        cleanupMockNumInitialization();
+    }
+
+    @Test
+    void profilesStateAccessIfEnabled() {
+        setupMockNumInitialization();
+
+        given(runningHash.getHash()).willReturn(hash);
+        given(runningHashLeaf.getRunningHash()).willReturn(runningHash);
+        given(activeState.runningHashLeaf()).willReturn(runningHashLeaf);
+        given(hfs.numRegisteredInterceptors()).willReturn(5);
+        given(bootstrapProperties.getLongProperty(ACCOUNTS_LAST_THROTTLE_EXEMPT)).willReturn(100L);
+        given(stateAccessProfiler.isEnabled()).willReturn(true);
+
+        // when:
+        subject.runWith(activeState, bootstrapProperties);
+
+        // then:
+        verify(workingState).updateFrom(activeState);
+        verify(workingState).profileStateAccessWith(stateAccessProfiler);
 
         cleanupMockNumInitialization();
     }
@@ -113,6 +180,46 @@ class StateInitializationFlowTest {
         cleanupMockNumInitialization();
     }
 
+    @Test
+    void coalescesWritesToHotAccountsIfEnabled() {
+        setupMockNumInitialization();
+
+        given(runningHash.getHash()).willReturn(hash);
+        given(runningHashLeaf.getRunningHash()).willReturn(runningHash);
+        given(activeState.runningHashLeaf()).willReturn(runningHashLeaf);
+        given(hfs.numRegisteredInterceptors()).willReturn(5);
+        given(bootstrapProperties.getLongProperty(ACCOUNTS_LAST_THROTTLE_EXEMPT)).willReturn(100L);
+        given(bootstrapProperties.getBooleanProperty(ACCOUNTS_COALESCE_HOT_WRITES))
+                .willReturn(true);
+        given(bootstrapProperties.getBooleanProperty(TOKENS_STORE_ON_DISK)).willReturn(false);
+        given(bootstrapProperties.getBooleanProperty(TOPICS_STORE_ON_DISK)).willReturn(false);
+        given(bootstrapProperties.getLongProperty(LEDGER_FUNDING_ACCOUNT)).willReturn(98L);
+        given(bootstrapProperties.getLongProperty(ACCOUNTS_STAKING_REWARD_ACCOUNT))
+                .willReturn(800L);
+        given(bootstrapProperties.getLongProperty(ACCOUNTS_NODE_REWARD_ACCOUNT)).willReturn(801L);
+        given(activeState.addressBook()).willReturn(addressBook);
+        given(addressBook.getSize()).willReturn(2);
+        given(addressBook.getAddress(0)).willReturn(aAddress);
+        given(addressBook.getAddress(1)).willReturn(bAddress);
+        given(aAddress.getMemo()).willReturn("0.0.3");
+        given(bAddress.getMemo()).willReturn("");
+
+        // when:
+        subject.runWith(activeState, bootstrapProperties);
+
+        // then:
+        verify(workingState).updateFrom(activeState);
+        verify(workingState)
+                .coalesceHotAccountWrites(
+                        Set.of(
+                                EntityNum.fromLong(3L),
+                                EntityNum.fromLong(98L),
+                                EntityNum.fromLong(800L),
+                                EntityNum.fromLong(801L)));
+
+        cleanupMockNumInitialization();
+    }
+
     private void setupMockNumInitialization() {
         StateInitializationFlow.setNumberConfigurer(numberConfigurer);
     }
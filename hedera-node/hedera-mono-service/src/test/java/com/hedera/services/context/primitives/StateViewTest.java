@@ -82,6 +82,7 @@ import com.hedera.services.state.merkle.MerkleTokenRelStatus;
 import com.hedera.services.state.merkle.MerkleTopic;
 import com.hedera.services.state.merkle.MerkleUniqueToken;
 import com.hedera.services.state.migration.AccountStorageAdapter;
+import com.hedera.services.state.migration.EntityStorageAdapter;
 import com.hedera.services.state.migration.TokenRelStorageAdapter;
 import com.hedera.services.state.migration.UniqueTokenAdapter;
 import com.hedera.services.state.migration.UniqueTokenMapAdapter;
@@ -187,8 +188,8 @@ class StateViewTest {
     private Map<FileID, byte[]> contents;
     private Map<FileID, HFileMeta> attrs;
 
-    private MerkleMap<EntityNum, MerkleToken> tokens;
-    private MerkleMap<EntityNum, MerkleTopic> topics;
+    private EntityStorageAdapter<MerkleToken> tokens;
+    private EntityStorageAdapter<MerkleTopic> topics;
     private AccountStorageAdapter contracts;
     private UniqueTokenMapAdapter uniqueTokens;
     private TokenRelStorageAdapter tokenRels;
@@ -268,7 +269,7 @@ class StateViewTest {
                         .maxAutomaticAssociations(10)
                         .get();
         contracts = mock(AccountStorageAdapter.class);
-        topics = (MerkleMap<EntityNum, MerkleTopic>) mock(MerkleMap.class);
+        topics = mock(EntityStorageAdapter.class);
         stakingInfo = (MerkleMap<EntityNum, MerkleStakingInfo>) mock(MerkleMap.class);
         networkContext = mock(MerkleNetworkContext.class);
 
@@ -284,7 +285,7 @@ class StateViewTest {
         tokenRels.put(tokenAssociationId, tokenAccountRel);
         tokenRels.put(nftAssociationId, nftAccountRel);
 
-        tokens = (MerkleMap<EntityNum, MerkleToken>) mock(MerkleMap.class);
+        tokens = mock(EntityStorageAdapter.class);
         token =
                 new MerkleToken(
                         Long.MAX_VALUE,
@@ -1192,7 +1193,7 @@ class StateViewTest {
 
     @Test
     void abortsNftGetWhenMissingTreasuryAsExpected() {
-        tokens = mock(MerkleMap.class);
+        tokens = mock(EntityStorageAdapter.class);
         targetNft.setOwner(MISSING_ENTITY_ID);
 
         final var optionalNftInfo = subject.infoForNft(targetNftId);
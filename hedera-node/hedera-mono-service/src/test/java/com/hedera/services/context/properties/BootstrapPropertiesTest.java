@@ -102,6 +102,7 @@ class BootstrapPropertiesTest {
                     entry(ACCOUNTS_SYSTEM_DELETE_ADMIN, 59L),
                     entry(ACCOUNTS_SYSTEM_UNDELETE_ADMIN, 60L),
                     entry(ACCOUNTS_STORE_ON_DISK, false),
+                    entry(ACCOUNTS_COALESCE_HOT_WRITES, true),
                     entry(ACCOUNTS_TREASURY, 2L),
                     entry(AUTO_RENEW_GRANT_FREE_RENEWALS, false),
                     entry(CONTRACTS_ALLOW_CREATE2, true),
@@ -162,6 +163,18 @@ class BootstrapPropertiesTest {
                     entry(HEDERA_PREFETCH_QUEUE_CAPACITY, 10000),
                     entry(HEDERA_PREFETCH_THREAD_POOL_SIZE, 2),
                     entry(HEDERA_PREFETCH_CODE_CACHE_TTL_SECS, 120),
+                    entry(HEDERA_LOCAL_CALL_MAX_CACHED_STORAGE_SLOTS, 100000),
+                    entry(HEDERA_LOCAL_CALL_WORKER_THREADS, 0),
+                    entry(HEDERA_LOCAL_CALL_MAX_IN_FLIGHT_GAS, 120000000L),
+                    entry(HEDERA_LOCAL_CALL_ADMISSION_TIMEOUT_MS, 250L),
+                    entry(HEDERA_LOCAL_CALL_DEADLINE_MS, 2000L),
+                    entry(HEDERA_ETH_TX_SIGS_MAX_CACHED_RECOVERIES, 10000),
+                    entry(HEDERA_SIGS_MAX_CACHED_VERIFICATIONS, 50000),
+                    entry(HEDERA_SUBMISSION_MAX_BATCH_SIZE, 64),
+                    entry(HEDERA_SUBMISSION_MAX_WAIT_MS, 1000L),
+                    entry(STATS_LATENCY_HISTOGRAMS_DUMP_DIR, ""),
+                    entry(STATS_STATE_ACCESS_PROFILING_ENABLED, false),
+                    entry(STATS_STATE_ACCESS_SLOW_READ_MICROS, 100L),
                     entry(HEDERA_PROFILES_ACTIVE, Profile.PROD),
                     entry(HEDERA_REALM, 0L),
                     entry(HEDERA_RECORD_STREAM_LOG_DIR, "/opt/hgcapp/recordStreams"),
@@ -179,6 +192,7 @@ class BootstrapPropertiesTest {
                     entry(LEDGER_FUNDING_ACCOUNT, 98L),
                     entry(LEDGER_NUM_SYSTEM_ACCOUNTS, 100),
                     entry(LEDGER_RECORDS_MAX_QUERYABLE_BY_ACCOUNT, 180),
+                    entry(LEDGER_RECORDS_STORE_ON_DISK, false),
                     entry(LEDGER_TRANSFERS_MAX_LEN, 10),
                     entry(LEDGER_TOKEN_TRANSFERS_MAX_LEN, 10),
                     entry(LEDGER_TOTAL_TINY_BAR_FLOAT, 5000000000000000000L),
@@ -210,6 +224,10 @@ class BootstrapPropertiesTest {
                     entry(TOKENS_MAX_RELS_PER_INFO_QUERY, 1_000),
                     entry(TOKENS_MAX_PER_ACCOUNT, 1_000),
                     entry(TOKENS_STORE_RELS_ON_DISK, true),
+                    entry(TOKENS_STORE_ON_DISK, false),
+                    entry(TOKENS_HOT_CACHE_SIZE, 1_024),
+                    entry(TOPICS_STORE_ON_DISK, false),
+                    entry(TOPICS_HOT_CACHE_SIZE, 1_024),
                     entry(TOKENS_MAX_SYMBOL_UTF8_BYTES, 100),
                     entry(TOKENS_MAX_TOKEN_NAME_UTF8_BYTES, 100),
                     entry(TOKENS_MAX_CUSTOM_FEES_ALLOWED, 10),
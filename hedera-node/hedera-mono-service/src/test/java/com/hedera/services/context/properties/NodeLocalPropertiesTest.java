@@ -23,7 +23,13 @@ import static com.hedera.services.context.properties.PropertyNames.DEV_ONLY_DEFA
 import static com.hedera.services.context.properties.PropertyNames.GRPC_PORT;
 import static com.hedera.services.context.properties.PropertyNames.GRPC_TLS_PORT;
 import static com.hedera.services.context.properties.PropertyNames.HEDERA_ACCOUNTS_EXPORT_PATH;
+import static com.hedera.services.context.properties.PropertyNames.HEDERA_ETH_TX_SIGS_MAX_CACHED_RECOVERIES;
 import static com.hedera.services.context.properties.PropertyNames.HEDERA_EXPORT_ACCOUNTS_ON_STARTUP;
+import static com.hedera.services.context.properties.PropertyNames.HEDERA_LOCAL_CALL_ADMISSION_TIMEOUT_MS;
+import static com.hedera.services.context.properties.PropertyNames.HEDERA_LOCAL_CALL_DEADLINE_MS;
+import static com.hedera.services.context.properties.PropertyNames.HEDERA_LOCAL_CALL_MAX_CACHED_STORAGE_SLOTS;
+import static com.hedera.services.context.properties.PropertyNames.HEDERA_LOCAL_CALL_MAX_IN_FLIGHT_GAS;
+import static com.hedera.services.context.properties.PropertyNames.HEDERA_LOCAL_CALL_WORKER_THREADS;
 import static com.hedera.services.context.properties.PropertyNames.HEDERA_PREFETCH_CODE_CACHE_TTL_SECS;
 import static com.hedera.services.context.properties.PropertyNames.HEDERA_PREFETCH_QUEUE_CAPACITY;
 import static com.hedera.services.context.properties.PropertyNames.HEDERA_PREFETCH_THREAD_POOL_SIZE;
@@ -33,6 +39,9 @@ import static com.hedera.services.context.properties.PropertyNames.HEDERA_RECORD
 import static com.hedera.services.context.properties.PropertyNames.HEDERA_RECORD_STREAM_LOG_PERIOD;
 import static com.hedera.services.context.properties.PropertyNames.HEDERA_RECORD_STREAM_QUEUE_CAPACITY;
 import static com.hedera.services.context.properties.PropertyNames.HEDERA_RECORD_STREAM_SIDE_CAR_DIR;
+import static com.hedera.services.context.properties.PropertyNames.HEDERA_SIGS_MAX_CACHED_VERIFICATIONS;
+import static com.hedera.services.context.properties.PropertyNames.HEDERA_SUBMISSION_MAX_BATCH_SIZE;
+import static com.hedera.services.context.properties.PropertyNames.HEDERA_SUBMISSION_MAX_WAIT_MS;
 import static com.hedera.services.context.properties.PropertyNames.ISS_RESET_PERIOD;
 import static com.hedera.services.context.properties.PropertyNames.ISS_ROUNDS_TO_LOG;
 import static com.hedera.services.context.properties.PropertyNames.NETTY_MODE;
@@ -53,8 +62,11 @@ import static com.hedera.services.context.properties.PropertyNames.STATS_ENTITY_
 import static com.hedera.services.context.properties.PropertyNames.STATS_EXECUTION_TIMES_TO_TRACK;
 import static com.hedera.services.context.properties.PropertyNames.STATS_HAPI_OPS_SPEEDOMETER_UPDATE_INTERVAL_MS;
 import static com.hedera.services.context.properties.PropertyNames.STATS_HAPI_THROTTLES_TO_SAMPLE;
+import static com.hedera.services.context.properties.PropertyNames.STATS_LATENCY_HISTOGRAMS_DUMP_DIR;
 import static com.hedera.services.context.properties.PropertyNames.STATS_RUNNING_AVG_HALF_LIFE_SECS;
 import static com.hedera.services.context.properties.PropertyNames.STATS_SPEEDOMETER_HALF_LIFE_SECS;
+import static com.hedera.services.context.properties.PropertyNames.STATS_STATE_ACCESS_PROFILING_ENABLED;
+import static com.hedera.services.context.properties.PropertyNames.STATS_STATE_ACCESS_SLOW_READ_MICROS;
 import static com.hedera.services.context.properties.PropertyNames.STATS_THROTTLE_UTILS_GAUGE_UPDATE_INTERVAL_MS;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -97,6 +109,18 @@ class NodeLocalPropertiesTest {
         assertEquals(28, subject.prefetchQueueCapacity());
         assertEquals(29, subject.prefetchThreadPoolSize());
         assertEquals(30, subject.prefetchCodeCacheTtlSecs());
+        assertEquals(84, subject.localCallMaxCachedStorageSlots());
+        assertEquals(85, subject.localCallWorkerThreads());
+        assertEquals(86L, subject.localCallMaxInFlightGas());
+        assertEquals(87L, subject.localCallAdmissionTimeoutMs());
+        assertEquals(88L, subject.localCallDeadlineMs());
+        assertEquals(89, subject.ethTxSigsMaxCachedRecoveries());
+        assertEquals(90, subject.sigsMaxCachedVerifications());
+        assertEquals(91, subject.submissionMaxBatchSize());
+        assertEquals(92L, subject.submissionMaxWaitMs());
+        assertEquals("93", subject.latencyHistogramsDumpDir());
+        assertEquals(true, subject.stateAccessProfilingEnabled());
+        assertEquals(95L, subject.stateAccessSlowReadMicros());
         assertEquals(List.of("80"), subject.consThrottlesToSample());
         assertEquals(List.of("81"), subject.hapiThrottlesToSample());
     }
@@ -151,6 +175,18 @@ class NodeLocalPropertiesTest {
         assertEquals(29, subject.prefetchQueueCapacity());
         assertEquals(30, subject.prefetchThreadPoolSize());
         assertEquals(31, subject.prefetchCodeCacheTtlSecs());
+        assertEquals(85, subject.localCallMaxCachedStorageSlots());
+        assertEquals(86, subject.localCallWorkerThreads());
+        assertEquals(87L, subject.localCallMaxInFlightGas());
+        assertEquals(88L, subject.localCallAdmissionTimeoutMs());
+        assertEquals(89L, subject.localCallDeadlineMs());
+        assertEquals(90, subject.ethTxSigsMaxCachedRecoveries());
+        assertEquals(91, subject.sigsMaxCachedVerifications());
+        assertEquals(92, subject.submissionMaxBatchSize());
+        assertEquals(93L, subject.submissionMaxWaitMs());
+        assertEquals("94", subject.latencyHistogramsDumpDir());
+        assertEquals(false, subject.stateAccessProfilingEnabled());
+        assertEquals(96L, subject.stateAccessSlowReadMicros());
         assertEquals(logDir(32), subject.sidecarDir());
     }
 
@@ -241,6 +277,23 @@ class NodeLocalPropertiesTest {
                 .willReturn(i + 82L);
         given(properties.getStringProperty(HEDERA_RECORD_STREAM_SIDE_CAR_DIR))
                 .willReturn(logDir(i + 30));
+        given(properties.getIntProperty(HEDERA_LOCAL_CALL_MAX_CACHED_STORAGE_SLOTS))
+                .willReturn(i + 83);
+        given(properties.getIntProperty(HEDERA_LOCAL_CALL_WORKER_THREADS)).willReturn(i + 84);
+        given(properties.getLongProperty(HEDERA_LOCAL_CALL_MAX_IN_FLIGHT_GAS)).willReturn(i + 85L);
+        given(properties.getLongProperty(HEDERA_LOCAL_CALL_ADMISSION_TIMEOUT_MS))
+                .willReturn(i + 86L);
+        given(properties.getLongProperty(HEDERA_LOCAL_CALL_DEADLINE_MS)).willReturn(i + 87L);
+        given(properties.getIntProperty(HEDERA_ETH_TX_SIGS_MAX_CACHED_RECOVERIES))
+                .willReturn(i + 88);
+        given(properties.getIntProperty(HEDERA_SIGS_MAX_CACHED_VERIFICATIONS)).willReturn(i + 89);
+        given(properties.getIntProperty(HEDERA_SUBMISSION_MAX_BATCH_SIZE)).willReturn(i + 90);
+        given(properties.getLongProperty(HEDERA_SUBMISSION_MAX_WAIT_MS)).willReturn(i + 91L);
+        given(properties.getStringProperty(STATS_LATENCY_HISTOGRAMS_DUMP_DIR))
+                .willReturn(String.valueOf(i + 92));
+        given(properties.getBooleanProperty(STATS_STATE_ACCESS_PROFILING_ENABLED))
+                .willReturn((i + 93) % 2 == 0);
+        given(properties.getLongProperty(STATS_STATE_ACCESS_SLOW_READ_MICROS)).willReturn(i + 94L);
     }
 
     static String logDir(int num) {
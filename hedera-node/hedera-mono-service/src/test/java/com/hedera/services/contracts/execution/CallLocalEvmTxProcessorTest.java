@@ -16,9 +16,11 @@
 package com.hedera.services.contracts.execution;
 
 import static com.hedera.services.contracts.ContractsV_0_30Module.EVM_VERSION_0_30;
+import static com.hedera.services.contracts.operation.HederaExceptionalHaltReason.LOCAL_CALL_DEADLINE_EXCEEDED;
 import static com.hedera.test.utils.TxnUtils.assertFailsWith;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_CONTRACT_ID;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -48,6 +50,7 @@ import java.util.Set;
 import javax.inject.Provider;
 import org.apache.tuweni.bytes.Bytes;
 import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.datatypes.Wei;
 import org.hyperledger.besu.evm.Code;
 import org.hyperledger.besu.evm.EVM;
@@ -142,6 +145,44 @@ class CallLocalEvmTxProcessorTest {
         verify(globalDynamicProperties, never()).enabledSidecars();
     }
 
+    @Test
+    void haltsExecutionPastDeadline() {
+        // JUMPDEST, PUSH1 0x00, JUMP
+        final var spinForever = Bytes.fromHexString("0x5b600056");
+        givenValidMock();
+        given(codeCache.getIfPresent(any()))
+                .willReturn(Code.createLegacyCode(spinForever, Hash.hash(spinForever)));
+        given(blockMetaSource.computeBlockValues(anyLong())).willReturn(hederaBlockValues);
+        given(aliasManager.resolveForEvm(receiverAddress)).willReturn(receiverAddress);
+        final var deadline = 1_000L;
+        callLocalEvmTxProcessor.setNanoClock(() -> deadline + 1);
+        callLocalEvmTxProcessor.setDeadline(deadline);
+
+        var result =
+                callLocalEvmTxProcessor.execute(
+                        sender, receiverAddress, 33_333L, 1234L, Bytes.EMPTY);
+
+        assertFalse(result.isSuccessful());
+        assertEquals(Optional.of(LOCAL_CALL_DEADLINE_EXCEEDED), result.getHaltReason());
+        assertTrue(callLocalEvmTxProcessor.lastExecutionExceededDeadline());
+    }
+
+    @Test
+    void doesNotHaltBeforeDeadline() {
+        givenValidMock();
+        given(blockMetaSource.computeBlockValues(anyLong())).willReturn(hederaBlockValues);
+        given(aliasManager.resolveForEvm(receiverAddress)).willReturn(receiverAddress);
+        callLocalEvmTxProcessor.setNanoClock(() -> 0L);
+        callLocalEvmTxProcessor.setDeadline(1_000L);
+
+        var result =
+                callLocalEvmTxProcessor.execute(
+                        sender, receiverAddress, 33_333L, 1234L, Bytes.EMPTY);
+
+        assertTrue(result.isSuccessful());
+        assertFalse(callLocalEvmTxProcessor.lastExecutionExceededDeadline());
+    }
+
     @Test
     void throwsWhenCodeCacheFailsLoading() {
         given(worldState.updater()).willReturn(updater);
@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.contracts.execution;
+
+import static com.hedera.services.contracts.execution.DeadlineOperationTracer.OPS_PER_CLOCK_READ;
+import static com.hedera.services.contracts.operation.HederaExceptionalHaltReason.LOCAL_CALL_DEADLINE_EXCEEDED;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.hedera.services.contracts.execution.traceability.ContractActionType;
+import com.hedera.services.contracts.execution.traceability.HederaOperationTracer;
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.evm.frame.ExceptionalHaltReason;
+import org.hyperledger.besu.evm.frame.MessageFrame;
+import org.hyperledger.besu.evm.tracing.OperationTracer.ExecuteOperation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class DeadlineOperationTracerTest {
+    private static final long DEADLINE = 1_000L;
+
+    @Mock private HederaOperationTracer delegate;
+    @Mock private MessageFrame frame;
+    @Mock private ExecuteOperation executeOperation;
+
+    private long now;
+    private DeadlineOperationTracer subject;
+
+    @Test
+    void haltsFrameAtFirstClockReadPastDeadline() {
+        now = DEADLINE + 1;
+        givenSubject();
+        given(frame.getState()).willReturn(MessageFrame.State.CODE_EXECUTING);
+
+        for (int i = 1; i < OPS_PER_CLOCK_READ; i++) {
+            subject.traceExecution(frame, executeOperation);
+        }
+        assertFalse(subject.hasExceededDeadline());
+        verify(frame, never()).setState(any());
+
+        subject.traceExecution(frame, executeOperation);
+
+        assertTrue(subject.hasExceededDeadline());
+        verify(delegate, times(OPS_PER_CLOCK_READ)).traceExecution(frame, executeOperation);
+        verify(frame).setExceptionalHaltReason(Optional.of(LOCAL_CALL_DEADLINE_EXCEEDED));
+        verify(frame).setState(MessageFrame.State.EXCEPTIONAL_HALT);
+    }
+
+    @Test
+    void keepsExecutingBeforeDeadline() {
+        now = DEADLINE;
+        givenSubject();
+        given(frame.getState()).willReturn(MessageFrame.State.CODE_EXECUTING);
+
+        for (int i = 0; i < 2 * OPS_PER_CLOCK_READ; i++) {
+            subject.traceExecution(frame, executeOperation);
+        }
+
+        assertFalse(subject.hasExceededDeadline());
+        verify(frame, never()).setState(any());
+    }
+
+    @Test
+    void leavesFinishedFramesAlone() {
+        now = DEADLINE + 1;
+        givenSubject();
+        given(frame.getState()).willReturn(MessageFrame.State.CODE_SUCCESS);
+
+        for (int i = 0; i < OPS_PER_CLOCK_READ; i++) {
+            subject.traceExecution(frame, executeOperation);
+        }
+
+        verify(frame, never()).setState(any());
+    }
+
+    @Test
+    void forwardsOtherCallbacksToDelegate() {
+        givenSubject();
+        final Optional<ExceptionalHaltReason> haltReason = Optional.empty();
+
+        subject.init(frame);
+        subject.tracePrecompileCall(frame, 123L, Bytes.EMPTY);
+        subject.tracePrecompileResult(frame, ContractActionType.PRECOMPILE);
+        subject.traceAccountCreationResult(frame, haltReason);
+
+        verify(delegate).init(frame);
+        verify(delegate).tracePrecompileCall(frame, 123L, Bytes.EMPTY);
+        verify(delegate).tracePrecompileResult(frame, ContractActionType.PRECOMPILE);
+        verify(delegate).traceAccountCreationResult(frame, haltReason);
+    }
+
+    private void givenSubject() {
+        subject = new DeadlineOperationTracer(delegate, () -> now, DEADLINE);
+    }
+}
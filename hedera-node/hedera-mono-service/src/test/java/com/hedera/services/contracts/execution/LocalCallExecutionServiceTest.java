@@ -0,0 +1,201 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.contracts.execution;
+
+import static com.hedera.test.factories.scenarios.TxnHandlingScenario.COMPLEX_KEY_ACCOUNT_KT;
+import static com.hedera.test.utils.TxnUtils.payerSponsoredTransfer;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.BUSY;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import com.hedera.services.context.primitives.StateView;
+import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.evm.contracts.execution.BlockMetaSource;
+import com.hedera.services.ledger.accounts.AliasManager;
+import com.hedera.services.ledger.ids.EntityIdSource;
+import com.hedera.services.stats.LocalCallStats;
+import com.hedera.services.store.AccountStore;
+import com.hedera.services.store.contracts.CodeCache;
+import com.hedera.services.store.contracts.StaticEntityAccess;
+import com.hedera.services.store.models.Account;
+import com.hedera.services.store.models.Id;
+import com.hederahashgraph.api.proto.java.ContractCallLocalQuery;
+import com.hederahashgraph.api.proto.java.ContractCallLocalResponse;
+import com.hederahashgraph.api.proto.java.QueryHeader;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class LocalCallExecutionServiceTest {
+    private static final long GAS_BUDGET = 100_000L;
+    private static final long GAS_USED = 21_000L;
+    private static final Id target = new Id(0, 0, 75231);
+
+    @Mock private EntityIdSource ids;
+    @Mock private AliasManager aliasManager;
+    @Mock private AccountStore accountStore;
+    @Mock private GlobalDynamicProperties dynamicProperties;
+    @Mock private NodeLocalProperties nodeProperties;
+    @Mock private LocalCallStateCache stateCache;
+    @Mock private LocalCallStats stats;
+    @Mock private CallLocalEvmTxProcessor processor;
+    @Mock private StateView view;
+    @Mock private BlockMetaSource blockMetaSource;
+    @Mock private StaticEntityAccess entityAccess;
+    @Mock private CodeCache codeCache;
+
+    private LocalCallExecutionService subject;
+
+    @Test
+    void executesOnWorkerWithDeadlineAndRecordsStats() throws Throwable {
+        givenSubject(5L);
+        final var op = callWithGas(50_000L);
+        givenExecutable();
+        final var now = new AtomicLong(100L);
+        subject.setNanoClock(() -> now.getAndAdd(150L));
+
+        final var response = subject.execute(op, view, blockMetaSource);
+
+        assertEquals(OK, response.getHeader().getNodeTransactionPrecheckCode());
+        assertEquals(GAS_USED, response.getFunctionResult().getGasUsed());
+        verify(processor).setBlockMetaSource(blockMetaSource);
+        verify(processor).setDeadline(250L + 5_000_000L);
+        verify(processor).setWorldState(null);
+        verify(stats).recordQueueNanos(150L);
+        verify(stats).recordExecution(150L, GAS_USED);
+        verify(stats, never()).countDeadlineExceeded();
+        assertEquals((int) GAS_BUDGET, subject.availableGasPermits());
+    }
+
+    @Test
+    void clearsDeadlineIfNoneConfiguredAndCountsExceededDeadlines() throws Throwable {
+        givenSubject(0L);
+        final var op = callWithGas(50_000L);
+        givenExecutable();
+        given(processor.lastExecutionExceededDeadline()).willReturn(true);
+
+        subject.execute(op, view, blockMetaSource);
+
+        verify(processor).clearDeadline();
+        verify(processor, never()).setDeadline(anyLong());
+        verify(stats).countDeadlineExceeded();
+    }
+
+    @Test
+    void answersBusyIfGasBudgetIsExhausted() throws Throwable {
+        givenSubject(5L);
+        final var hog = callWithGas(2 * GAS_BUDGET);
+        final var nextCall = callWithGas(1L);
+        final AtomicReference<ContractCallLocalResponse> nextResponse = new AtomicReference<>();
+        givenExecutableDoing(
+                () -> nextResponse.set(subject.execute(nextCall, view, blockMetaSource)));
+
+        final var hogResponse = subject.execute(hog, view, blockMetaSource);
+
+        assertEquals(OK, hogResponse.getHeader().getNodeTransactionPrecheckCode());
+        assertEquals(BUSY, nextResponse.get().getHeader().getNodeTransactionPrecheckCode());
+        verify(stats).countRejected();
+        assertEquals((int) GAS_BUDGET, subject.availableGasPermits());
+    }
+
+    @Test
+    void propagatesUncheckedFailuresAndReleasesGas() throws Throwable {
+        givenSubject(5L);
+        final var op = callWithGas(50_000L);
+        given(stateCache.accessFor(view)).willThrow(IllegalStateException.class);
+
+        assertThrows(
+                IllegalStateException.class, () -> subject.execute(op, view, blockMetaSource));
+
+        assertEquals((int) GAS_BUDGET, subject.availableGasPermits());
+    }
+
+    @Test
+    void sizesPoolToCoresUnlessConfigured() {
+        given(nodeProperties.localCallWorkerThreads()).willReturn(3);
+        assertEquals(3, LocalCallExecutionService.numWorkersGiven(nodeProperties));
+
+        given(nodeProperties.localCallWorkerThreads()).willReturn(0);
+        assertEquals(
+                Runtime.getRuntime().availableProcessors(),
+                LocalCallExecutionService.numWorkersGiven(nodeProperties));
+    }
+
+    private void givenExecutable() {
+        givenExecutableDoing(() -> {});
+    }
+
+    private void givenExecutableDoing(final Runnable duringExecution) {
+        given(stateCache.accessFor(view))
+                .willReturn(new LocalCallStateCache.StaticAccess(entityAccess, codeCache));
+        given(accountStore.loadAccount(any())).willReturn(new Account(target));
+        given(accountStore.loadContract(any())).willReturn(new Account(target));
+        given(processor.execute(any(), any(), anyLong(), anyLong(), any()))
+                .willAnswer(
+                        invocation -> {
+                            duringExecution.run();
+                            return TransactionProcessingResult.successful(
+                                    Collections.emptyList(),
+                                    GAS_USED,
+                                    0,
+                                    1,
+                                    Bytes.EMPTY,
+                                    target.asEvmAddress(),
+                                    Collections.emptyMap(),
+                                    Collections.emptyList());
+                        });
+    }
+
+    private void givenSubject(final long deadlineMs) {
+        given(nodeProperties.localCallMaxInFlightGas()).willReturn(GAS_BUDGET);
+        given(nodeProperties.localCallDeadlineMs()).willReturn(deadlineMs);
+        subject =
+                new LocalCallExecutionService(
+                        ids,
+                        aliasManager,
+                        accountStore,
+                        dynamicProperties,
+                        nodeProperties,
+                        stateCache,
+                        stats,
+                        () -> processor,
+                        MoreExecutors.newDirectExecutorService());
+    }
+
+    private ContractCallLocalQuery callWithGas(final long gas) throws Throwable {
+        final var payment =
+                payerSponsoredTransfer("0.0.12345", COMPLEX_KEY_ACCOUNT_KT, "0.0.3", 1L);
+        return ContractCallLocalQuery.newBuilder()
+                .setHeader(QueryHeader.newBuilder().setPayment(payment))
+                .setContractID(target.asGrpcContract())
+                .setGas(gas)
+                .build();
+    }
+}
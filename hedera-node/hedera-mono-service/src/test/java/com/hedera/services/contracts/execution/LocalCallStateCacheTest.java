@@ -0,0 +1,169 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.contracts.execution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.hedera.services.context.primitives.SignedStateViewFactory;
+import com.hedera.services.context.primitives.StateView;
+import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.ledger.accounts.AliasManager;
+import com.hedera.services.state.virtual.ContractKey;
+import com.hedera.services.state.virtual.IterableContractValue;
+import com.hedera.services.state.virtual.VirtualBlobKey;
+import com.hedera.services.state.virtual.VirtualBlobValue;
+import com.hedera.services.txns.validation.OptionValidator;
+import com.swirlds.virtualmap.VirtualMap;
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.units.bigints.UInt256;
+import org.hyperledger.besu.datatypes.Address;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class LocalCallStateCacheTest {
+    private static final int MAX_CACHED_SLOTS = 10;
+    private static final Address CONTRACT =
+            Address.fromHexString("0x0000000000000000000000000000000000000abc");
+    private static final Bytes SLOT = Bytes.of(1);
+    private static final byte[] BYTECODE = "NONSENSE".getBytes();
+    private static final byte[] REDEPLOYED_BYTECODE = "DIFFERENT NONSENSE".getBytes();
+
+    @Mock private AliasManager aliasManager;
+    @Mock private OptionValidator validator;
+    @Mock private NodeLocalProperties nodeProperties;
+    @Mock private SignedStateViewFactory stateViewFactory;
+    @Mock private StateView view;
+    @Mock private StateView signedView;
+    @Mock private StateView newerSignedView;
+    @Mock private VirtualMap<VirtualBlobKey, VirtualBlobValue> blobs;
+    @Mock private VirtualMap<VirtualBlobKey, VirtualBlobValue> newerBlobs;
+    @Mock private VirtualMap<ContractKey, IterableContractValue> storage;
+    @Mock private VirtualMap<ContractKey, IterableContractValue> newerStorage;
+
+    private LocalCallStateCache subject;
+
+    @BeforeEach
+    void setUp() {
+        subject = newSubject();
+    }
+
+    @Test
+    void usesGivenViewIfCachingDisabled() {
+        given(view.contractStorage()).willReturn(storage);
+        given(storage.get(any())).willReturn(new IterableContractValue(1L));
+
+        final var access = subject.accessFor(view);
+
+        assertEquals(UInt256.ONE, access.entityAccess().getStorage(CONTRACT, SLOT));
+        verifyNoInteractions(stateViewFactory);
+        assertEquals(0, subject.numCachedSlots());
+    }
+
+    @Test
+    void usesGivenViewIfNoSignedState() {
+        given(nodeProperties.localCallMaxCachedStorageSlots()).willReturn(MAX_CACHED_SLOTS);
+        given(stateViewFactory.latestSignedStateView()).willReturn(Optional.empty());
+        given(view.contractStorage()).willReturn(storage);
+        given(storage.get(any())).willReturn(new IterableContractValue(1L));
+
+        final var access = subject.accessFor(view);
+
+        assertEquals(UInt256.ONE, access.entityAccess().getStorage(CONTRACT, SLOT));
+        assertEquals(0, subject.numCachedSlots());
+    }
+
+    @Test
+    void sharesCachesAcrossCallsAgainstSameSignedState() {
+        given(nodeProperties.prefetchCodeCacheTtlSecs()).willReturn(600);
+        given(nodeProperties.localCallMaxCachedStorageSlots()).willReturn(MAX_CACHED_SLOTS);
+        given(stateViewFactory.latestSignedStateView()).willReturn(Optional.of(signedView));
+        given(signedView.storage()).willReturn(blobs);
+        given(signedView.contractStorage()).willReturn(storage);
+        given(storage.get(any())).willReturn(new IterableContractValue(1L));
+        given(blobs.get(any())).willReturn(new VirtualBlobValue(BYTECODE));
+
+        final var firstAccess = subject.accessFor(view);
+        final var firstCode = firstAccess.codeCache().getIfPresent(CONTRACT);
+        firstAccess.entityAccess().getStorage(CONTRACT, SLOT);
+        final var secondAccess = subject.accessFor(view);
+        final var secondCode = secondAccess.codeCache().getIfPresent(CONTRACT);
+        final var value = secondAccess.entityAccess().getStorage(CONTRACT, SLOT);
+
+        assertSame(firstCode, secondCode);
+        assertEquals(UInt256.ONE, value);
+        assertEquals(1, subject.numCachedCode());
+        assertEquals(1, subject.numCachedSlots());
+        verify(blobs).get(any());
+        verify(storage).get(any());
+        verifyNoInteractions(view);
+    }
+
+    @Test
+    void replacesSlotCacheForNewerSignedState() {
+        given(nodeProperties.localCallMaxCachedStorageSlots()).willReturn(MAX_CACHED_SLOTS);
+        given(stateViewFactory.latestSignedStateView())
+                .willReturn(Optional.of(signedView))
+                .willReturn(Optional.of(newerSignedView));
+        given(signedView.contractStorage()).willReturn(storage);
+        given(newerSignedView.contractStorage()).willReturn(newerStorage);
+        given(storage.get(any())).willReturn(new IterableContractValue(1L));
+        given(newerStorage.get(any())).willReturn(new IterableContractValue(2L));
+
+        final var oldValue = subject.accessFor(view).entityAccess().getStorage(CONTRACT, SLOT);
+        final var newValue = subject.accessFor(view).entityAccess().getStorage(CONTRACT, SLOT);
+
+        assertEquals(UInt256.ONE, oldValue);
+        assertEquals(UInt256.valueOf(2L), newValue);
+        assertEquals(1, subject.numCachedSlots());
+    }
+
+    @Test
+    void replacesCodeCacheForNewerSignedState() {
+        given(nodeProperties.prefetchCodeCacheTtlSecs()).willReturn(600);
+        given(nodeProperties.localCallMaxCachedStorageSlots()).willReturn(MAX_CACHED_SLOTS);
+        given(stateViewFactory.latestSignedStateView())
+                .willReturn(Optional.of(signedView))
+                .willReturn(Optional.of(newerSignedView));
+        given(signedView.storage()).willReturn(blobs);
+        given(signedView.contractStorage()).willReturn(storage);
+        given(newerSignedView.storage()).willReturn(newerBlobs);
+        given(newerSignedView.contractStorage()).willReturn(newerStorage);
+        given(blobs.get(any())).willReturn(new VirtualBlobValue(BYTECODE));
+        // The contract self-destructed, and a different one was re-created at its CREATE2 address
+        given(newerBlobs.get(any())).willReturn(new VirtualBlobValue(REDEPLOYED_BYTECODE));
+
+        final var oldCode = subject.accessFor(view).codeCache().getIfPresent(CONTRACT);
+        final var newCode = subject.accessFor(view).codeCache().getIfPresent(CONTRACT);
+
+        assertEquals(Bytes.wrap(BYTECODE), oldCode.getBytes());
+        assertEquals(Bytes.wrap(REDEPLOYED_BYTECODE), newCode.getBytes());
+        assertEquals(1, subject.numCachedCode());
+    }
+
+    private LocalCallStateCache newSubject() {
+        return new LocalCallStateCache(aliasManager, validator, nodeProperties, stateViewFactory);
+    }
+}
@@ -42,5 +42,8 @@ class HederaExceptionalHaltReasonTest {
         assertEquals(
                 "Invalid signature",
                 HederaExceptionalHaltReason.INVALID_SIGNATURE.getDescription());
+        assertEquals(
+                "Local call exceeded its execution deadline",
+                HederaExceptionalHaltReason.LOCAL_CALL_DEADLINE_EXCEEDED.getDescription());
     }
 }
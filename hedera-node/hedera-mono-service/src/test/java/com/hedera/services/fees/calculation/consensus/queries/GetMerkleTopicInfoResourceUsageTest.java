@@ -29,6 +29,7 @@ import com.hedera.services.context.MutableStateChildren;
 import com.hedera.services.context.primitives.StateView;
 import com.hedera.services.legacy.core.jproto.JEd25519Key;
 import com.hedera.services.state.merkle.MerkleTopic;
+import com.hedera.services.state.migration.EntityStorageAdapter;
 import com.hedera.services.state.submerkle.EntityId;
 import com.hedera.services.state.submerkle.RichInstant;
 import com.hedera.services.utils.EntityNum;
@@ -41,7 +42,6 @@ import com.hederahashgraph.api.proto.java.Query;
 import com.hederahashgraph.api.proto.java.QueryHeader;
 import com.hederahashgraph.api.proto.java.ResponseType;
 import com.hederahashgraph.api.proto.java.TopicID;
-import com.swirlds.merkle.map.MerkleMap;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -50,13 +50,13 @@ import org.junit.jupiter.params.provider.CsvSource;
 
 class GetMerkleTopicInfoResourceUsageTest {
     private StateView view;
-    private MerkleMap<EntityNum, MerkleTopic> topics;
+    private EntityStorageAdapter<MerkleTopic> topics;
     private static final TopicID topicId = asTopic("0.0.1234");
     private GetTopicInfoResourceUsage subject;
 
     @BeforeEach
     void setup() {
-        topics = mock(MerkleMap.class);
+        topics = mock(EntityStorageAdapter.class);
         final var children = new MutableStateChildren();
         children.setTopics(topics);
         view = new StateView(null, children, null);
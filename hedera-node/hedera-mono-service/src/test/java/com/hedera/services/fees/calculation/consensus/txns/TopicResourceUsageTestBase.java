@@ -23,12 +23,11 @@ import com.hedera.services.context.MutableStateChildren;
 import com.hedera.services.context.primitives.StateView;
 import com.hedera.services.context.properties.NodeLocalProperties;
 import com.hedera.services.state.merkle.MerkleTopic;
-import com.hedera.services.utils.EntityNum;
+import com.hedera.services.state.migration.EntityStorageAdapter;
 import com.hederahashgraph.api.proto.java.FeeComponents;
 import com.hederahashgraph.api.proto.java.FeeData;
 import com.hederahashgraph.api.proto.java.TopicID;
 import com.hederahashgraph.fee.SigValueObj;
-import com.swirlds.merkle.map.MerkleMap;
 
 class TopicResourceUsageTestBase {
     protected static final int totalSigCount = 1;
@@ -43,14 +42,14 @@ class TopicResourceUsageTestBase {
     protected static final int baseBpt = 140; // size of transaction fields and sigs
 
     protected StateView view;
-    protected MerkleMap<EntityNum, MerkleTopic> topics;
+    protected EntityStorageAdapter<MerkleTopic> topics;
     protected TopicID topicId = asTopic("0.0.1234");
     protected SigValueObj sigValueObj =
             new SigValueObj(totalSigCount, payerAcctSigCount, signatureSize);
     protected NodeLocalProperties nodeProps;
 
     void setup() throws Throwable {
-        topics = mock(MerkleMap.class);
+        topics = mock(EntityStorageAdapter.class);
         nodeProps = mock(NodeLocalProperties.class);
         final MutableStateChildren children = new MutableStateChildren();
         children.setTopics(topics);
@@ -25,8 +25,6 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verifyNoInteractions;
 
@@ -34,18 +32,12 @@ import com.google.protobuf.ByteString;
 import com.hedera.services.config.MockGlobalDynamicProps;
 import com.hedera.services.context.primitives.StateView;
 import com.hedera.services.context.properties.GlobalDynamicProperties;
-import com.hedera.services.context.properties.NodeLocalProperties;
-import com.hedera.services.contracts.execution.CallLocalEvmTxProcessor;
+import com.hedera.services.contracts.execution.LocalCallExecutionService;
 import com.hedera.services.contracts.execution.StaticBlockMetaProvider;
 import com.hedera.services.contracts.execution.TransactionProcessingResult;
 import com.hedera.services.evm.contracts.execution.BlockMetaSource;
-import com.hedera.services.ledger.accounts.AliasManager;
-import com.hedera.services.ledger.ids.EntityIdSource;
 import com.hedera.services.queries.contract.ContractCallLocalAnswer;
-import com.hedera.services.store.AccountStore;
-import com.hedera.services.store.models.Account;
 import com.hedera.services.store.models.Id;
-import com.hedera.services.txns.validation.OptionValidator;
 import com.hedera.test.extensions.LogCaptor;
 import com.hedera.test.extensions.LogCaptureExtension;
 import com.hedera.test.extensions.LoggingSubject;
@@ -85,14 +77,9 @@ class ContractCallLocalResourceUsageTest {
     private static final Query satisfiableAnswerOnly = localCallQuery(target, ANSWER_ONLY);
     private static final GlobalDynamicProperties properties = new MockGlobalDynamicProps();
 
-    @Mock private AccountStore accountStore;
     @Mock private StateView view;
     @Mock private SmartContractFeeBuilder usageEstimator;
-    @Mock private CallLocalEvmTxProcessor evmTxProcessor;
-    @Mock private EntityIdSource ids;
-    @Mock private OptionValidator validator;
-    @Mock private NodeLocalProperties nodeLocalProperties;
-    @Mock private AliasManager aliasManager;
+    @Mock private LocalCallExecutionService localCallExecution;
     @Mock private BlockMetaSource blockMetaSource;
     @Mock private StaticBlockMetaProvider blockMetaProvider;
 
@@ -106,12 +93,7 @@ class ContractCallLocalResourceUsageTest {
                 new ContractCallLocalResourceUsage(
                         usageEstimator,
                         properties,
-                        nodeLocalProperties,
-                        accountStore,
-                        evmTxProcessor,
-                        ids,
-                        validator,
-                        aliasManager,
+                        localCallExecution,
                         blockMetaProvider);
     }
 
@@ -141,11 +123,12 @@ class ContractCallLocalResourceUsageTest {
         final var estimateResponse = subject.dummyResponse(target);
         final var expected = expectedUsage();
 
-        given(accountStore.loadAccount(any())).willReturn(new Account(Id.fromGrpcContract(target)));
-        given(accountStore.loadContract(any()))
-                .willReturn(new Account(Id.fromGrpcContract(target)));
-        given(evmTxProcessor.execute(any(), any(), anyLong(), anyLong(), any()))
-                .willReturn(transactionProcessingResult);
+        given(
+                        localCallExecution.execute(
+                                satisfiableAnswerOnly.getContractCallLocal(),
+                                view,
+                                blockMetaSource))
+                .willReturn(response);
         given(
                         usageEstimator.getContractCallLocalFeeMatrices(
                                 params.size(), response.getFunctionResult(), ANSWER_ONLY))
@@ -178,7 +161,7 @@ class ContractCallLocalResourceUsageTest {
         final var actualUsage = subject.usageGivenType(satisfiableCostAnswer, view, ANSWER_ONLY);
 
         assertEquals(expected, actualUsage);
-        verifyNoInteractions(evmTxProcessor);
+        verifyNoInteractions(localCallExecution);
     }
 
     @Test
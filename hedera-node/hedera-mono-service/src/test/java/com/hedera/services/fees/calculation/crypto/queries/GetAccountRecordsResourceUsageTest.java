@@ -103,7 +103,7 @@ class GetAccountRecordsResourceUsageTest {
 
         // given:
         final var costAnswerQuery = accountRecordsQuery(a, COST_ANSWER);
-        given(payerRecords.getReadOnlyPayerRecords(key))
+        given(payerRecords.getMostRecentPayerRecords(key, 180))
                 .willReturn(new QueryableRecords(aValue.numRecords(), aValue.recordIterator()));
         given(accounts.containsKey(key)).willReturn(true);
         given(usageEstimator.getCryptoAccountRecordsQueryFeeMatrices(someRecords, COST_ANSWER))
@@ -126,7 +126,7 @@ class GetAccountRecordsResourceUsageTest {
 
         // given:
         final var answerOnlyQuery = accountRecordsQuery(a, ANSWER_ONLY);
-        given(payerRecords.getReadOnlyPayerRecords(key))
+        given(payerRecords.getMostRecentPayerRecords(key, 180))
                 .willReturn(new QueryableRecords(aValue.numRecords(), aValue.recordIterator()));
         given(accounts.containsKey(key)).willReturn(true);
         given(usageEstimator.getCryptoAccountRecordsQueryFeeMatrices(someRecords, ANSWER_ONLY))
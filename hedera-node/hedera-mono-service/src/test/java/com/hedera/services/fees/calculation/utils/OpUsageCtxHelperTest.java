@@ -40,6 +40,7 @@ import com.hedera.services.legacy.core.jproto.JKeyList;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerkleToken;
 import com.hedera.services.state.migration.AccountStorageAdapter;
+import com.hedera.services.state.migration.EntityStorageAdapter;
 import com.hedera.services.state.submerkle.EntityId;
 import com.hedera.services.state.submerkle.FcCustomFee;
 import com.hedera.services.state.submerkle.FcTokenAllowanceId;
@@ -82,7 +83,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class OpUsageCtxHelperTest {
     private final FileNumbers fileNumbers = new MockFileNumbers();
 
-    @Mock private MerkleMap<EntityNum, MerkleToken> tokens;
+    @Mock private EntityStorageAdapter<MerkleToken> tokens;
     @Mock private StateView workingView;
 
     @Mock(answer = Answers.RETURNS_DEEP_STUBS)
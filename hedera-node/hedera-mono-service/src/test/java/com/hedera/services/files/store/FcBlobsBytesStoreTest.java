@@ -16,19 +16,24 @@
 package com.hedera.services.files.store;
 
 import static com.hedera.services.files.store.FcBlobsBytesStore.getEntityNumFromPath;
+import static com.hedera.services.stats.StateAccessProfiler.Store.BLOBS;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.times;
 import static org.mockito.BDDMockito.verify;
 
 import com.hedera.services.state.virtual.VirtualBlobKey;
 import com.hedera.services.state.virtual.VirtualBlobKey.Type;
 import com.hedera.services.state.virtual.VirtualBlobValue;
+import com.hedera.services.stats.StateAccessProfiler;
 import com.swirlds.virtualmap.VirtualMap;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -104,6 +109,21 @@ class FcBlobsBytesStoreTest {
         assertArrayEquals(aData, subject.get(dataPath));
     }
 
+    @Test
+    void profilesBlobReadsAndWrites() {
+        final var profiler = mock(StateAccessProfiler.class);
+        subject = new FcBlobsBytesStore(() -> pathedBlobs, profiler);
+        given(pathedBlobs.get(pathAKey)).willReturn(blobA);
+
+        assertArrayEquals(aData, subject.get(dataPath));
+        subject.containsKey(dataPath);
+        subject.put(dataPath, aData);
+        subject.remove(dataPath);
+
+        verify(profiler, times(2)).recordRead(eq(BLOBS), anyLong());
+        verify(profiler, times(2)).recordWrite(eq(BLOBS), anyLong());
+    }
+
     @Test
     void delegatesContainsKey() {
         given(pathedBlobs.containsKey(pathAKey)).willReturn(true);
@@ -0,0 +1,174 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.keys;
+
+import static com.hedera.services.keys.DefaultActivationCharacteristics.DEFAULT_ACTIVATION_CHARACTERISTICS;
+import static com.hedera.services.keys.HederaKeyActivation.INVALID_MISSING_SIG;
+import static com.hedera.services.keys.HederaKeyActivation.ONLY_IF_SIG_IS_VALID;
+import static com.hedera.services.sigs.factories.PlatformSigFactory.ed25519Sig;
+import static com.hedera.test.factories.keys.KeyTree.withRoot;
+import static com.hedera.test.factories.keys.NodeFactory.ed25519;
+import static com.hedera.test.factories.keys.NodeFactory.list;
+import static com.hedera.test.factories.keys.NodeFactory.threshold;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hedera.services.legacy.core.jproto.JContractIDKey;
+import com.hedera.services.legacy.core.jproto.JKey;
+import com.hedera.services.legacy.core.jproto.JKeyList;
+import com.hedera.services.legacy.core.jproto.JThresholdKey;
+import com.hedera.test.factories.sigs.SigWrappers;
+import com.swirlds.common.crypto.TransactionSignature;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class CompiledKeyActivationTest {
+    private static final TransactionSignature VALID_SIG =
+            SigWrappers.asValid(List.of(ed25519Sig("PK".getBytes(), "SIG".getBytes(), new byte[0])))
+                    .get(0);
+
+    private static JKey complexKey;
+    private static List<JKey> simpleKeys;
+
+    @BeforeAll
+    static void setupAll() throws Throwable {
+        complexKey =
+                withRoot(
+                                list(
+                                        ed25519(),
+                                        threshold(
+                                                1,
+                                                list(list(ed25519(), ed25519()), ed25519()),
+                                                ed25519()),
+                                        ed25519(),
+                                        list(threshold(2, ed25519(), ed25519(), ed25519()))))
+                        .asJKey();
+        simpleKeys = new ArrayList<>();
+        HederaKeyTraversal.visitSimpleKeys(complexKey, simpleKeys::add);
+    }
+
+    @Test
+    void flattensEveryNodeOfTheKey() {
+        final var subject = CompiledKeyActivation.compile(complexKey);
+
+        assertEquals(15, subject.size());
+    }
+
+    @Test
+    void testsSimpleKeysInDfsOrder() {
+        final List<byte[]> requested = new ArrayList<>();
+        final var subject = CompiledKeyActivation.compile(complexKey);
+
+        subject.isActive(
+                pk -> {
+                    requested.add(pk);
+                    return INVALID_MISSING_SIG;
+                },
+                ONLY_IF_SIG_IS_VALID,
+                DEFAULT_ACTIVATION_CHARACTERISTICS);
+
+        assertEquals(simpleKeys.size(), requested.size());
+        for (int i = 0; i < requested.size(); i++) {
+            assertSame(simpleKeys.get(i).getEd25519(), requested.get(i));
+        }
+    }
+
+    @Test
+    void agreesWithTreeWalkForEveryCombinationOfValidSigs() {
+        final var subject = CompiledKeyActivation.compile(complexKey);
+        final var n = simpleKeys.size();
+
+        for (int mask = 0; mask < (1 << n); mask++) {
+            final Map<JKey, Boolean> validity = new IdentityHashMap<>();
+            for (int i = 0; i < n; i++) {
+                validity.put(simpleKeys.get(i), (mask & (1 << i)) != 0);
+            }
+            final Function<byte[], TransactionSignature> sigsFn = pk -> VALID_SIG;
+
+            final var expected = treeWalkIsActive(complexKey, validity);
+            final var actual =
+                    subject.isActive(
+                            sigsFn,
+                            (key, sig) -> validity.get(key),
+                            DEFAULT_ACTIVATION_CHARACTERISTICS);
+            assertEquals(expected, actual, "Wrong activation for mask " + mask);
+        }
+    }
+
+    @Test
+    void characteristicsOnlyApplyToTopLevelKey() {
+        final var subject = CompiledKeyActivation.compile(complexKey);
+        final var characteristics =
+                RevocationServiceCharacteristics.forTopLevelFile((JKeyList) complexKey);
+        final var first = simpleKeys.get(0);
+
+        assertTrue(subject.isActive(pk -> VALID_SIG, (key, sig) -> key == first, characteristics));
+        assertFalse(
+                subject.isActive(
+                        pk -> VALID_SIG,
+                        (key, sig) -> key == first,
+                        DEFAULT_ACTIVATION_CHARACTERISTICS));
+    }
+
+    @Test
+    void nonCryptoKeysAreTestedWithMissingSig() {
+        final var contractKey = new JContractIDKey(0, 0, 1234);
+        final var subject = CompiledKeyActivation.compile(contractKey);
+
+        assertEquals(1, subject.size());
+        assertTrue(
+                subject.isActive(
+                        pk -> VALID_SIG,
+                        (key, sig) -> key == contractKey && sig == INVALID_MISSING_SIG,
+                        DEFAULT_ACTIVATION_CHARACTERISTICS));
+    }
+
+    @Test
+    void emptyListIsActive() {
+        final var subject = CompiledKeyActivation.compile(new JKeyList());
+
+        assertTrue(
+                subject.isActive(
+                        pk -> VALID_SIG, ONLY_IF_SIG_IS_VALID, DEFAULT_ACTIVATION_CHARACTERISTICS));
+    }
+
+    private static boolean treeWalkIsActive(final JKey key, final Map<JKey, Boolean> validity) {
+        if (key.hasKeyList() || key.hasThresholdKey()) {
+            final var children =
+                    key.hasKeyList()
+                            ? key.getKeyList().getKeysList()
+                            : key.getThresholdKey().getKeys().getKeysList();
+            final var m =
+                    key.hasKeyList() ? children.size() : ((JThresholdKey) key).getThreshold();
+            var n = 0;
+            for (final var child : children) {
+                if (treeWalkIsActive(child, validity)) {
+                    n++;
+                }
+            }
+            return n >= m;
+        } else {
+            return validity.get(key);
+        }
+    }
+}
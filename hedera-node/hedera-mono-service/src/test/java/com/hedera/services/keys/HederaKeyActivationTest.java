@@ -31,6 +31,9 @@ import static com.swirlds.common.threading.manager.AdHocThreadManager.getStaticT
 import static com.swirlds.common.utility.CommonUtils.hex;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.any;
@@ -249,6 +252,22 @@ class HederaKeyActivationTest {
         verify(sigsFn, times(9)).apply(any());
     }
 
+    @Test
+    void compilesEachKeyInstanceOnlyOnce() throws Throwable {
+        final var key = withRoot(list(ed25519(), threshold(1, ed25519(), ed25519()))).asJKey();
+        given(sigsFn.apply(any())).willReturn(VALID_SIG);
+
+        assertTrue(isActive(key, sigsFn, ONLY_IF_SIG_IS_VALID));
+        final var compiled = key.getCompiledActivation();
+        assertTrue(isActive(key, sigsFn, ONLY_IF_SIG_IS_VALID));
+
+        assertNotNull(compiled);
+        assertSame(compiled, key.getCompiledActivation());
+        assertSame(compiled, HederaKeyActivation.compiledFor(key));
+        assertNull(key.duplicate().getCompiledActivation());
+        verify(sigsFn, times(6)).apply(any());
+    }
+
     @Test
     void throwsIfNoSigMetaHasBeenRationalized() {
         final var accessor = mock(PlatformTxnAccessor.class);
@@ -20,18 +20,24 @@ import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.startsWith;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.verify;
 
+import com.hedera.services.stats.SigVerificationStats;
 import com.hedera.test.extensions.LogCaptor;
 import com.hedera.test.extensions.LogCaptureExtension;
 import com.hedera.test.extensions.LoggingSubject;
 import com.hedera.test.extensions.LoggingTarget;
+import com.swirlds.common.crypto.SignatureType;
 import com.swirlds.common.crypto.TransactionSignature;
 import com.swirlds.common.crypto.VerificationStatus;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -40,9 +46,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @ExtendWith({MockitoExtension.class, LogCaptureExtension.class})
 class OnlyIfSigVerifiableValidTest {
     @Mock private Future<Void> syncFuture;
+    @Mock private SigVerificationStats sigVerificationStats;
 
     @LoggingTarget private LogCaptor logCaptor;
-    @LoggingSubject private OnlyIfSigVerifiableValid subject = new OnlyIfSigVerifiableValid();
+    @LoggingSubject private OnlyIfSigVerifiableValid subject;
+
+    @BeforeEach
+    void setUp() {
+        subject = new OnlyIfSigVerifiableValid(sigVerificationStats);
+    }
 
     @Test
     void acceptsValidSig() {
@@ -88,6 +100,7 @@ class OnlyIfSigVerifiableValidTest {
         sig.setFuture(syncFuture);
 
         assertTrue(subject.test(null, sig));
+        verify(sigVerificationStats).recordWaitNanos(eq(SignatureType.ED25519), anyLong());
     }
 
     @Test
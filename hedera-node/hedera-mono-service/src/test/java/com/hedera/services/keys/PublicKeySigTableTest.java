@@ -0,0 +1,106 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.keys;
+
+import static com.hedera.services.keys.HederaKeyActivation.INVALID_MISSING_SIG;
+import static com.hedera.services.sigs.factories.PlatformSigFactory.ecdsaSecp256k1Sig;
+import static com.hedera.services.sigs.factories.PlatformSigFactory.ed25519Sig;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.hedera.test.factories.keys.KeyFactory;
+import com.swirlds.common.crypto.TransactionSignature;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.bouncycastle.crypto.params.ECPublicKeyParameters;
+import org.junit.jupiter.api.Test;
+
+class PublicKeySigTableTest {
+    private static final byte[] SIG = "SIG".getBytes();
+    private static final byte[] DATA = "DATA".getBytes();
+
+    @Test
+    void findsEverySigInLargeList() {
+        final List<TransactionSignature> sigs = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            sigs.add(ed25519Sig(ed25519Pk(i), SIG, DATA));
+        }
+        final var subject = new PublicKeySigTable(sigs);
+
+        for (int i = 0; i < 100; i++) {
+            assertSame(sigs.get(i), subject.apply(ed25519Pk(i)));
+        }
+        assertSame(INVALID_MISSING_SIG, subject.apply(ed25519Pk(100)));
+    }
+
+    @Test
+    void returnsFirstOfDuplicateSigs() {
+        final var first = ed25519Sig(ed25519Pk(1), SIG, DATA);
+        final var second = ed25519Sig(ed25519Pk(1), SIG, DATA);
+        final var subject = new PublicKeySigTable(List.of(first, second));
+
+        assertSame(first, subject.apply(ed25519Pk(1)));
+    }
+
+    @Test
+    void distinguishesKeysWithSameHashedPrefix() {
+        final var aPk = ed25519Pk(1);
+        final var bPk = ed25519Pk(1);
+        bPk[31] = (byte) 0xFF;
+        final var aSig = ed25519Sig(aPk, SIG, DATA);
+        final var bSig = ed25519Sig(bPk, SIG, DATA);
+        final var subject = new PublicKeySigTable(List.of(aSig, bSig));
+
+        assertSame(aSig, subject.apply(aPk));
+        assertSame(bSig, subject.apply(bPk));
+    }
+
+    @Test
+    void matchesCompressedSecp256k1KeyWithSameParity() {
+        final var kp = KeyFactory.ecdsaKpGenerator.generateKeyPair();
+        final var q = ((ECPublicKeyParameters) kp.getPublic()).getQ();
+        final var uncompressed = Arrays.copyOfRange(q.getEncoded(false), 1, 65);
+        final var compressed = q.getEncoded(true);
+        final var otherParity = Arrays.copyOf(compressed, compressed.length);
+        otherParity[0] = compressed[0] == (byte) 0x02 ? (byte) 0x03 : (byte) 0x02;
+        final var sig = ecdsaSecp256k1Sig(uncompressed, SIG, DATA);
+        final var subject =
+                new PublicKeySigTable(List.of(ed25519Sig(ed25519Pk(1), SIG, DATA), sig));
+
+        assertSame(sig, subject.apply(compressed));
+        assertSame(INVALID_MISSING_SIG, subject.apply(otherParity));
+    }
+
+    @Test
+    void ignoresUnsupportedKeyLengths() {
+        final var shortSig = ed25519Sig("PK".getBytes(), SIG, DATA);
+        final var subject = new PublicKeySigTable(List.of(shortSig));
+
+        assertSame(INVALID_MISSING_SIG, subject.apply("PK".getBytes()));
+        assertSame(INVALID_MISSING_SIG, subject.apply(ed25519Pk(1)));
+    }
+
+    @Test
+    void emptyListHasNoSigs() {
+        final var subject = new PublicKeySigTable(List.of());
+
+        assertSame(INVALID_MISSING_SIG, subject.apply(ed25519Pk(1)));
+    }
+
+    private static byte[] ed25519Pk(final int i) {
+        return String.format("%032d", i).getBytes();
+    }
+}
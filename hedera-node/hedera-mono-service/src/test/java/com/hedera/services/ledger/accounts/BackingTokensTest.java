@@ -24,6 +24,7 @@ import static org.mockito.Mockito.verify;
 
 import com.hedera.services.ledger.backing.BackingTokens;
 import com.hedera.services.state.merkle.MerkleToken;
+import com.hedera.services.state.migration.EntityStorageAdapter;
 import com.hedera.services.utils.EntityNum;
 import com.hederahashgraph.api.proto.java.TokenID;
 import com.swirlds.merkle.map.MerkleMap;
@@ -37,13 +38,13 @@ class BackingTokensTest {
     private final EntityNum aKey = EntityNum.fromTokenId(a);
     private final MerkleToken aValue = new MerkleToken();
 
-    private MerkleMap<EntityNum, MerkleToken> map;
-    MerkleMap<EntityNum, MerkleToken> mockedMap;
+    private EntityStorageAdapter<MerkleToken> map;
+    EntityStorageAdapter<MerkleToken> mockedMap;
     private BackingTokens subject;
 
     @BeforeEach
     void setup() {
-        map = new MerkleMap<>();
+        map = EntityStorageAdapter.fromInMemory(new MerkleMap<>());
 
         map.put(aKey, aValue);
 
@@ -128,7 +129,7 @@ class BackingTokensTest {
     }
 
     void setupMocked() {
-        mockedMap = mock(MerkleMap.class);
+        mockedMap = mock(EntityStorageAdapter.class);
         subject = new BackingTokens(() -> mockedMap);
     }
 }
@@ -28,6 +28,7 @@ import com.hedera.services.context.properties.PropertyNames;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerkleToken;
 import com.hedera.services.state.migration.AccountStorageAdapter;
+import com.hedera.services.state.migration.EntityStorageAdapter;
 import com.hedera.services.state.migration.UniqueTokenAdapter;
 import com.hedera.services.state.migration.UniqueTokenMapAdapter;
 import com.hedera.services.state.virtual.UniqueTokenValue;
@@ -50,7 +51,8 @@ import org.mockito.Mockito;
 @ExtendWith(LogCaptureExtension.class)
 class UniqueTokensLinkManagerTest {
     private final MerkleMap<EntityNum, MerkleAccount> accounts = new MerkleMap<>();
-    private final MerkleMap<EntityNum, MerkleToken> tokens = new MerkleMap<>();
+    private final EntityStorageAdapter<MerkleToken> tokens =
+            EntityStorageAdapter.fromInMemory(new MerkleMap<>());
     private final UniqueTokenMapAdapter uniqueTokens =
             UniqueTokenMapAdapter.wrap(new MerkleMap<>());
     private final UniqueTokenMapAdapter virtualUniqueTokens =
@@ -19,12 +19,15 @@ import static com.hedera.services.legacy.core.jproto.TxnReceipt.MISSING_RUNNING_
 import static com.hedera.services.legacy.core.jproto.TxnReceipt.MISSING_RUNNING_HASH_VERSION;
 import static com.hedera.services.legacy.core.jproto.TxnReceipt.MISSING_SCHEDULED_TXN_ID;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_ACCOUNT_ID;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.SUCCESS;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import com.google.protobuf.ByteString;
 import com.hedera.services.state.submerkle.EntityId;
@@ -107,6 +110,23 @@ class TxnReceiptTest {
         assertArrayEquals(getSha384Hash(), cut.getTopicRunningHash());
     }
 
+    @Test
+    void grpcReceiptIsReusedUntilMutated() {
+        final var cut = new TxnReceipt();
+        cut.setStatus(SUCCESS.name());
+
+        final var firstGrpc = cut.toGrpc();
+        assertSame(firstGrpc, cut.toGrpc());
+
+        cut.setAccountId(new EntityId(0, 0, 1234));
+        final var secondGrpc = cut.toGrpc();
+        assertNotSame(firstGrpc, secondGrpc);
+        assertEquals(1234L, secondGrpc.getAccountID().getAccountNum());
+
+        cut.setStatus(INVALID_ACCOUNT_ID.name());
+        assertEquals(INVALID_ACCOUNT_ID, cut.toGrpc().getStatus());
+    }
+
     @Test
     void convertToJTransactionReceiptPostConsensusCreateTopic() {
         final var topicId = getTopicId(1L, 22L, 333L);
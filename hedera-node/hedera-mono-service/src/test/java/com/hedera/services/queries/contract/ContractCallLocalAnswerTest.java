@@ -39,19 +39,14 @@ import static org.mockito.Mockito.verify;
 import com.google.protobuf.ByteString;
 import com.hedera.services.context.primitives.StateView;
 import com.hedera.services.context.properties.GlobalDynamicProperties;
-import com.hedera.services.context.properties.NodeLocalProperties;
-import com.hedera.services.contracts.execution.CallLocalEvmTxProcessor;
+import com.hedera.services.contracts.execution.LocalCallExecutionService;
 import com.hedera.services.contracts.execution.StaticBlockMetaProvider;
 import com.hedera.services.contracts.execution.TransactionProcessingResult;
 import com.hedera.services.evm.contracts.execution.BlockMetaSource;
 import com.hedera.services.ledger.accounts.AliasManager;
-import com.hedera.services.ledger.ids.EntityIdSource;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.migration.AccountStorageAdapter;
-import com.hedera.services.store.AccountStore;
 import com.hedera.services.store.contracts.EntityAccess;
-import com.hedera.services.store.models.Account;
-import com.hedera.services.store.models.Id;
 import com.hedera.services.txns.validation.OptionValidator;
 import com.hedera.services.utils.EntityNum;
 import com.hedera.test.utils.IdUtils;
@@ -89,14 +84,11 @@ class ContractCallLocalAnswerTest {
     private Transaction paymentTxn;
 
     @Mock private StateView view;
-    @Mock private AccountStore accountStore;
-    @Mock private EntityIdSource ids;
     @Mock private OptionValidator validator;
     @Mock private EntityAccess entityAccess;
     @Mock private GlobalDynamicProperties dynamicProperties;
-    @Mock private CallLocalEvmTxProcessor evmTxProcessor;
+    @Mock private LocalCallExecutionService localCallExecution;
     @Mock private MerkleMap<EntityNum, MerkleAccount> contracts;
-    @Mock private NodeLocalProperties nodeLocalProperties;
     @Mock private AliasManager aliasManager;
     @Mock private StaticBlockMetaProvider blockMetaProvider;
     @Mock private BlockMetaSource blockMetaSource;
@@ -107,14 +99,11 @@ class ContractCallLocalAnswerTest {
     void setup() {
         subject =
                 new ContractCallLocalAnswer(
-                        ids,
                         aliasManager,
-                        accountStore,
                         validator,
                         entityAccess,
                         dynamicProperties,
-                        nodeLocalProperties,
-                        evmTxProcessor,
+                        localCallExecution,
                         blockMetaProvider);
     }
 
@@ -249,7 +238,7 @@ class ContractCallLocalAnswerTest {
                 opResponse.getHeader().getNodeTransactionPrecheckCode());
         assertEquals(result, opResponse.getFunctionResult().getContractCallResult());
         assertEquals(target, opResponse.getFunctionResult().getContractID());
-        verify(accountStore, never()).loadAccount(any());
+        verify(localCallExecution, never()).execute(any(), any(), any());
     }
 
     @Test
@@ -280,22 +269,11 @@ class ContractCallLocalAnswerTest {
         // setup:
         Query sensibleQuery = validQuery(ANSWER_ONLY, 5L);
 
-        final var transactionProcessingResult =
-                TransactionProcessingResult.failed(
-                        0,
-                        0,
-                        1,
-                        Optional.empty(),
-                        Optional.empty(),
-                        new TreeMap<>(),
-                        new ArrayList<>());
-
-        given(accountStore.loadAccount(any())).willReturn(new Account(Id.fromGrpcContract(target)));
-        given(accountStore.loadContract(any()))
-                .willReturn(new Account(Id.fromGrpcContract(target)));
-        given(evmTxProcessor.execute(any(), any(), anyLong(), anyLong(), any()))
-                .willReturn(transactionProcessingResult);
         given(blockMetaProvider.getSource()).willReturn(Optional.of(blockMetaSource));
+        given(
+                        localCallExecution.execute(
+                                sensibleQuery.getContractCallLocal(), view, blockMetaSource))
+                .willReturn(response(CONTRACT_EXECUTION_EXCEPTION));
 
         Response response = subject.responseGiven(sensibleQuery, view, OK, 0L);
 
@@ -313,6 +291,8 @@ class ContractCallLocalAnswerTest {
         // setup:
         Query sensibleQuery = validQuery(ANSWER_ONLY, 5L);
         given(blockMetaProvider.getSource()).willReturn(Optional.of(blockMetaSource));
+        given(localCallExecution.execute(any(), any(), any()))
+                .willThrow(IllegalStateException.class);
 
         // when:
         Response response = subject.responseGiven(sensibleQuery, view, OK, 0L);
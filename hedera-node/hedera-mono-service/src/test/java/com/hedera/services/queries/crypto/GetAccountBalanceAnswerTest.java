@@ -44,6 +44,7 @@ import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerkleToken;
 import com.hedera.services.state.merkle.MerkleTokenRelStatus;
 import com.hedera.services.state.migration.AccountStorageAdapter;
+import com.hedera.services.state.migration.EntityStorageAdapter;
 import com.hedera.services.state.migration.TokenRelStorageAdapter;
 import com.hedera.services.store.schedule.ScheduleStore;
 import com.hedera.services.txns.validation.OptionValidator;
@@ -364,7 +365,7 @@ class GetAccountBalanceAnswerTest {
         ScheduleStore scheduleStore = mock(ScheduleStore.class);
 
         final MutableStateChildren children = new MutableStateChildren();
-        children.setTokens(tokens);
+        children.setTokens(EntityStorageAdapter.fromInMemory(tokens));
         children.setAccounts(accounts);
         children.setTokenAssociations(tokenRels);
         return new StateView(scheduleStore, children, null);
@@ -52,6 +52,7 @@ import com.hedera.services.state.merkle.MerkleStakingInfo;
 import com.hedera.services.state.merkle.MerkleToken;
 import com.hedera.services.state.merkle.MerkleTokenRelStatus;
 import com.hedera.services.state.migration.AccountStorageAdapter;
+import com.hedera.services.state.migration.EntityStorageAdapter;
 import com.hedera.services.state.migration.TokenRelStorageAdapter;
 import com.hedera.services.state.submerkle.EntityId;
 import com.hedera.services.state.submerkle.FcTokenAllowanceId;
@@ -90,7 +91,7 @@ class GetAccountInfoAnswerTest {
     @Mock private ScheduleStore scheduleStore;
     @Mock private AccountStorageAdapter accounts;
     @Mock private MerkleMap<EntityNum, MerkleStakingInfo> stakingInfo;
-    @Mock private MerkleMap<EntityNum, MerkleToken> tokens;
+    @Mock private EntityStorageAdapter<MerkleToken> tokens;
     @Mock private OptionValidator optionValidator;
     @Mock private MerkleToken token;
     @Mock private MerkleToken deletedToken;
@@ -253,10 +254,9 @@ class GetAccountInfoAnswerTest {
     }
 
     @Test
-    @SuppressWarnings("unchecked")
     void getsTheAccountInfo() throws Throwable {
         given(dynamicProperties.maxTokensRelsPerInfoQuery()).willReturn(maxTokensPerAccountInfo);
-        final MerkleMap<EntityNum, MerkleToken> tokens = mock(MerkleMap.class);
+        final EntityStorageAdapter<MerkleToken> tokens = mock(EntityStorageAdapter.class);
         children.setTokens(tokens);
 
         given(token.hasKycKey()).willReturn(true);
@@ -94,7 +94,7 @@ class GetAccountRecordsAnswerTest {
         accounts = mock(AccountStorageAdapter.class);
         final var targetNum = EntityNum.fromAccountId(asAccount(target));
         given(accounts.containsKey(targetNum)).willReturn(true);
-        given(payerRecords.getReadOnlyPayerRecords(targetNum))
+        given(payerRecords.getMostRecentPayerRecords(targetNum, 1))
                 .willReturn(
                         new QueryableRecords(
                                 payerAccount.numRecords(), payerAccount.recordIterator()));
@@ -50,6 +50,7 @@ import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerkleToken;
 import com.hedera.services.state.merkle.MerkleTokenRelStatus;
 import com.hedera.services.state.migration.AccountStorageAdapter;
+import com.hedera.services.state.migration.EntityStorageAdapter;
 import com.hedera.services.state.migration.TokenRelStorageAdapter;
 import com.hedera.services.state.submerkle.EntityId;
 import com.hedera.services.state.submerkle.FcTokenAllowanceId;
@@ -88,7 +89,7 @@ class GetAccountDetailsAnswerTest {
     private StateView view;
     @Mock private ScheduleStore scheduleStore;
     @Mock private MerkleMap<EntityNum, MerkleAccount> accounts;
-    @Mock private MerkleMap<EntityNum, MerkleToken> tokens;
+    @Mock private EntityStorageAdapter<MerkleToken> tokens;
     @Mock private OptionValidator optionValidator;
     @Mock private MerkleToken token;
     @Mock private MerkleToken deletedToken;
@@ -237,10 +238,9 @@ class GetAccountDetailsAnswerTest {
     }
 
     @Test
-    @SuppressWarnings("unchecked")
     void getsTheAccountDetails() throws Throwable {
         given(dynamicProperties.maxTokensRelsPerInfoQuery()).willReturn(maxTokensPerAccountInfo);
-        final MerkleMap<EntityNum, MerkleToken> tokens = mock(MerkleMap.class);
+        final EntityStorageAdapter<MerkleToken> tokens = mock(EntityStorageAdapter.class);
         children.setTokens(tokens);
 
         given(token.hasKycKey()).willReturn(true);
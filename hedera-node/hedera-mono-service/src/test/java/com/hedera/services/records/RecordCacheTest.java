@@ -226,6 +226,20 @@ class RecordCacheTest {
         verify(receiptCache).put(txnIdB, Boolean.TRUE);
     }
 
+    @Test
+    void addsMarkersForBatchOfPreconsensusReceipts() {
+        subject.addPreConsensus(List.of(txnIdA, txnIdB));
+
+        verify(receiptCache).putAll(Map.of(txnIdA, Boolean.TRUE, txnIdB, Boolean.TRUE));
+    }
+
+    @Test
+    void addsSingleMarkerForBatchOfOne() {
+        subject.addPreConsensus(List.of(txnIdB));
+
+        verify(receiptCache).put(txnIdB, Boolean.TRUE);
+    }
+
     @Test
     void delegatesToPutPostConsensus() {
         given(histories.computeIfAbsent(argThat(txnIdA::equals), any())).willReturn(recentHistory);
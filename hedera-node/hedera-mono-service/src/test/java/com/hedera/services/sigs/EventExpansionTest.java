@@ -15,18 +15,28 @@
  */
 package com.hedera.services.sigs;
 
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoTransfer;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.startsWith;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.services.ServicesState;
+import com.hedera.services.sigs.factories.PlatformSigFactory;
 import com.hedera.services.sigs.order.SigReqsManager;
+import com.hedera.services.sigs.verification.VerifiedSigsCache;
+import com.hedera.services.stats.FunctionalityLatencies;
+import com.hedera.services.stats.SigVerificationStats;
 import com.hedera.services.txns.prefetch.PrefetchProcessor;
 import com.hedera.services.txns.span.ExpandHandleSpan;
 import com.hedera.services.utils.accessors.PlatformTxnAccessor;
@@ -35,10 +45,12 @@ import com.hedera.test.extensions.LogCaptureExtension;
 import com.hedera.test.extensions.LoggingSubject;
 import com.hedera.test.extensions.LoggingTarget;
 import com.swirlds.common.crypto.Cryptography;
+import com.swirlds.common.crypto.SignatureType;
+import com.swirlds.common.crypto.TransactionSignature;
 import com.swirlds.common.system.events.Event;
 import com.swirlds.common.system.transaction.Transaction;
 import com.swirlds.common.system.transaction.internal.SwirldTransaction;
-import java.util.Collections;
+import java.util.List;
 import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -49,6 +61,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith({MockitoExtension.class, LogCaptureExtension.class})
 class EventExpansionTest {
+    private static final long SELF_ID = 3L;
+
     @Mock private Event event;
     @Mock private ServicesState sourceState;
     @Mock private PlatformTxnAccessor txnAccessor;
@@ -56,13 +70,25 @@ class EventExpansionTest {
     @Mock private SigReqsManager sigReqsManager;
     @Mock private ExpandHandleSpan expandHandleSpan;
     @Mock private PrefetchProcessor prefetchProcessor;
+    @Mock private SigVerificationStats sigVerificationStats;
+    @Mock private VerifiedSigsCache verifiedSigsCache;
+    @Mock private FunctionalityLatencies functionalityLatencies;
 
     @LoggingTarget private LogCaptor logCaptor;
     @LoggingSubject private EventExpansion subject;
 
     @BeforeEach
     void setUp() {
-        subject = new EventExpansion(engine, sigReqsManager, expandHandleSpan, prefetchProcessor);
+        subject =
+                new EventExpansion(
+                        SELF_ID,
+                        engine,
+                        sigReqsManager,
+                        expandHandleSpan,
+                        prefetchProcessor,
+                        sigVerificationStats,
+                        verifiedSigsCache,
+                        functionalityLatencies);
     }
 
     @Test
@@ -70,12 +96,86 @@ class EventExpansionTest {
         final var n = 3;
         givenNTransactions(n);
         given(expandHandleSpan.track(any())).willReturn(txnAccessor);
+        given(txnAccessor.getFunction()).willReturn(CryptoTransfer);
 
         subject.expandAllSigs(event, sourceState);
 
         verify(prefetchProcessor, times(n)).submit(txnAccessor);
         verify(sigReqsManager, times(n)).expandSigs(sourceState, txnAccessor);
-        verify(engine, times(n)).verifyAsync(Collections.emptyList());
+        verify(functionalityLatencies, times(n))
+                .record(eq(FunctionalityLatencies.Stage.PRE_HANDLE), eq(CryptoTransfer), anyLong());
+        verify(functionalityLatencies, times(n))
+                .record(
+                        eq(FunctionalityLatencies.Stage.SIG_EXPANSION),
+                        eq(CryptoTransfer),
+                        anyLong());
+        verify(engine, never()).verifyAsync(any());
+    }
+
+    @Test
+    void submitsOneBatchPerKeyTypeWithEcdsaFirst() throws InvalidProtocolBufferException {
+        final var aEd25519 = sig(SignatureType.ED25519);
+        final var bEd25519 = sig(SignatureType.ED25519);
+        final var cEd25519 = sig(SignatureType.ED25519);
+        final var aEcdsa = sig(SignatureType.ECDSA_SECP256K1);
+        final var bEcdsa = sig(SignatureType.ECDSA_SECP256K1);
+        final var aTxn = new SwirldTransaction(new byte[] {1});
+        aTxn.add(aEd25519);
+        aTxn.add(aEcdsa);
+        final var bTxn = new SwirldTransaction(new byte[] {2});
+        bTxn.add(bEd25519);
+        bTxn.add(bEcdsa);
+        bTxn.add(cEd25519);
+        givenTransactions(aTxn, bTxn);
+        given(expandHandleSpan.track(any())).willReturn(txnAccessor);
+
+        subject.expandAllSigs(event, sourceState);
+
+        final var inOrder = inOrder(engine);
+        inOrder.verify(engine).verifyAsync(List.of(aEcdsa, bEcdsa));
+        inOrder.verify(engine).verifyAsync(List.of(aEd25519, bEd25519, cEd25519));
+        verify(sigVerificationStats).recordSubmitted(SignatureType.ECDSA_SECP256K1, 2);
+        verify(sigVerificationStats).recordSubmitted(SignatureType.ED25519, 3);
+        verify(verifiedSigsCache, never()).tryToResolve(any());
+    }
+
+    @Test
+    void onlySubmitsUnresolvedSigsFromSelfCreatedEvents() throws InvalidProtocolBufferException {
+        final var aEd25519 = sig(SignatureType.ED25519);
+        final var bEd25519 = sig(SignatureType.ED25519);
+        final var aEcdsa = sig(SignatureType.ECDSA_SECP256K1);
+        final var txn = new SwirldTransaction(new byte[] {1});
+        txn.add(aEd25519);
+        txn.add(aEcdsa);
+        txn.add(bEd25519);
+        givenTransactions(txn);
+        given(event.getCreatorId()).willReturn(SELF_ID);
+        given(expandHandleSpan.track(any())).willReturn(txnAccessor);
+        given(verifiedSigsCache.tryToResolve(aEd25519)).willReturn(true);
+        given(verifiedSigsCache.tryToResolve(aEcdsa)).willReturn(true);
+        given(verifiedSigsCache.tryToResolve(bEd25519)).willReturn(false);
+
+        subject.expandAllSigs(event, sourceState);
+
+        verify(engine).verifyAsync(List.of(bEd25519));
+        verify(sigVerificationStats).recordSubmitted(SignatureType.ED25519, 1);
+        verify(sigVerificationStats, never())
+                .recordSubmitted(eq(SignatureType.ECDSA_SECP256K1), anyInt());
+    }
+
+    @Test
+    void warnsOfBatchSubmissionFailure() throws InvalidProtocolBufferException {
+        final var txn = new SwirldTransaction(new byte[] {1});
+        txn.add(sig(SignatureType.ED25519));
+        givenTransactions(txn);
+        given(expandHandleSpan.track(any())).willReturn(txnAccessor);
+        willThrow(IllegalStateException.class).given(engine).verifyAsync(any());
+
+        subject.expandAllSigs(event, sourceState);
+
+        assertThat(
+                logCaptor.warnLogs(),
+                contains(startsWith("Unable to submit 1 ED25519 signature(s) for async")));
     }
 
     @Test
@@ -108,6 +208,30 @@ class EventExpansionTest {
                                         + "synchronously in handleTransaction")));
     }
 
+    private TransactionSignature sig(final SignatureType type) {
+        final var pk = new byte[type == SignatureType.ED25519 ? 32 : 33];
+        final var sig = new byte[64];
+        final var data = new byte[] {(byte) type.ordinal()};
+        return type == SignatureType.ED25519
+                ? PlatformSigFactory.ed25519Sig(pk, sig, data)
+                : PlatformSigFactory.ecdsaSecp256k1Sig(pk, sig, data);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenTransactions(final Transaction... txns) {
+        Mockito.doAnswer(
+                        invocationOnMock -> {
+                            final var consumer =
+                                    (Consumer<Transaction>) invocationOnMock.getArgument(0);
+                            for (final var txn : txns) {
+                                consumer.accept(txn);
+                            }
+                            return null;
+                        })
+                .when(event)
+                .forEachTransaction(any());
+    }
+
     @SuppressWarnings("unchecked")
     private void givenNTransactions(final int n) {
         Mockito.doAnswer(
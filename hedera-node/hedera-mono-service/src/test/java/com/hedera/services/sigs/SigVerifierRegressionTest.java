@@ -48,6 +48,7 @@ import com.hedera.services.sigs.utils.PrecheckUtils;
 import com.hedera.services.sigs.verification.PrecheckKeyReqs;
 import com.hedera.services.sigs.verification.PrecheckVerifier;
 import com.hedera.services.sigs.verification.SyncVerifier;
+import com.hedera.services.sigs.verification.VerifiedSigsCache;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.migration.AccountStorageAdapter;
 import com.hedera.services.txns.auth.SystemOpPolicies;
@@ -194,6 +195,8 @@ class SigVerifierRegressionTest {
         isQueryPayment = PrecheckUtils.queryPaymentTestFor(nodeInfo);
         SyncVerifier syncVerifier = new CryptoEngine(getStaticThreadManager())::verifySync;
         precheckKeyReqs = new PrecheckKeyReqs(keyOrder, isQueryPayment);
-        precheckVerifier = new PrecheckVerifier(syncVerifier, precheckKeyReqs);
+        precheckVerifier =
+                new PrecheckVerifier(
+                        syncVerifier, precheckKeyReqs, mock(VerifiedSigsCache.class));
     }
 }
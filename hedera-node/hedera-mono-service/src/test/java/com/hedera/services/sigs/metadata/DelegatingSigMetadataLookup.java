@@ -33,16 +33,15 @@ import com.hedera.services.sigs.metadata.lookups.TopicSigMetaLookup;
 import com.hedera.services.sigs.order.LinkedRefs;
 import com.hedera.services.state.merkle.MerkleTopic;
 import com.hedera.services.state.migration.AccountStorageAdapter;
+import com.hedera.services.state.migration.EntityStorageAdapter;
 import com.hedera.services.store.schedule.ScheduleStore;
 import com.hedera.services.store.tokens.TokenStore;
-import com.hedera.services.utils.EntityNum;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.ContractID;
 import com.hederahashgraph.api.proto.java.FileID;
 import com.hederahashgraph.api.proto.java.ScheduleID;
 import com.hederahashgraph.api.proto.java.TokenID;
 import com.hederahashgraph.api.proto.java.TopicID;
-import com.swirlds.merkle.map.MerkleMap;
 import java.time.Instant;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -89,7 +88,7 @@ public final class DelegatingSigMetadataLookup implements SigMetadataLookup {
             final AliasManager aliasManager,
             final HfsSigMetaLookup hfsSigMetaLookup,
             final Supplier<AccountStorageAdapter> accounts,
-            final Supplier<MerkleMap<EntityNum, MerkleTopic>> topics,
+            final Supplier<EntityStorageAdapter<MerkleTopic>> topics,
             final Function<TokenID, SafeLookupResult<TokenSigningMetadata>> tokenLookup,
             final Function<ScheduleID, SafeLookupResult<ScheduleSigningMetadata>> scheduleLookup) {
         return new DelegatingSigMetadataLookup(
@@ -48,6 +48,7 @@ import com.hedera.services.state.merkle.MerkleScheduledTransactions;
 import com.hedera.services.state.merkle.MerkleToken;
 import com.hedera.services.state.merkle.MerkleTopic;
 import com.hedera.services.state.migration.AccountStorageAdapter;
+import com.hedera.services.state.migration.EntityStorageAdapter;
 import com.hedera.services.state.submerkle.EntityId;
 import com.hedera.services.state.virtual.EntityNumVirtualKey;
 import com.hedera.services.state.virtual.VirtualBlobKey;
@@ -88,8 +89,8 @@ class StateChildrenSigMetadataLookupTest {
     @Mock private ScheduleVirtualValue schedule;
     @Mock private MerkleAccount account;
     @Mock private TokenSigningMetadata tokenMeta;
-    @Mock private MerkleMap<EntityNum, MerkleToken> tokens;
-    @Mock private MerkleMap<EntityNum, MerkleTopic> topics;
+    @Mock private EntityStorageAdapter<MerkleToken> tokens;
+    @Mock private EntityStorageAdapter<MerkleTopic> topics;
     @Mock private Function<MerkleToken, TokenSigningMetadata> tokenMetaTransform;
     @Mock private AccountStorageAdapter accounts;
     @Mock private MerkleScheduledTransactions schedules;
@@ -21,15 +21,14 @@ import static com.hedera.services.utils.EntityNum.fromTopicId;
 import com.hedera.services.sigs.metadata.SafeLookupResult;
 import com.hedera.services.sigs.metadata.TopicSigningMetadata;
 import com.hedera.services.state.merkle.MerkleTopic;
-import com.hedera.services.utils.EntityNum;
+import com.hedera.services.state.migration.EntityStorageAdapter;
 import com.hederahashgraph.api.proto.java.TopicID;
-import com.swirlds.merkle.map.MerkleMap;
 import java.util.function.Supplier;
 
 public class DefaultTopicLookup implements TopicSigMetaLookup {
-    private final Supplier<MerkleMap<EntityNum, MerkleTopic>> topics;
+    private final Supplier<EntityStorageAdapter<MerkleTopic>> topics;
 
-    public DefaultTopicLookup(Supplier<MerkleMap<EntityNum, MerkleTopic>> topics) {
+    public DefaultTopicLookup(Supplier<EntityStorageAdapter<MerkleTopic>> topics) {
         this.topics = topics;
     }
 
@@ -330,6 +330,7 @@ import com.hedera.services.sigs.metadata.lookups.TopicSigMetaLookup;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerkleTopic;
 import com.hedera.services.state.migration.AccountStorageAdapter;
+import com.hedera.services.state.migration.EntityStorageAdapter;
 import com.hedera.services.store.schedule.ScheduleStore;
 import com.hedera.services.store.tokens.TokenStore;
 import com.hedera.services.txns.auth.SystemOpPolicies;
@@ -440,7 +441,7 @@ class SigRequirementsTest {
     private TransactionBody txn;
     private SigRequirements subject;
     private MerkleMap<EntityNum, MerkleAccount> accounts;
-    private MerkleMap<EntityNum, MerkleTopic> topics;
+    private EntityStorageAdapter<MerkleTopic> topics;
     private CodeOrderResultFactory summaryFactory = CODE_ORDER_RESULT_FACTORY;
     private SigningOrderResultFactory<ResponseCodeEnum> mockSummaryFactory;
     private EntityNumbers mockEntityNumbers = new MockEntityNumbers();
@@ -78,6 +78,7 @@ class PrecheckVerifierTest {
 
     private PrecheckKeyReqs precheckKeyReqs;
     private PrecheckVerifier subject;
+    private VerifiedSigsCache verifiedSigsCache;
     private SignedTxnAccessor mockAccessor;
     private static AliasManager aliasManager;
 
@@ -102,6 +103,7 @@ class PrecheckVerifierTest {
     @BeforeEach
     void setup() {
         precheckKeyReqs = mock(PrecheckKeyReqs.class);
+        verifiedSigsCache = new VerifiedSigsCache(16);
         mockAccessor = mock(SignedTxnAccessor.class);
         given(mockAccessor.getTxn()).willReturn(realAccessor.getTxn());
         given(mockAccessor.getTxnBytes()).willReturn(realAccessor.getTxnBytes());
@@ -124,6 +126,9 @@ class PrecheckVerifierTest {
         // then:
         assertEquals(expectedSigs, actualSigsVerified.get());
         assertTrue(hasPrechekSigs);
+        for (final var sig : actualSigsVerified.get()) {
+            assertTrue(verifiedSigsCache.tryToResolve(sig));
+        }
     }
 
     @Test
@@ -154,7 +159,7 @@ class PrecheckVerifierTest {
                         });
 
         given(precheckKeyReqs.getRequiredKeys(txnBody)).willReturn(reqKeys);
-        subject = new PrecheckVerifier(ALWAYS_VALID, precheckKeyReqs);
+        subject = new PrecheckVerifier(ALWAYS_VALID, precheckKeyReqs, verifiedSigsCache);
 
         // expect:
         assertThrows(
@@ -209,6 +214,6 @@ class PrecheckVerifierTest {
     }
 
     private void givenImpliedSubject(SyncVerifier syncVerifier) {
-        subject = new PrecheckVerifier(syncVerifier, precheckKeyReqs);
+        subject = new PrecheckVerifier(syncVerifier, precheckKeyReqs, verifiedSigsCache);
     }
 }
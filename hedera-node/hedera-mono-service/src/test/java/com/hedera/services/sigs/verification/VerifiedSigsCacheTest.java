@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.sigs.verification;
+
+import static com.swirlds.common.crypto.VerificationStatus.INVALID;
+import static com.swirlds.common.crypto.VerificationStatus.UNKNOWN;
+import static com.swirlds.common.crypto.VerificationStatus.VALID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+
+import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.sigs.factories.PlatformSigFactory;
+import com.swirlds.common.crypto.TransactionSignature;
+import com.swirlds.common.crypto.VerificationStatus;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class VerifiedSigsCacheTest {
+    private static final byte[] aPk = "01234567890123456789012345678901".getBytes();
+    private static final byte[] bPk = "10234567890123456789012345678901".getBytes();
+    private static final byte[] aSig = new byte[64];
+    private static final byte[] bSig = new byte[64];
+    private static final byte[] aMsg = "Hello".getBytes();
+    private static final byte[] bMsg = "Hellp".getBytes();
+
+    static {
+        bSig[63] = 1;
+    }
+
+    @Mock private NodeLocalProperties nodeLocalProperties;
+
+    private VerifiedSigsCache subject;
+
+    @Test
+    void resolvesOnlyCompletedVerifications() {
+        subject = new VerifiedSigsCache(16);
+        final var valid = withStatus(aPk, aSig, aMsg, VALID);
+        final var invalid = withStatus(bPk, aSig, aMsg, INVALID);
+        final var unknown = withStatus(aPk, bSig, aMsg, UNKNOWN);
+
+        subject.recordAll(List.of(valid, invalid, unknown));
+
+        final var sameAsValid = PlatformSigFactory.ed25519Sig(aPk, aSig, aMsg);
+        final var sameAsInvalid = PlatformSigFactory.ed25519Sig(bPk, aSig, aMsg);
+        final var sameAsUnknown = PlatformSigFactory.ed25519Sig(aPk, bSig, aMsg);
+        assertTrue(subject.tryToResolve(sameAsValid));
+        assertEquals(VALID, sameAsValid.getSignatureStatus());
+        assertTrue(subject.tryToResolve(sameAsInvalid));
+        assertEquals(INVALID, sameAsInvalid.getSignatureStatus());
+        assertFalse(subject.tryToResolve(sameAsUnknown));
+        assertEquals(UNKNOWN, sameAsUnknown.getSignatureStatus());
+        assertEquals(2, subject.cachedVerifications());
+    }
+
+    @Test
+    void keyCoversTypeKeySignatureAndMessage() {
+        final var base = VerifiedSigsCache.keyFor(PlatformSigFactory.ed25519Sig(aPk, aSig, aMsg));
+
+        assertEquals(
+                base, VerifiedSigsCache.keyFor(PlatformSigFactory.ed25519Sig(aPk, aSig, aMsg)));
+        assertNotEquals(
+                base, VerifiedSigsCache.keyFor(PlatformSigFactory.ed25519Sig(bPk, aSig, aMsg)));
+        assertNotEquals(
+                base, VerifiedSigsCache.keyFor(PlatformSigFactory.ed25519Sig(aPk, bSig, aMsg)));
+        assertNotEquals(
+                base, VerifiedSigsCache.keyFor(PlatformSigFactory.ed25519Sig(aPk, aSig, bMsg)));
+        assertNotEquals(
+                base,
+                VerifiedSigsCache.keyFor(PlatformSigFactory.ecdsaSecp256k1Sig(aPk, aSig, aMsg)));
+    }
+
+    @Test
+    void nonPositiveMaxDisablesCache() {
+        given(nodeLocalProperties.sigsMaxCachedVerifications()).willReturn(0);
+        subject = new VerifiedSigsCache(nodeLocalProperties);
+
+        subject.recordAll(List.of(withStatus(aPk, aSig, aMsg, VALID)));
+
+        assertFalse(subject.tryToResolve(PlatformSigFactory.ed25519Sig(aPk, aSig, aMsg)));
+        assertEquals(0, subject.cachedVerifications());
+    }
+
+    private static TransactionSignature withStatus(
+            final byte[] pk, final byte[] sig, final byte[] msg, final VerificationStatus status) {
+        final var answer = PlatformSigFactory.ed25519Sig(pk, sig, msg);
+        answer.setSignatureStatus(status);
+        return answer;
+    }
+}
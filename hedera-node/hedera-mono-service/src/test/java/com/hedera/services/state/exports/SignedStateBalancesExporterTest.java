@@ -44,6 +44,7 @@ import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerkleToken;
 import com.hedera.services.state.merkle.MerkleTokenRelStatus;
 import com.hedera.services.state.migration.AccountStorageAdapter;
+import com.hedera.services.state.migration.EntityStorageAdapter;
 import com.hedera.services.state.migration.TokenRelStorageAdapter;
 import com.hedera.services.stream.proto.AllAccountBalances;
 import com.hedera.services.stream.proto.SingleAccountBalances;
@@ -215,7 +216,7 @@ class SignedStateBalancesExporterTest {
 
         state = mock(ServicesState.class);
         given(state.getAccountFromNodeId(nodeId)).willReturn(thisNode);
-        given(state.tokens()).willReturn(tokens);
+        given(state.tokens()).willReturn(EntityStorageAdapter.fromInMemory(tokens));
         given(state.accounts()).willReturn(AccountStorageAdapter.fromInMemory(accounts));
         given(state.tokenAssociations()).willReturn(tokenRels);
         given(state.addressBook()).willReturn(book);
@@ -148,6 +148,19 @@ class BlockManagerTest {
         assertEquals(anotherTime.getEpochSecond(), values.getTimestamp());
     }
 
+    @Test
+    void reusesBlockValuesForSameGasLimitUntilReset() {
+        given(networkContext.firstConsTimeOfCurrentBlock()).willReturn(aTime);
+        given(networkContext.getAlignmentBlockNo()).willReturn(someBlockNo);
+
+        final var values = subject.computeBlockValues(someTime, gasLimit);
+
+        assertSame(values, subject.computeBlockValues(someTime, gasLimit));
+        assertNotSame(values, subject.computeBlockValues(someTime, gasLimit + 1));
+        subject.reset();
+        assertNotSame(values, subject.computeBlockValues(someTime, gasLimit));
+    }
+
     @Test
     void knowsIfBlockIsSameThenNetworkCtxApplies() {
         given(networkContext.firstConsTimeOfCurrentBlock()).willReturn(aTime);
@@ -15,14 +15,18 @@
  */
 package com.hedera.services.state.logic;
 
+import static com.hedera.services.stats.FunctionalityLatencies.Stage.RECORD_STREAM_HANDOFF;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoTransfer;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import com.hedera.services.context.TransactionContext;
 import com.hedera.services.ledger.HederaLedger;
@@ -31,6 +35,7 @@ import com.hedera.services.ledger.accounts.staking.RewardCalculator;
 import com.hedera.services.records.RecordCache;
 import com.hedera.services.records.RecordsHistorian;
 import com.hedera.services.state.migration.MigrationRecordsManager;
+import com.hedera.services.stats.FunctionalityLatencies;
 import com.hedera.services.utils.accessors.SignedTxnAccessor;
 import com.hedera.test.extensions.LogCaptor;
 import com.hedera.test.extensions.LogCaptureExtension;
@@ -67,6 +72,7 @@ class ServicesTxnManagerTest {
     @Mock private RecordStreaming recordStreaming;
     @Mock private BlockManager blockManager;
     @Mock private RewardCalculator rewardCalculator;
+    @Mock private FunctionalityLatencies functionalityLatencies;
 
     @LoggingTarget private LogCaptor logCaptor;
     @LoggingSubject private ServicesTxnManager subject;
@@ -85,7 +91,8 @@ class ServicesTxnManagerTest {
                         migrationRecordsManager,
                         recordStreaming,
                         blockManager,
-                        rewardCalculator);
+                        rewardCalculator,
+                        functionalityLatencies);
     }
 
     @Test
@@ -101,6 +108,8 @@ class ServicesTxnManagerTest {
                         sigImpactHistorian,
                         migrationRecordsManager);
 
+        given(accessor.getFunction()).willReturn(CryptoTransfer);
+
         // when:
         subject.process(accessor, consensusTime, submittingMember);
 
@@ -113,6 +122,8 @@ class ServicesTxnManagerTest {
         inOrder.verify(processLogic).run();
         inOrder.verify(ledger).commit();
         inOrder.verify(recordStreaming).streamUserTxnRecords();
+        verify(functionalityLatencies)
+                .record(eq(RECORD_STREAM_HANDOFF), eq(CryptoTransfer), anyLong());
     }
 
     @Test
@@ -15,11 +15,16 @@
  */
 package com.hedera.services.state.logic;
 
+import static com.hedera.services.stats.FunctionalityLatencies.Stage.HANDLE;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoTransfer;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenMint;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
@@ -36,6 +41,8 @@ import com.hedera.services.records.ConsensusTimeTracker;
 import com.hedera.services.state.expiry.EntityAutoExpiry;
 import com.hedera.services.state.expiry.ExpiryManager;
 import com.hedera.services.stats.ExecutionTimeTracker;
+import com.hedera.services.stats.FunctionalityLatencies;
+import com.hedera.services.stats.StateAccessProfiler;
 import com.hedera.services.txns.schedule.ScheduleProcessing;
 import com.hedera.services.txns.span.ExpandHandleSpan;
 import com.hedera.services.utils.accessors.PlatformTxnAccessor;
@@ -44,6 +51,7 @@ import com.hedera.test.extensions.LogCaptor;
 import com.hedera.test.extensions.LogCaptureExtension;
 import com.hedera.test.extensions.LoggingSubject;
 import com.hedera.test.extensions.LoggingTarget;
+import com.swirlds.common.system.Round;
 import com.swirlds.common.system.transaction.Transaction;
 import com.swirlds.common.system.transaction.internal.SwirldTransaction;
 import java.time.Instant;
@@ -78,6 +86,9 @@ class StandardProcessLogicTest {
     @Mock private RecordStreaming recordStreaming;
     @Mock private ScheduleProcessing scheduleProcessing;
     @Mock private StateView workingView;
+    @Mock private FunctionalityLatencies functionalityLatencies;
+    @Mock private StateAccessProfiler stateAccessProfiler;
+    @Mock private Round round;
 
     @LoggingTarget private LogCaptor logCaptor;
     @LoggingSubject private StandardProcessLogic subject;
@@ -99,7 +110,17 @@ class StandardProcessLogicTest {
                         scheduleProcessing,
                         executionTimeTracker,
                         recordStreaming,
-                        workingView);
+                        workingView,
+                        functionalityLatencies,
+                        stateAccessProfiler);
+    }
+
+    @Test
+    void summarizesStateAccessAfterEachRound() {
+        subject.incorporateConsensus(round);
+
+        verify(round).forEachEventTransaction(any());
+        verify(stateAccessProfiler).summarizeRound();
     }
 
     @Test
@@ -200,6 +221,8 @@ class StandardProcessLogicTest {
         given(expandHandleSpan.accessorFor(txn)).willReturn(accessor);
         given(invariantChecks.holdFor(accessor, allocatedConsensusTime, member)).willReturn(true);
         given(txnCtx.triggeredTxn()).willReturn(triggeredAccessor);
+        given(accessor.getFunction()).willReturn(CryptoTransfer);
+        given(triggeredAccessor.getFunction()).willReturn(TokenMint);
         given(scheduleProcessing.shouldProcessScheduledTransactions(allocatedConsensusTime))
                 .willReturn(true);
         given(scheduleProcessing.getMaxProcessingLoopIterations()).willReturn(10L);
@@ -209,6 +232,11 @@ class StandardProcessLogicTest {
         verify(expiries).purge(allocatedConsensusTime.getEpochSecond());
         verify(txnManager).process(accessor, allocatedConsensusTime, member);
         verify(txnManager).process(triggeredAccessor, triggeredConsensusNow, member);
+        verify(functionalityLatencies).record(eq(HANDLE), eq(CryptoTransfer), anyLong());
+        verify(functionalityLatencies).record(eq(HANDLE), eq(TokenMint), anyLong());
+        verify(stateAccessProfiler).setActiveFunction(CryptoTransfer);
+        verify(stateAccessProfiler).setActiveFunction(TokenMint);
+        verify(stateAccessProfiler).clearActiveFunction();
         verify(autoRenewal).execute(allocatedConsensusTime);
         verify(consensusTimeTracker).isFirstUsed();
         verify(consensusTimeTracker).firstTransactionTime();
@@ -64,8 +64,11 @@ import com.hedera.test.utils.TxnUtils;
 import com.hederahashgraph.api.proto.java.FreezeTransactionBody;
 import com.swirlds.common.crypto.Hash;
 import com.swirlds.common.exceptions.MutabilityException;
+import com.swirlds.common.io.streams.SerializableDataOutputStream;
 import com.swirlds.fcqueue.FCQueue;
 import com.swirlds.platform.state.DualStateImpl;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
@@ -216,6 +219,30 @@ class MerkleNetworkContextTest {
         assertEquals(newFirstConsTime, subject.firstConsTimeOfCurrentBlock());
     }
 
+    @Test
+    void blockHashLookupsAreSharedWithCopiesAndSurviveRestarts() {
+        final var newFirstConsTime = firstConsTimeOfCurrentBlock.plusSeconds(3);
+        subject.setBlockNo(aBlockNo);
+        final var aHash = ethHashFrom(aFullBlockHash);
+        subject.finishBlock(aHash, newFirstConsTime);
+
+        assertSame(aHash, subject.getBlockHashByNumber(aBlockNo));
+
+        final var subjectCopy = subject.copy();
+        subjectCopy.finishBlock(bEthHash, newFirstConsTime.plusSeconds(2));
+
+        assertSame(aHash, subjectCopy.getBlockHashByNumber(aBlockNo));
+        assertSame(bEthHash, subjectCopy.getBlockHashByNumber(aBlockNo + 1));
+        assertSame(UNAVAILABLE_BLOCK_HASH, subject.getBlockHashByNumber(aBlockNo + 1));
+
+        final var restarted = new MerkleNetworkContext();
+        restarted.setBlockHashes(subjectCopy.getBlockHashes().copy());
+        restarted.setBlockNo(aBlockNo + 2);
+        final var fromQueue = restarted.getBlockHashByNumber(aBlockNo);
+        assertEquals(aEthHash, fromQueue);
+        assertSame(fromQueue, restarted.getBlockHashByNumber(aBlockNo));
+    }
+
     @Test
     void knowsIfUpgradeIsPrepared() {
         assertTrue(subject.hasPreparedUpgrade());
@@ -290,6 +317,21 @@ class MerkleNetworkContextTest {
         assertNotEquals(subject.getHash(), subjectCopy.getHash());
     }
 
+    @Test
+    void immutableCopyReusesItsHashAndSerializedForm() throws IOException {
+        final var mutableHash = subject.getHash();
+        assertNotSame(mutableHash, subject.getHash());
+        final var mutableForm = serializedFormOf(subject);
+
+        subject.copy();
+
+        final var frozenHash = subject.getHash();
+        assertEquals(mutableHash, frozenHash);
+        assertSame(frozenHash, subject.getHash());
+        assertArrayEquals(mutableForm, serializedFormOf(subject));
+        assertArrayEquals(mutableForm, serializedFormOf(subject));
+    }
+
     @Test
     void copyWorksWithSyncedThrottles() {
         // setup:
@@ -432,6 +474,43 @@ class MerkleNetworkContextTest {
         assertThrows(
                 MutabilityException.class,
                 () -> subject.renumberBlocksToMatch(MISSING_BLOCK_VALUES));
+        assertThrows(MutabilityException.class, () -> subject.setPendingRewards(1L));
+        assertThrows(MutabilityException.class, () -> subject.increasePendingRewards(1L));
+        assertThrows(MutabilityException.class, () -> subject.decreasePendingRewards(1L));
+        assertThrows(MutabilityException.class, subject::markMigrationRecordsStreamed);
+        assertThrows(MutabilityException.class, subject::markMigrationRecordsNotYetStreamed);
+        assertThrows(MutabilityException.class, () -> subject.setMigrationRecordsStreamed(true));
+        assertThrows(MutabilityException.class, () -> subject.setMidnightRates(null));
+        assertThrows(MutabilityException.class, () -> subject.setSeqNo(null));
+        assertThrows(MutabilityException.class, () -> subject.setStakingRewardsActivated(true));
+        assertThrows(MutabilityException.class, () -> subject.setEvmCongestionLevelStarts(null));
+        assertThrows(MutabilityException.class, () -> subject.setCongestionLevelStarts(null));
+        assertThrows(MutabilityException.class, () -> subject.setUsageSnapshots(null));
+        assertThrows(MutabilityException.class, () -> subject.setExpiryUsageSnapshot(null));
+        assertThrows(MutabilityException.class, () -> subject.setGasThrottleUsageSnapshot(null));
+        assertThrows(
+                MutabilityException.class, () -> subject.setFirstConsTimeOfCurrentBlock(null));
+        assertThrows(MutabilityException.class, () -> subject.setBlockNo(1L));
+        assertThrows(MutabilityException.class, () -> subject.setBlockHashes(null));
+        assertThrows(MutabilityException.class, () -> subject.setSeqNoPostUpgrade(1L));
+    }
+
+    @Test
+    void frozenHashAndSerializedFormSurviveAttemptedMutationAfterCopy() throws IOException {
+        final var pendingRewards = subject.pendingRewards();
+        subject.copy();
+        final var frozenHash = subject.getHash();
+        final var frozenForm = serializedFormOf(subject);
+
+        assertThrows(
+                MutabilityException.class,
+                () -> subject.setPendingRewards(pendingRewards + 1_000L));
+        assertThrows(MutabilityException.class, () -> subject.setMidnightRates(null));
+        assertThrows(MutabilityException.class, subject::markMigrationRecordsStreamed);
+
+        assertEquals(pendingRewards, subject.pendingRewards());
+        assertSame(frozenHash, subject.getHash());
+        assertArrayEquals(frozenForm, serializedFormOf(subject));
     }
 
     @Test
@@ -1138,4 +1217,13 @@ class MerkleNetworkContextTest {
     private static final Hash bFullBlockHash = new Hash(TxnUtils.randomUtf8Bytes(48));
     private static final org.hyperledger.besu.datatypes.Hash aEthHash = ethHashFrom(aFullBlockHash);
     private static final org.hyperledger.besu.datatypes.Hash bEthHash = ethHashFrom(bFullBlockHash);
+
+    private static byte[] serializedFormOf(final MerkleNetworkContext context)
+            throws IOException {
+        final var baos = new ByteArrayOutputStream();
+        try (final var out = new SerializableDataOutputStream(baos)) {
+            context.serialize(out);
+        }
+        return baos.toByteArray();
+    }
 }
@@ -20,6 +20,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.given;
@@ -116,7 +117,7 @@ class MerkleSpecialFilesTest {
         subject.update(fid, stuff);
         assertTrue(subject.hashMatches(fid, stuffHash), "Updated stuff should have SHA-384 hash");
         subject.update(fid, stuffHash);
-        assertFalse(subject.getHashCache().containsKey(fid));
+        assertFalse(subject.hasCachedView(fid));
     }
 
     @Test
@@ -124,7 +125,30 @@ class MerkleSpecialFilesTest {
         subject.update(fid, stuff);
         assertTrue(subject.hashMatches(fid, stuffHash), "Updated stuff should have SHA-384 hash");
         subject.append(fid, stuffHash);
-        assertFalse(subject.getHashCache().containsKey(fid));
+        assertFalse(subject.hasCachedView(fid));
+    }
+
+    @Test
+    void reusesConcatenatedContentsUntilChangedAndSharesThemWithCopies() {
+        subject.append(fid, Arrays.copyOfRange(stuff, 0, stuff.length / 2));
+        subject.append(fid, Arrays.copyOfRange(stuff, stuff.length / 2, stuff.length));
+
+        final var contents = subject.get(fid);
+        assertArrayEquals(stuff, contents);
+        assertSame(contents, subject.get(fid));
+        assertTrue(subject.hashMatches(fid, stuffHash));
+
+        final var copySub = subject.copy();
+        assertSame(contents, subject.get(fid));
+        assertSame(contents, copySub.get(fid));
+
+        copySub.append(fid, stuffHash);
+        final var appended = copySub.get(fid);
+        assertNotSame(contents, appended);
+        assertEquals(stuff.length + stuffHash.length, appended.length);
+        assertFalse(copySub.hashMatches(fid, stuffHash));
+        assertSame(contents, subject.get(fid));
+        assertTrue(subject.hashMatches(fid, stuffHash));
     }
 
     @Test
@@ -274,6 +274,27 @@ class MerkleStakingInfoTest {
         assertEquals(subject.getHash(), copy.getHash());
     }
 
+    @Test
+    void historyUpdatesDoNotLeakIntoImmutableCopies() {
+        final var copy = subject.copy();
+
+        copy.updateRewardSumHistory(1_000_000, Long.MAX_VALUE, true);
+
+        assertArrayEquals(new long[] {2L, 1L, 0L}, subject.getRewardSumHistory());
+        assertArrayEquals(new long[] {1_000_002L, 2L, 1L}, copy.getRewardSumHistory());
+        copy.clearRewardSumHistory();
+        assertArrayEquals(new long[] {2L, 1L, 0L}, subject.getRewardSumHistory());
+    }
+
+    @Test
+    void shiftsSingleEntryHistoryToZero() {
+        subject.setRewardSumHistory(new long[] {7L});
+
+        subject.updateRewardSumHistory(0, Long.MAX_VALUE, true);
+
+        assertArrayEquals(new long[] {0L}, subject.getRewardSumHistory());
+    }
+
     @Test
     void updatesRewardsSumHistoryWithRateLimiting() {
         final var rewardRate = 1_000_000;
@@ -20,6 +20,7 @@ import static com.hedera.test.factories.fees.CustomFeeBuilder.fractional;
 import static java.util.stream.Collectors.toList;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -162,6 +163,18 @@ class MerkleTokenTest {
         assertTrue(subject.isImmutable());
     }
 
+    @Test
+    void copyConstructorLeavesSourceMutableWithOwnFeeSchedule() {
+        final var copySubject = new MerkleToken(subject);
+
+        assertEquals(subject, copySubject);
+        assertFalse(subject.isImmutable());
+        assertNotSame(subject.customFeeSchedule(), copySubject.customFeeSchedule());
+        assertThrows(
+                UnsupportedOperationException.class,
+                () -> copySubject.customFeeSchedule().add(feeSchedule.get(0)));
+    }
+
     @Test
     void getterWorks() {
         assertEquals(feeSchedule, subject.customFeeSchedule());
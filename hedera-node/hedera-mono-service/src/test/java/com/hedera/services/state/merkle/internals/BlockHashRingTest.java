@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.state.merkle.internals;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.datatypes.Hash;
+import org.junit.jupiter.api.Test;
+
+class BlockHashRingTest {
+    private final BlockHashRing subject = new BlockHashRing(4);
+
+    @Test
+    void rejectsNonPowerOfTwoCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new BlockHashRing(3));
+        assertThrows(IllegalArgumentException.class, () -> new BlockHashRing(0));
+    }
+
+    @Test
+    void returnsHashOnlyForMatchingNumber() {
+        final var aHash = hashOf(1);
+        subject.put(5L, aHash);
+
+        assertSame(aHash, subject.get(5L));
+        assertNull(subject.get(1L));
+        assertNull(subject.get(9L));
+        assertNull(subject.get(6L));
+    }
+
+    @Test
+    void newerBlockEvictsOlderInSameSlot() {
+        final var aHash = hashOf(1);
+        final var bHash = hashOf(2);
+        subject.put(5L, aHash);
+        subject.put(9L, bHash);
+
+        assertNull(subject.get(5L));
+        assertSame(bHash, subject.get(9L));
+    }
+
+    private static Hash hashOf(final int b) {
+        final var bytes = new byte[32];
+        bytes[31] = (byte) b;
+        return Hash.wrap(Bytes32.wrap(bytes));
+    }
+}
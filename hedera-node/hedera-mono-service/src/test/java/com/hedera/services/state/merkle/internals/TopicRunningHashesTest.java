@@ -0,0 +1,167 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.state.merkle.internals;
+
+import static com.hedera.services.legacy.proto.utils.CommonUtils.noThrowSha384HashOf;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.TopicID;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.time.Instant;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class TopicRunningHashesTest {
+    private static final long RUNNING_HASH_VERSION = 3L;
+
+    @Test
+    void matchesObjectOutputStreamLayoutForVariedInputs() throws IOException {
+        final var r = new Random(1_234_567L);
+        for (int i = 0; i < 1_000; i++) {
+            final var previousHash = randomBytes(r, (i % 10 == 0) ? r.nextInt(1, 512) : 48);
+            final var payer = randomPayer(r);
+            final var topicId = randomTopic(r);
+            final var consensusTime = Instant.ofEpochSecond(r.nextInt(), r.nextInt(1_000_000_000));
+            final var sequenceNumber = r.nextLong();
+            final var message = randomBytes(r, r.nextInt(0, 6_000));
+
+            assertArrayEquals(
+                    legacyRunningHash(
+                            previousHash,
+                            payer,
+                            topicId,
+                            consensusTime,
+                            sequenceNumber,
+                            message),
+                    TopicRunningHashes.nextRunningHash(
+                            previousHash,
+                            RUNNING_HASH_VERSION,
+                            payer,
+                            topicId,
+                            consensusTime,
+                            sequenceNumber,
+                            message));
+        }
+    }
+
+    @Test
+    void matchesObjectOutputStreamLayoutForDefaults() throws IOException {
+        final var previousHash = new byte[48];
+        final var payer = AccountID.getDefaultInstance();
+        final var topicId = TopicID.getDefaultInstance();
+        final var message = new byte[0];
+
+        assertArrayEquals(
+                legacyRunningHash(previousHash, payer, topicId, Instant.EPOCH, 1L, message),
+                TopicRunningHashes.nextRunningHash(
+                        previousHash,
+                        RUNNING_HASH_VERSION,
+                        payer,
+                        topicId,
+                        Instant.EPOCH,
+                        1L,
+                        message));
+    }
+
+    @Test
+    void digestsAreConfinedToTheirThreads() {
+        IntStream.range(0, 256)
+                .parallel()
+                .forEach(
+                        i -> {
+                            final var r = new Random(i);
+                            final var previousHash = randomBytes(r, 48);
+                            final var payer = randomPayer(r);
+                            final var topicId = randomTopic(r);
+                            final var consensusTime = Instant.ofEpochSecond(r.nextInt(), i);
+                            final var message = randomBytes(r, r.nextInt(0, 1_024));
+                            try {
+                                assertArrayEquals(
+                                        legacyRunningHash(
+                                                previousHash,
+                                                payer,
+                                                topicId,
+                                                consensusTime,
+                                                i,
+                                                message),
+                                        TopicRunningHashes.nextRunningHash(
+                                                previousHash,
+                                                RUNNING_HASH_VERSION,
+                                                payer,
+                                                topicId,
+                                                consensusTime,
+                                                i,
+                                                message));
+                            } catch (IOException e) {
+                                throw new IllegalStateException(e);
+                            }
+                        });
+    }
+
+    /* The computation MerkleTopic used before TopicRunningHashes, kept as the golden reference */
+    private static byte[] legacyRunningHash(
+            final byte[] previousHash,
+            final AccountID payer,
+            final TopicID topicId,
+            final Instant consensusTime,
+            final long sequenceNumber,
+            final byte[] message)
+            throws IOException {
+        final var boas = new ByteArrayOutputStream();
+        try (var out = new ObjectOutputStream(boas)) {
+            out.writeObject(previousHash);
+            out.writeLong(RUNNING_HASH_VERSION);
+            out.writeLong(payer.getShardNum());
+            out.writeLong(payer.getRealmNum());
+            out.writeLong(payer.getAccountNum());
+            out.writeLong(topicId.getShardNum());
+            out.writeLong(topicId.getRealmNum());
+            out.writeLong(topicId.getTopicNum());
+            out.writeLong(consensusTime.getEpochSecond());
+            out.writeInt(consensusTime.getNano());
+            out.writeLong(sequenceNumber);
+            out.writeObject(noThrowSha384HashOf(message));
+            out.flush();
+            return noThrowSha384HashOf(boas.toByteArray());
+        }
+    }
+
+    private static AccountID randomPayer(final Random r) {
+        return AccountID.newBuilder()
+                .setShardNum(r.nextLong())
+                .setRealmNum(r.nextLong())
+                .setAccountNum(r.nextLong())
+                .build();
+    }
+
+    private static TopicID randomTopic(final Random r) {
+        return TopicID.newBuilder()
+                .setShardNum(r.nextLong())
+                .setRealmNum(r.nextLong())
+                .setTopicNum(r.nextLong())
+                .build();
+    }
+
+    private static byte[] randomBytes(final Random r, final int n) {
+        final var bytes = new byte[n];
+        r.nextBytes(bytes);
+        return bytes;
+    }
+}
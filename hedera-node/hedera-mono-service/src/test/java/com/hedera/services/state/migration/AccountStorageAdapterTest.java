@@ -15,19 +15,25 @@
  */
 package com.hedera.services.state.migration;
 
+import static com.hedera.services.stats.StateAccessProfiler.Store.ACCOUNTS;
 import static com.swirlds.common.threading.manager.AdHocThreadManager.getStaticThreadManager;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerklePayerRecords;
 import com.hedera.services.state.virtual.EntityNumVirtualKey;
 import com.hedera.services.state.virtual.entities.OnDiskAccount;
+import com.hedera.services.stats.StateAccessProfiler;
 import com.hedera.services.utils.EntityNum;
 import com.swirlds.common.crypto.Hash;
 import com.swirlds.common.threading.interrupt.InterruptableConsumer;
@@ -56,6 +62,7 @@ class AccountStorageAdapterTest {
     @Mock private VirtualMap<EntityNumVirtualKey, OnDiskAccount> onDiskAccounts;
     @Mock private BiConsumer<EntityNum, HederaAccount> visitor;
     @Mock private VirtualMapDataAccess virtualMapDataAccess;
+    @Mock private StateAccessProfiler profiler;
 
     private AccountStorageAdapter subject;
 
@@ -75,6 +82,34 @@ class AccountStorageAdapterTest {
         assertNull(subject.getOnDiskAccounts());
     }
 
+    @Test
+    void readsAndWritesAreProfiledIfRequested() {
+        withOnDiskSubject();
+        given(onDiskAccounts.get(SOME_KEY)).willReturn(onDiskStandIn);
+        given(onDiskAccounts.containsKey(SOME_KEY)).willReturn(true);
+
+        subject.profileAccessWith(profiler);
+        assertSame(onDiskStandIn, subject.get(SOME_NUM));
+        assertTrue(subject.containsKey(SOME_NUM));
+        subject.put(SOME_NUM, onDiskStandIn);
+        subject.remove(SOME_NUM);
+
+        verify(profiler, times(2)).recordRead(eq(ACCOUNTS), anyLong());
+        verify(profiler, times(2)).recordWrite(eq(ACCOUNTS), anyLong());
+    }
+
+    @Test
+    void profilingCanBeStopped() {
+        withInMemorySubject();
+        given(inMemoryAccounts.get(SOME_NUM)).willReturn(IN_MEMORY_STAND_IN);
+
+        subject.profileAccessWith(profiler);
+        subject.profileAccessWith(null);
+        assertSame(IN_MEMORY_STAND_IN, subject.get(SOME_NUM));
+
+        verifyNoInteractions(profiler);
+    }
+
     @Test
     void getForModifyIdentifiesOnDisk() {
         withOnDiskSubject();
@@ -174,6 +209,63 @@ class AccountStorageAdapterTest {
         assertSame(SOME_KEY_SET, subject.keySet());
     }
 
+    @Test
+    void coalescesWritesToHotOnDiskAccountsUntilMaterialized() {
+        withOnDiskSubject();
+        subject.coalesceWritesTo(SOME_KEY_SET);
+        onDiskStandIn.setBalanceUnchecked(1L);
+        given(onDiskAccounts.get(SOME_KEY)).willReturn(onDiskStandIn);
+
+        final var pending = (OnDiskAccount) subject.getForModify(SOME_NUM);
+        pending.setBalanceUnchecked(2L);
+        assertSame(pending, subject.getForModify(SOME_NUM));
+        assertSame(pending, subject.get(SOME_NUM));
+        assertEquals(1L, onDiskStandIn.getBalance());
+
+        subject.materializeHotAccountWrites();
+        verify(onDiskAccounts).put(SOME_KEY, pending);
+        verify(onDiskAccounts, never()).getForModify(SOME_KEY);
+    }
+
+    @Test
+    void putAndRemoveDiscardPendingHotAccountWrites() {
+        withOnDiskSubject();
+        subject.coalesceWritesTo(SOME_KEY_SET);
+        given(onDiskAccounts.get(SOME_KEY)).willReturn(onDiskStandIn);
+
+        subject.getForModify(SOME_NUM);
+        subject.put(SOME_NUM, onDiskStandIn);
+        subject.getForModify(SOME_NUM);
+        subject.remove(SOME_NUM);
+        subject.materializeHotAccountWrites();
+
+        verify(onDiskAccounts).put(SOME_KEY, onDiskStandIn);
+        verify(onDiskAccounts).remove(SOME_KEY);
+        verify(onDiskAccounts, times(2)).get(SOME_KEY);
+        verifyNoMoreInteractions(onDiskAccounts);
+    }
+
+    @Test
+    void missingHotAccountIsNotCoalesced() {
+        withOnDiskSubject();
+        subject.coalesceWritesTo(SOME_KEY_SET);
+
+        assertNull(subject.getForModify(SOME_NUM));
+        subject.materializeHotAccountWrites();
+
+        verify(onDiskAccounts, never()).put(any(), any());
+    }
+
+    @Test
+    void inMemoryAccountsIgnoreHotAccountCoalescing() {
+        withInMemorySubject();
+        subject.coalesceWritesTo(SOME_KEY_SET);
+        given(inMemoryAccounts.getForModify(SOME_NUM)).willReturn(IN_MEMORY_STAND_IN);
+
+        assertSame(IN_MEMORY_STAND_IN, subject.getForModify(SOME_NUM));
+        subject.materializeHotAccountWrites();
+    }
+
     @Test
     void onDiskArchivalIsNoop() {
         withOnDiskSubject();
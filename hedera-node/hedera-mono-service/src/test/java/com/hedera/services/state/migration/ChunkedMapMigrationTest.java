@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.state.migration;
+
+import static com.hedera.services.state.migration.ReleaseThirtyMigrationTest.registerForTokenRelsMerkleMap;
+import static com.hedera.services.utils.MiscUtils.forEach;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.hedera.services.state.merkle.MerkleTokenRelStatus;
+import com.hedera.services.state.virtual.EntityNumVirtualKey;
+import com.hedera.services.state.virtual.entities.OnDiskTokenRel;
+import com.hedera.services.utils.EntityNumPair;
+import com.swirlds.common.constructable.ConstructableRegistryException;
+import com.swirlds.merkle.map.MerkleMap;
+import com.swirlds.virtualmap.VirtualMap;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ChunkedMapMigrationTest {
+    @Mock private VirtualMap<EntityNumVirtualKey, OnDiskTokenRel> target;
+    @Mock private VirtualMap<EntityNumVirtualKey, OnDiskTokenRel> targetCopy;
+
+    private final MerkleMap<EntityNumPair, MerkleTokenRelStatus> source = new MerkleMap<>();
+
+    @BeforeEach
+    void setUp() throws ConstructableRegistryException {
+        registerForTokenRelsMerkleMap();
+    }
+
+    @Test
+    void insertsConvertedLeavesInTraversalOrderAcrossChunks() {
+        final var n = ChunkedMapMigration.ENTRIES_PER_CHUNK + 3;
+        for (int i = 0; i < n; i++) {
+            final var rel = new MerkleTokenRelStatus();
+            rel.setBalance(i);
+            source.put(new EntityNumPair(i + 1L), rel);
+        }
+        final List<Long> expectedBalances = new ArrayList<>();
+        forEach(source, (numPair, rel) -> expectedBalances.add(rel.getBalance()));
+        final List<Long> visitedBalances = new ArrayList<>();
+        final List<Long> insertedBalances = new ArrayList<>();
+        given(target.copy()).willReturn(targetCopy);
+        given(targetCopy.copy()).willReturn(targetCopy);
+        willAnswer(
+                        invocation -> {
+                            final EntityNumVirtualKey key = invocation.getArgument(0);
+                            final OnDiskTokenRel rel = invocation.getArgument(1);
+                            assertEquals(key.getKeyAsLong() - 1, rel.getBalance());
+                            insertedBalances.add(rel.getBalance());
+                            return null;
+                        })
+                .given(targetCopy)
+                .put(any(), any());
+
+        final var result =
+                ChunkedMapMigration.migrate(
+                        "test migration",
+                        source,
+                        target,
+                        (numPair, rel) -> visitedBalances.add(rel.getBalance()),
+                        EntityNumVirtualKey::fromPair,
+                        OnDiskTokenRel::from,
+                        1,
+                        4);
+
+        assertSame(targetCopy, result);
+        assertEquals(expectedBalances, visitedBalances);
+        assertEquals(expectedBalances.subList(1, n), insertedBalances);
+        verify(target).put(any(), any());
+        verify(targetCopy, times(n - 1)).copy();
+    }
+
+    @Test
+    void migratesEmptyMapWithoutCopies() {
+        final var result =
+                ChunkedMapMigration.migrate(
+                        "test migration",
+                        source,
+                        target,
+                        (numPair, rel) -> {},
+                        EntityNumVirtualKey::fromPair,
+                        OnDiskTokenRel::from,
+                        1,
+                        4);
+
+        assertSame(target, result);
+        verify(target, never()).put(any(), any());
+        verify(target, never()).copy();
+    }
+}
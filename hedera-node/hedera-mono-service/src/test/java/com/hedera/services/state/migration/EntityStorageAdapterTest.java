@@ -0,0 +1,314 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.state.migration;
+
+import static com.hedera.services.state.virtual.entities.OnDiskEntityType.TOKEN;
+import static com.hedera.services.state.virtual.entities.OnDiskEntityType.TOPIC;
+import static com.swirlds.common.threading.manager.AdHocThreadManager.getStaticThreadManager;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.hedera.services.state.merkle.MerkleToken;
+import com.hedera.services.state.merkle.MerkleTopic;
+import com.hedera.services.state.virtual.EntityNumVirtualKey;
+import com.hedera.services.state.virtual.entities.OnDiskEntity;
+import com.hedera.services.state.virtual.entities.OnDiskEntityType;
+import com.hedera.services.utils.EntityNum;
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.merkle.MerkleLeaf;
+import com.swirlds.common.merkle.utility.Keyed;
+import com.swirlds.common.threading.interrupt.InterruptableConsumer;
+import com.swirlds.merkle.map.MerkleMap;
+import com.swirlds.virtualmap.VirtualMap;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings({"unchecked", "rawtypes"})
+class EntityStorageAdapterTest {
+    private static final EntityNum SOME_NUM = EntityNum.fromInt(1234);
+    private static final Hash SOME_HASH = new Hash();
+    private static final EntityNumVirtualKey SOME_KEY = EntityNumVirtualKey.from(SOME_NUM);
+
+    private final HotEntityCache hotEntities = new HotEntityCache<>(8);
+
+    @Mock private MerkleMap inMemoryEntities;
+    @Mock private VirtualMap onDiskEntities;
+    @Mock private BiConsumer visitor;
+    @Mock private VirtualMapDataAccess virtualMapDataAccess;
+
+    private MerkleLeaf someEntity;
+    private OnDiskEntity onDiskStandIn;
+    private EntityStorageAdapter subject;
+
+    static Stream<Arguments> entityTypes() {
+        return Stream.of(
+                Arguments.of(TOKEN, (Supplier<MerkleToken>) MerkleToken::new),
+                Arguments.of(TOPIC, (Supplier<MerkleTopic>) MerkleTopic::new));
+    }
+
+    @ParameterizedTest
+    @MethodSource("entityTypes")
+    void summariesWorkForInMemory(final OnDiskEntityType type, final Supplier factory) {
+        withInMemorySubject(type, factory);
+        given(inMemoryEntities.getHash()).willReturn(SOME_HASH);
+        given(inMemoryEntities.size()).willReturn(123);
+
+        assertSame(SOME_HASH, subject.getHash());
+        assertEquals(123L, subject.size());
+        assertFalse(subject.areOnDisk());
+        assertSame(inMemoryEntities, subject.getInMemoryEntities());
+        assertNull(subject.getOnDiskEntities());
+    }
+
+    @ParameterizedTest
+    @MethodSource("entityTypes")
+    void summariesWorkForOnDisk(final OnDiskEntityType type, final Supplier factory) {
+        withOnDiskSubject(type, factory);
+        given(onDiskEntities.getHash()).willReturn(SOME_HASH);
+        given(onDiskEntities.size()).willReturn(123L);
+
+        assertSame(SOME_HASH, subject.getHash());
+        assertEquals(123L, subject.size());
+        assertTrue(subject.areOnDisk());
+        assertSame(onDiskEntities, subject.getOnDiskEntities());
+        assertNull(subject.getInMemoryEntities());
+    }
+
+    @ParameterizedTest
+    @MethodSource("entityTypes")
+    void archiveWorksForInMemory(final OnDiskEntityType type, final Supplier factory) {
+        withInMemorySubject(type, factory);
+        subject.archive();
+        verify(inMemoryEntities).archive();
+    }
+
+    @ParameterizedTest
+    @MethodSource("entityTypes")
+    void archiveIsNoopForOnDisk(final OnDiskEntityType type, final Supplier factory) {
+        withOnDiskSubject(type, factory);
+        subject.archive();
+        verifyNoInteractions(onDiskEntities);
+    }
+
+    @ParameterizedTest
+    @MethodSource("entityTypes")
+    void inMemoryAccessDelegates(final OnDiskEntityType type, final Supplier factory) {
+        withInMemorySubject(type, factory);
+        subject.cacheHotEntitiesIn(hotEntities);
+        given(inMemoryEntities.get(SOME_NUM)).willReturn(someEntity);
+        given(inMemoryEntities.getForModify(SOME_NUM)).willReturn(someEntity);
+        given(inMemoryEntities.containsKey(SOME_NUM)).willReturn(true);
+        given(inMemoryEntities.keySet()).willReturn(Set.of(SOME_NUM));
+
+        assertSame(someEntity, subject.get(SOME_NUM));
+        assertSame(someEntity, subject.getForModify(SOME_NUM));
+        assertTrue(subject.containsKey(SOME_NUM));
+        assertEquals(Set.of(SOME_NUM), subject.keySet());
+        subject.put(SOME_NUM, someEntity);
+        subject.remove(SOME_NUM);
+
+        verify(inMemoryEntities).put(SOME_NUM, someEntity);
+        verify(inMemoryEntities).remove(SOME_NUM);
+        assertEquals(0, hotEntities.size());
+    }
+
+    @ParameterizedTest
+    @MethodSource("entityTypes")
+    void getOrDefaultUsesDefaultForMissingEntity(
+            final OnDiskEntityType type, final Supplier factory) {
+        withInMemorySubject(type, factory);
+        assertSame(someEntity, subject.getOrDefault(SOME_NUM, someEntity));
+    }
+
+    @ParameterizedTest
+    @MethodSource("entityTypes")
+    void onDiskGetUnwrapsEntity(final OnDiskEntityType type, final Supplier factory) {
+        withOnDiskSubject(type, factory);
+        given(onDiskEntities.get(SOME_KEY)).willReturn(onDiskStandIn);
+
+        assertSame(someEntity, subject.get(SOME_NUM));
+    }
+
+    @ParameterizedTest
+    @MethodSource("entityTypes")
+    void onDiskGetOfMissingEntityIsNull(final OnDiskEntityType type, final Supplier factory) {
+        withOnDiskSubject(type, factory);
+        subject.cacheHotEntitiesIn(hotEntities);
+
+        assertNull(subject.get(SOME_NUM));
+        assertEquals(0, hotEntities.size());
+    }
+
+    @ParameterizedTest
+    @MethodSource("entityTypes")
+    void onDiskReadsAreServedFromHotCache(final OnDiskEntityType type, final Supplier factory) {
+        withOnDiskSubject(type, factory);
+        subject.cacheHotEntitiesIn(hotEntities);
+        given(onDiskEntities.get(SOME_KEY)).willReturn(onDiskStandIn);
+
+        assertSame(someEntity, subject.get(SOME_NUM));
+        assertSame(someEntity, subject.get(SOME_NUM));
+        assertTrue(subject.containsKey(SOME_NUM));
+
+        verify(onDiskEntities, times(1)).get(SOME_KEY);
+        assertSame(someEntity, hotEntities.get(SOME_NUM));
+    }
+
+    @ParameterizedTest
+    @MethodSource("entityTypes")
+    void onDiskContainsKeyFallsBackToMap(final OnDiskEntityType type, final Supplier factory) {
+        withOnDiskSubject(type, factory);
+        subject.cacheHotEntitiesIn(hotEntities);
+        given(onDiskEntities.containsKey(SOME_KEY)).willReturn(true);
+
+        assertTrue(subject.containsKey(SOME_NUM));
+    }
+
+    @ParameterizedTest
+    @MethodSource("entityTypes")
+    void onDiskWritesInvalidateHotEntries(final OnDiskEntityType type, final Supplier factory) {
+        withOnDiskSubject(type, factory);
+        subject.cacheHotEntitiesIn(hotEntities);
+        final var newEntity = (MerkleLeaf) factory.get();
+
+        hotEntities.put(SOME_NUM, someEntity);
+        subject.put(SOME_NUM, newEntity);
+        assertNull(hotEntities.get(SOME_NUM));
+        assertEquals(SOME_NUM, ((Keyed) newEntity).getKey());
+        verify(onDiskEntities).put(SOME_KEY, new OnDiskEntity(type, newEntity));
+
+        hotEntities.put(SOME_NUM, someEntity);
+        given(onDiskEntities.getForModify(SOME_KEY)).willReturn(onDiskStandIn);
+        assertSame(someEntity, subject.getForModify(SOME_NUM));
+        assertNull(hotEntities.get(SOME_NUM));
+
+        hotEntities.put(SOME_NUM, someEntity);
+        subject.remove(SOME_NUM);
+        assertNull(hotEntities.get(SOME_NUM));
+        verify(onDiskEntities).remove(SOME_KEY);
+    }
+
+    @ParameterizedTest
+    @MethodSource("entityTypes")
+    void missInterleavedWithGetForModifyDoesNotCacheStaleEntity(
+            final OnDiskEntityType type, final Supplier factory) {
+        withOnDiskSubject(type, factory);
+        subject.cacheHotEntitiesIn(hotEntities);
+        final var mutableEntity = (MerkleLeaf) factory.get();
+        final var mutableStandIn = new OnDiskEntity(type, mutableEntity);
+        given(onDiskEntities.getForModify(SOME_KEY)).willReturn(mutableStandIn);
+        // The first (off-thread) read sees the old entity, but the handle thread replaces it
+        // before the reader can fill the cache
+        given(onDiskEntities.get(SOME_KEY))
+                .willAnswer(
+                        invocation -> {
+                            assertSame(mutableEntity, subject.getForModify(SOME_NUM));
+                            return onDiskStandIn;
+                        })
+                .willReturn(mutableStandIn);
+
+        assertSame(someEntity, subject.get(SOME_NUM));
+        assertNull(hotEntities.get(SOME_NUM));
+        assertSame(mutableEntity, subject.get(SOME_NUM));
+        assertSame(mutableEntity, subject.get(SOME_NUM));
+
+        verify(onDiskEntities, times(2)).get(SOME_KEY);
+    }
+
+    @ParameterizedTest
+    @MethodSource("entityTypes")
+    void onDiskGetForModifyOfMissingEntityIsNull(
+            final OnDiskEntityType type, final Supplier factory) {
+        withOnDiskSubject(type, factory);
+        assertNull(subject.getForModify(SOME_NUM));
+    }
+
+    @ParameterizedTest
+    @MethodSource("entityTypes")
+    void inMemForEachDelegates(final OnDiskEntityType type, final Supplier factory) {
+        withInMemorySubject(type, factory);
+        subject.forEach(visitor);
+        verify(inMemoryEntities).forEach(visitor);
+    }
+
+    @ParameterizedTest
+    @MethodSource("entityTypes")
+    void onDiskForEachAndKeySetDelegate(final OnDiskEntityType type, final Supplier factory)
+            throws InterruptedException {
+        final ArgumentCaptor<InterruptableConsumer<Pair<EntityNumVirtualKey, OnDiskEntity>>>
+                captor = ArgumentCaptor.forClass(InterruptableConsumer.class);
+        withOnDiskSubject(type, factory);
+
+        subject.forEach(visitor);
+        verify(virtualMapDataAccess)
+                .extractVirtualMapData(
+                        eq(getStaticThreadManager()), eq(onDiskEntities), captor.capture(), eq(8));
+        captor.getValue().accept(Pair.of(SOME_KEY, onDiskStandIn));
+        verify(visitor).accept(SOME_NUM, someEntity);
+
+        subject.keySet();
+        verify(virtualMapDataAccess, times(2))
+                .extractVirtualMapData(
+                        eq(getStaticThreadManager()), eq(onDiskEntities), captor.capture(), eq(8));
+    }
+
+    @ParameterizedTest
+    @MethodSource("entityTypes")
+    void onDiskPropagatesInterruption(final OnDiskEntityType type, final Supplier factory)
+            throws InterruptedException {
+        withOnDiskSubject(type, factory);
+        willThrow(InterruptedException.class)
+                .given(virtualMapDataAccess)
+                .extractVirtualMapData(
+                        eq(getStaticThreadManager()),
+                        eq(onDiskEntities),
+                        any(InterruptableConsumer.class),
+                        eq(8));
+        assertThrows(IllegalStateException.class, () -> subject.forEach(visitor));
+    }
+
+    private void withInMemorySubject(final OnDiskEntityType type, final Supplier factory) {
+        givenEntitiesOf(type, factory);
+        subject = EntityStorageAdapter.fromInMemory(inMemoryEntities);
+    }
+
+    private void withOnDiskSubject(final OnDiskEntityType type, final Supplier factory) {
+        givenEntitiesOf(type, factory);
+        subject = EntityStorageAdapter.fromOnDisk(type, virtualMapDataAccess, onDiskEntities);
+    }
+
+    private void givenEntitiesOf(final OnDiskEntityType type, final Supplier factory) {
+        someEntity = (MerkleLeaf) factory.get();
+        onDiskStandIn = new OnDiskEntity(type, someEntity);
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.state.migration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.hedera.services.state.virtual.EntityNumVirtualKey;
+import com.hedera.services.state.virtual.entities.OnDiskAccount;
+import com.hedera.services.utils.EntityNum;
+import com.swirlds.virtualmap.VirtualMap;
+import java.util.Set;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class HotAccountWritesTest {
+    private static final EntityNum FUNDING_NUM = EntityNum.fromInt(98);
+    private static final EntityNum NODE_NUM = EntityNum.fromInt(3);
+    private static final EntityNum COLD_NUM = EntityNum.fromInt(1234);
+
+    @Mock private Function<EntityNum, OnDiskAccount> lookup;
+    @Mock private VirtualMap<EntityNumVirtualKey, OnDiskAccount> accounts;
+
+    private HotAccountWrites subject;
+
+    @BeforeEach
+    void setUp() {
+        subject = new HotAccountWrites(Set.of(FUNDING_NUM, NODE_NUM));
+    }
+
+    @Test
+    void knowsWhichAccountsAreHot() {
+        assertTrue(subject.isHot(FUNDING_NUM));
+        assertTrue(subject.isHot(NODE_NUM));
+        assertFalse(subject.isHot(COLD_NUM));
+    }
+
+    @Test
+    void firstModificationDetachesCopyAndLaterOnesReuseIt() {
+        final var current = new OnDiskAccount();
+        current.setBalanceUnchecked(1L);
+        given(lookup.apply(FUNDING_NUM)).willReturn(current);
+
+        final var pending = subject.getForModify(FUNDING_NUM, lookup);
+        pending.setBalanceUnchecked(2L);
+
+        assertNotSame(current, pending);
+        assertEquals(1L, current.getBalance());
+        assertSame(pending, subject.getForModify(FUNDING_NUM, lookup));
+        assertSame(pending, subject.pendingFor(FUNDING_NUM));
+        assertNull(subject.pendingFor(NODE_NUM));
+        verify(lookup).apply(FUNDING_NUM);
+    }
+
+    @Test
+    void missingAccountHasNoPendingVersion() {
+        assertNull(subject.getForModify(NODE_NUM, lookup));
+        assertFalse(subject.hasPending());
+    }
+
+    @Test
+    void forgottenAccountIsNotMaterialized() {
+        given(lookup.apply(NODE_NUM)).willReturn(new OnDiskAccount());
+
+        subject.getForModify(NODE_NUM, lookup);
+        assertTrue(subject.hasPending());
+        subject.forget(NODE_NUM);
+        subject.materializeInto(accounts);
+
+        assertFalse(subject.hasPending());
+        verifyNoInteractions(accounts);
+    }
+
+    @Test
+    void materializesEachPendingAccountOnceAndClears() {
+        given(lookup.apply(FUNDING_NUM)).willReturn(new OnDiskAccount());
+        given(lookup.apply(NODE_NUM)).willReturn(new OnDiskAccount());
+
+        final var fundingPending = subject.getForModify(FUNDING_NUM, lookup);
+        final var nodePending = subject.getForModify(NODE_NUM, lookup);
+        subject.getForModify(FUNDING_NUM, lookup);
+        subject.materializeInto(accounts);
+
+        verify(accounts).put(EntityNumVirtualKey.from(FUNDING_NUM), fundingPending);
+        verify(accounts).put(EntityNumVirtualKey.from(NODE_NUM), nodePending);
+        assertFalse(subject.hasPending());
+        assertNull(subject.pendingFor(FUNDING_NUM));
+    }
+
+    @Test
+    void pendingCopyStaysVisibleUntilMapHoldsIt() {
+        given(lookup.apply(FUNDING_NUM)).willReturn(new OnDiskAccount());
+        final var fundingPending = subject.getForModify(FUNDING_NUM, lookup);
+        willAnswer(
+                        invocation -> {
+                            // A concurrent reader still sees the pending copy during the put
+                            assertSame(fundingPending, subject.pendingFor(FUNDING_NUM));
+                            return null;
+                        })
+                .given(accounts)
+                .put(EntityNumVirtualKey.from(FUNDING_NUM), fundingPending);
+
+        subject.materializeInto(accounts);
+
+        verify(accounts).put(EntityNumVirtualKey.from(FUNDING_NUM), fundingPending);
+        assertNull(subject.pendingFor(FUNDING_NUM));
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.state.migration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.hedera.services.utils.EntityNum;
+import org.junit.jupiter.api.Test;
+
+class HotEntityCacheTest {
+    private static final EntityNum A_NUM = EntityNum.fromLong(1L);
+    private static final EntityNum B_NUM = EntityNum.fromLong(2L);
+    private static final EntityNum C_NUM = EntityNum.fromLong(3L);
+
+    private final HotEntityCache<String> subject = new HotEntityCache<>(2);
+
+    @Test
+    void getsWhatWasPut() {
+        subject.put(A_NUM, "a");
+
+        assertEquals("a", subject.get(A_NUM));
+        assertNull(subject.get(B_NUM));
+        assertEquals(1, subject.size());
+        assertEquals(2, subject.capacity());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedAtCapacity() {
+        subject.put(A_NUM, "a");
+        subject.put(B_NUM, "b");
+        // Touching A makes B the least recently used entry
+        subject.get(A_NUM);
+
+        subject.put(C_NUM, "c");
+
+        assertEquals(2, subject.size());
+        assertEquals("a", subject.get(A_NUM));
+        assertNull(subject.get(B_NUM));
+        assertEquals("c", subject.get(C_NUM));
+    }
+
+    @Test
+    void invalidatesEntries() {
+        subject.put(A_NUM, "a");
+
+        subject.invalidate(A_NUM);
+        subject.invalidate(B_NUM);
+
+        assertNull(subject.get(A_NUM));
+        assertEquals(0, subject.size());
+    }
+
+    @Test
+    void skipsPutIfAnyEntryWasInvalidatedSinceRead() {
+        final var beforeRead = subject.invalidationCount();
+
+        subject.invalidate(A_NUM);
+
+        assertFalse(subject.putUnlessInvalidatedSince(A_NUM, "stale", beforeRead));
+        assertNull(subject.get(A_NUM));
+        assertTrue(subject.putUnlessInvalidatedSince(A_NUM, "fresh", subject.invalidationCount()));
+        assertEquals("fresh", subject.get(A_NUM));
+    }
+}
@@ -19,8 +19,11 @@ import static com.hedera.services.state.migration.ReleaseThirtyMigrationTest.reg
 import static com.hedera.services.state.migration.ReleaseThirtyMigrationTest.registerForTokenRelsMerkleMap;
 import static com.hedera.services.state.migration.StateChildIndices.ACCOUNTS;
 import static com.hedera.services.state.migration.StateChildIndices.TOKEN_ASSOCIATIONS;
+import static com.hedera.services.state.virtual.entities.OnDiskEntityType.TOKEN;
+import static com.hedera.services.state.virtual.entities.OnDiskEntityType.TOPIC;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentCaptor.forClass;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.times;
@@ -32,7 +35,10 @@ import com.hedera.services.state.submerkle.ExpirableTxnRecord;
 import com.hedera.services.state.virtual.EntityNumVirtualKey;
 import com.hedera.services.state.virtual.VirtualMapFactory;
 import com.hedera.services.state.virtual.entities.OnDiskAccount;
+import com.hedera.services.state.virtual.entities.OnDiskEntity;
 import com.hedera.services.state.virtual.entities.OnDiskTokenRel;
+import com.hedera.services.state.virtual.records.PayerRecordKey;
+import com.hedera.services.state.virtual.records.PayerRecordValue;
 import com.hedera.services.utils.EntityNum;
 import com.hedera.services.utils.EntityNumPair;
 import com.hedera.test.utils.SeededPropertySource;
@@ -61,6 +67,9 @@ class MapMigrationToDiskTest {
     @Mock private VirtualMapFactory virtualMapFactory;
     @Mock private VirtualMap<EntityNumVirtualKey, OnDiskAccount> accountStore;
     @Mock private VirtualMap<EntityNumVirtualKey, OnDiskTokenRel> tokenRelStore;
+    @Mock private VirtualMap<PayerRecordKey, PayerRecordValue> payerRecordStore;
+    @Mock private VirtualMap<EntityNumVirtualKey, OnDiskEntity<MerkleToken>> tokenStore;
+    @Mock private VirtualMap<EntityNumVirtualKey, OnDiskEntity<MerkleTopic>> topicStore;
     @Mock private Function<MerkleAccountState, OnDiskAccount> accountMigrator;
     @Mock private Function<MerkleTokenRelStatus, OnDiskTokenRel> tokenRelMigrator;
 
@@ -145,6 +154,83 @@ class MapMigrationToDiskTest {
         verify(tokenRelStore, times(2)).copy();
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void migratesPayerRecordsAsExpected() {
+        final var recordsOnly = new ToDiskMigrations(false, false, true);
+        final var aRecords = new MerklePayerRecords();
+        final var bRecords = new MerklePayerRecords();
+        twoRecords().forEach(bRecords::offer);
+        final MerkleMap<EntityNum, MerklePayerRecords> livePayerRecords = new MerkleMap<>();
+        livePayerRecords.put(aNum, aRecords);
+        livePayerRecords.put(bNum, bRecords);
+
+        final ArgumentCaptor<MerkleMap<EntityNum, MerklePayerRecords>> captor =
+                forClass(MerkleMap.class);
+
+        given(virtualMapFactory.newOnDiskPayerRecords()).willReturn(payerRecordStore);
+        given(payerRecordStore.copy()).willReturn(payerRecordStore);
+        given(mutableState.getChild(StateChildIndices.PAYER_RECORDS)).willReturn(livePayerRecords);
+
+        MapMigrationToDisk.migrateToDiskAsApropos(
+                1, mutableState, recordsOnly, virtualMapFactory, accountMigrator, tokenRelMigrator);
+
+        verify(mutableState).setChild(eq(StateChildIndices.PAYER_RECORDS), captor.capture());
+        verify(mutableState).setChild(StateChildIndices.ON_DISK_PAYER_RECORDS, payerRecordStore);
+        final var onDiskPayers = captor.getValue();
+        assertTrue(onDiskPayers.containsKey(aNum));
+        assertTrue(onDiskPayers.containsKey(bNum));
+        assertTrue(onDiskPayers.get(bNum).readOnlyQueue().isEmpty());
+        // and:
+        for (final var payerRecord : bRecords.readOnlyQueue()) {
+            verify(payerRecordStore)
+                    .put(eq(PayerRecordKey.from(bNum, payerRecord.getConsensusTime())), any());
+        }
+        // and:
+        verify(payerRecordStore, times(2)).copy();
+    }
+
+    @Test
+    void migratesTokensAndTopicsAsExpected() {
+        final var tokensAndTopics = new ToDiskMigrations(false, false, false, true, true);
+        final var aToken = source.nextToken();
+        final var bToken = source.nextToken();
+        final MerkleMap<EntityNum, MerkleToken> liveTokens = new MerkleMap<>();
+        liveTokens.put(aNum, aToken);
+        liveTokens.put(bNum, bToken);
+        final var aTopic = source.nextTopic();
+        final var bTopic = source.nextTopic();
+        final MerkleMap<EntityNum, MerkleTopic> liveTopics = new MerkleMap<>();
+        liveTopics.put(aNum, aTopic);
+        liveTopics.put(bNum, bTopic);
+
+        given(virtualMapFactory.newOnDiskTokens()).willReturn(tokenStore);
+        given(tokenStore.copy()).willReturn(tokenStore);
+        given(mutableState.getChild(StateChildIndices.TOKENS)).willReturn(liveTokens);
+        given(virtualMapFactory.newOnDiskTopics()).willReturn(topicStore);
+        given(topicStore.copy()).willReturn(topicStore);
+        given(mutableState.getChild(StateChildIndices.TOPICS)).willReturn(liveTopics);
+
+        MapMigrationToDisk.migrateToDiskAsApropos(
+                1,
+                mutableState,
+                tokensAndTopics,
+                virtualMapFactory,
+                accountMigrator,
+                tokenRelMigrator);
+
+        verify(mutableState).setChild(StateChildIndices.TOKENS, tokenStore);
+        verify(mutableState).setChild(StateChildIndices.TOPICS, topicStore);
+        // and:
+        verify(tokenStore).put(EntityNumVirtualKey.from(aNum), OnDiskEntity.from(TOKEN, aToken));
+        verify(tokenStore).put(EntityNumVirtualKey.from(bNum), OnDiskEntity.from(TOKEN, bToken));
+        verify(topicStore).put(EntityNumVirtualKey.from(aNum), OnDiskEntity.from(TOPIC, aTopic));
+        verify(topicStore).put(EntityNumVirtualKey.from(bNum), OnDiskEntity.from(TOPIC, bTopic));
+        // and:
+        verify(tokenStore, times(2)).copy();
+        verify(topicStore, times(2)).copy();
+    }
+
     private MerkleAccount nextAccount(final boolean withRecords) {
         return withRecords
                 ? new MerkleAccount(List.of(source.nextAccountState(), twoRecords()))
@@ -16,21 +16,34 @@
 package com.hedera.services.state.migration;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerklePayerRecords;
 import com.hedera.services.state.submerkle.ExpirableTxnRecord;
+import com.hedera.services.state.submerkle.RichInstant;
+import com.hedera.services.state.virtual.VirtualMapFactory;
+import com.hedera.services.state.virtual.records.PayerRecordKey;
+import com.hedera.services.state.virtual.records.PayerRecordValue;
 import com.hedera.services.utils.EntityNum;
 import com.hedera.test.utils.SeededPropertySource;
 import com.swirlds.fcqueue.FCQueue;
+import com.swirlds.jasperdb.JasperDbBuilder;
 import com.swirlds.merkle.map.MerkleMap;
+import com.swirlds.virtualmap.VirtualMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import javax.annotation.Nullable;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -46,7 +59,10 @@ class RecordsStorageAdapterTest {
     @Mock private @Nullable MerkleMap<EntityNum, MerklePayerRecords> payerRecords;
     @Mock private MerkleAccount account;
     @Mock private MerklePayerRecords accountRecords;
-    @Mock private BiConsumer<EntityNum, FCQueue<ExpirableTxnRecord>> observer;
+    @Mock private BiConsumer<EntityNum, Iterable<ExpirableTxnRecord>> observer;
+    @Mock private Consumer<ExpirableTxnRecord> purgeObserver;
+
+    private VirtualMap<PayerRecordKey, PayerRecordValue> onDiskRecords;
 
     private RecordsStorageAdapter subject;
 
@@ -90,23 +106,29 @@ class RecordsStorageAdapterTest {
     }
 
     @Test
-    void gettingMutableWithDedicatedPayerWorks() {
+    void purgingWithDedicatedPayerPollsMutableQueue() {
         withDedicatedSubject();
         final FCQueue<ExpirableTxnRecord> records = new FCQueue<>();
+        recordsExpiringAt(1L, 2L).forEach(records::offer);
         given(payerRecords.getForModify(SOME_NUM)).willReturn(accountRecords);
         given(accountRecords.mutableQueue()).willReturn(records);
 
-        assertSame(records, subject.getMutablePayerRecords(SOME_NUM));
+        subject.purgeExpiredRecords(SOME_NUM, 1L, purgeObserver);
+
+        assertEquals(1, records.size());
     }
 
     @Test
-    void gettingMutableWithLegacyPayerWorks() {
+    void purgingWithLegacyPayerPollsMutableQueue() {
         withLegacySubject();
         final FCQueue<ExpirableTxnRecord> records = new FCQueue<>();
+        recordsExpiringAt(1L, 2L).forEach(records::offer);
         given(accounts.getForModify(SOME_NUM)).willReturn(account);
         given(account.records()).willReturn(records);
 
-        assertSame(records, subject.getMutablePayerRecords(SOME_NUM));
+        subject.purgeExpiredRecords(SOME_NUM, 1L, purgeObserver);
+
+        assertEquals(1, records.size());
     }
 
     @Test
@@ -183,6 +205,192 @@ class RecordsStorageAdapterTest {
         verify(observer).accept(eq(SOME_NUM), any());
     }
 
+    @Test
+    void purgingWithDedicatedPayerStopsAtFirstUnexpired() {
+        payerRecords = new MerkleMap<>();
+        withDedicatedSubject();
+        subject.prepForPayer(SOME_NUM);
+        final var records = recordsExpiringAt(1L, 2L, 3L);
+        records.forEach(payerRecord -> subject.addPayerRecord(SOME_NUM, payerRecord));
+
+        subject.purgeExpiredRecords(SOME_NUM, 2L, purgeObserver);
+
+        verify(purgeObserver).accept(records.get(0));
+        verify(purgeObserver).accept(records.get(1));
+        verify(purgeObserver, never()).accept(records.get(2));
+        assertEquals(1, subject.getReadOnlyPayerRecords(SOME_NUM).expectedSize());
+    }
+
+    @Test
+    void addingFirstOnDiskRecordMarksPayerEvenWithoutPrep() {
+        withOnDiskSubject();
+        final var records = recordsExpiringAt(1L, 2L);
+        records.forEach(payerRecord -> subject.addPayerRecord(SOME_NUM, payerRecord));
+        final List<ExpirableTxnRecord> reviewed = new ArrayList<>();
+
+        subject.doForEach((num, numRecords) -> numRecords.forEach(reviewed::add));
+
+        assertTrue(payerRecords.containsKey(SOME_NUM));
+        assertEquals(records, reviewed);
+    }
+
+    @Test
+    void onDiskReadOnlyRecordsSurviveExpiryDuringIteration() {
+        withOnDiskSubject();
+        subject.prepForPayer(SOME_NUM);
+        final var records = recordsExpiringAt(1L, 2L, 3L);
+        records.forEach(payerRecord -> subject.addPayerRecord(SOME_NUM, payerRecord));
+
+        final var iterator = subject.getReadOnlyPayerRecords(SOME_NUM).iterator();
+        assertEquals(records.get(0), iterator.next());
+        subject.purgeExpiredRecords(SOME_NUM, 2L, purgeObserver);
+
+        assertEquals(records.get(1), iterator.next());
+        assertEquals(records.get(2), iterator.next());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    void onDiskRecordsAreLinkedInConsensusOrder() {
+        withOnDiskSubject();
+        subject.prepForPayer(SOME_NUM);
+        final var records = recordsExpiringAt(1L, 2L, 3L);
+        records.forEach(payerRecord -> subject.addPayerRecord(SOME_NUM, payerRecord));
+
+        final var head = onDiskRecords.get(PayerRecordKey.headOf(SOME_NUM));
+        assertEquals(3, head.numRecords());
+        assertEquals(records.get(0).getConsensusTime(), head.prev());
+        assertEquals(records.get(2).getConsensusTime(), head.next());
+        final var middle =
+                onDiskRecords.get(
+                        PayerRecordKey.from(SOME_NUM, records.get(1).getConsensusTime()));
+        assertEquals(records.get(0).getConsensusTime(), middle.prev());
+        assertEquals(records.get(2).getConsensusTime(), middle.next());
+
+        final var queryable = subject.getReadOnlyPayerRecords(SOME_NUM);
+        assertEquals(3, queryable.expectedSize());
+        assertEquals(records, listFrom(queryable));
+        assertSame(
+                QueryableRecords.NO_QUERYABLE_RECORDS,
+                subject.getReadOnlyPayerRecords(SOME_MISSING_NUM));
+    }
+
+    @Test
+    void onDiskMostRecentRecordsOnlyIncludesRequested() {
+        withOnDiskSubject();
+        subject.prepForPayer(SOME_NUM);
+        final var records = recordsExpiringAt(1L, 2L, 3L);
+        records.forEach(payerRecord -> subject.addPayerRecord(SOME_NUM, payerRecord));
+
+        final var mostRecent = subject.getMostRecentPayerRecords(SOME_NUM, 2);
+
+        assertEquals(2, mostRecent.expectedSize());
+        assertEquals(records.subList(1, 3), listFrom(mostRecent));
+        assertSame(
+                QueryableRecords.NO_QUERYABLE_RECORDS,
+                subject.getMostRecentPayerRecords(SOME_MISSING_NUM, 2));
+        assertSame(
+                QueryableRecords.NO_QUERYABLE_RECORDS,
+                subject.getMostRecentPayerRecords(SOME_NUM, 0));
+    }
+
+    @Test
+    void mostRecentRecordsDelegatesToReadOnlyIfNotOnDisk() {
+        withDedicatedSubject();
+        given(payerRecords.get(SOME_NUM)).willReturn(accountRecords);
+        final var queryable = QueryableRecords.NO_QUERYABLE_RECORDS;
+        given(accountRecords.asQueryableRecords()).willReturn(queryable);
+
+        assertSame(queryable, subject.getMostRecentPayerRecords(SOME_NUM, 1));
+    }
+
+    @Test
+    void purgingOnDiskUnlinksExpiredRecords() {
+        withOnDiskSubject();
+        subject.prepForPayer(SOME_NUM);
+        final var records = recordsExpiringAt(1L, 2L, 3L);
+        records.forEach(payerRecord -> subject.addPayerRecord(SOME_NUM, payerRecord));
+
+        subject.purgeExpiredRecords(SOME_NUM, 2L, purgeObserver);
+
+        verify(purgeObserver).accept(records.get(0));
+        verify(purgeObserver).accept(records.get(1));
+        verify(purgeObserver, never()).accept(records.get(2));
+        final var head = onDiskRecords.get(PayerRecordKey.headOf(SOME_NUM));
+        assertEquals(1, head.numRecords());
+        assertEquals(records.get(2).getConsensusTime(), head.prev());
+        assertNull(
+                onDiskRecords.get(
+                        PayerRecordKey.from(SOME_NUM, records.get(0).getConsensusTime())));
+
+        subject.purgeExpiredRecords(SOME_NUM, 3L, purgeObserver);
+        verify(purgeObserver).accept(records.get(2));
+        final var emptyHead = onDiskRecords.get(PayerRecordKey.headOf(SOME_NUM));
+        assertEquals(0, emptyHead.numRecords());
+        assertEquals(RichInstant.MISSING_INSTANT, emptyHead.prev());
+        assertFalse(subject.getReadOnlyPayerRecords(SOME_NUM).iterator().hasNext());
+    }
+
+    @Test
+    void purgingOnDiskWithoutRecordsIsNoop() {
+        withOnDiskSubject();
+        subject.prepForPayer(SOME_NUM);
+
+        subject.purgeExpiredRecords(SOME_NUM, 2L, purgeObserver);
+
+        verifyNoInteractions(purgeObserver);
+    }
+
+    @Test
+    void forgettingOnDiskPayerRemovesAllItsRecords() {
+        withOnDiskSubject();
+        subject.prepForPayer(SOME_NUM);
+        final var records = recordsExpiringAt(1L, 2L);
+        records.forEach(payerRecord -> subject.addPayerRecord(SOME_NUM, payerRecord));
+
+        subject.forgetPayer(SOME_NUM);
+        subject.forgetPayer(SOME_MISSING_NUM);
+
+        assertFalse(payerRecords.containsKey(SOME_NUM));
+        assertEquals(0, onDiskRecords.size());
+    }
+
+    @Test
+    void canReviewOnDiskRecords() {
+        withOnDiskSubject();
+        subject.prepForPayer(SOME_NUM);
+        subject.prepForPayer(SOME_MISSING_NUM);
+        final var records = recordsExpiringAt(1L, 2L);
+        records.forEach(payerRecord -> subject.addPayerRecord(SOME_NUM, payerRecord));
+        final List<ExpirableTxnRecord> reviewed = new ArrayList<>();
+
+        subject.doForEach((num, numRecords) -> numRecords.forEach(reviewed::add));
+
+        assertEquals(records, reviewed);
+    }
+
+    private List<ExpirableTxnRecord> recordsExpiringAt(final long... expiries) {
+        final List<ExpirableTxnRecord> records = new ArrayList<>();
+        for (int i = 0; i < expiries.length; i++) {
+            final var aRecord = SeededPropertySource.forSerdeTest(11, i).nextRecord();
+            aRecord.setExpiry(expiries[i]);
+            records.add(aRecord);
+        }
+        return records;
+    }
+
+    private List<ExpirableTxnRecord> listFrom(final QueryableRecords queryable) {
+        final List<ExpirableTxnRecord> records = new ArrayList<>();
+        queryable.iterator().forEachRemaining(records::add);
+        return records;
+    }
+
+    private void withOnDiskSubject() {
+        payerRecords = new MerkleMap<>();
+        onDiskRecords = new VirtualMapFactory(JasperDbBuilder::new).newOnDiskPayerRecords();
+        subject = RecordsStorageAdapter.fromOnDisk(payerRecords, onDiskRecords);
+    }
+
     private void withLegacySubject() {
         subject = RecordsStorageAdapter.fromLegacy(accounts);
     }
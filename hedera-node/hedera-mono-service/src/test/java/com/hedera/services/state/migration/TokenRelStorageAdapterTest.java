@@ -15,14 +15,19 @@
  */
 package com.hedera.services.state.migration;
 
+import static com.hedera.services.stats.StateAccessProfiler.Store.TOKEN_RELS;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
 import com.hedera.services.state.merkle.MerkleTokenRelStatus;
 import com.hedera.services.state.virtual.EntityNumVirtualKey;
 import com.hedera.services.state.virtual.entities.OnDiskTokenRel;
+import com.hedera.services.stats.StateAccessProfiler;
 import com.hedera.services.utils.EntityNumPair;
 import com.swirlds.common.crypto.Hash;
 import com.swirlds.merkle.map.MerkleMap;
@@ -38,6 +43,7 @@ class TokenRelStorageAdapterTest {
     @Mock private VirtualMap<EntityNumVirtualKey, OnDiskTokenRel> onDiskRels;
     @Mock private MerkleTokenRelStatus inMemoryRel;
     @Mock private OnDiskTokenRel onDiskRel;
+    @Mock private StateAccessProfiler profiler;
 
     private static final Hash SOME_HASH = new Hash();
     private static final EntityNumPair SOME_PAIR = new EntityNumPair(666_666L);
@@ -63,6 +69,20 @@ class TokenRelStorageAdapterTest {
         assertSame(inMemoryRels, subject.getInMemoryRels());
     }
 
+    @Test
+    void readsAndWritesAreProfiledIfRequested() {
+        withInMemorySubject();
+        given(inMemoryRels.getForModify(SOME_PAIR)).willReturn(inMemoryRel);
+
+        subject.profileAccessWith(profiler);
+        assertSame(inMemoryRel, subject.getForModify(SOME_PAIR));
+        subject.put(SOME_PAIR, inMemoryRel);
+        subject.remove(SOME_PAIR);
+
+        verify(profiler).recordRead(eq(TOKEN_RELS), anyLong());
+        verify(profiler, times(2)).recordWrite(eq(TOKEN_RELS), anyLong());
+    }
+
     @Test
     void archiveWorksForOnDisk() {
         withOnDiskSubject();
@@ -16,7 +16,10 @@
 package com.hedera.services.state.migration;
 
 import static com.google.common.truth.Truth.assertThat;
+import static com.hedera.services.stats.StateAccessProfiler.Store.NFTS;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -25,6 +28,7 @@ import static org.mockito.Mockito.when;
 import com.hedera.services.state.merkle.MerkleUniqueToken;
 import com.hedera.services.state.virtual.UniqueTokenKey;
 import com.hedera.services.state.virtual.UniqueTokenValue;
+import com.hedera.services.stats.StateAccessProfiler;
 import com.hedera.services.store.models.NftId;
 import com.hedera.services.utils.EntityNumPair;
 import com.swirlds.common.crypto.Hash;
@@ -45,6 +49,7 @@ class UniqueTokenMapAdapterTest {
 
     @Mock public MerkleMap<EntityNumPair, MerkleUniqueToken> merkleMap;
     @Mock public VirtualMap<UniqueTokenKey, UniqueTokenValue> virtualMap;
+    @Mock private StateAccessProfiler profiler;
 
     @BeforeEach
     void setUp() {
@@ -52,6 +57,18 @@ class UniqueTokenMapAdapterTest {
         virtualMapAdapter = UniqueTokenMapAdapter.wrap(virtualMap);
     }
 
+    @Test
+    void readsAndWritesAreProfiledIfRequested() {
+        final var nftId = NftId.withDefaultShardRealm(3, 4);
+
+        virtualMapAdapter.profileAccessWith(profiler);
+        assertThat(virtualMapAdapter.containsKey(nftId)).isFalse();
+        virtualMapAdapter.remove(nftId);
+
+        verify(profiler).recordRead(eq(NFTS), anyLong());
+        verify(profiler).recordWrite(eq(NFTS), anyLong());
+    }
+
     @Test
     void testIsVirtual() {
         assertThat(merkleMapAdapter.isVirtual()).isFalse();
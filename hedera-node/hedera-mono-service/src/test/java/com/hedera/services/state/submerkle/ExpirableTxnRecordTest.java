@@ -25,7 +25,9 @@ import static com.hedera.test.utils.TxnUtils.withAdjustments;
 import static com.hedera.test.utils.TxnUtils.withNftAdjustments;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.mock;
@@ -261,6 +263,53 @@ class ExpirableTxnRecordTest {
         assertEquals(List.of(expected, expected), multiple);
     }
 
+    @Test
+    void asGrpcIsBuiltOnceUntilAnExternalizedFieldChanges() {
+        subject = subjectRecordWithTokenTransfersScheduleRefCustomFeesAndTokenAssociations();
+        subject.setPseudoRandomNumber(10);
+
+        final var firstGrpc = subject.asGrpc();
+        assertSame(firstGrpc, subject.asGrpc());
+        assertSame(firstGrpc.getReceipt(), subject.getReceipt().toGrpc());
+
+        subject.setExpiry(1_234_567L);
+        subject.setSubmittingMember(2L);
+        assertSame(firstGrpc, subject.asGrpc());
+
+        subject.setPseudoRandomNumber(11);
+        final var secondGrpc = subject.asGrpc();
+        assertNotSame(firstGrpc, secondGrpc);
+        assertEquals(11, secondGrpc.getPrngNumber());
+
+        subject.setPackedParentConsensusTime(MISSING_PARENT_CONSENSUS_TIMESTAMP);
+        assertFalse(subject.asGrpc().hasParentConsensusTimestamp());
+        subject.setEthereumHash(new byte[] {1, 2, 3});
+        assertEquals(ByteString.copyFrom(new byte[] {1, 2, 3}), subject.asGrpc().getEthereumHash());
+        subject.setPseudoRandomNumber(-1);
+        subject.setPseudoRandomBytes(pseudoRandomBytes);
+        assertEquals(
+                ByteStringUtils.wrapUnsafely(pseudoRandomBytes), subject.asGrpc().getPrngBytes());
+    }
+
+    @Test
+    void clearingPrngDataOrStakingRewardsRebuildsGrpc() {
+        subject = subjectRecordWithTokenTransfersScheduleRefCustomFeesAndTokenAssociations();
+        subject.setPseudoRandomNumber(10);
+        final var withPrng = subject.asGrpc();
+        assertEquals(10, withPrng.getPrngNumber());
+        assertTrue(withPrng.getPaidStakingRewardsCount() > 0);
+
+        subject.clearPrngData();
+        final var withoutPrng = subject.asGrpc();
+        assertNotSame(withPrng, withoutPrng);
+        assertEquals(0, withoutPrng.getPrngNumber());
+
+        subject.clearStakingRewardsPaid();
+        final var withoutRewards = subject.asGrpc();
+        assertNotSame(withoutPrng, withoutRewards);
+        assertEquals(0, withoutRewards.getPaidStakingRewardsCount());
+    }
+
     @Test
     void asGrpcWithBothPseudoRandomNumbersSetWorks() {
         final var expected =
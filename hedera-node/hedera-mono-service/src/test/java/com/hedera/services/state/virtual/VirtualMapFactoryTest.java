@@ -19,6 +19,10 @@ import static com.google.common.truth.Truth.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.hedera.services.state.submerkle.RichInstant;
+import com.hedera.services.state.virtual.records.PayerRecordKey;
+import com.hedera.services.state.virtual.records.PayerRecordValue;
+import com.hedera.services.utils.EntityNum;
+import com.hedera.test.utils.SeededPropertySource;
 import com.swirlds.jasperdb.JasperDbBuilder;
 import com.swirlds.virtualmap.VirtualKey;
 import com.swirlds.virtualmap.VirtualValue;
@@ -45,6 +49,25 @@ class VirtualMapFactoryTest {
         assertThrows(UncheckedIOException.class, () -> subject.newScheduleTemporalStorage());
         assertThrows(UncheckedIOException.class, () -> subject.newScheduleEqualityStorage());
         assertThrows(UncheckedIOException.class, () -> subject.newOnDiskAccountStorage());
+        assertThrows(UncheckedIOException.class, () -> subject.newOnDiskPayerRecords());
+    }
+
+    @Test
+    void onDiskPayerRecords_whenEmpty_canProperlyInsertAndFetchValues() {
+        VirtualMapFactory subject = new VirtualMapFactory(JasperDbBuilder::new);
+
+        var map = subject.newOnDiskPayerRecords();
+        assertThat(map.isEmpty()).isTrue();
+
+        final var payerNum = EntityNum.fromLong(1234L);
+        final var aRecord = SeededPropertySource.forSerdeTest(11, 1).nextRecord();
+        final var key = PayerRecordKey.from(payerNum, aRecord.getConsensusTime());
+        map.put(key, new PayerRecordValue(aRecord));
+
+        assertThat(map.get(PayerRecordKey.headOf(payerNum))).isNull();
+        var value = map.get(key);
+        assertThat(value).isNotNull();
+        assertThat(value.payerRecord()).isEqualTo(aRecord);
     }
 
     @Test
@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.state.virtual.entities;
+
+import static com.hedera.services.state.virtual.entities.OnDiskEntityType.TOKEN;
+import static com.hedera.services.state.virtual.entities.OnDiskEntityType.TOPIC;
+import static com.hedera.test.utils.SerdeUtils.deserializeFromBytes;
+import static com.hedera.test.utils.SerdeUtils.serialize;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.hedera.services.state.merkle.MerkleToken;
+import com.hedera.services.state.merkle.MerkleTopic;
+import java.util.stream.Stream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class OnDiskEntitySupplierTest {
+    static Stream<Arguments> entityTypes() {
+        return Stream.of(
+                Arguments.of(TOKEN, MerkleToken.class), Arguments.of(TOPIC, MerkleTopic.class));
+    }
+
+    @ParameterizedTest
+    @MethodSource("entityTypes")
+    void suppliesEmptyEntitiesOfItsType(
+            final OnDiskEntityType<?> type, final Class<?> entityClass) {
+        final var subject = new OnDiskEntitySupplier<>(type);
+
+        final var supplied = subject.get();
+
+        assertSame(type, supplied.getType());
+        assertInstanceOf(entityClass, supplied.getEntity());
+        assertEquals(0x6a1d3f08c2e94b57L, subject.getClassId());
+        assertEquals(1, subject.getVersion());
+    }
+
+    @ParameterizedTest
+    @MethodSource("entityTypes")
+    void typeSurvivesSerdes(final OnDiskEntityType<?> type, final Class<?> entityClass) {
+        final var subject = new OnDiskEntitySupplier<>(type);
+
+        final var reconstruction =
+                deserializeFromBytes(
+                        OnDiskEntitySupplier::new, subject.getVersion(), serialize(subject));
+
+        assertSame(type, reconstruction.get().getType());
+        assertInstanceOf(entityClass, reconstruction.get().getEntity());
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.state.virtual.entities;
+
+import static com.hedera.services.state.virtual.entities.OnDiskEntityType.TOKEN;
+import static com.hedera.services.state.virtual.entities.OnDiskEntityType.TOPIC;
+import static com.hedera.test.utils.SerdeUtils.deserializeFromBuffer;
+import static com.hedera.test.utils.SerdeUtils.deserializeFromBytes;
+import static com.hedera.test.utils.SerdeUtils.serialize;
+import static com.hedera.test.utils.SerdeUtils.serializeToBuffer;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hedera.test.utils.SeededPropertySource;
+import com.swirlds.common.exceptions.MutabilityException;
+import com.swirlds.common.merkle.MerkleLeaf;
+import com.swirlds.jasperdb.files.DataFileCommon;
+import java.nio.ByteBuffer;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+@SuppressWarnings({"unchecked", "rawtypes"})
+class OnDiskEntityTest {
+    private static final int MAX_SERIALIZED_LEN = 64 * 1024;
+
+    private SeededPropertySource propertySource;
+    private OnDiskEntity subject;
+
+    static Stream<Arguments> entityTypes() {
+        final Function<SeededPropertySource, MerkleLeaf> nextToken =
+                SeededPropertySource::nextToken;
+        final Function<SeededPropertySource, MerkleLeaf> nextTopic =
+                SeededPropertySource::nextTopic;
+        return Stream.of(Arguments.of(TOKEN, nextToken), Arguments.of(TOPIC, nextTopic));
+    }
+
+    @BeforeEach
+    void setUp() {
+        propertySource = new SeededPropertySource(new SplittableRandom(1_234_567L));
+    }
+
+    @Test
+    void hasExpectedProfile() {
+        subject = new OnDiskEntity<>(TOKEN);
+
+        assertEquals(0x2c5f7a9e13b8d046L, subject.getClassId());
+        assertEquals(1, subject.getVersion());
+        assertEquals(DataFileCommon.VARIABLE_DATA_SIZE, OnDiskEntity.serializedSizeInBytes());
+    }
+
+    @Test
+    void rejectsUnknownTypeId() {
+        final var buffer = ByteBuffer.wrap(new byte[] {(byte) 2});
+
+        assertThrows(
+                IllegalArgumentException.class, () -> new OnDiskEntity().deserialize(buffer, 1));
+    }
+
+    @ParameterizedTest
+    @MethodSource("entityTypes")
+    void fromCopiesTheEntity(final OnDiskEntityType type, final Function nextEntity) {
+        final var inMemory = (MerkleLeaf) nextEntity.apply(propertySource);
+
+        final var onDisk = OnDiskEntity.from(type, inMemory);
+
+        assertSame(type, onDisk.getType());
+        assertNotSame(inMemory, onDisk.getEntity());
+        assertEquals(inMemory, onDisk.getEntity());
+    }
+
+    @ParameterizedTest
+    @MethodSource("entityTypes")
+    void bufferSerdesRoundTrip(final OnDiskEntityType type, final Function nextEntity) {
+        givenSubject(type, nextEntity);
+        final var serializedForm = serializeToBuffer(subject, MAX_SERIALIZED_LEN);
+
+        final var reconstruction =
+                deserializeFromBuffer(OnDiskEntity::new, subject.getVersion(), serializedForm);
+
+        assertEquals(subject, reconstruction);
+    }
+
+    @ParameterizedTest
+    @MethodSource("entityTypes")
+    void streamSerdesRoundTrip(final OnDiskEntityType type, final Function nextEntity) {
+        givenSubject(type, nextEntity);
+        final var serializedForm = serialize(subject);
+
+        final var reconstruction =
+                deserializeFromBytes(OnDiskEntity::new, subject.getVersion(), serializedForm);
+
+        assertEquals(subject, reconstruction);
+    }
+
+    @ParameterizedTest
+    @MethodSource("entityTypes")
+    void copyIsMutableAndFreezesSource(final OnDiskEntityType type, final Function nextEntity) {
+        givenSubject(type, nextEntity);
+
+        final var copy = subject.copy();
+
+        assertTrue(subject.isImmutable());
+        assertFalse(copy.isImmutable());
+        assertNotSame(subject.getEntity(), copy.getEntity());
+        assertEquals(subject, copy);
+        final var buffer = ByteBuffer.wrap(serializeToBuffer(copy, MAX_SERIALIZED_LEN));
+        assertThrows(MutabilityException.class, () -> subject.deserialize(buffer, 1));
+    }
+
+    @ParameterizedTest
+    @MethodSource("entityTypes")
+    void readOnlyCopyIsImmutable(final OnDiskEntityType type, final Function nextEntity) {
+        givenSubject(type, nextEntity);
+
+        final var readOnly = subject.asReadOnly();
+
+        assertTrue(readOnly.isImmutable());
+        assertFalse(subject.isImmutable());
+        assertEquals(subject, readOnly);
+    }
+
+    @ParameterizedTest
+    @MethodSource("entityTypes")
+    void objectContractMet(final OnDiskEntityType type, final Function nextEntity) {
+        givenSubject(type, nextEntity);
+        final var same = subject;
+        final var equal = OnDiskEntity.from(type, subject.getEntity());
+        final var different =
+                OnDiskEntity.from(type, (MerkleLeaf) nextEntity.apply(propertySource));
+
+        assertEquals(subject, same);
+        assertEquals(subject, equal);
+        assertEquals(subject.hashCode(), equal.hashCode());
+        assertNotEquals(subject, different);
+        assertNotEquals(null, subject);
+        assertNotEquals(new Object(), subject);
+        assertTrue(subject.toString().startsWith("OnDiskEntity{" + type + "="));
+    }
+
+    private void givenSubject(final OnDiskEntityType type, final Function nextEntity) {
+        subject = OnDiskEntity.from(type, (MerkleLeaf) nextEntity.apply(propertySource));
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.state.virtual.records;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hedera.services.state.submerkle.RichInstant;
+import com.hedera.services.utils.EntityNum;
+import com.swirlds.common.io.streams.SerializableDataInputStream;
+import com.swirlds.common.io.streams.SerializableDataOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PayerRecordKeyTest {
+    private static final EntityNum payerNum = EntityNum.fromLong(1234L);
+    private static final RichInstant consensusTime = new RichInstant(1_234_567L, 890);
+
+    private PayerRecordKey subject;
+
+    @BeforeEach
+    void setUp() {
+        subject = PayerRecordKey.from(payerNum, consensusTime);
+    }
+
+    @Test
+    void gettersWork() {
+        assertEquals(payerNum.longValue(), subject.getPayerNum());
+        assertEquals(consensusTime, subject.getConsensusTime());
+        assertFalse(subject.isHead());
+        assertTrue(PayerRecordKey.headOf(payerNum).isHead());
+        assertEquals(PayerRecordKey.BYTES_IN_SERIALIZED_FORM, PayerRecordKey.sizeInBytes());
+    }
+
+    @Test
+    void ordersByPayerThenConsensusTime() {
+        final var samePayerLaterSecond = new PayerRecordKey(1234L, 1_234_568L, 0);
+        final var samePayerLaterNanos = new PayerRecordKey(1234L, 1_234_567L, 891);
+        final var smallerPayer = new PayerRecordKey(1233L, Long.MAX_VALUE, 0);
+
+        assertEquals(0, subject.compareTo(subject));
+        assertEquals(0, subject.compareTo(PayerRecordKey.from(payerNum, consensusTime)));
+        assertEquals(-1, subject.compareTo(samePayerLaterSecond));
+        assertEquals(-1, subject.compareTo(samePayerLaterNanos));
+        assertEquals(+1, subject.compareTo(smallerPayer));
+        assertEquals(+1, subject.compareTo(PayerRecordKey.headOf(payerNum)));
+    }
+
+    @Test
+    void objectContractMet() {
+        final var one = PayerRecordKey.from(payerNum, consensusTime);
+        final var two = new PayerRecordKey(1234L, 1_234_567L, 890);
+        final var three = new PayerRecordKey(1234L, 1_234_567L, 891);
+
+        assertEquals(one, one);
+        assertEquals(one, two);
+        assertEquals(one.hashCode(), two.hashCode());
+        assertNotEquals(one, three);
+        assertNotEquals(one.hashCode(), three.hashCode());
+        assertNotEquals(null, one);
+        assertNotEquals(one, new Object());
+    }
+
+    @Test
+    void streamSerdeWorks() throws IOException {
+        final var baos = new ByteArrayOutputStream();
+        subject.serialize(new SerializableDataOutputStream(baos));
+
+        final var copy = new PayerRecordKey();
+        copy.deserialize(
+                new SerializableDataInputStream(new ByteArrayInputStream(baos.toByteArray())),
+                PayerRecordKey.CURRENT_VERSION);
+
+        assertEquals(subject, copy);
+    }
+
+    @Test
+    void bufferSerdeWorks() throws IOException {
+        final var buffer = ByteBuffer.allocate(PayerRecordKey.sizeInBytes());
+        subject.serialize(buffer);
+
+        buffer.rewind();
+        final var copy = new PayerRecordKey();
+        copy.deserialize(buffer, PayerRecordKey.CURRENT_VERSION);
+        assertEquals(subject, copy);
+
+        buffer.rewind();
+        assertTrue(subject.equals(buffer, PayerRecordKey.CURRENT_VERSION));
+        buffer.rewind();
+        assertFalse(
+                PayerRecordKey.headOf(payerNum).equals(buffer, PayerRecordKey.CURRENT_VERSION));
+    }
+
+    @Test
+    void merkleMethodsWork() {
+        assertEquals(PayerRecordKey.CURRENT_VERSION, subject.getVersion());
+        assertEquals(PayerRecordKey.CLASS_ID, subject.getClassId());
+    }
+
+    @Test
+    void toStringWorks() {
+        assertEquals(
+                "PayerRecordKey{payerNum=1234, seconds=1234567, nanos=890}", subject.toString());
+    }
+}
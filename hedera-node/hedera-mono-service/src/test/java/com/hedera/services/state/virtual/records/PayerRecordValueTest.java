@@ -0,0 +1,171 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.state.virtual.records;
+
+import static com.hedera.services.state.submerkle.RichInstant.MISSING_INSTANT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hedera.services.state.submerkle.ExpirableTxnRecord;
+import com.hedera.services.state.submerkle.RichInstant;
+import com.hedera.test.utils.SeededPropertySource;
+import com.swirlds.common.exceptions.MutabilityException;
+import com.swirlds.common.io.streams.SerializableDataInputStream;
+import com.swirlds.common.io.streams.SerializableDataOutputStream;
+import com.swirlds.jasperdb.files.DataFileCommon;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PayerRecordValueTest {
+    private static final RichInstant older = new RichInstant(1_234_566L, 0);
+    private static final RichInstant newer = new RichInstant(1_234_568L, 0);
+
+    private ExpirableTxnRecord payerRecord;
+    private PayerRecordValue subject;
+
+    @BeforeEach
+    void setUp() {
+        payerRecord = SeededPropertySource.forSerdeTest(11, 1).nextRecord();
+        subject = new PayerRecordValue(payerRecord);
+        subject.setPrev(older);
+        subject.setNext(newer);
+    }
+
+    @Test
+    void gettersWork() {
+        assertSame(payerRecord, subject.payerRecord());
+        assertEquals(older, subject.prev());
+        assertEquals(newer, subject.next());
+        assertTrue(subject.hasPrev());
+        assertTrue(subject.hasNext());
+        assertFalse(subject.isHead());
+        assertEquals(0, subject.numRecords());
+        assertEquals(DataFileCommon.VARIABLE_DATA_SIZE, PayerRecordValue.serializedSizeInBytes());
+    }
+
+    @Test
+    void headTracksOldestAndNewest() {
+        final var head = PayerRecordValue.newHead();
+        assertTrue(head.isHead());
+        assertFalse(head.hasPrev());
+        assertFalse(head.hasNext());
+
+        head.trackNewest(older);
+        head.trackNewest(newer);
+        assertEquals(2, head.numRecords());
+        assertEquals(older, head.prev());
+        assertEquals(newer, head.next());
+
+        head.forgetOldest(newer);
+        assertEquals(1, head.numRecords());
+        assertEquals(newer, head.prev());
+        assertEquals(newer, head.next());
+
+        head.forgetOldest(MISSING_INSTANT);
+        assertEquals(0, head.numRecords());
+        assertEquals(MISSING_INSTANT, head.prev());
+        assertEquals(MISSING_INSTANT, head.next());
+    }
+
+    @Test
+    void copiesAreImmutable() {
+        final var copy = subject.copy();
+
+        assertTrue(subject.isImmutable());
+        assertFalse(copy.isImmutable());
+        assertEquals(subject, copy);
+        assertThrows(MutabilityException.class, () -> subject.setPrev(newer));
+        assertThrows(MutabilityException.class, () -> subject.setNext(older));
+        assertThrows(MutabilityException.class, () -> subject.trackNewest(newer));
+        assertThrows(MutabilityException.class, () -> subject.forgetOldest(newer));
+
+        final var readOnly = copy.asReadOnly();
+        assertTrue(readOnly.isImmutable());
+        assertEquals(copy, readOnly);
+    }
+
+    @Test
+    void objectContractMet() {
+        final var same = new PayerRecordValue(subject);
+        final var different = new PayerRecordValue(payerRecord);
+
+        assertEquals(subject, subject);
+        assertEquals(subject, same);
+        assertEquals(subject.hashCode(), same.hashCode());
+        assertNotEquals(subject, different);
+        assertNotEquals(subject, PayerRecordValue.newHead());
+        assertNotEquals(null, subject);
+        assertNotEquals(subject, new Object());
+        assertTrue(subject.toString().startsWith("PayerRecordValue{prev="));
+    }
+
+    @Test
+    void streamSerdeWorks() throws IOException {
+        assertEquals(subject, streamSerdeOf(subject));
+        final var head = PayerRecordValue.newHead();
+        head.trackNewest(older);
+        final var headCopy = streamSerdeOf(head);
+        assertEquals(head, headCopy);
+        assertNull(headCopy.payerRecord());
+    }
+
+    @Test
+    void bufferSerdeWorks() throws IOException {
+        assertEquals(subject, bufferSerdeOf(subject));
+        final var head = PayerRecordValue.newHead();
+        head.trackNewest(older);
+        final var headCopy = bufferSerdeOf(head);
+        assertEquals(head, headCopy);
+        assertNull(headCopy.payerRecord());
+    }
+
+    @Test
+    void merkleMethodsWork() {
+        assertEquals(1, subject.getVersion());
+        assertEquals(0x1b3e80f9a6c25d47L, subject.getClassId());
+    }
+
+    private PayerRecordValue streamSerdeOf(final PayerRecordValue value) throws IOException {
+        final var baos = new ByteArrayOutputStream();
+        final var out = new SerializableDataOutputStream(baos);
+        value.serialize(out);
+        out.flush();
+
+        final var copy = new PayerRecordValue();
+        copy.deserialize(
+                new SerializableDataInputStream(new ByteArrayInputStream(baos.toByteArray())), 1);
+        return copy;
+    }
+
+    private PayerRecordValue bufferSerdeOf(final PayerRecordValue value) throws IOException {
+        final var buffer = ByteBuffer.allocate(16_384);
+        value.serialize(buffer);
+        buffer.rewind();
+
+        final var copy = new PayerRecordValue();
+        copy.deserialize(buffer, 1);
+        return copy;
+    }
+}
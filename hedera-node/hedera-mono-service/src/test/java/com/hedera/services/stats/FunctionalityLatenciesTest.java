@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.stats;
+
+import static com.hedera.services.stats.FunctionalityLatencies.Stage.HANDLE;
+import static com.hedera.services.stats.FunctionalityLatencies.Stage.PRE_HANDLE;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.ConsensusSubmitMessage;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoTransfer;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hederahashgraph.api.proto.java.HederaFunctionality;
+import com.swirlds.common.metrics.DoubleGauge;
+import com.swirlds.common.metrics.Metrics;
+import com.swirlds.common.system.Platform;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class FunctionalityLatenciesTest {
+    @Mock private Platform platform;
+    @Mock private Metrics metrics;
+    @Mock private DoubleGauge gauge;
+    @Mock private NodeLocalProperties nodeLocalProperties;
+
+    @TempDir private Path tmpDir;
+
+    private FunctionalityLatencies subject;
+
+    @Test
+    void createsHistogramsOnlyForRecordedStagesAndFunctions() {
+        subject = new FunctionalityLatencies("", HederaFunctionality::name);
+
+        subject.record(HANDLE, CryptoTransfer, 1_000L);
+
+        assertNotNull(subject.histogramIfPresent(HANDLE, CryptoTransfer));
+        assertNull(subject.histogramIfPresent(PRE_HANDLE, CryptoTransfer));
+        assertNull(subject.histogramIfPresent(HANDLE, ConsensusSubmitMessage));
+    }
+
+    @Test
+    void exportsPercentilesSinceLastUpdate() {
+        subject = new FunctionalityLatencies("", HederaFunctionality::name);
+        given(platform.getMetrics()).willReturn(metrics);
+        given(metrics.getOrCreate(any(DoubleGauge.Config.class))).willReturn(gauge);
+        subject.registerWith(platform);
+
+        subject.record(HANDLE, CryptoTransfer, 2_000_000L);
+        subject.updateAll();
+        subject.record(HANDLE, CryptoTransfer, 5_000L);
+        subject.updateAll();
+        subject.updateAll();
+
+        verify(metrics, times(3)).getOrCreate(any(DoubleGauge.Config.class));
+        verify(gauge, times(3)).set(2.031615);
+        verify(gauge, times(3)).set(0.005119);
+        verify(gauge, times(3)).set(0.0);
+    }
+
+    @Test
+    void doesNotExportBeforeRegistration() {
+        given(nodeLocalProperties.latencyHistogramsDumpDir()).willReturn("");
+        subject = new FunctionalityLatencies(nodeLocalProperties);
+
+        subject.record(HANDLE, CryptoTransfer, 1_000L);
+        subject.updateAll();
+
+        verifyNoInteractions(platform);
+    }
+
+    @Test
+    void dumpsNonEmptyBucketsWhenConfigured() throws IOException {
+        final var dumpDir = tmpDir.resolve("latencies");
+        subject = new FunctionalityLatencies(dumpDir.toString(), HederaFunctionality::name);
+
+        subject.record(HANDLE, CryptoTransfer, 7L);
+        subject.record(HANDLE, CryptoTransfer, 7L);
+        subject.record(PRE_HANDLE, ConsensusSubmitMessage, 100L);
+        subject.updateAll();
+
+        final var lines =
+                Files.readAllLines(dumpDir.resolve(FunctionalityLatencies.DUMP_FILE_NAME));
+        assertEquals(3, lines.size());
+        assertEquals("stage,functionality,lowestNanos,highestNanos,count", lines.get(0));
+        assertEquals("HANDLE,CryptoTransfer,7,7,2", lines.get(1));
+        assertTrue(lines.get(2).startsWith("PRE_HANDLE,ConsensusSubmitMessage,100,101,1"));
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.stats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+    private final LatencyHistogram subject = new LatencyHistogram();
+
+    @Test
+    void smallValuesAreExact() {
+        for (long v = 0; v < 64; v++) {
+            final var i = LatencyHistogram.bucketIndexOf(v);
+            assertEquals(v, LatencyHistogram.lowestEquivalentValue(i));
+            assertEquals(v, LatencyHistogram.highestEquivalentValue(i));
+        }
+    }
+
+    @Test
+    void bucketsContainTheirValuesWithinRelativePrecision() {
+        final var r = new SplittableRandom(1234);
+        for (int k = 0; k < 100_000; k++) {
+            final var v = r.nextLong(1L << LatencyHistogram.MAX_VALUE_BITS);
+            final var i = LatencyHistogram.bucketIndexOf(v);
+            final var lo = LatencyHistogram.lowestEquivalentValue(i);
+            final var hi = LatencyHistogram.highestEquivalentValue(i);
+            assertTrue(lo <= v && v <= hi);
+            assertTrue(hi - lo <= lo >> LatencyHistogram.SUB_BUCKET_BITS);
+        }
+    }
+
+    @Test
+    void clampsOutOfRangeValues() {
+        subject.record(-1L);
+        subject.record(Long.MAX_VALUE);
+
+        final var counts = subject.snapshot();
+        assertEquals(1, counts[0]);
+        assertEquals(1, counts[LatencyHistogram.NUM_BUCKETS - 1]);
+    }
+
+    @Test
+    void computesPercentilesOfTheTail() {
+        for (int i = 0; i < 990; i++) {
+            subject.record(1_000L);
+        }
+        for (int i = 0; i < 10; i++) {
+            subject.record(1_000_000L);
+        }
+
+        final var counts = subject.snapshot();
+        assertEquals(1_000L, approx(LatencyHistogram.valueAtPercentile(counts, 50.0)));
+        assertEquals(1_000L, approx(LatencyHistogram.valueAtPercentile(counts, 99.0)));
+        assertEquals(1_000_000L, approx(LatencyHistogram.valueAtPercentile(counts, 99.9)));
+        assertEquals(0L, LatencyHistogram.valueAtPercentile(new long[3], 99.0));
+    }
+
+    @Test
+    void countsEveryConcurrentRecording() throws InterruptedException {
+        final var threads = 8;
+        final var perThread = 10_000;
+        final var executor = Executors.newFixedThreadPool(threads);
+        final var done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.execute(
+                    () -> {
+                        for (int i = 0; i < perThread; i++) {
+                            subject.record(i);
+                        }
+                        done.countDown();
+                    });
+        }
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        assertEquals((long) threads * perThread, Arrays.stream(subject.snapshot()).sum());
+    }
+
+    private static long approx(final long value) {
+        // round to three significant figures, within the histogram's precision
+        final var scale = (long) Math.pow(10, Math.max(0, (int) Math.log10(value) - 2));
+        return Math.round((double) value / scale) * scale;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.stats;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.swirlds.common.metrics.Counter;
+import com.swirlds.common.metrics.Metrics;
+import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.common.metrics.SpeedometerMetric;
+import com.swirlds.common.system.Platform;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class LocalCallStatsTest {
+    private static final double halfLife = 10.0;
+
+    @Mock private Platform platform;
+    @Mock private Metrics metrics;
+    @Mock private RunningAverageMetric queueMs;
+    @Mock private RunningAverageMetric executionMs;
+    @Mock private SpeedometerMetric gasPerSec;
+    @Mock private Counter rejected;
+    @Mock private Counter deadlinesExceeded;
+
+    private LocalCallStats subject;
+
+    @BeforeEach
+    void setup() {
+        subject = new LocalCallStats(halfLife);
+    }
+
+    @Test
+    void registersExpectedStatEntries() {
+        given(platform.getMetrics()).willReturn(metrics);
+
+        subject.registerWith(platform);
+
+        verify(metrics, times(5)).getOrCreate(any());
+    }
+
+    @Test
+    void recordsToExpectedMetrics() {
+        setMocks();
+
+        subject.recordQueueNanos(2_500_000L);
+        subject.recordExecution(7_000_000L, 21_000L);
+        subject.countRejected();
+        subject.countDeadlineExceeded();
+
+        verify(queueMs).update(2.5);
+        verify(executionMs).update(7.0);
+        verify(gasPerSec).update(21_000.0);
+        verify(rejected).increment();
+        verify(deadlinesExceeded).increment();
+    }
+
+    private void setMocks() {
+        subject.setQueueMs(queueMs);
+        subject.setExecutionMs(executionMs);
+        subject.setGasPerSec(gasPerSec);
+        subject.setRejected(rejected);
+        subject.setDeadlinesExceeded(deadlinesExceeded);
+    }
+}
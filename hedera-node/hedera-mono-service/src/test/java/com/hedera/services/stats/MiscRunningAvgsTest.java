@@ -39,6 +39,8 @@ class MiscRunningAvgsTest {
     @Mock private RunningAverageMetric submitSizes;
     @Mock private RunningAverageMetric queueSize;
     @Mock private RunningAverageMetric hashS;
+    @Mock private RunningAverageMetric batchSizes;
+    @Mock private RunningAverageMetric submissionWaits;
     @Mock private Metrics metrics;
     private MiscRunningAvgs subject;
 
@@ -54,7 +56,7 @@ class MiscRunningAvgsTest {
 
         subject.registerWith(platform);
 
-        verify(metrics, times(4)).getOrCreate(any());
+        verify(metrics, times(6)).getOrCreate(any());
     }
 
     @Test
@@ -65,11 +67,15 @@ class MiscRunningAvgsTest {
         subject.writeQueueSizeRecordStream(4);
         subject.hashQueueSizeRecordStream(5);
         subject.recordGasPerConsSec(6L);
+        subject.recordPlatformSubmissionBatchSize(7);
+        subject.recordPlatformSubmissionWaitNanos(8_500_000L);
 
         verify(submitSizes).update(3.0);
         verify(queueSize).update(4.0);
         verify(hashS).update(5);
         verify(gasPerSec).update(6L);
+        verify(batchSizes).update(7);
+        verify(submissionWaits).update(8.5);
     }
 
     private void setMocks() {
@@ -77,5 +83,7 @@ class MiscRunningAvgsTest {
         subject.setWriteQueueSizeRecordStream(queueSize);
         subject.setHashQueueSizeRecordStream(hashS);
         subject.setGasPerConsSec(gasPerSec);
+        subject.setPlatformSubmissionBatchSize(batchSizes);
+        subject.setPlatformSubmissionWaitMs(submissionWaits);
     }
 }
@@ -53,6 +53,10 @@ class ServicesStatsManagerTest {
     @Mock private HapiOpCounters counters;
     @Mock private MiscRunningAvgs runningAvgs;
     @Mock private MiscSpeedometers miscSpeedometers;
+    @Mock private LocalCallStats localCallStats;
+    @Mock private SigVerificationStats sigVerificationStats;
+    @Mock private FunctionalityLatencies functionalityLatencies;
+    @Mock private StateAccessProfiler stateAccessProfiler;
     @Mock private HapiOpSpeedometers speedometers;
     @Mock private NodeLocalProperties properties;
     @Mock private VirtualMap<ContractKey, IterableContractValue> storage;
@@ -83,6 +87,10 @@ class ServicesStatsManagerTest {
                         runningAvgs,
                         entityUtilGauges,
                         miscSpeedometers,
+                        localCallStats,
+                        sigVerificationStats,
+                        functionalityLatencies,
+                        stateAccessProfiler,
                         speedometers,
                         properties,
                         () -> storage,
@@ -119,6 +127,10 @@ class ServicesStatsManagerTest {
         verify(speedometers).registerWith(platform);
         verify(expiryStats).registerWith(platform);
         verify(miscSpeedometers).registerWith(platform);
+        verify(localCallStats).registerWith(platform);
+        verify(sigVerificationStats).registerWith(platform);
+        verify(functionalityLatencies).registerWith(platform);
+        verify(stateAccessProfiler).registerWith(platform);
         verify(runningAvgs).registerWith(platform);
         verify(throttleGauges).registerWith(platform);
         verify(entityUtilGauges).registerWith(platform);
@@ -135,6 +147,8 @@ class ServicesStatsManagerTest {
         // then:
         verify(pause, times(6)).forMs(1_000L);
         verify(speedometers, times(6)).updateAll();
+        verify(functionalityLatencies, times(6)).updateAll();
+        verify(stateAccessProfiler, times(6)).updateAll();
         verify(throttleGauges, times(3)).updateAll();
         verify(entityUtilGauges, times(2)).updateAll();
     }
@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.stats;
+
+import static com.swirlds.common.crypto.SignatureType.ECDSA_SECP256K1;
+import static com.swirlds.common.crypto.SignatureType.ED25519;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.swirlds.common.metrics.Counter;
+import com.swirlds.common.metrics.Metrics;
+import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.common.metrics.SpeedometerMetric;
+import com.swirlds.common.system.Platform;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SigVerificationStatsTest {
+    private static final double halfLife = 10.0;
+
+    @Mock private Platform platform;
+    @Mock private Metrics metrics;
+    @Mock private SpeedometerMetric ed25519SigsPerSec;
+    @Mock private SpeedometerMetric ecdsaSigsPerSec;
+    @Mock private RunningAverageMetric ed25519WaitMs;
+    @Mock private RunningAverageMetric ecdsaWaitMs;
+    @Mock private RunningAverageMetric ethRecoveryHitRate;
+    @Mock private Counter ethRecoveryHits;
+    @Mock private Counter ethRecoveryMisses;
+
+    private SigVerificationStats subject;
+
+    @BeforeEach
+    void setup() {
+        subject = new SigVerificationStats(halfLife);
+    }
+
+    @Test
+    void registersExpectedStatEntries() {
+        given(platform.getMetrics()).willReturn(metrics);
+
+        subject.registerWith(platform);
+
+        verify(metrics, times(7)).getOrCreate(any());
+    }
+
+    @Test
+    void recordsToMetricsForKeyType() {
+        setMocks();
+
+        subject.recordSubmitted(ED25519, 12);
+        subject.recordSubmitted(ECDSA_SECP256K1, 3);
+        subject.recordWaitNanos(ED25519, 500_000L);
+        subject.recordWaitNanos(ECDSA_SECP256K1, 4_000_000L);
+
+        verify(ed25519SigsPerSec).update(12.0);
+        verify(ecdsaSigsPerSec).update(3.0);
+        verify(ed25519WaitMs).update(0.5);
+        verify(ecdsaWaitMs).update(4.0);
+    }
+
+    @Test
+    void recordsEthSigRecoveryHitRate() {
+        setMocks();
+
+        subject.countEthSigRecovery(true);
+        subject.countEthSigRecovery(false);
+
+        verify(ethRecoveryHits).increment();
+        verify(ethRecoveryMisses).increment();
+        verify(ethRecoveryHitRate).update(1.0);
+        verify(ethRecoveryHitRate).update(0.0);
+    }
+
+    private void setMocks() {
+        subject.setEd25519SigsPerSec(ed25519SigsPerSec);
+        subject.setEcdsaSigsPerSec(ecdsaSigsPerSec);
+        subject.setEd25519WaitMs(ed25519WaitMs);
+        subject.setEcdsaWaitMs(ecdsaWaitMs);
+        subject.setEthRecoveryHitRate(ethRecoveryHitRate);
+        subject.setEthRecoveryHits(ethRecoveryHits);
+        subject.setEthRecoveryMisses(ethRecoveryMisses);
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.stats;
+
+import static com.hedera.services.stats.StateAccessProfiler.READS;
+import static com.hedera.services.stats.StateAccessProfiler.SLOW_READS;
+import static com.hedera.services.stats.StateAccessProfiler.Store.ACCOUNTS;
+import static com.hedera.services.stats.StateAccessProfiler.Store.BLOBS;
+import static com.hedera.services.stats.StateAccessProfiler.Store.CONTRACT_STORAGE;
+import static com.hedera.services.stats.StateAccessProfiler.Store.NFTS;
+import static com.hedera.services.stats.StateAccessProfiler.WRITES;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.ContractCall;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoTransfer;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.FileAppend;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.NONE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.test.extensions.LogCaptor;
+import com.hedera.test.extensions.LogCaptureExtension;
+import com.hedera.test.extensions.LoggingSubject;
+import com.hedera.test.extensions.LoggingTarget;
+import com.hederahashgraph.api.proto.java.HederaFunctionality;
+import com.swirlds.common.metrics.DoubleGauge;
+import com.swirlds.common.metrics.Metrics;
+import com.swirlds.common.system.Platform;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith({MockitoExtension.class, LogCaptureExtension.class})
+class StateAccessProfilerTest {
+    @Mock private Platform platform;
+    @Mock private Metrics metrics;
+    @Mock private DoubleGauge gauge;
+    @Mock private NodeLocalProperties nodeLocalProperties;
+
+    @LoggingTarget private LogCaptor logCaptor;
+    @LoggingSubject private StateAccessProfiler subject;
+
+    @BeforeEach
+    void setUp() {
+        subject = new StateAccessProfiler(true, -1L, HederaFunctionality::name);
+    }
+
+    @Test
+    void usesNodeLocalProperties() {
+        given(nodeLocalProperties.stateAccessProfilingEnabled()).willReturn(true);
+        given(nodeLocalProperties.stateAccessSlowReadMicros()).willReturn(Long.MAX_VALUE / 1_000L);
+        subject = new StateAccessProfiler(nodeLocalProperties);
+
+        subject.recordRead(ACCOUNTS, System.nanoTime());
+
+        assertTrue(subject.isEnabled());
+        assertEquals(1, subject.countOf(NONE, ACCOUNTS, READS));
+        assertEquals(0, subject.countOf(NONE, ACCOUNTS, SLOW_READS));
+    }
+
+    @Test
+    void attributesAccessesToActiveFunction() {
+        assertEquals(NONE, subject.getActiveFunction());
+
+        subject.setActiveFunction(CryptoTransfer);
+        subject.recordRead(ACCOUNTS, System.nanoTime());
+        subject.recordWrite(ACCOUNTS, System.nanoTime());
+        subject.setActiveFunction(ContractCall);
+        subject.recordRead(CONTRACT_STORAGE, System.nanoTime());
+        subject.clearActiveFunction();
+        subject.recordWrite(NFTS, System.nanoTime());
+
+        assertEquals(1, subject.countOf(CryptoTransfer, ACCOUNTS, READS));
+        assertEquals(1, subject.countOf(CryptoTransfer, ACCOUNTS, SLOW_READS));
+        assertEquals(1, subject.countOf(CryptoTransfer, ACCOUNTS, WRITES));
+        assertEquals(0, subject.countOf(CryptoTransfer, CONTRACT_STORAGE, READS));
+        assertEquals(1, subject.countOf(ContractCall, CONTRACT_STORAGE, READS));
+        assertEquals(1, subject.countOf(NONE, NFTS, WRITES));
+        assertEquals(NONE, subject.getActiveFunction());
+    }
+
+    @Test
+    void attributesOtherThreadsAccessesToNone() throws InterruptedException {
+        subject.setActiveFunction(CryptoTransfer);
+
+        // For example, signature expansion during pre-handle
+        final var otherThread =
+                new Thread(
+                        () -> {
+                            subject.recordRead(ACCOUNTS, System.nanoTime());
+                            subject.recordRead(BLOBS, System.nanoTime());
+                        });
+        otherThread.start();
+        otherThread.join();
+        subject.recordWrite(ACCOUNTS, System.nanoTime());
+
+        assertEquals(CryptoTransfer, subject.getActiveFunction());
+        assertEquals(1, subject.countOf(NONE, ACCOUNTS, READS));
+        assertEquals(1, subject.countOf(NONE, BLOBS, READS));
+        assertEquals(0, subject.countOf(CryptoTransfer, ACCOUNTS, READS));
+        assertEquals(1, subject.countOf(CryptoTransfer, ACCOUNTS, WRITES));
+    }
+
+    @Test
+    void exportsAccessesSinceLastUpdate() {
+        given(platform.getMetrics()).willReturn(metrics);
+        given(metrics.getOrCreate(any(DoubleGauge.Config.class))).willReturn(gauge);
+        subject.registerWith(platform);
+
+        subject.setActiveFunction(CryptoTransfer);
+        subject.recordRead(ACCOUNTS, System.nanoTime());
+        subject.recordWrite(ACCOUNTS, System.nanoTime());
+        subject.updateAll();
+        subject.recordWrite(ACCOUNTS, System.nanoTime());
+        subject.updateAll();
+        subject.updateAll();
+
+        verify(metrics, times(4)).getOrCreate(any(DoubleGauge.Config.class));
+        verify(gauge, times(8)).set(anyDouble());
+        verify(gauge, atLeast(4)).set(1.0);
+        verify(gauge, atLeast(3)).set(0.0);
+    }
+
+    @Test
+    void doesNotExportBeforeRegistration() {
+        subject.recordRead(ACCOUNTS, System.nanoTime());
+        subject.updateAll();
+
+        verifyNoInteractions(platform);
+    }
+
+    @Test
+    void summarizesEachRoundOnce() {
+        subject.setActiveFunction(CryptoTransfer);
+        subject.recordRead(ACCOUNTS, System.nanoTime());
+        subject.recordWrite(NFTS, System.nanoTime());
+
+        subject.summarizeRound();
+        subject.summarizeRound();
+
+        assertThat(
+                logCaptor.infoLogs(),
+                contains(startsWith("State accesses in last round: Accounts[reads=1 (1 slow")));
+        assertTrue(logCaptor.infoLogs().get(0).contains("Nfts[reads=0 (0 slow"));
+    }
+
+    @Test
+    void doesNothingIfDisabled() {
+        subject = new StateAccessProfiler(false, 0L, HederaFunctionality::name);
+        subject.registerWith(platform);
+
+        assertEquals(0L, subject.startTiming());
+        subject.recordRead(ACCOUNTS, System.nanoTime());
+        subject.recordWrite(BLOBS, System.nanoTime());
+        subject.updateAll();
+        subject.summarizeRound();
+
+        assertFalse(subject.isEnabled());
+        assertEquals(0, subject.countOf(NONE, ACCOUNTS, READS));
+        assertEquals(0, subject.countOf(NONE, BLOBS, WRITES));
+        verifyNoInteractions(platform);
+    }
+
+    @Test
+    void sharedNonProfilingInstanceIsDisabled() {
+        assertFalse(StateAccessProfiler.NOT_PROFILING.isEnabled());
+    }
+
+    @Test
+    void timesBlobAccessesLikeOtherStores() {
+        subject.setActiveFunction(FileAppend);
+        final var start = subject.startTiming();
+        subject.recordRead(BLOBS, start);
+        subject.recordWrite(BLOBS, start);
+
+        assertTrue(start > 0L);
+        assertEquals(1, subject.countOf(FileAppend, BLOBS, READS));
+        assertEquals(1, subject.countOf(FileAppend, BLOBS, WRITES));
+    }
+}
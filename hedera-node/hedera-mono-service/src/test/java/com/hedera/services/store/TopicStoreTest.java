@@ -22,11 +22,10 @@ import static org.mockito.Mockito.verify;
 
 import com.hedera.services.records.TransactionRecordService;
 import com.hedera.services.state.merkle.MerkleTopic;
+import com.hedera.services.state.migration.EntityStorageAdapter;
 import com.hedera.services.state.submerkle.EntityId;
 import com.hedera.services.store.models.Id;
 import com.hedera.services.store.models.Topic;
-import com.hedera.services.utils.EntityNum;
-import com.swirlds.merkle.map.MerkleMap;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -35,7 +34,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
 class TopicStoreTest {
-    @Mock private MerkleMap<EntityNum, MerkleTopic> topics;
+    @Mock private EntityStorageAdapter<MerkleTopic> topics;
     @Mock private TransactionRecordService transactionRecordService;
 
     private TopicStore subject;
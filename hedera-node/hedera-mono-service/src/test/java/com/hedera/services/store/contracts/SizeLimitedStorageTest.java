@@ -17,6 +17,7 @@ package com.hedera.services.store.contracts;
 
 import static com.hedera.services.ledger.properties.AccountProperty.FIRST_CONTRACT_STORAGE_KEY;
 import static com.hedera.services.ledger.properties.AccountProperty.NUM_CONTRACT_KV_PAIRS;
+import static com.hedera.services.stats.StateAccessProfiler.Store.CONTRACT_STORAGE;
 import static com.hedera.services.store.contracts.SizeLimitedStorage.ZERO_VALUE;
 import static com.hedera.services.store.contracts.SizeLimitedStorage.incorporateKvImpact;
 import static com.hedera.services.store.contracts.SizeLimitedStorage.treeSetFactory;
@@ -29,6 +30,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willThrow;
@@ -46,6 +48,7 @@ import com.hedera.services.state.migration.HederaAccount;
 import com.hedera.services.state.validation.ContractStorageLimits;
 import com.hedera.services.state.virtual.ContractKey;
 import com.hedera.services.state.virtual.IterableContractValue;
+import com.hedera.services.stats.StateAccessProfiler;
 import com.hedera.services.utils.EntityNum;
 import com.hedera.test.utils.IdUtils;
 import com.hederahashgraph.api.proto.java.AccountID;
@@ -72,6 +75,7 @@ class SizeLimitedStorageTest {
     @Mock private SizeLimitedStorage.IterableStorageRemover storageRemover;
     @Mock private MerkleMap<EntityNum, MerkleAccount> accounts;
     @Mock private VirtualMap<ContractKey, IterableContractValue> storage;
+    @Mock private StateAccessProfiler stateAccessProfiler;
     @Mock private TransactionalLedger<AccountID, AccountProperty, HederaAccount> accountsLedger;
 
     private final Map<Long, TreeSet<ContractKey>> updatedKeys = new TreeMap<>();
@@ -89,7 +93,8 @@ class SizeLimitedStorageTest {
                         storageUpserter,
                         storageRemover,
                         () -> AccountStorageAdapter.fromInMemory(accounts),
-                        () -> storage);
+                        () -> storage,
+                        stateAccessProfiler);
     }
 
     @Test
@@ -318,6 +323,15 @@ class SizeLimitedStorageTest {
         assertEquals(UInt256.ZERO, subject.getStorage(firstAccount, bLiteralKey));
     }
 
+    @Test
+    void unbufferedReadsAreProfiledIfEnabled() {
+        given(storage.get(firstAKey)).willReturn(aValue);
+
+        assertEquals(aLiteralValue, subject.getStorage(firstAccount, aLiteralKey));
+
+        verify(stateAccessProfiler).recordRead(eq(CONTRACT_STORAGE), anyLong());
+    }
+
     @Test
     void resetsPendingChangesAsExpected() {
         given(storage.containsKey(firstAKey)).willReturn(true);
@@ -36,7 +36,10 @@ import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.protobuf.ByteString;
 import com.hedera.services.context.primitives.StateView;
 import com.hedera.services.ledger.accounts.ContractAliases;
@@ -49,6 +52,7 @@ import com.hedera.services.state.merkle.MerkleToken;
 import com.hedera.services.state.merkle.MerkleTokenRelStatus;
 import com.hedera.services.state.merkle.MerkleUniqueToken;
 import com.hedera.services.state.migration.AccountStorageAdapter;
+import com.hedera.services.state.migration.EntityStorageAdapter;
 import com.hedera.services.state.migration.TokenRelStorageAdapter;
 import com.hedera.services.state.migration.UniqueTokenMapAdapter;
 import com.hedera.services.state.submerkle.FcTokenAllowanceId;
@@ -86,7 +90,7 @@ class StaticEntityAccessTest {
     @Mock private StateView stateView;
     @Mock private ContractAliases aliases;
     @Mock private HederaAccountCustomizer customizer;
-    @Mock private MerkleMap<EntityNum, MerkleToken> tokens;
+    @Mock private EntityStorageAdapter<MerkleToken> tokens;
     @Mock private AccountStorageAdapter accounts;
     @Mock private VirtualMap<ContractKey, IterableContractValue> storage;
     @Mock private VirtualMap<VirtualBlobKey, VirtualBlobValue> blobs;
@@ -231,6 +235,22 @@ class StaticEntityAccessTest {
         assertEquals(expectedVal, uint256Val);
     }
 
+    @Test
+    void getReadsThroughGivenStorageCache() {
+        final Cache<ContractKey, UInt256> storageCache = Caffeine.newBuilder().build();
+        subject = new StaticEntityAccess(stateView, aliases, validator, storageCache);
+        given(storage.get(contractKey)).willReturn(contractVal);
+
+        final var firstVal = subject.getStorage(asTypedEvmAddress(id), uint256Key);
+        final var secondVal = subject.getStorage(asTypedEvmAddress(id), uint256Key);
+
+        final var expectedVal = UInt256.fromBytes(Bytes.wrap(contractVal.getValue()));
+        assertEquals(expectedVal, firstVal);
+        assertEquals(expectedVal, secondVal);
+        assertEquals(expectedVal, storageCache.getIfPresent(contractKey));
+        verify(storage).get(contractKey);
+    }
+
     @Test
     void getForUnknownReturnsZero() {
         final var unit256Val = subject.getStorage(asTypedEvmAddress(id), UInt256.MAX_VALUE);
@@ -42,6 +42,7 @@ import com.hedera.services.pricing.AssetsLoader;
 import com.hedera.services.records.RecordsHistorian;
 import com.hedera.services.state.expiry.ExpiringCreations;
 import com.hedera.services.state.merkle.MerkleToken;
+import com.hedera.services.state.migration.EntityStorageAdapter;
 import com.hedera.services.state.submerkle.EntityId;
 import com.hedera.services.store.contracts.HederaStackedWorldStateUpdater;
 import com.hedera.services.store.contracts.WorldLedgers;
@@ -55,7 +56,6 @@ import com.hedera.services.utils.EntityNum;
 import com.hedera.services.utils.accessors.AccessorFactory;
 import com.hederahashgraph.api.proto.java.TokenID;
 import com.hederahashgraph.api.proto.java.TransactionBody;
-import com.swirlds.merkle.map.MerkleMap;
 import java.io.IOException;
 import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes;
@@ -93,7 +93,7 @@ class TokenPrecompileReadOperationsTest {
     @Mock private HbarCentExchange exchange;
     @Mock private TransactionBody.Builder mockSynthBodyBuilder;
     @Mock private InfrastructureFactory infrastructureFactory;
-    @Mock private MerkleMap<EntityNum, MerkleToken> tokenMerkleMap;
+    @Mock private EntityStorageAdapter<MerkleToken> tokenMerkleMap;
     @Mock private AssetsLoader assetLoader;
     private MerkleToken merkleToken;
     private final TokenID tokenID = asToken("0.0.5");
@@ -0,0 +1,178 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.store.contracts.precompile.codec;
+
+import static com.hedera.services.contracts.ParsingConstants.bigIntegerTuple;
+import static com.hedera.services.contracts.ParsingConstants.booleanTuple;
+import static com.hedera.services.contracts.ParsingConstants.decimalsType;
+import static com.hedera.services.contracts.ParsingConstants.mintReturnType;
+import static com.hedera.services.store.contracts.precompile.AbiConstants.ABI_ID_MINT_TOKEN;
+import static com.hedera.services.store.contracts.precompile.AbiConstants.ABI_ID_MINT_TOKEN_V2;
+import static java.util.function.UnaryOperator.identity;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.esaulpaugh.headlong.abi.Tuple;
+import com.google.protobuf.ByteString;
+import com.hederahashgraph.api.proto.java.TokenType;
+import java.math.BigInteger;
+import java.util.List;
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.Test;
+
+class DirectAbiCodecTest {
+    private static final Bytes TRANSFER_TOKENS_INPUT =
+            Bytes.fromHexString(
+                    "0x82bba49300000000000000000000000000000000000000000000000000000000000004d8"
+                        + "0000000000000000000000000000000000000000000000000000000000000060"
+                        + "00000000000000000000000000000000000000000000000000000000000000c0"
+                        + "0000000000000000000000000000000000000000000000000000000000000002"
+                        + "00000000000000000000000000000000000000000000000000000000000004d5"
+                        + "00000000000000000000000000000000000000000000000000000000000004d5"
+                        + "0000000000000000000000000000000000000000000000000000000000000002"
+                        + "0000000000000000000000000000000000000000000000000000000000000014"
+                        + "ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffec");
+    private static final Bytes NON_FUNGIBLE_MINT_INPUT =
+            Bytes.fromHexString(
+                    "0x278e0b88000000000000000000000000000000000000000000000000000000000000042e"
+                        + "0000000000000000000000000000000000000000000000000000000000000000"
+                        + "0000000000000000000000000000000000000000000000000000000000000060"
+                        + "0000000000000000000000000000000000000000000000000000000000000002"
+                        + "0000000000000000000000000000000000000000000000000000000000000040"
+                        + "0000000000000000000000000000000000000000000000000000000000000080"
+                        + "0000000000000000000000000000000000000000000000000000000000000012"
+                        + "4e4654206d657461646174612074657374310000000000000000000000000000"
+                        + "0000000000000000000000000000000000000000000000000000000000000012"
+                        + "4e4654206d657461646174612074657374320000000000000000000000000000");
+    private static final Bytes FUNGIBLE_MINT_INPUT_V2 =
+            Bytes.fromHexString(
+                    "0xe0f4059a000000000000000000000000000000000000000000000000000000000000043e"
+                        + "000000000000000000000000000000000000000000000000000000000000000f"
+                        + "0000000000000000000000000000000000000000000000000000000000000060"
+                        + "0000000000000000000000000000000000000000000000000000000000000000");
+    private static final Bytes GET_TOKEN_INFO_INPUT =
+            Bytes.fromHexString(
+                    "0x1f69565f000000000000000000000000000000000000000000000000000000000000000a");
+
+    @Test
+    void decodesCanonicalTransferTokens() {
+        final var decoded = DirectAbiCodec.decodeTransferTokens(TRANSFER_TOKENS_INPUT, identity());
+
+        assertNotNull(decoded);
+        assertEquals(List.of(), decoded.transferWrapper().hbarTransfers());
+        final var fungibleTransfers = decoded.tokenTransferWrappers().get(0).fungibleTransfers();
+        assertEquals(2, fungibleTransfers.size());
+        assertEquals(1240L, fungibleTransfers.get(0).getDenomination().getTokenNum());
+        assertEquals(1237L, fungibleTransfers.get(0).receiver().getAccountNum());
+        assertNull(fungibleTransfers.get(0).sender());
+        assertEquals(20L, fungibleTransfers.get(0).amount());
+        assertEquals(1237L, fungibleTransfers.get(1).sender().getAccountNum());
+        assertNull(fungibleTransfers.get(1).receiver());
+        assertEquals(20L, fungibleTransfers.get(1).amount());
+    }
+
+    @Test
+    void defersNonCanonicalTransferTokensToGeneralDecoder() {
+        final var withTrailingByte = Bytes.concatenate(TRANSFER_TOKENS_INPUT, Bytes.of(0));
+        final var withWrongSelector =
+                Bytes.concatenate(
+                        Bytes.fromHexString("0x12345678"), TRANSFER_TOKENS_INPUT.slice(4));
+        final var withOverlongAmount = TRANSFER_TOKENS_INPUT.mutableCopy();
+        withOverlongAmount.set(TRANSFER_TOKENS_INPUT.size() - 32, (byte) 0x01);
+
+        assertNull(DirectAbiCodec.decodeTransferTokens(withTrailingByte, identity()));
+        assertNull(DirectAbiCodec.decodeTransferTokens(withWrongSelector, identity()));
+        assertNull(DirectAbiCodec.decodeTransferTokens(withOverlongAmount, identity()));
+        assertNull(DirectAbiCodec.decodeTransferTokens(Bytes.of(1, 2), identity()));
+    }
+
+    @Test
+    void decodesCanonicalMints() {
+        final var nonFungible =
+                DirectAbiCodec.decodeMint(NON_FUNGIBLE_MINT_INPUT, ABI_ID_MINT_TOKEN);
+        final var fungible =
+                DirectAbiCodec.decodeMint(FUNGIBLE_MINT_INPUT_V2, ABI_ID_MINT_TOKEN_V2);
+
+        assertNotNull(nonFungible);
+        assertEquals(TokenType.NON_FUNGIBLE_UNIQUE, nonFungible.type());
+        assertEquals(1070L, nonFungible.tokenType().getTokenNum());
+        assertEquals(
+                List.of(
+                        ByteString.copyFromUtf8("NFT metadata test1"),
+                        ByteString.copyFromUtf8("NFT metadata test2")),
+                nonFungible.metadata());
+        assertNotNull(fungible);
+        assertEquals(TokenType.FUNGIBLE_COMMON, fungible.type());
+        assertEquals(15L, fungible.amount());
+    }
+
+    @Test
+    void defersNonCanonicalMintsToGeneralDecoder() {
+        final var withDirtyPadding = NON_FUNGIBLE_MINT_INPUT.mutableCopy();
+        withDirtyPadding.set(NON_FUNGIBLE_MINT_INPUT.size() - 1, (byte) 0x01);
+
+        assertNull(DirectAbiCodec.decodeMint(withDirtyPadding, ABI_ID_MINT_TOKEN));
+        assertNull(DirectAbiCodec.decodeMint(NON_FUNGIBLE_MINT_INPUT, ABI_ID_MINT_TOKEN_V2));
+        assertNull(
+                DirectAbiCodec.decodeMint(
+                        NON_FUNGIBLE_MINT_INPUT.slice(0, NON_FUNGIBLE_MINT_INPUT.size() - 32),
+                        ABI_ID_MINT_TOKEN));
+    }
+
+    @Test
+    void decodesGetTokenInfo() {
+        final var decoded = DirectAbiCodec.decodeGetTokenInfo(GET_TOKEN_INFO_INPUT);
+
+        assertNotNull(decoded);
+        assertEquals(10L, decoded.tokenID().getTokenNum());
+        assertNull(
+                DirectAbiCodec.decodeGetTokenInfo(
+                        Bytes.concatenate(GET_TOKEN_INFO_INPUT, Bytes.of(0))));
+    }
+
+    @Test
+    void encodesLikeHeadlong() {
+        final var maxLong = Tuple.of(BigInteger.valueOf(Long.MAX_VALUE));
+        assertEquals(
+                Bytes.wrap(bigIntegerTuple.encode(maxLong).array()),
+                DirectAbiCodec.encodeUint256(Long.MAX_VALUE));
+        assertEquals(
+                Bytes.wrap(decimalsType.encode(Tuple.of(255)).array()),
+                DirectAbiCodec.encodeUint8(255));
+        assertEquals(
+                Bytes.wrap(booleanTuple.encode(Tuple.of(true)).array()),
+                DirectAbiCodec.encodeBool(true));
+        final long[] serialNos = {1L, -2L, Long.MAX_VALUE};
+        assertEquals(
+                Bytes.wrap(
+                        mintReturnType
+                                .encode(Tuple.of(-7, BigInteger.valueOf(42L), serialNos))
+                                .array()),
+                DirectAbiCodec.encodeMintResult(-7, 42L, serialNos));
+    }
+
+    @Test
+    void rejectsValuesHeadlongWouldReject() {
+        assertThrows(IllegalArgumentException.class, () -> DirectAbiCodec.encodeUint256(-1L));
+        assertThrows(IllegalArgumentException.class, () -> DirectAbiCodec.encodeUint8(256));
+        assertThrows(IllegalArgumentException.class, () -> DirectAbiCodec.encodeUint8(-1));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> DirectAbiCodec.encodeMintResult(22, -1L, new long[0]));
+    }
+}
@@ -47,6 +47,7 @@ import com.hedera.services.ledger.properties.TokenProperty;
 import com.hedera.services.legacy.core.jproto.JKey;
 import com.hedera.services.state.enums.TokenType;
 import com.hedera.services.state.merkle.MerkleToken;
+import com.hedera.services.state.migration.EntityStorageAdapter;
 import com.hedera.services.store.contracts.WorldLedgers;
 import com.hedera.services.store.contracts.precompile.codec.EncodingFacade;
 import com.hedera.services.store.contracts.precompile.codec.GetTokenDefaultFreezeStatusWrapper;
@@ -81,7 +82,6 @@ import com.hederahashgraph.api.proto.java.Timestamp;
 import com.hederahashgraph.api.proto.java.TokenID;
 import com.hederahashgraph.api.proto.java.TokenInfo;
 import com.hederahashgraph.api.proto.java.TokenNftInfo;
-import com.swirlds.merkle.map.MerkleMap;
 import java.util.ArrayList;
 import java.util.Optional;
 import org.apache.commons.lang3.tuple.Pair;
@@ -109,7 +109,7 @@ class ViewExecutorTest {
     @Mock private WorldLedgers ledgers;
     @Mock private TransactionalLedger<TokenID, TokenProperty, MerkleToken> tokens;
     @Mock private JKey key;
-    @Mock private MerkleMap<EntityNum, MerkleToken> merkleTokens;
+    @Mock private EntityStorageAdapter<MerkleToken> merkleTokens;
     @Mock private MerkleToken token;
 
     public static final AccountID account = IdUtils.asAccount("0.0.777");
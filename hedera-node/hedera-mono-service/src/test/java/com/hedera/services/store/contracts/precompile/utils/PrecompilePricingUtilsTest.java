@@ -18,7 +18,10 @@ package com.hedera.services.store.contracts.precompile.utils;
 import static com.hedera.services.pricing.FeeSchedules.USD_TO_TINYCENTS;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import com.hedera.services.context.primitives.StateView;
 import com.hedera.services.fees.FeeCalculator;
@@ -27,9 +30,11 @@ import com.hedera.services.fees.calculation.UsagePricesProvider;
 import com.hedera.services.pricing.AssetsLoader;
 import com.hedera.services.utils.accessors.AccessorFactory;
 import com.hederahashgraph.api.proto.java.ExchangeRate;
+import com.hederahashgraph.api.proto.java.FeeData;
 import com.hederahashgraph.api.proto.java.HederaFunctionality;
 import com.hederahashgraph.api.proto.java.SubType;
 import com.hederahashgraph.api.proto.java.Timestamp;
+import com.hederahashgraph.fee.FeeObject;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.Map;
@@ -52,6 +57,7 @@ class PrecompilePricingUtilsTest {
     @Mock private UsagePricesProvider resourceCosts;
     @Mock private StateView stateView;
     @Mock private AccessorFactory accessorFactory;
+    @Mock private FeeCalculator calculator;
 
     @Test
     void failsToLoadCanonicalPrices() throws IOException {
@@ -99,4 +105,40 @@ class PrecompilePricingUtilsTest {
                         .longValue(),
                 price);
     }
+
+    @Test
+    void reusesViewFunctionPricingUntilPricesOrRateChange() throws IOException {
+        final var now = Timestamp.newBuilder().setSeconds(123456789).build();
+        final var viewPrices = FeeData.getDefaultInstance();
+        final var callPrices = FeeData.getDefaultInstance();
+        final var rate = ExchangeRate.newBuilder().setHbarEquiv(1).setCentEquiv(12).build();
+        final var newRate = ExchangeRate.newBuilder().setHbarEquiv(1).setCentEquiv(24).build();
+        given(assetLoader.loadCanonicalPrices()).willReturn(Map.of());
+        given(feeCalculator.get()).willReturn(calculator);
+        given(resourceCosts.defaultPricesGiven(HederaFunctionality.TokenGetInfo, now))
+                .willReturn(viewPrices);
+        given(resourceCosts.defaultPricesGiven(HederaFunctionality.ContractCall, now))
+                .willReturn(callPrices);
+        given(exchange.rate(now)).willReturn(rate, rate, newRate);
+        given(calculator.estimatePayment(any(), any(), any(), any(), any()))
+                .willReturn(new FeeObject(100, 200, 300), new FeeObject(200, 400, 600));
+        given(calculator.estimatedGasPriceInTinybars(HederaFunctionality.ContractCall, now))
+                .willReturn(10L, 20L);
+
+        final var subject =
+                new PrecompilePricingUtils(
+                        assetLoader,
+                        exchange,
+                        feeCalculator,
+                        resourceCosts,
+                        stateView,
+                        accessorFactory);
+
+        assertEquals(72L, subject.computeViewFunctionGas(now, 100L));
+        assertEquals(1200L, subject.computeViewFunctionGas(now, 10_000L));
+        verify(calculator, times(1)).estimatePayment(any(), any(), any(), any(), any());
+
+        assertEquals(72L, subject.computeViewFunctionGas(now, 100L));
+        verify(calculator, times(2)).estimatePayment(any(), any(), any(), any(), any());
+    }
 }
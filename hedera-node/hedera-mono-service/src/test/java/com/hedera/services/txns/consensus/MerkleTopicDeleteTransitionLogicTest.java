@@ -35,6 +35,7 @@ import static org.mockito.BDDMockito.verify;
 import com.hedera.services.context.TransactionContext;
 import com.hedera.services.ledger.SigImpactHistorian;
 import com.hedera.services.state.merkle.MerkleTopic;
+import com.hedera.services.state.migration.EntityStorageAdapter;
 import com.hedera.services.txns.validation.OptionValidator;
 import com.hedera.services.utils.EntityNum;
 import com.hedera.services.utils.accessors.SignedTxnAccessor;
@@ -56,7 +57,8 @@ class MerkleTopicDeleteTransitionLogicTest {
     private TransactionBody transactionBody;
     private TransactionContext transactionContext;
     private SignedTxnAccessor accessor;
-    private MerkleMap<EntityNum, MerkleTopic> topics = new MerkleMap<>();
+    private EntityStorageAdapter<MerkleTopic> topics =
+            EntityStorageAdapter.fromInMemory(new MerkleMap<>());
     private OptionValidator validator;
     private TopicDeleteTransitionLogic subject;
     private SigImpactHistorian sigImpactHistorian;
@@ -73,7 +75,6 @@ class MerkleTopicDeleteTransitionLogicTest {
         accessor = mock(SignedTxnAccessor.class);
         validator = mock(OptionValidator.class);
         sigImpactHistorian = mock(SigImpactHistorian.class);
-        topics.clear();
 
         subject =
                 new TopicDeleteTransitionLogic(
@@ -117,7 +118,7 @@ class MerkleTopicDeleteTransitionLogicTest {
         given(validator.queryableTopicStatus(any(), any())).willReturn(OK);
         givenTransaction(getBasicValidTransactionBodyBuilder());
 
-        topics = (MerkleMap<EntityNum, MerkleTopic>) mock(MerkleMap.class);
+        topics = mock(EntityStorageAdapter.class);
 
         given(topics.get(topicFcKey)).willReturn(deletableTopic);
         given(topics.getForModify(topicFcKey)).willReturn(deletableTopic);
@@ -151,7 +152,7 @@ class MerkleTopicDeleteTransitionLogicTest {
         subject.doStateTransition();
 
         // then:
-        assertTrue(topics.isEmpty());
+        assertEquals(0, topics.size());
         verify(transactionContext).setStatus(INVALID_TOPIC_ID);
     }
 
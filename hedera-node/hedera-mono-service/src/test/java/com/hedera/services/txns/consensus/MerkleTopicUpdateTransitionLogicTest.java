@@ -54,6 +54,7 @@ import com.hedera.services.legacy.core.jproto.JKey;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerkleTopic;
 import com.hedera.services.state.migration.AccountStorageAdapter;
+import com.hedera.services.state.migration.EntityStorageAdapter;
 import com.hedera.services.state.submerkle.EntityId;
 import com.hedera.services.state.submerkle.RichInstant;
 import com.hedera.services.txns.validation.OptionValidator;
@@ -99,7 +100,8 @@ class MerkleTopicUpdateTransitionLogicTest {
     private SigImpactHistorian sigImpactHistorian;
     private OptionValidator validator;
     private MerkleMap<EntityNum, MerkleAccount> accounts = new MerkleMap<>();
-    private MerkleMap<EntityNum, MerkleTopic> topics = new MerkleMap<>();
+    private EntityStorageAdapter<MerkleTopic> topics =
+            EntityStorageAdapter.fromInMemory(new MerkleMap<>());
     private TopicUpdateTransitionLogic subject;
     private final AccountID payer = AccountID.newBuilder().setAccountNum(1_234L).build();
 
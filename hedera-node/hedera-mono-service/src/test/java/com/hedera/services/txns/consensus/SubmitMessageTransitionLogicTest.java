@@ -36,6 +36,7 @@ import com.google.protobuf.ByteString;
 import com.hedera.services.context.TransactionContext;
 import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hedera.services.state.merkle.MerkleTopic;
+import com.hedera.services.state.migration.EntityStorageAdapter;
 import com.hedera.services.txns.validation.OptionValidator;
 import com.hedera.services.utils.EntityNum;
 import com.hedera.services.utils.accessors.SignedTxnAccessor;
@@ -61,7 +62,8 @@ class SubmitMessageTransitionLogicTest {
     private SignedTxnAccessor accessor;
     private OptionValidator validator;
     private SubmitMessageTransitionLogic subject;
-    private MerkleMap<EntityNum, MerkleTopic> topics = new MerkleMap<>();
+    private EntityStorageAdapter<MerkleTopic> topics =
+            EntityStorageAdapter.fromInMemory(new MerkleMap<>());
     private GlobalDynamicProperties globalDynamicProperties;
     private final AccountID payer = AccountID.newBuilder().setAccountNum(1_234L).build();
 
@@ -73,7 +75,6 @@ class SubmitMessageTransitionLogicTest {
         given(transactionContext.consensusTime()).willReturn(consensusTime);
         accessor = mock(SignedTxnAccessor.class);
         validator = mock(OptionValidator.class);
-        topics.clear();
         globalDynamicProperties = mock(GlobalDynamicProperties.class);
         given(globalDynamicProperties.messageMaxBytesAllowed()).willReturn(1024);
         subject =
@@ -156,7 +157,7 @@ class SubmitMessageTransitionLogicTest {
         subject.doStateTransition();
 
         // then:
-        assertTrue(topics.isEmpty());
+        assertEquals(0, topics.size());
         verify(transactionContext).setStatus(INVALID_TOPIC_ID);
     }
 
@@ -40,6 +40,7 @@ import com.hedera.services.ledger.SigImpactHistorian;
 import com.hedera.services.ledger.ids.EntityIdSource;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerkleTopic;
+import com.hedera.services.state.migration.EntityStorageAdapter;
 import com.hedera.services.state.validation.UsageLimits;
 import com.hedera.services.store.AccountStore;
 import com.hedera.services.store.TopicStore;
@@ -79,7 +80,8 @@ class TopicCreateTransitionLogicTest {
     private TransactionBody transactionBody;
 
     private MerkleMap<EntityNum, MerkleAccount> accounts = new MerkleMap<>();
-    private MerkleMap<EntityNum, MerkleTopic> topics = new MerkleMap<>();
+    private EntityStorageAdapter<MerkleTopic> topics =
+            EntityStorageAdapter.fromInMemory(new MerkleMap<>());
 
     @Mock private UsageLimits usageLimits;
     @Mock private TransactionContext transactionContext;
@@ -96,7 +98,6 @@ class TopicCreateTransitionLogicTest {
     @BeforeEach
     void setup() {
         accounts.clear();
-        topics.clear();
 
         subject =
                 new TopicCreateTransitionLogic(
@@ -167,7 +168,7 @@ class TopicCreateTransitionLogicTest {
 
         assertFailsWith(() -> subject.doStateTransition(), MEMO_TOO_LONG);
 
-        assertTrue(topics.isEmpty());
+        assertEquals(0, topics.size());
     }
 
     @Test
@@ -180,7 +181,7 @@ class TopicCreateTransitionLogicTest {
 
         assertFailsWith(() -> subject.doStateTransition(), BAD_ENCODING);
 
-        assertTrue(topics.isEmpty());
+        assertEquals(0, topics.size());
     }
 
     @Test
@@ -192,7 +193,7 @@ class TopicCreateTransitionLogicTest {
 
         assertFailsWith(() -> subject.doStateTransition(), INVALID_RENEWAL_PERIOD);
 
-        assertTrue(topics.isEmpty());
+        assertEquals(0, topics.size());
     }
 
     @Test
@@ -204,7 +205,7 @@ class TopicCreateTransitionLogicTest {
 
         assertFailsWith(() -> subject.doStateTransition(), AUTORENEW_DURATION_NOT_IN_RANGE);
 
-        assertTrue(topics.isEmpty());
+        assertEquals(0, topics.size());
     }
 
     @Test
@@ -224,7 +225,7 @@ class TopicCreateTransitionLogicTest {
 
         assertFailsWith(() -> subject.doStateTransition(), INVALID_AUTORENEW_ACCOUNT);
 
-        assertTrue(topics.isEmpty());
+        assertEquals(0, topics.size());
     }
 
     @Test
@@ -244,7 +245,7 @@ class TopicCreateTransitionLogicTest {
 
         assertFailsWith(() -> subject.doStateTransition(), ACCOUNT_EXPIRED_AND_PENDING_REMOVAL);
 
-        assertTrue(topics.isEmpty());
+        assertEquals(0, topics.size());
     }
 
     @Test
@@ -264,7 +265,7 @@ class TopicCreateTransitionLogicTest {
 
         assertFailsWith(() -> subject.doStateTransition(), AUTORENEW_ACCOUNT_NOT_ALLOWED);
 
-        assertTrue(topics.isEmpty());
+        assertEquals(0, topics.size());
     }
 
     private void givenTransaction(final ConsensusCreateTopicTransactionBody.Builder body) {
@@ -17,9 +17,12 @@ package com.hedera.services.txns.customfees;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import com.hedera.services.grpc.marshalling.CustomFeeMeta;
 import com.hedera.services.state.merkle.MerkleToken;
+import com.hedera.services.state.migration.EntityStorageAdapter;
 import com.hedera.services.state.submerkle.EntityId;
 import com.hedera.services.state.submerkle.FcCustomFee;
 import com.hedera.services.utils.EntityNum;
@@ -34,7 +37,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class FcmCustomFeeSchedulesTest {
     private FcmCustomFeeSchedules subject;
 
-    MerkleMap<EntityNum, MerkleToken> tokens = new MerkleMap<>();
+    EntityStorageAdapter<MerkleToken> tokens =
+            EntityStorageAdapter.fromInMemory(new MerkleMap<>());
 
     private final EntityId aTreasury = new EntityId(0, 0, 12);
     private final EntityId bTreasury = new EntityId(0, 0, 13);
@@ -78,6 +82,31 @@ class FcmCustomFeeSchedulesTest {
         assertEquals(CustomFeeMeta.forMissingLookupOf(missingId), missingTokenFees);
     }
 
+    @Test
+    void reusesMetaUntilScheduleTreasuryOrMapChanges() {
+        final var first = subject.lookupMetaFor(tokenA.asId());
+        assertSame(first, subject.lookupMetaFor(tokenA.asId()));
+
+        aToken.setFeeScheduleFrom(
+                List.of(FcCustomFee.fixedFee(30L, tokenA, feeCollector, false).asGrpc()));
+        final var afterScheduleUpdate = subject.lookupMetaFor(tokenA.asId());
+        assertNotSame(first, afterScheduleUpdate);
+        assertEquals(aToken.customFeeSchedule(), afterScheduleUpdate.customFees());
+
+        aToken.setTreasury(bTreasury);
+        final var afterTreasuryUpdate = subject.lookupMetaFor(tokenA.asId());
+        assertNotSame(afterScheduleUpdate, afterTreasuryUpdate);
+        assertEquals(bTreasury, afterTreasuryUpdate.treasuryId().asEntityId());
+        assertSame(afterTreasuryUpdate, subject.lookupMetaFor(tokenA.asId()));
+
+        final var nextRoundToken = new MerkleToken();
+        nextRoundToken.setFeeSchedule(aToken.customFeeSchedule());
+        nextRoundToken.setTreasury(bTreasury);
+        tokens = EntityStorageAdapter.fromInMemory(new MerkleMap<>());
+        tokens.put(EntityNum.fromLong(tokenA.num()), nextRoundToken);
+        assertNotSame(afterTreasuryUpdate, subject.lookupMetaFor(tokenA.asId()));
+    }
+
     @Test
     void getterWorks() {
         assertEquals(tokens, subject.getTokens().get());
@@ -86,15 +115,16 @@ class FcmCustomFeeSchedulesTest {
     @Test
     void testObjectContract() {
         // given:
-        MerkleMap<EntityNum, MerkleToken> secondMerkleMap = new MerkleMap<>();
+        final EntityStorageAdapter<MerkleToken> secondTokens =
+                EntityStorageAdapter.fromInMemory(new MerkleMap<>());
         MerkleToken token = new MerkleToken();
         final var missingFees =
                 List.of(FcCustomFee.fixedFee(50L, missingToken, feeCollector, false).asGrpc());
 
         token.setFeeScheduleFrom(missingFees);
-        secondMerkleMap.put(EntityNum.fromLong(missingToken.num()), new MerkleToken());
+        secondTokens.put(EntityNum.fromLong(missingToken.num()), new MerkleToken());
         final var fees1 = new FcmCustomFeeSchedules(() -> tokens);
-        final var fees2 = new FcmCustomFeeSchedules(() -> secondMerkleMap);
+        final var fees2 = new FcmCustomFeeSchedules(() -> secondTokens);
 
         // expect:
         assertNotEquals(fees1, fees2);
@@ -0,0 +1,161 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.txns.span;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.hedera.services.ethereum.EthTxData;
+import com.hedera.services.ethereum.EthTxSigs;
+import com.hedera.services.stats.SigVerificationStats;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.function.BiFunction;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class EthTxSigsCacheTest {
+    private static final EthTxSigs aSigs = new EthTxSigs(new byte[33], new byte[20]);
+    private static final EthTxSigs bSigs = new EthTxSigs(new byte[] {1}, new byte[] {2});
+
+    @Mock private SigVerificationStats sigVerificationStats;
+    @Mock private BiFunction<EthTxData, byte[], EthTxSigs> recovery;
+
+    private EthTxSigsCache subject;
+
+    @Test
+    void recoversOnlyOnceForSameSignedTx() {
+        subject = new EthTxSigsCache(16, sigVerificationStats, recovery);
+        final var tx = txWith(1L, 1, 7, 8);
+        given(recovery.apply(any(), any())).willReturn(aSigs);
+
+        assertSame(aSigs, subject.apply(tx));
+        assertSame(aSigs, subject.apply(txWith(1L, 1, 7, 8)));
+
+        verify(recovery, times(1)).apply(any(), any());
+        verify(sigVerificationStats).countEthSigRecovery(false);
+        verify(sigVerificationStats).countEthSigRecovery(true);
+        assertEquals(1, subject.cachedRecoveries());
+    }
+
+    @Test
+    void differentMessageOrSignatureIsRecoveredAgain() {
+        subject = new EthTxSigsCache(16, sigVerificationStats, recovery);
+        given(recovery.apply(any(), any())).willReturn(aSigs, bSigs, aSigs, aSigs);
+
+        assertSame(aSigs, subject.apply(txWith(1L, 1, 7, 8)));
+        assertSame(bSigs, subject.apply(txWith(2L, 1, 7, 8)));
+        subject.apply(txWith(1L, 0, 7, 8));
+        subject.apply(txWith(1L, 1, 7, 9));
+
+        verify(recovery, times(4)).apply(any(), any());
+        verify(sigVerificationStats, never()).countEthSigRecovery(true);
+    }
+
+    @Test
+    void passesSigningHashToRecovery() {
+        subject = new EthTxSigsCache(16, sigVerificationStats, recovery);
+        final var tx = txWith(1L, 1, 7, 8);
+        final var signingHash = EthTxSigs.calculateSigningHash(tx);
+        given(recovery.apply(any(), any()))
+                .willAnswer(
+                        invocation ->
+                                Arrays.equals(signingHash, invocation.getArgument(1))
+                                        ? aSigs
+                                        : bSigs);
+
+        assertSame(aSigs, subject.apply(tx));
+    }
+
+    @Test
+    void doesNotCacheFailedRecovery() {
+        subject = new EthTxSigsCache(16, sigVerificationStats, recovery);
+        given(recovery.apply(any(), any())).willThrow(IllegalArgumentException.class);
+
+        final var tx = txWith(1L, 1, 7, 8);
+        assertThrows(IllegalArgumentException.class, () -> subject.apply(tx));
+        assertThrows(IllegalArgumentException.class, () -> subject.apply(tx));
+
+        verify(recovery, times(2)).apply(any(), any());
+        assertEquals(0, subject.cachedRecoveries());
+    }
+
+    @Test
+    void bypassesCacheWhenDisabled() {
+        subject = new EthTxSigsCache(0, sigVerificationStats, recovery);
+        given(recovery.apply(any(), any())).willReturn(aSigs);
+
+        subject.apply(txWith(1L, 1, 7, 8));
+        subject.apply(txWith(1L, 1, 7, 8));
+
+        verify(recovery, times(2)).apply(any(), any());
+        verifyNoInteractions(sigVerificationStats);
+        assertEquals(0, subject.cachedRecoveries());
+    }
+
+    @Test
+    void keyIncludesScalarLengths() {
+        final var hash = new byte[32];
+        final var aTx = txWith(new byte[] {1, 2}, new byte[] {3});
+        final var bTx = txWith(new byte[] {1}, new byte[] {2, 3});
+
+        assertNotEquals(EthTxSigsCache.keyFor(hash, aTx), EthTxSigsCache.keyFor(hash, bTx));
+    }
+
+    private static EthTxData txWith(final long nonce, final int recId, final int r, final int s) {
+        final var rBytes = new byte[32];
+        rBytes[31] = (byte) r;
+        final var sBytes = new byte[32];
+        sBytes[31] = (byte) s;
+        return txWith(nonce, recId, rBytes, sBytes);
+    }
+
+    private static EthTxData txWith(final byte[] r, final byte[] s) {
+        return txWith(1L, 1, r, s);
+    }
+
+    private static EthTxData txWith(
+            final long nonce, final int recId, final byte[] r, final byte[] s) {
+        return new EthTxData(
+                null,
+                EthTxData.EthTransactionType.EIP1559,
+                new byte[] {0x01, 0x2a},
+                nonce,
+                null,
+                new byte[] {1},
+                new byte[] {2},
+                100_000L,
+                new byte[20],
+                BigInteger.ONE,
+                new byte[0],
+                new byte[0],
+                recId,
+                null,
+                r,
+                s);
+    }
+}
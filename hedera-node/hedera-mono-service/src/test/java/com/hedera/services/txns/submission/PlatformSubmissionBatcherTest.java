@@ -0,0 +1,257 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.txns.submission;
+
+import static com.hedera.test.utils.IdUtils.asAccount;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.records.RecordCache;
+import com.hedera.services.stats.MiscRunningAvgs;
+import com.hederahashgraph.api.proto.java.TransactionID;
+import com.swirlds.common.system.Platform;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PlatformSubmissionBatcherTest {
+    private static final byte[] aBytes = {1};
+    private static final byte[] bBytes = {2};
+    private static final byte[] cBytes = {3};
+    private static final TransactionID aId = idFor("0.0.2");
+    private static final TransactionID bId = idFor("0.0.3");
+    private static final TransactionID cId = idFor("0.0.4");
+
+    @Mock private Platform platform;
+    @Mock private RecordCache recordCache;
+    @Mock private MiscRunningAvgs runningAvgs;
+    @Mock private NodeLocalProperties nodeLocalProperties;
+
+    private PlatformSubmissionBatcher subject;
+
+    @Test
+    void submitsDirectlyWhenNotBatching() {
+        given(nodeLocalProperties.submissionMaxBatchSize()).willReturn(1);
+        given(nodeLocalProperties.submissionMaxWaitMs()).willReturn(250L);
+        subject =
+                new PlatformSubmissionBatcher(
+                        platform, recordCache, runningAvgs, nodeLocalProperties);
+        given(platform.createTransaction(aBytes)).willReturn(true);
+        given(platform.createTransaction(bBytes)).willReturn(false);
+
+        assertTrue(subject.submit(aBytes, aId));
+        assertFalse(subject.submit(bBytes, bId));
+
+        verify(recordCache).addPreConsensus(aId);
+        verify(recordCache, never()).addPreConsensus(bId);
+        assertTrue(subject.getPending().isEmpty());
+    }
+
+    @Test
+    void submitsBatchThenMarksOnlyCreatedIdsAtOnce() {
+        subject = new PlatformSubmissionBatcher(platform, recordCache, runningAvgs, 8, 0L);
+        final var now = new AtomicLong(1_000L);
+        subject.setNanoClock(now::get);
+        given(platform.createTransaction(aBytes)).willReturn(true);
+        given(platform.createTransaction(bBytes)).willReturn(false);
+        given(platform.createTransaction(cBytes)).willThrow(IllegalStateException.class);
+        final var a = pendingFor(aBytes, aId, 400L);
+        final var b = pendingFor(bBytes, bId, 600L);
+        final var c = pendingFor(cBytes, cId, 800L);
+
+        subject.submitBatch(List.of(a, b, c));
+
+        verify(recordCache).addPreConsensus(List.of(aId));
+        assertTrue(a.result().join());
+        assertFalse(b.result().join());
+        assertFalse(c.result().join());
+        verify(runningAvgs).recordPlatformSubmissionWaitNanos(600L);
+        verify(runningAvgs).recordPlatformSubmissionWaitNanos(400L);
+        verify(runningAvgs).recordPlatformSubmissionWaitNanos(200L);
+        verify(runningAvgs).recordPlatformSubmissionBatchSize(3);
+    }
+
+    @Test
+    void collectsNoMoreThanMaxBatchSize() throws InterruptedException {
+        subject = new PlatformSubmissionBatcher(platform, recordCache, runningAvgs, 2, 1_000_000L);
+        subject.getPending().add(pendingFor(aBytes, aId, 0L));
+        subject.getPending().add(pendingFor(bBytes, bId, 0L));
+        subject.getPending().add(pendingFor(cBytes, cId, 0L));
+        final List<PlatformSubmissionBatcher.PendingSubmission> batch = new ArrayList<>();
+
+        subject.collectBatch(batch);
+
+        assertEquals(2, batch.size());
+        assertEquals(1, subject.getPending().size());
+    }
+
+    @Test
+    void stopsCollectingAsSoonAsQueueIsEmpty() throws InterruptedException {
+        subject =
+                new PlatformSubmissionBatcher(platform, recordCache, runningAvgs, 8, 1_000_000L);
+        subject.getPending().add(pendingFor(aBytes, aId, 0L));
+        final List<PlatformSubmissionBatcher.PendingSubmission> batch = new ArrayList<>();
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> subject.collectBatch(batch));
+
+        assertEquals(1, batch.size());
+    }
+
+    @Test
+    void skipsSubmissionsWhoseCallersStoppedWaiting() {
+        subject = new PlatformSubmissionBatcher(platform, recordCache, runningAvgs, 8, 0L);
+        given(platform.createTransaction(bBytes)).willReturn(true);
+        final var a = pendingFor(aBytes, aId, 0L);
+        assertTrue(a.abandon());
+        final var b = pendingFor(bBytes, bId, 0L);
+
+        subject.submitBatch(List.of(a, b));
+
+        verify(platform, never()).createTransaction(aBytes);
+        verify(recordCache).addPreConsensus(List.of(bId));
+        assertEquals(PlatformSubmissionBatcher.ClaimState.ABANDONED, a.claimState().get());
+        assertEquals(PlatformSubmissionBatcher.ClaimState.CLAIMED, b.claimState().get());
+        assertTrue(b.result().join());
+    }
+
+    @Test
+    void claimingAndAbandoningAreExclusive() {
+        final var a = pendingFor(aBytes, aId, 0L);
+        final var b = pendingFor(bBytes, bId, 0L);
+
+        assertTrue(a.claim());
+        assertFalse(a.abandon());
+        assertTrue(b.abandon());
+        assertFalse(b.claim());
+    }
+
+    @Test
+    void failureInOneBatchOnlyFailsThatBatch() {
+        subject = new PlatformSubmissionBatcher(platform, recordCache, runningAvgs, 8, 10_000L);
+        given(platform.createTransaction(any())).willReturn(true);
+        willThrow(IllegalStateException.class)
+                .willDoNothing()
+                .given(recordCache)
+                .addPreConsensus(anyList());
+
+        assertFalse(subject.submit(aBytes, aId));
+        assertTrue(subject.submit(bBytes, bId));
+
+        verify(recordCache).addPreConsensus(List.of(bId));
+    }
+
+    @Test
+    void submissionThreadIsRestartedAfterItExits() {
+        subject = new PlatformSubmissionBatcher(platform, recordCache, runningAvgs, 8, 10_000L);
+        given(platform.createTransaction(aBytes))
+                .willAnswer(
+                        invocation -> {
+                            Thread.currentThread().interrupt();
+                            return true;
+                        });
+        given(platform.createTransaction(bBytes)).willReturn(true);
+
+        assertTrue(subject.submit(aBytes, aId));
+        assertTrue(subject.submit(bBytes, bId));
+    }
+
+    @Test
+    void callerStopsWaitingAfterMaxWaitOnlyIfNotYetClaimed() throws Exception {
+        subject = new PlatformSubmissionBatcher(platform, recordCache, runningAvgs, 8, 10L);
+        final var platformReached = new CountDownLatch(1);
+        final var platformStuck = new CountDownLatch(1);
+        given(platform.createTransaction(aBytes))
+                .willAnswer(
+                        invocation -> {
+                            platformReached.countDown();
+                            platformStuck.await();
+                            return true;
+                        });
+        final ExecutorService caller = Executors.newSingleThreadExecutor();
+        try {
+            final var aResult = caller.submit(() -> subject.submit(aBytes, aId));
+            assertTrue(platformReached.await(10, TimeUnit.SECONDS));
+
+            // The submission thread is stuck creating A, so B is never claimed
+            assertFalse(subject.submit(bBytes, bId));
+            platformStuck.countDown();
+
+            // But A was claimed before its deadline passed, so its caller gets the real outcome
+            assertTrue(aResult.get(10, TimeUnit.SECONDS));
+            verify(recordCache, timeout(10_000L)).addPreConsensus(List.of(aId));
+            verify(platform, after(100L).never()).createTransaction(bBytes);
+        } finally {
+            platformStuck.countDown();
+            caller.shutdownNow();
+        }
+    }
+
+    @Test
+    void concurrentSubmissionsAllGetResults() throws Exception {
+        subject = new PlatformSubmissionBatcher(platform, recordCache, runningAvgs, 4, 10_000L);
+        given(platform.createTransaction(any())).willReturn(true);
+        final int n = 16;
+        final ExecutorService callers = Executors.newFixedThreadPool(n);
+        try {
+            final List<CompletableFuture<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                final var id = idFor("0.0." + (1000 + i));
+                results.add(
+                        CompletableFuture.supplyAsync(
+                                () -> subject.submit(new byte[] {1}, id), callers));
+            }
+            for (final var result : results) {
+                assertTrue(result.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+        verify(runningAvgs, atLeastOnce()).recordPlatformSubmissionBatchSize(anyInt());
+    }
+
+    private static PlatformSubmissionBatcher.PendingSubmission pendingFor(
+            final byte[] bytes, final TransactionID txnId, final long admittedAt) {
+        return new PlatformSubmissionBatcher.PendingSubmission(bytes, txnId, admittedAt);
+    }
+
+    private static TransactionID idFor(final String payer) {
+        return TransactionID.newBuilder().setAccountID(asAccount(payer)).build();
+    }
+}
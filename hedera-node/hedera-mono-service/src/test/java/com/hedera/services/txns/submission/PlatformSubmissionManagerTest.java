@@ -29,6 +29,7 @@ import static org.mockito.BDDMockito.verify;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.services.records.RecordCache;
+import com.hedera.services.stats.MiscRunningAvgs;
 import com.hedera.services.stats.MiscSpeedometers;
 import com.hedera.services.utils.accessors.SignedTxnAccessor;
 import com.hederahashgraph.api.proto.java.CryptoTransferTransactionBody;
@@ -101,7 +102,11 @@ class PlatformSubmissionManagerTest {
                 SignedTxnAccessor.from(
                         invalidUncheckedSubTxn.toByteArray(), invalidUncheckedSubTxn);
 
-        subject = new PlatformSubmissionManager(platform, recordCache, speedometers);
+        subject =
+                new PlatformSubmissionManager(
+                        new PlatformSubmissionBatcher(
+                                platform, recordCache, mock(MiscRunningAvgs.class), 1, 0L),
+                        speedometers);
     }
 
     @Test
@@ -49,6 +49,7 @@ import com.hedera.services.legacy.core.jproto.JKey;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerkleToken;
 import com.hedera.services.state.merkle.MerkleTopic;
+import com.hedera.services.state.migration.EntityStorageAdapter;
 import com.hedera.services.state.submerkle.EntityId;
 import com.hedera.services.state.submerkle.FcCustomFee;
 import com.hedera.services.state.submerkle.FcTokenAllowanceId;
@@ -211,8 +212,8 @@ public interface TxnHandlingScenario {
         return hfs;
     }
 
-    default MerkleMap<EntityNum, MerkleTopic> topics() {
-        var topics = (MerkleMap<EntityNum, MerkleTopic>) mock(MerkleMap.class);
+    default EntityStorageAdapter<MerkleTopic> topics() {
+        final EntityStorageAdapter<MerkleTopic> topics = mock(EntityStorageAdapter.class);
         given(topics.get(EXISTING_TOPIC)).willReturn(new MerkleTopic());
         return topics;
     }
@@ -23,9 +23,9 @@ import com.hedera.services.ledger.TransactionalLedger;
 import com.hedera.services.ledger.properties.AccountProperty;
 import com.hedera.services.legacy.core.jproto.JKey;
 import com.hedera.services.state.merkle.MerkleTopic;
+import com.hedera.services.state.migration.EntityStorageAdapter;
 import com.hedera.services.state.migration.HederaAccount;
 import com.hedera.services.txns.validation.OptionValidator;
-import com.hedera.services.utils.EntityNum;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.Duration;
 import com.hederahashgraph.api.proto.java.Key;
@@ -33,7 +33,6 @@ import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
 import com.hederahashgraph.api.proto.java.Timestamp;
 import com.hederahashgraph.api.proto.java.TopicID;
 import com.hederahashgraph.api.proto.java.TransferList;
-import com.swirlds.merkle.map.MerkleMap;
 
 public enum TestContextValidator implements OptionValidator {
     TEST_VALIDATOR;
@@ -134,7 +133,7 @@ public enum TestContextValidator implements OptionValidator {
 
     @Override
     public ResponseCodeEnum queryableTopicStatus(
-            TopicID id, MerkleMap<EntityNum, MerkleTopic> topics) {
+            TopicID id, EntityStorageAdapter<MerkleTopic> topics) {
         throw new UnsupportedOperationException();
     }
 